@@ -0,0 +1,129 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.benchmark;
+
+import java.util.Random;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.data.function.Function3D;
+import com.orsoncharts.data.xyz.XYZSeries;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.xyz.SurfaceRenderer;
+
+/**
+ * Creates the charts used by the benchmarks.  Each chart type is created 
+ * from a seeded random source so that runs are repeatable.  The 
+ * {@code size} argument scales the data for each chart type:
+ * <ul>
+ * <li>"bar" - a bar chart with 3 series, 2 rows and {@code size} 
+ * columns;</li>
+ * <li>"scatter" - a scatter chart with 3 series of {@code size * 10} 
+ * points;</li>
+ * <li>"surface" - a surface chart with {@code size} samples in each of the
+ * x and z directions.</li>
+ * </ul>
+ */
+public class BenchmarkCharts {
+
+    private BenchmarkCharts() {
+        // no need to instantiate this
+    }
+    
+    /**
+     * Creates a chart for benchmarking.
+     * 
+     * @param type  the chart type ("bar", "scatter" or "surface").
+     * @param size  the data size.
+     * 
+     * @return The chart. 
+     */
+    public static Chart3D createChart(String type, int size) {
+        if ("bar".equals(type)) {
+            return createBarChart(size);
+        } else if ("scatter".equals(type)) {
+            return createScatterChart(size);
+        } else if ("surface".equals(type)) {
+            return createSurfaceChart(size);
+        }
+        throw new IllegalArgumentException("Unknown chart type " + type);
+    }
+
+    private static Chart3D createBarChart(int columns) {
+        Random random = new Random(1L);
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        for (int s = 0; s < 3; s++) {
+            for (int r = 0; r < 2; r++) {
+                for (int c = 0; c < columns; c++) {
+                    dataset.addValue(random.nextDouble() * 100.0, "S" + s, 
+                            "R" + r, "C" + c);
+                }
+            }
+        }
+        return Chart3DFactory.createBarChart("Bar Chart", null, dataset, 
+                null, null, "Value");
+    }
+    
+    private static Chart3D createScatterChart(int size) {
+        Random random = new Random(1L);
+        XYZSeriesCollection dataset = new XYZSeriesCollection();
+        for (int s = 0; s < 3; s++) {
+            XYZSeries series = new XYZSeries("S" + s);
+            for (int i = 0; i < size * 10; i++) {
+                series.add(random.nextGaussian(), random.nextGaussian(), 
+                        random.nextGaussian());
+            }
+            dataset.add(series);
+        }
+        return Chart3DFactory.createScatterChart("Scatter Chart", null, 
+                dataset, "X", "Y", "Z");
+    }
+    
+    private static Chart3D createSurfaceChart(int samples) {
+        Function3D function = new Function3D() {
+            @Override
+            public double getValue(double x, double z) {
+                return Math.cos(x) * Math.sin(z);
+            }
+        };
+        Chart3D chart = Chart3DFactory.createSurfaceChart("Surface Chart", 
+                null, function, "X", "Y", "Z");
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        SurfaceRenderer renderer = (SurfaceRenderer) plot.getRenderer();
+        renderer.setXSamples(samples);
+        renderer.setZSamples(samples);
+        return chart;
+    }
+
+}
@@ -0,0 +1,107 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.graphics3d.RenderingInfo;
+
+/**
+ * Benchmarks for {@link Chart3D#draw(Graphics2D, java.awt.geom.Rectangle2D)}
+ * rendering to a {@code BufferedImage}.  The chart's 3D model is built on 
+ * the first draw, so {@link #draw()} measures repainting an unchanged chart
+ * while {@link #drawRotating()} also changes the view point each time (as 
+ * when the user drags the chart in a panel).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChartDrawBenchmark {
+
+    @Param({"bar", "scatter", "surface"})
+    public String chartType;
+    
+    @Param({"10", "50", "200"})
+    public int size;
+    
+    private Chart3D chart;
+    
+    private BufferedImage image;
+    
+    private Graphics2D g2;
+    
+    private Rectangle bounds;
+    
+    @Setup
+    public void setup() {
+        this.chart = BenchmarkCharts.createChart(this.chartType, this.size);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.bounds = new Rectangle(800, 600);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+    
+    @Benchmark
+    public RenderingInfo draw() {
+        return this.chart.draw(this.g2, this.bounds);
+    }
+    
+    @Benchmark
+    public RenderingInfo drawRotating() {
+        this.chart.getViewPoint().panLeftRight(Math.PI / 180.0);
+        return this.chart.draw(this.g2, this.bounds);
+    }
+
+}
@@ -0,0 +1,110 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.benchmark;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.FaceSorter;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.Point3D;
+import com.orsoncharts.graphics3d.RadixFaceSorter;
+import com.orsoncharts.graphics3d.StandardFaceSorter;
+
+/**
+ * Benchmarks for the {@link FaceSorter} implementations, sorting 
+ * quadrilateral faces with random depths.  Each invocation sorts a fresh
+ * copy of the unsorted faces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FaceSorterBenchmark {
+
+    @Param({"standard", "radix"})
+    public String sorterType;
+    
+    @Param({"1000", "10000", "100000"})
+    public int faceCount;
+    
+    private FaceSorter sorter;
+    
+    private List<Face> faces;
+    
+    private Point3D[] eyePts;
+    
+    @Setup
+    public void setup() {
+        if ("standard".equals(this.sorterType)) {
+            this.sorter = new StandardFaceSorter();
+        } else {
+            this.sorter = new RadixFaceSorter();
+        }
+        Random random = new Random(1L);
+        Object3D owner = new Object3D(Color.RED);
+        this.eyePts = new Point3D[this.faceCount * 4];
+        this.faces = new ArrayList<Face>(this.faceCount);
+        for (int i = 0; i < this.eyePts.length; i++) {
+            owner.addVertex(0.0, 0.0, 0.0);
+            this.eyePts[i] = new Point3D(random.nextDouble(), 
+                    random.nextDouble(), -10.0 - random.nextDouble() * 10.0);
+        }
+        for (int i = 0; i < this.faceCount; i++) {
+            this.faces.add(new Face(owner, new int[] { i * 4, i * 4 + 1, 
+                    i * 4 + 2, i * 4 + 3 }));
+        }
+    }
+    
+    @Benchmark
+    public List<Face> sort() {
+        return this.sorter.sort(new ArrayList<Face>(this.faces), this.eyePts);
+    }
+
+}
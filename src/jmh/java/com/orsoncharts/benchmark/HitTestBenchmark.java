@@ -0,0 +1,113 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.RenderedElement;
+import com.orsoncharts.graphics3d.RenderingInfo;
+
+/**
+ * Benchmarks for hit-testing with {@link RenderingInfo} (as used for 
+ * tooltips and mouse handling in the chart panels).  Each invocation 
+ * looks up the next of a fixed set of random points within the chart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitTestBenchmark {
+
+    private static final int POINT_COUNT = 1024;
+    
+    @Param({"bar", "scatter", "surface"})
+    public String chartType;
+    
+    @Param({"10", "50", "200"})
+    public int size;
+    
+    private RenderingInfo info;
+    
+    private double[] xy;
+    
+    private int next;
+    
+    @Setup
+    public void setup() {
+        Chart3D chart = BenchmarkCharts.createChart(this.chartType, this.size);
+        BufferedImage image = new BufferedImage(800, 600, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        this.info = chart.draw(g2, new Rectangle(800, 600));
+        g2.dispose();
+        Random random = new Random(1L);
+        this.xy = new double[POINT_COUNT * 2];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            this.xy[i * 2] = random.nextDouble() * 800.0;
+            this.xy[i * 2 + 1] = random.nextDouble() * 600.0;
+        }
+    }
+    
+    @Benchmark
+    public Object3D fetchObjectAt() {
+        int i = this.next;
+        this.next = (i + 1) % POINT_COUNT;
+        return this.info.fetchObjectAt(this.xy[i * 2], this.xy[i * 2 + 1]);
+    }
+
+    @Benchmark
+    public RenderedElement findElementAt() {
+        int i = this.next;
+        this.next = (i + 1) % POINT_COUNT;
+        return this.info.findElementAt(this.xy[i * 2], this.xy[i * 2 + 1]);
+    }
+
+}
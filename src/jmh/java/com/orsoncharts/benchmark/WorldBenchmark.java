@@ -0,0 +1,113 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.benchmark;
+
+import java.awt.geom.Point2D;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.ViewPoint3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.Plot3D;
+
+/**
+ * Benchmarks for the vertex transformations in {@link World}, using the 
+ * model for a surface chart with {@code samples} x {@code samples} cells.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark {
+
+    @Param({"50", "200"})
+    public int samples;
+    
+    private World world;
+    
+    private ViewPoint3D viewPoint;
+    
+    private double projDist;
+    
+    private double[] eyeWorkspace;
+    
+    private double[] projWorkspace;
+    
+    @Setup
+    public void setup() {
+        Chart3D chart = BenchmarkCharts.createChart("surface", this.samples);
+        Plot3D plot = chart.getPlot();
+        Dimension3D dim = plot.getDimensions();
+        this.world = new World();
+        plot.compose(this.world, -dim.getWidth() / 2, -dim.getHeight() / 2, 
+                -dim.getDepth() / 2);
+        this.viewPoint = chart.getViewPoint();
+        this.projDist = chart.getProjDistance();
+        this.eyeWorkspace = this.world.calculateEyeCoordinates(this.viewPoint,
+                null);
+        this.projWorkspace = this.world.calculateProjectedPoints(
+                this.viewPoint, this.projDist, null);
+    }
+    
+    @Benchmark
+    public double[] calculateProjectedPoints() {
+        return this.world.calculateProjectedPoints(this.viewPoint, 
+                this.projDist, this.projWorkspace);
+    }
+    
+    @Benchmark
+    public Point2D[] calculateProjectedPointsAsObjects() {
+        return this.world.calculateProjectedPoints(this.viewPoint, 
+                this.projDist);
+    }
+
+    @Benchmark
+    public double[] calculateEyeCoordinates() {
+        return this.world.calculateEyeCoordinates(this.viewPoint, 
+                this.eyeWorkspace);
+    }
+
+}
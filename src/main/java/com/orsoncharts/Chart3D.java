@@ -53,7 +53,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.swing.event.EventListenerList;
 
@@ -81,9 +84,11 @@ import com.orsoncharts.plot.Plot3DChangeListener;
 import com.orsoncharts.plot.Plot3D;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Offset2D;
+import com.orsoncharts.graphics3d.RadixFaceSorter;
 import com.orsoncharts.graphics3d.RenderingInfo;
-import com.orsoncharts.graphics3d.StandardFaceSorter;
 import com.orsoncharts.graphics3d.RenderedElement;
+import com.orsoncharts.graphics3d.ShadedColorCache;
+import com.orsoncharts.graphics3d.SplitFace;
 import com.orsoncharts.interaction.InteractiveElementType;
 import com.orsoncharts.legend.LegendBuilder;
 import com.orsoncharts.legend.StandardLegendBuilder;
@@ -174,6 +179,18 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     public static final String SERIES_KEY = "series_key";
     
+    /** The size (in Java2D units) of the square drawn for a point face. */
+    private static final double POINT_SIZE = 4.0;
+    
+    /** 
+     * The world partition for the chart box.  The chart box is replaced 
+     * every time the chart is drawn (the gridlines and markers depend on
+     * the tick selection) and its vertex count can change, so the key is 
+     * chosen to sort after {@link World#DEFAULT_PARTITION_KEY}: the chart 
+     * box vertices then come last and the data faces keep their offsets.
+     */
+    static final String CHART_BOX_PARTITION_KEY = "~chartbox";
+    
     /** The chart id. */
     private String id;
     
@@ -241,9 +258,31 @@ public class Chart3D implements Drawable3D, ChartElement,
     
     /** A 3D model of the world (represents the chart). */
     private transient World world;
+    
+    /**
+     * The keys for data items that have been removed from the world and 
+     * need to be composed again before the world is next drawn (or 
+     * {@code null}).  Composing the items when the chart is drawn, rather 
+     * than as each change event arrives, means that many changes between
+     * two frames require only one update of the world.
+     */
+    private transient Set<ItemKey> pendingItemKeys;
+    
+    /** 
+     * A reduced detail model of the chart, used for draft rendering (see
+     * {@link Chart3DHints#KEY_DRAFT_RENDERING}), or {@code null}.  This is
+     * discarded whenever the plot changes.
+     */
+    private transient World draftWorld;
 
     /** An object that sorts faces for rendering (painter's algorithm). */
     private FaceSorter faceSorter;
+    
+    /** 
+     * The executor used to transform the vertices of large worlds in 
+     * parallel ({@code null} for sequential transformations).
+     */
+    private transient Executor transformExecutor;
 
     /**
      * A flag that controls whether or not element hints are added to the
@@ -297,7 +336,7 @@ public class Chart3D implements Drawable3D, ChartElement,
         this.projDist = DEFAULT_PROJ_DIST;
         this.chartBoxColor = new Color(255, 255, 255, 100);
         this.translate2D = new Offset2D();
-        this.faceSorter = new StandardFaceSorter();
+        this.faceSorter = new RadixFaceSorter();
         this.renderingHints = new RenderingHints(
                 RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON);
@@ -519,7 +558,7 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void setViewPoint(ViewPoint3D viewPoint) {
         ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
         this.viewPoint = viewPoint;
-        fireChangeEvent();
+        fireSceneChangeEvent();
     }    
 
     /** 
@@ -547,8 +586,74 @@ public class Chart3D implements Drawable3D, ChartElement,
     @Override
     public void setProjDistance(double dist) {
         this.projDist = dist;
+        fireSceneChangeEvent();
+    }
+
+    /**
+     * Returns the face sorter that determines the order in which the faces 
+     * of the 3D model are painted.  The default is a {@link RadixFaceSorter}.
+     * A {@link com.orsoncharts.graphics3d.BSPFaceSorter} gives the correct 
+     * order for large faces and reuses its work while the chart is rotated.
+     * 
+     * @return The face sorter (never {@code null}).
+     * 
+     * @since 1.6
+     */
+    public FaceSorter getFaceSorter() {
+        return this.faceSorter;
+    }
+    
+    /**
+     * Sets the face sorter and sends a change event to all registered 
+     * listeners.
+     * 
+     * @param sorter  the face sorter ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public void setFaceSorter(FaceSorter sorter) {
+        ArgChecks.nullNotPermitted(sorter, "sorter");
+        this.faceSorter = sorter;
         fireChangeEvent();
     }
+    
+    /**
+     * Returns the executor used to transform the vertices of the 3D model 
+     * in parallel.  The default is {@code null} (all transformations are 
+     * performed on the rendering thread).
+     * 
+     * @return The executor (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public Executor getTransformExecutor() {
+        return this.transformExecutor;
+    }
+    
+    /**
+     * Sets the executor used to transform the vertices of the 3D model in 
+     * parallel.  This only has an effect for models with a large number of
+     * vertices (see {@link World#DEFAULT_PARALLEL_THRESHOLD}), such as 
+     * surface charts with a high sample count.  The drawing thread takes 
+     * part in the work and never waits for a chunk that is still queued, 
+     * so an executor whose threads draw charts can also be used (see 
+     * {@link World#setTransformExecutor(Executor)}).  On JDK 8 or later, 
+     * {@code ForkJoinPool.commonPool()} is a good choice.  This setting is 
+     * not serialized.
+     * 
+     * @param executor  the executor ({@code null} permitted).
+     * 
+     * @since 1.6
+     */
+    public void setTransformExecutor(Executor executor) {
+        this.transformExecutor = executor;
+        if (this.world != null) {
+            this.world.setTransformExecutor(executor);
+        }
+        if (this.draftWorld != null) {
+            this.draftWorld.setTransformExecutor(executor);
+        }
+    }
 
     /**
      * Sets the offset in 2D-space for the rendering of the chart.  The 
@@ -574,7 +679,7 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void setTranslate2D(Offset2D offset) {
         ArgChecks.nullNotPermitted(offset, "offset");
         this.translate2D = offset;
-        fireChangeEvent();
+        fireSceneChangeEvent();
     }
     
     /**
@@ -806,17 +911,92 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     private World createWorld(ChartBox3D chartBox) {
         World result = new World();      
+        result.setTransformExecutor(this.transformExecutor);
+        Dimension3D dim = this.plot.getDimensions();
+        double w = dim.getWidth();
+        double h = dim.getHeight();
+        double d = dim.getDepth();
+        if (chartBox != null) {
+            result.add(CHART_BOX_PARTITION_KEY, chartBox.createObject3D());
+        }
+        this.plot.compose(result, -w / 2, -h / 2, -d / 2);
+        return result;
+    }
+    
+    /**
+     * Creates a reduced detail world for draft rendering.  Renderers check
+     * the {@link World#isDraft()} flag and may compose a simplified 
+     * representation of the data.
+     * 
+     * @param chartBox  the chart box ({@code null} permitted).
+     * 
+     * @return The draft world (never {@code null}).
+     */
+    private World createDraftWorld(ChartBox3D chartBox) {
+        World result = new World();
+        result.setDraft(true);
+        result.setTransformExecutor(this.transformExecutor);
         Dimension3D dim = this.plot.getDimensions();
         double w = dim.getWidth();
         double h = dim.getHeight();
         double d = dim.getDepth();
         if (chartBox != null) {
-            result.add("chartbox", chartBox.createObject3D());
+            result.add(CHART_BOX_PARTITION_KEY, chartBox.createObject3D());
         }
         this.plot.compose(result, -w / 2, -h / 2, -d / 2);
         return result;
     }
     
+    /**
+     * Returns {@code true} if the face faces away from the viewer and will
+     * not be drawn.  Points, lines, double-sided faces and label faces (which
+     * are drawn when they face away from the viewer) are never back faces.
+     * 
+     * @param f  the face.
+     * @param pts  the projected points.
+     * 
+     * @return A boolean. 
+     */
+    private boolean isBackFace(Face f, Point2D[] pts) {
+        if (f.getVertexCount() <= 2 || f instanceof DoubleSidedFace 
+                || f instanceof LabelFace) {
+            return false;
+        }
+        return Utils2D.area2(pts[f.getVertexIndex(0)], 
+                pts[f.getVertexIndex(1)], pts[f.getVertexIndex(2)]) <= 0.0;
+    }
+    
+    /**
+     * Returns {@code true} if the face lies entirely outside the clip 
+     * rectangle.  Label faces are never treated as off-screen since the 
+     * label text can extend beyond the face.
+     * 
+     * @param f  the face.
+     * @param pts  the projected points.
+     * @param clip  the clip rectangle.
+     * 
+     * @return A boolean. 
+     */
+    private boolean isOffscreen(Face f, Point2D[] pts, Rectangle2D clip) {
+        if (f instanceof LabelFace) {
+            return false;
+        }
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < f.getVertexCount(); i++) {
+            Point2D pt = pts[f.getVertexIndex(i)];
+            minX = Math.min(minX, pt.getX());
+            minY = Math.min(minY, pt.getY());
+            maxX = Math.max(maxX, pt.getX());
+            maxY = Math.max(maxY, pt.getY());
+        }
+        // allow a small margin for the face outline
+        return maxX < clip.getMinX() - 2.0 || minX > clip.getMaxX() + 2.0 
+                || maxY < clip.getMinY() - 2.0 || minY > clip.getMaxY() + 2.0;
+    }
+    
     /**
      * Draws the chart to the specified output target.
      * 
@@ -830,6 +1010,103 @@ public class Chart3D implements Drawable3D, ChartElement,
         Shape savedClip = g2.getClip();
         g2.clip(bounds);
         g2.addRenderingHints(this.renderingHints);
+        if (this.background != null) {
+            this.background.fill(g2, bounds);
+        }
+        RenderingInfo info = renderScene(g2, bounds);
+        renderOverlays(g2, bounds, info);
+        g2.setClip(savedClip);
+        endElement(g2);
+        return info;
+    }
+    
+    /**
+     * Draws the chart background (if there is one) to the specified output
+     * target.  This method, together with 
+     * {@link #drawScene(java.awt.Graphics2D, java.awt.geom.Rectangle2D)} and 
+     * {@link #drawOverlays(java.awt.Graphics2D, java.awt.geom.Rectangle2D, 
+     * com.orsoncharts.graphics3d.RenderingInfo)}, draws the chart in layers 
+     * (calling the three methods in order gives the same output as the 
+     * {@link #draw(java.awt.Graphics2D, java.awt.geom.Rectangle2D)} method).
+     * The background and overlay layers do not depend on the view point, so
+     * a component can cache them as images while the chart is rotated (see
+     * {@link Chart3DPanel}).
+     * 
+     * @param g2  the output target ({@code null} not permitted).
+     * @param bounds  the chart bounds ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public void drawBackground(Graphics2D g2, Rectangle2D bounds) {
+        ArgChecks.nullNotPermitted(g2, "g2");
+        ArgChecks.nullNotPermitted(bounds, "bounds");
+        if (this.background == null) {
+            return;
+        }
+        Shape savedClip = g2.getClip();
+        g2.clip(bounds);
+        g2.addRenderingHints(this.renderingHints);
+        this.background.fill(g2, bounds);
+        g2.setClip(savedClip);
+    }
+    
+    /**
+     * Draws the 3D content of the chart, including the axis labels, to the
+     * specified output target.  The chart background, legend and title are
+     * not drawn.
+     * 
+     * @param g2  the output target ({@code null} not permitted).
+     * @param bounds  the chart bounds ({@code null} not permitted).
+     * 
+     * @return Information about the items rendered.
+     * 
+     * @since 1.6
+     */
+    public RenderingInfo drawScene(Graphics2D g2, Rectangle2D bounds) {
+        ArgChecks.nullNotPermitted(g2, "g2");
+        ArgChecks.nullNotPermitted(bounds, "bounds");
+        Shape savedClip = g2.getClip();
+        g2.clip(bounds);
+        g2.addRenderingHints(this.renderingHints);
+        RenderingInfo info = renderScene(g2, bounds);
+        g2.setClip(savedClip);
+        return info;
+    }
+    
+    /**
+     * Draws the chart legend and title to the specified output target.  
+     * These are drawn in the same location regardless of the view point.
+     * 
+     * @param g2  the output target ({@code null} not permitted).
+     * @param bounds  the chart bounds ({@code null} not permitted).
+     * @param info  the rendering info that the rendered elements (legend 
+     *     items and titles) are added to ({@code null} permitted).
+     * 
+     * @since 1.6
+     */
+    public void drawOverlays(Graphics2D g2, Rectangle2D bounds, 
+            RenderingInfo info) {
+        ArgChecks.nullNotPermitted(g2, "g2");
+        ArgChecks.nullNotPermitted(bounds, "bounds");
+        Shape savedClip = g2.getClip();
+        g2.clip(bounds);
+        g2.addRenderingHints(this.renderingHints);
+        renderOverlays(g2, bounds, info);
+        g2.setClip(savedClip);
+    }
+    
+    /**
+     * Draws the 3D content of the chart (the caller has already set up the 
+     * clip and rendering hints).
+     * 
+     * @param g2  the output target.
+     * @param bounds  the chart bounds.
+     * 
+     * @return Information about the items rendered.
+     */
+    private RenderingInfo renderScene(Graphics2D g2, Rectangle2D bounds) {
+        boolean draft = Boolean.TRUE.equals(g2.getRenderingHint(
+                Chart3DHints.KEY_DRAFT_RENDERING));
         g2.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, 
                 BasicStroke.JOIN_ROUND, 1f));
         Dimension3D dim3D = this.plot.getDimensions();
@@ -839,24 +1116,42 @@ public class Chart3D implements Drawable3D, ChartElement,
         ChartBox3D chartBox = null;
         if (this.plot instanceof XYZPlot 
                 || this.plot instanceof CategoryPlot3D) {
-            double[] tickUnits = findAxisTickUnits(g2, w, h, depth);
             chartBox = new ChartBox3D(w, h, depth, -w / 2, -h / 2, -depth / 2, 
                     this.chartBoxColor);
-            chartBox.setXTicks(fetchXTickData(this.plot, tickUnits[0]));
-            chartBox.setYTicks(fetchYTickData(this.plot, tickUnits[1]));
-            chartBox.setZTicks(fetchZTickData(this.plot, tickUnits[2]));
-            chartBox.setXMarkers(fetchXMarkerData(this.plot));
-            chartBox.setYMarkers(fetchYMarkerData(this.plot));
-            chartBox.setZMarkers(fetchZMarkerData(this.plot));
-        }
-        if (this.world == null) {
-            this.world = createWorld(chartBox);
-        } else if (chartBox != null) {
-            this.world.clear("chartbox");
-            this.world.add("chartbox", chartBox.createObject3D());
+            if (!draft) {  // no gridlines or markers are drawn for a draft
+                double[] tickUnits = findAxisTickUnits(g2, w, h, depth);
+                chartBox.setXTicks(fetchXTickData(this.plot, tickUnits[0]));
+                chartBox.setYTicks(fetchYTickData(this.plot, tickUnits[1]));
+                chartBox.setZTicks(fetchZTickData(this.plot, tickUnits[2]));
+                chartBox.setXMarkers(fetchXMarkerData(this.plot));
+                chartBox.setYMarkers(fetchYMarkerData(this.plot));
+                chartBox.setZMarkers(fetchZMarkerData(this.plot));
+            }
         }
-        if (this.background != null) {
-            this.background.fill(g2, bounds);
+        World model;
+        if (draft) {
+            if (this.draftWorld == null) {
+                this.draftWorld = createDraftWorld(chartBox);
+            } else if (chartBox != null) {
+                this.draftWorld.clear(CHART_BOX_PARTITION_KEY);
+                this.draftWorld.add(CHART_BOX_PARTITION_KEY, 
+                        chartBox.createObject3D());
+            }
+            model = this.draftWorld;
+        } else {
+            if (this.world == null) {
+                this.world = createWorld(chartBox);
+            } else {
+                if (this.pendingItemKeys != null) {
+                    composePendingItems();
+                }
+                if (chartBox != null) {
+                    this.world.clear(CHART_BOX_PARTITION_KEY);
+                    this.world.add(CHART_BOX_PARTITION_KEY, 
+                            chartBox.createObject3D());
+                }
+            }
+            model = this.world;
         }
         AffineTransform saved = g2.getTransform();
         double dx = bounds.getX() + bounds.getWidth() / 2.0 
@@ -864,16 +1159,49 @@ public class Chart3D implements Drawable3D, ChartElement,
         double dy = bounds.getY() + bounds.getHeight() / 2.0 
                 + this.translate2D.getDY();
         g2.translate(dx, dy);
-        Point3D[] eyePts = this.world.calculateEyeCoordinates(this.viewPoint);
-        Point2D[] pts = this.world.calculateProjectedPoints(this.viewPoint, 
+        Point3D[] eyePts = model.calculateEyeCoordinates(this.viewPoint);
+        Point2D[] pts = model.calculateProjectedPoints(this.viewPoint, 
                 this.projDist);
         
-        // sort faces by z-order
-        List<Face> facesInPaintOrder = new ArrayList<Face>(world.getFaces());
+        // discard faces that won't be drawn, then sort the rest by z-order
+        List<Face> allFaces = model.getFaces();
+        List<Face> facesInPaintOrder = new ArrayList<Face>(allFaces.size());
+        int culledBackFaces = 0;
+        int culledOffscreenFaces = 0;
+        Rectangle2D clip = g2.getClipBounds();
+        for (Face f : allFaces) {
+            if (isBackFace(f, pts)) {
+                culledBackFaces++;
+            } else if (clip != null && isOffscreen(f, pts, clip)) {
+                culledOffscreenFaces++;
+            } else {
+                facesInPaintOrder.add(f);
+            }
+        }
         facesInPaintOrder = this.faceSorter.sort(facesInPaintOrder, eyePts);
         Line2D line = null;
+        Rectangle2D point = null;
         Stroke stroke = new BasicStroke(1.0f);
+        // scratch objects reused for every face to avoid allocation
+        double[] normal = new double[3];
+        Path2D path = new Path2D.Float();
+        ShadedColorCache shadedColors = new ShadedColorCache();
+        double sunX = model.getSunX();
+        double sunY = model.getSunY();
+        double sunZ = model.getSunZ();
         for (Face f : facesInPaintOrder) {
+            // a point (used in draft worlds) is drawn as a small square
+            if (f.getVertexCount() == 1) {
+                g2.setPaint(f.getColor());
+                if (point == null) {
+                    point = new Rectangle2D.Double();
+                }
+                Point2D pt = pts[f.getVertexIndex(0)];
+                point.setRect(pt.getX() - POINT_SIZE / 2.0, 
+                        pt.getY() - POINT_SIZE / 2.0, POINT_SIZE, POINT_SIZE);
+                g2.fill(point);
+                continue;
+            }
             // check for the special case where the face is just a line
             if (f.getVertexCount() == 2) {
                 g2.setPaint(f.getColor());
@@ -889,18 +1217,18 @@ public class Chart3D implements Drawable3D, ChartElement,
                 continue;
             }
             boolean drawOutline = f.getOutline();
-            double[] plane = f.calculateNormal(eyePts);
-            double inprod = plane[0] * world.getSunX() + plane[1]
-                    * world.getSunY() + plane[2] * world.getSunZ();
-            double shade = (inprod + 1) / 2.0;
-            if (f instanceof DoubleSidedFace 
+            // a fragment from a BSPFaceSorter is double-sided if its source is
+            Face source = f instanceof SplitFace ? ((SplitFace) f).getSource() 
+                    : f;
+            if (source instanceof DoubleSidedFace 
                     || Utils2D.area2(pts[f.getVertexIndex(0)],
                     pts[f.getVertexIndex(1)], pts[f.getVertexIndex(2)]) > 0.0) {
-                Color c = f.getColor();
-                Path2D p = f.createPath(pts);
-                g2.setPaint(new Color((int) (c.getRed() * shade),
-                        (int) (c.getGreen() * shade),
-                        (int) (c.getBlue() * shade), c.getAlpha()));
+                f.calculateNormal(eyePts, normal);
+                double inprod = normal[0] * sunX + normal[1] * sunY 
+                        + normal[2] * sunZ;
+                double shade = (inprod + 1) / 2.0;
+                Path2D p = f.createPath(pts, path);
+                g2.setPaint(shadedColors.getShadedColor(f.getColor(), shade));
                 if (this.elementHinting) {
                     beginElementGroup(f, g2);
                 }
@@ -912,7 +1240,7 @@ public class Chart3D implements Drawable3D, ChartElement,
                     endElementGroup(f, g2);
                 }
                 
-                if (f instanceof ChartBoxFace 
+                if (!draft && f instanceof ChartBoxFace 
                         && (this.plot instanceof CategoryPlot3D 
                         || this.plot instanceof XYZPlot)) {
                     Stroke savedStroke = g2.getStroke();
@@ -921,7 +1249,7 @@ public class Chart3D implements Drawable3D, ChartElement,
                     drawMarkers(g2, cbf, pts);
                     g2.setStroke(savedStroke);
                 }
-            } else if (f instanceof LabelFace) {
+            } else if (!draft && f instanceof LabelFace) {
                 LabelFace lf = (LabelFace) f;
                 Path2D p = lf.createPath(pts);
                 Rectangle2D lb = p.getBounds2D();
@@ -940,21 +1268,36 @@ public class Chart3D implements Drawable3D, ChartElement,
             } 
         }
         RenderingInfo info = new RenderingInfo(facesInPaintOrder, pts, dx, dy);
-        OnDrawHandler onDrawHandler = new OnDrawHandler(info, 
-                this.elementHinting);
+        info.setCulledBackFaceCount(culledBackFaces);
+        info.setCulledOffscreenFaceCount(culledOffscreenFaces);
    
         // handle labels on pie plots...
-        if (this.plot instanceof PiePlot3D) {
+        if (!draft && this.plot instanceof PiePlot3D) {
             drawPieLabels(g2, w, h, depth, info);
         }
 
         // handle axis labelling on non-pie plots...
-        if (this.plot instanceof XYZPlot || this.plot instanceof 
-                CategoryPlot3D) {
+        if (!draft && (this.plot instanceof XYZPlot || this.plot instanceof 
+                CategoryPlot3D)) {
             drawAxes(g2, chartBox, pts, info);
         }    
 
         g2.setTransform(saved);
+        return info;
+    }
+    
+    /**
+     * Draws the legend and title for the chart (the caller has already set
+     * up the clip and rendering hints).
+     * 
+     * @param g2  the output target.
+     * @param bounds  the chart bounds.
+     * @param info  the rendering info ({@code null} permitted).
+     */
+    private void renderOverlays(Graphics2D g2, Rectangle2D bounds, 
+            RenderingInfo info) {
+        OnDrawHandler onDrawHandler = new OnDrawHandler(info, 
+                this.elementHinting);
         
         // generate and draw the legend...
         if (this.legendBuilder != null) {
@@ -975,9 +1318,6 @@ public class Chart3D implements Drawable3D, ChartElement,
                     this.titleAnchor, bounds);
             this.title.draw(g2, titleArea, onDrawHandler);
         }
-        g2.setClip(savedClip);
-        endElement(g2);
-        return info;
     }
     
     private void beginElementGroup(Face face, Graphics2D g2) {
@@ -1445,12 +1785,12 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     private double[] findAxisTickUnits(Graphics2D g2, double w, double h, 
             double depth) {
-        World tempWorld = new World();
         ChartBox3D chartBox = new ChartBox3D(w, h, depth, -w / 2.0, -h / 2.0, 
                 -depth / 2.0, Color.WHITE);
-        tempWorld.add(chartBox.createObject3D());
-        Point2D[] axisPts2D = tempWorld.calculateProjectedPoints(
-                this.viewPoint, this.projDist);
+        // the box is projected on its own (no world is needed), the face 
+        // vertex indices are the same since the box has no vertex offset
+        Point2D[] axisPts2D = chartBox.createObject3D()
+                .calculateProjectedPoints(this.viewPoint, this.projDist);
 
         // vertices
         Point2D v0 = axisPts2D[0];
@@ -1558,9 +1898,10 @@ public class Chart3D implements Drawable3D, ChartElement,
         return new double[] { xtick, ytick, ztick };
     }
     
-    private void populateAnchorPoints(List<TickData> tickData, Point2D[] pts) {
+    private void populateAnchorPoints(List<TickData> tickData, Point2D[] pts,
+            int offset) {
         for (TickData t : tickData) {
-            t.setAnchorPt(pts[t.getVertexIndex()]);
+            t.setAnchorPt(pts[offset + t.getVertexIndex()]);
         }    
     }
     
@@ -1577,15 +1918,17 @@ public class Chart3D implements Drawable3D, ChartElement,
     private void drawAxes(Graphics2D g2, ChartBox3D chartBox, Point2D[] pts,
             RenderingInfo info) {
 
-        // vertices
-        Point2D v0 = pts[0];
-        Point2D v1 = pts[1];
-        Point2D v2 = pts[2];
-        Point2D v3 = pts[3];
-        Point2D v4 = pts[4];
-        Point2D v5 = pts[5];
-        Point2D v6 = pts[6];
-        Point2D v7 = pts[7];
+        // vertices (the chart box follows the data in the world, so the 
+        // vertex indices are relative to the offset of its faces)
+        int offset = chartBox.faceA().getOffset();
+        Point2D v0 = pts[offset];
+        Point2D v1 = pts[offset + 1];
+        Point2D v2 = pts[offset + 2];
+        Point2D v3 = pts[offset + 3];
+        Point2D v4 = pts[offset + 4];
+        Point2D v5 = pts[offset + 5];
+        Point2D v6 = pts[offset + 6];
+        Point2D v7 = pts[offset + 7];
 
         // faces
         boolean a = chartBox.faceA().isFrontFacing(pts);
@@ -1625,64 +1968,64 @@ public class Chart3D implements Drawable3D, ChartElement,
             List<TickData> ticks; 
             if (count(a, b) == 1 && longest(ab, bc, cd, da)) {
                 ticks = chartBox.faceA().getXTicksA();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 xAxis.draw(g2, v0, v1, v7, ticks, info, this.elementHinting);
             }
             if (count(b, c) == 1 && longest(bc, ab, cd, da)) {
                 ticks = chartBox.faceB().getXTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 xAxis.draw(g2, v3, v2, v6, ticks, info, this.elementHinting);
             }
             if (count(c, d) == 1 && longest(cd, ab, bc, da)) {
                 ticks = chartBox.faceC().getXTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 xAxis.draw(g2, v4, v7, v1, ticks, info, this.elementHinting);
             }
             if (count(d, a) == 1 && longest(da, ab, bc, cd)) {
                 ticks = chartBox.faceA().getXTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 xAxis.draw(g2, v5, v6, v3, ticks, info, this.elementHinting);
             }
 
             if (count(b, e) == 1 && longest(be, bf, df, de)) {
                 ticks = chartBox.faceB().getYTicksA();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 yAxis.draw(g2, v0, v3, v7, ticks, info, this.elementHinting);
             }
             if (count(b, f) == 1 && longest(bf, be, df, de)) {
                 ticks = chartBox.faceB().getYTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 yAxis.draw(g2, v1, v2, v4, ticks, info, this.elementHinting);
             }
             if (count(d, f) == 1 && longest(df, be, bf, de)) {
                 ticks = chartBox.faceD().getYTicksA();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 yAxis.draw(g2, v6, v7, v0, ticks, info, this.elementHinting);
             }
             if (count(d, e) == 1 && longest(de, be, bf, df)) {
                 ticks = chartBox.faceD().getYTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 yAxis.draw(g2, v5, v4, v1, ticks, info, this.elementHinting);
             }
 
             if (count(a, e) == 1 && longest(ae, af, cf, ce)) {
                 ticks = chartBox.faceA().getZTicksA();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 zAxis.draw(g2, v0, v5, v2, ticks, info, this.elementHinting);
             }
             if (count(a, f) == 1 && longest(af, ae, cf, ce)) {
                 ticks = chartBox.faceA().getZTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 zAxis.draw(g2, v1, v6, v3, ticks, info, this.elementHinting);
             }
             if (count(c, f) == 1 && longest(cf, ae, af, ce)) {
                 ticks = chartBox.faceC().getZTicksB();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 zAxis.draw(g2, v2, v7, v5, ticks, info, this.elementHinting);
             }
             if (count(c, e) == 1 && longest(ce, ae, af, cf)) {
                 ticks = chartBox.faceC().getZTicksA();
-                populateAnchorPoints(ticks, pts);
+                populateAnchorPoints(ticks, pts, offset);
                 zAxis.draw(g2, v3, v4, v6, ticks, info, this.elementHinting);
             }
         }
@@ -1698,10 +2041,12 @@ public class Chart3D implements Drawable3D, ChartElement,
      * @param pts  the projected points for the whole world.
      */
     private void drawMarkers(Graphics2D g2, ChartBoxFace face, Point2D[] pts) {
+        // marker vertex indices are relative to the chart box object
+        int offset = face.getOffset();
         // x markers
         List<MarkerData> xmarkers = face.getXMarkers();
         for (MarkerData m : xmarkers) {
-            m.updateProjection(pts);
+            m.updateProjection(pts, offset);
             Marker marker = fetchXMarker(this.plot, m.getMarkerKey());
             beginElementWithRef(g2, "{\"type\": \"xMarker\", \"key\": \"" 
                     + m.getMarkerKey() + "\"}");
@@ -1712,7 +2057,7 @@ public class Chart3D implements Drawable3D, ChartElement,
         // y markers
         List<MarkerData> ymarkers = face.getYMarkers();
         for (MarkerData m : ymarkers) {
-            m.updateProjection(pts);
+            m.updateProjection(pts, offset);
             Marker marker = fetchYMarker(this.plot, m.getMarkerKey());
             beginElementWithRef(g2, "{\"type\": \"yMarker\", \"key\": \"" 
                     + m.getMarkerKey() + "\"}");
@@ -1723,7 +2068,7 @@ public class Chart3D implements Drawable3D, ChartElement,
         // z markers
         List<MarkerData> zmarkers = face.getZMarkers();
         for (MarkerData m : zmarkers) {
-            m.updateProjection(pts);
+            m.updateProjection(pts, offset);
             beginElementWithRef(g2, "{\"type\": \"zMarker\", \"key\": \"" 
                     + m.getMarkerKey() + "\"}");
             Marker marker = fetchZMarker(this.plot, m.getMarkerKey());
@@ -1946,9 +2291,92 @@ public class Chart3D implements Drawable3D, ChartElement,
     @Override
     public void plotChanged(Plot3DChangeEvent event) {
         if (event.requiresWorldUpdate()) {
-            this.world = null;
+            this.draftWorld = null;
+            List<ItemKey> itemKeys = event.getItemKeys();
+            if (itemKeys == null || !recomposeItems(itemKeys, 
+                    event.getRemovedItemKeys(), event.getItemKeyUpdates())) {
+                this.world = null;
+                this.pendingItemKeys = null;
+            }
+        }
+        // an update to individual data items does not affect the legend
+        notifyListeners(new Chart3DChangeEvent(event, this, 
+                event.getItemKeys() != null));
+    }
+    
+    /**
+     * Updates the existing world (if there is one) by removing the 3D 
+     * objects for the specified data items, leaving the rest of the world
+     * untouched.  The items are composed again the next time the chart is 
+     * drawn (so that an item that changes several times between two frames
+     * is composed only once).
+     * 
+     * @param itemKeys  the keys for the items to recompose 
+     *     ({@code null} not permitted).
+     * @param removedItemKeys  the keys for items that have been removed
+     *     ({@code null} permitted).
+     * @param itemKeyUpdates  a map from old to new keys for items that have
+     *     been renumbered ({@code null} permitted).
+     * 
+     * @return A boolean indicating whether or not the world was updated (if
+     *     {@code false}, the caller should discard the world so that it is
+     *     rebuilt in full on the next draw).
+     */
+    private boolean recomposeItems(List<ItemKey> itemKeys, 
+            List<ItemKey> removedItemKeys, 
+            Map<ItemKey, ItemKey> itemKeyUpdates) {
+        if (this.world == null) {
+            return true;  // nothing to update, the world will be created
+        }
+        if (!(this.plot instanceof CategoryPlot3D 
+                || this.plot instanceof XYZPlot)) {
+            return false;
+        }
+        if (removedItemKeys != null) {
+            this.world.removeItems(removedItemKeys);
+        }
+        if (itemKeyUpdates != null) {
+            this.world.replaceItemKeys(itemKeyUpdates);
+        }
+        this.world.removeItems(itemKeys);
+        if (this.pendingItemKeys == null) {
+            this.pendingItemKeys = new LinkedHashSet<ItemKey>();
+        } else {
+            // the pending keys must track the changes to the item numbering
+            if (removedItemKeys != null) {
+                this.pendingItemKeys.removeAll(removedItemKeys);
+            }
+            if (itemKeyUpdates != null && !this.pendingItemKeys.isEmpty()) {
+                Set<ItemKey> updated = new LinkedHashSet<ItemKey>();
+                for (ItemKey key : this.pendingItemKeys) {
+                    ItemKey newKey = itemKeyUpdates.get(key);
+                    updated.add(newKey != null ? newKey : key);
+                }
+                this.pendingItemKeys = updated;
+            }
+        }
+        this.pendingItemKeys.addAll(itemKeys);
+        return true;
+    }
+    
+    /**
+     * Adds the 3D objects for the pending items to the world (see
+     * {@link #recomposeItems(java.util.List, java.util.List, java.util.Map)}).
+     */
+    private void composePendingItems() {
+        List<ItemKey> itemKeys = new ArrayList<ItemKey>(this.pendingItemKeys);
+        this.pendingItemKeys = null;
+        Dimension3D dim = this.plot.getDimensions();
+        double w = dim.getWidth();
+        double h = dim.getHeight();
+        double d = dim.getDepth();
+        if (this.plot instanceof CategoryPlot3D) {
+            ((CategoryPlot3D) this.plot).composeItems(this.world, itemKeys, 
+                    -w / 2, -h / 2, -d / 2);
+        } else if (this.plot instanceof XYZPlot) {
+            ((XYZPlot) this.plot).composeItems(this.world, itemKeys, 
+                    -w / 2, -h / 2, -d / 2);
         }
-        notifyListeners(new Chart3DChangeEvent(event, this));
     }
 
     @Override
@@ -2023,6 +2451,8 @@ public class Chart3D implements Drawable3D, ChartElement,
         // if the flag is being set to true, there may be queued up changes...
         if (notify) {
             this.world = null;
+            this.pendingItemKeys = null;
+            this.draftWorld = null;
             fireChangeEvent();
         }
     }
@@ -2033,6 +2463,14 @@ public class Chart3D implements Drawable3D, ChartElement,
     protected void fireChangeEvent() {
         notifyListeners(new Chart3DChangeEvent(this, this));
     }
+    
+    /**
+     * Sends a {@link Chart3DChangeEvent} to all registered listeners for a
+     * change that affects only the 3D scene (for example, the view point).
+     */
+    private void fireSceneChangeEvent() {
+        notifyListeners(new Chart3DChangeEvent(this, this, true));
+    }
 
     /**
      * Provides serialization support.
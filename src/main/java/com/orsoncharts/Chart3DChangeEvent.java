@@ -51,6 +51,12 @@ public class Chart3DChangeEvent extends EventObject {
 
     /** The chart that is the source of the event. */
     private Chart3D chart;
+    
+    /** 
+     * A flag that indicates that the change affects only the 3D scene (and
+     * not the background, legend or title of the chart).
+     */
+    private boolean sceneChange;
   
     /**
      * Creates a new event.
@@ -70,9 +76,26 @@ public class Chart3DChangeEvent extends EventObject {
      *     not permitted).
      */
     public Chart3DChangeEvent(Object source, Chart3D chart) {
+        this(source, chart, false);
+    }
+    
+    /**
+     * Creates a new event.
+     * 
+     * @param source  the source.
+     * @param chart  the chart that is the source of the event ({@code null} 
+     *     not permitted).
+     * @param sceneChange  a flag that indicates that the change affects only
+     *     the 3D scene (for example, a change to the view point).
+     * 
+     * @since 1.6
+     */
+    public Chart3DChangeEvent(Object source, Chart3D chart, 
+            boolean sceneChange) {
         super(source);
         ArgChecks.nullNotPermitted(chart, "chart");
         this.chart = chart;
+        this.sceneChange = sceneChange;
     }
   
     /**
@@ -83,4 +106,19 @@ public class Chart3DChangeEvent extends EventObject {
     public Chart3D getChart() {
         return this.chart;
     }
+    
+    /**
+     * Returns {@code true} if the change affects only the 3D scene (for 
+     * example, a change to the view point or to individual data items) and
+     * not the chart background, legend or title.  Components that cache 
+     * those parts of the chart (see {@link Chart3DPanel}) use this flag to 
+     * avoid redrawing them.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.6
+     */
+    public boolean isSceneChange() {
+        return this.sceneChange;
+    }
 }
@@ -62,6 +62,17 @@ public final class Chart3DHints {
      */
     public static final Key KEY_END_ELEMENT = new Chart3DHints.Key(1);
     
+    /**
+     * The key for a hint that requests draft rendering of a chart.  When the
+     * value is {@code Boolean.TRUE}, the chart is drawn from a reduced detail
+     * model and without labels, gridlines or markers.  This is used by the
+     * {@link com.orsoncharts.graphics3d.swing.Panel3D} class to keep the 
+     * display responsive while the user is rotating or zooming the chart.
+     * 
+     * @since 1.6
+     */
+    public static final Key KEY_DRAFT_RENDERING = new Chart3DHints.Key(2);
+    
     /**
      * A key for rendering hints that can be used with Orson Charts (in 
      * addition to the regular Java2D rendering hints).
@@ -93,6 +104,8 @@ public final class Chart3DHints {
                             || val instanceof Map;
                 case 1:
                     return val == null || val instanceof Object;
+                case 2:
+                    return val == null || val instanceof Boolean;
                 default:
                     throw new RuntimeException("Not possible!");
             }
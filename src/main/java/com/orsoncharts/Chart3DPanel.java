@@ -32,15 +32,30 @@
 
 package com.orsoncharts;
 
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.ArrayList;
 import java.util.EventListener;
+import java.util.List;
+import javax.swing.Timer;
 import javax.swing.event.EventListenerList;
 
 import com.orsoncharts.data.ItemKey;
+import com.orsoncharts.graphics3d.Face;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.graphics3d.swing.Panel3D;
@@ -55,6 +70,11 @@ import com.orsoncharts.util.ArgChecks;
  * application.  The panel registers with the chart to receive change 
  * notifications, and when these are received the chart is automatically 
  * repainted.
+ * Change events that arrive within one frame interval (see 
+ * {@link #getMaxFrameRate()}) are coalesced into a single repaint.  By 
+ * default the chart background, legend and title are cached as images that
+ * are only redrawn after a change that affects them, so that rotating the 
+ * chart only redraws the 3D content (see {@link #isLayerCachingEnabled()}).
  * <br><br>
  * This panel will display the chart, but does not include additional features
  * such as the view toolbar and popup menu (these are provided by the 
@@ -78,6 +98,54 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
     
     /** Storage for registered (chart) mouse listeners. */
     private transient EventListenerList chartMouseListeners;
+    
+    /** 
+     * The maximum number of times per second that the panel is repainted in
+     * response to chart change events (zero means no limit).
+     */
+    private double maxFrameRate;
+    
+    /** The time (from {@code System.nanoTime()}) of the last paint. */
+    private transient long lastPaintNanos;
+    
+    /** A timer for a deferred repaint (created when first required). */
+    private transient Timer repaintTimer;
+    
+    /** 
+     * A flag that controls whether or not the chart background, legend and
+     * title are cached as images.
+     */
+    private boolean layerCachingEnabled;
+    
+    /** Are the cached layer images up to date? */
+    private transient boolean layersValid;
+    
+    /** The cached background image ({@code null} if there is no background). */
+    private transient BufferedImage backgroundImage;
+    
+    /** 
+     * The cached image of the legend and title, cropped to the area that 
+     * they cover ({@code null} if there is nothing to draw). 
+     */
+    private transient BufferedImage overlayImage;
+    
+    /** The x-offset (in image pixels) of the cropped overlay image. */
+    private transient int overlayX;
+    
+    /** The y-offset (in image pixels) of the cropped overlay image. */
+    private transient int overlayY;
+    
+    /** The rendered elements (legend items and titles) in the overlay. */
+    private transient List<RenderedElement> overlayElements;
+    
+    /** The drawing area for the cached images. */
+    private transient Rectangle layerArea;
+    
+    /** The x-scale of the graphics transform for the cached images. */
+    private transient double layerScaleX;
+    
+    /** The y-scale of the graphics transform for the cached images. */
+    private transient double layerScaleY;
 
     /**
      * Creates a new chart panel to display the specified chart.
@@ -91,6 +159,8 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
         this.chart.addChangeListener(this);
         addComponentListener(this);
         this.autoFitOnPanelResize = false;
+        this.maxFrameRate = 60.0;
+        this.layerCachingEnabled = true;
         registerForTooltips();
     }
 
@@ -105,15 +175,280 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
         return this.chart;
     }
     
+    /**
+     * Returns the maximum number of times per second that the panel will be
+     * repainted in response to chart change events.  The default value is 
+     * {@code 60.0}, a value of {@code 0.0} means that there is no limit.
+     * 
+     * @return The maximum frame rate.
+     * 
+     * @since 1.6
+     */
+    public double getMaxFrameRate() {
+        return this.maxFrameRate;
+    }
+    
+    /**
+     * Sets the maximum number of times per second that the panel will be 
+     * repainted in response to chart change events.
+     * 
+     * @param rate  the maximum frame rate ({@code 0.0} for no limit, 
+     *     negative values not permitted).
+     * 
+     * @since 1.6
+     */
+    public void setMaxFrameRate(double rate) {
+        if (rate < 0.0) {
+            throw new IllegalArgumentException("Requires 'rate' >= 0.");
+        }
+        this.maxFrameRate = rate;
+    }
+    
+    /**
+     * Returns the flag that controls whether or not the chart background, 
+     * legend and title are cached as images.  The cached images are redrawn
+     * when the panel size changes and when the chart sends a change event 
+     * that is not a scene change (see 
+     * {@link Chart3DChangeEvent#isSceneChange()}).
+     * The default value is {@code true}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.6
+     */
+    public boolean isLayerCachingEnabled() {
+        return this.layerCachingEnabled;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the chart background, 
+     * legend and title are cached as images, and repaints the panel.
+     * 
+     * @param enabled  the new flag value.
+     * 
+     * @since 1.6
+     */
+    public void setLayerCachingEnabled(boolean enabled) {
+        this.layerCachingEnabled = enabled;
+        invalidateLayers();
+        repaint();
+    }
+    
+    /**
+     * Discards the cached layer images.
+     */
+    private void invalidateLayers() {
+        this.layersValid = false;
+        this.backgroundImage = null;
+        this.overlayImage = null;
+        this.overlayElements = null;
+    }
+    
     /**
      * Receives notification when the chart has been modified, and responds
-     * by completely repainting the panel and chart.
+     * by repainting the panel and chart.  If the previous paint was less 
+     * than one frame interval ago, the repaint is deferred until the 
+     * interval has passed (further events received in the meantime are 
+     * handled by the same repaint).
      * 
      * @param event  the event. 
      */
     @Override
     public void chartChanged(Chart3DChangeEvent event) {
-        repaint();
+        if (!event.isSceneChange()) {
+            invalidateLayers();
+        }
+        if (this.maxFrameRate <= 0.0) {
+            repaint();
+            return;
+        }
+        if (this.repaintTimer != null && this.repaintTimer.isRunning()) {
+            return;  // the pending repaint will include this change
+        }
+        long interval = (long) (1000000000L / this.maxFrameRate);
+        long delayNanos = this.lastPaintNanos + interval - System.nanoTime();
+        if (delayNanos <= 0L) {
+            repaint();
+            return;
+        }
+        if (this.repaintTimer == null) {
+            this.repaintTimer = new Timer(0, new ActionListener() {
+                @Override
+                public void actionPerformed(ActionEvent e) {
+                    repaint();
+                }
+            });
+            this.repaintTimer.setRepeats(false);
+        }
+        this.repaintTimer.setInitialDelay((int) Math.max(1L, 
+                delayNanos / 1000000L));
+        this.repaintTimer.start();
+    }
+
+    /**
+     * Paints the panel (and records the time, which is used to limit the 
+     * frame rate for repaints triggered by chart change events).
+     * 
+     * @param g  the graphics target.
+     */
+    @Override
+    public void paintComponent(Graphics g) {
+        this.lastPaintNanos = System.nanoTime();
+        super.paintComponent(g);
+    }
+    
+    /**
+     * Draws the chart within the specified area.  If layer caching is 
+     * enabled, the chart background, legend and title are drawn from the 
+     * cached images (which are created first if necessary) and only the 3D
+     * content of the chart is drawn directly.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param drawArea  the drawing area ({@code null} not permitted).
+     * 
+     * @return The rendering info.
+     * 
+     * @since 1.6
+     */
+    @Override
+    protected RenderingInfo drawContent(Graphics2D g2, Rectangle drawArea) {
+        AffineTransform t = g2.getTransform();
+        if (!this.layerCachingEnabled || drawArea.isEmpty() 
+                || t.getShearX() != 0.0 || t.getShearY() != 0.0 
+                || t.getScaleX() <= 0.0 || t.getScaleY() <= 0.0) {
+            return super.drawContent(g2, drawArea);
+        }
+        if (!this.layersValid || !drawArea.equals(this.layerArea) 
+                || t.getScaleX() != this.layerScaleX 
+                || t.getScaleY() != this.layerScaleY) {
+            createLayers(g2, drawArea, t.getScaleX(), t.getScaleY());
+        }
+        if (this.backgroundImage != null) {
+            g2.drawImage(this.backgroundImage, drawArea.x, drawArea.y, 
+                    drawArea.width, drawArea.height, null);
+        }
+        RenderingInfo info = this.chart.drawScene(g2, drawArea);
+        if (this.overlayImage != null) {
+            double x = drawArea.x + this.overlayX / this.layerScaleX;
+            double y = drawArea.y + this.overlayY / this.layerScaleY;
+            AffineTransform saved = g2.getTransform();
+            g2.translate(x, y);
+            g2.scale(1.0 / this.layerScaleX, 1.0 / this.layerScaleY);
+            g2.drawImage(this.overlayImage, 0, 0, null);
+            g2.setTransform(saved);
+        }
+        for (RenderedElement element : this.overlayElements) {
+            info.addElement(element);
+        }
+        return info;
+    }
+    
+    /**
+     * Draws the chart background and the overlays (legend and title) to 
+     * new images, at the resolution of the graphics target.
+     * 
+     * @param g2  the graphics target.
+     * @param drawArea  the drawing area.
+     * @param scaleX  the x-scale for the graphics target.
+     * @param scaleY  the y-scale for the graphics target.
+     */
+    private void createLayers(Graphics2D g2, Rectangle drawArea, 
+            double scaleX, double scaleY) {
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        int w = (int) Math.ceil(drawArea.width * scaleX);
+        int h = (int) Math.ceil(drawArea.height * scaleY);
+        this.backgroundImage = null;
+        if (this.chart.getBackground() != null) {
+            this.backgroundImage = gc.createCompatibleImage(w, h, 
+                    Transparency.TRANSLUCENT);
+            Graphics2D g = createLayerGraphics(this.backgroundImage, g2, 
+                    drawArea, scaleX, scaleY);
+            this.chart.drawBackground(g, drawArea);
+            g.dispose();
+        }
+        BufferedImage overlay = gc.createCompatibleImage(w, h, 
+                Transparency.TRANSLUCENT);
+        Graphics2D g = createLayerGraphics(overlay, g2, drawArea, scaleX, 
+                scaleY);
+        RenderingInfo info = new RenderingInfo(new ArrayList<Face>(), 
+                new Point2D[0], 0.0, 0.0);
+        this.chart.drawOverlays(g, drawArea, info);
+        g.dispose();
+        this.overlayElements = info.getElements();
+        
+        // the legend and title usually cover a small part of the chart, so
+        // crop the image to keep the cost of compositing it low
+        Rectangle r = findOpaqueBounds(overlay);
+        this.overlayImage = null;
+        if (r != null) {
+            this.overlayImage = gc.createCompatibleImage(r.width, r.height, 
+                    Transparency.TRANSLUCENT);
+            Graphics2D gc2 = this.overlayImage.createGraphics();
+            gc2.setComposite(AlphaComposite.Src);
+            gc2.drawImage(overlay, -r.x, -r.y, null);
+            gc2.dispose();
+            this.overlayX = r.x;
+            this.overlayY = r.y;
+        }
+        this.layerArea = new Rectangle(drawArea);
+        this.layerScaleX = scaleX;
+        this.layerScaleY = scaleY;
+        this.layersValid = true;
+    }
+    
+    /**
+     * Returns the bounds of the pixels in the image that are not fully 
+     * transparent, or {@code null} if the image is completely transparent.
+     * 
+     * @param image  the image.
+     * 
+     * @return The bounds (possibly {@code null}). 
+     */
+    private static Rectangle findOpaqueBounds(BufferedImage image) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        int[] row = new int[w];
+        int minX = w;
+        int maxX = -1;
+        int minY = h;
+        int maxY = -1;
+        for (int y = 0; y < h; y++) {
+            image.getRGB(0, y, w, 1, row, 0, w);
+            for (int x = 0; x < w; x++) {
+                if ((row[x] >>> 24) != 0) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = y;
+                }
+            }
+        }
+        if (maxX < 0) {
+            return null;
+        }
+        return new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+    
+    /**
+     * Creates a graphics context for drawing a layer image, using the same
+     * rendering hints as the panel's graphics target and a transform that 
+     * maps the drawing area to the image.
+     * 
+     * @param image  the layer image.
+     * @param g2  the panel's graphics target.
+     * @param drawArea  the drawing area.
+     * @param scaleX  the x-scale.
+     * @param scaleY  the y-scale.
+     * 
+     * @return The graphics context (the caller should dispose of it).
+     */
+    private Graphics2D createLayerGraphics(BufferedImage image, 
+            Graphics2D g2, Rectangle drawArea, double scaleX, double scaleY) {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHints(g2.getRenderingHints());
+        g.scale(scaleX, scaleY);
+        g.translate(-drawArea.x, -drawArea.y);
+        return g;
     }
 
     @Override
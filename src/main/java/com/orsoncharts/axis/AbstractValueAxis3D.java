@@ -123,6 +123,12 @@ public abstract class AbstractValueAxis3D extends AbstractAxis3D
     /** Storage for value markers for the axis (empty by default). */
     private Map<String, ValueMarker> valueMarkers;
     
+    /** 
+     * A cache for tick unit selections and formatted tick labels (created
+     * when first required, and cleared whenever the axis is changed). 
+     */
+    private transient TickSelectionCache tickSelectionCache;
+    
     /**
      * Creates a new axis instance.
      * 
@@ -783,6 +789,33 @@ public abstract class AbstractValueAxis3D extends AbstractAxis3D
         return super.equals(obj);
     }
 
+    /**
+     * Returns the cache for tick unit selections and formatted tick labels.
+     * 
+     * @return The cache (never {@code null}).
+     */
+    TickSelectionCache getTickSelectionCache() {
+        if (this.tickSelectionCache == null) {
+            this.tickSelectionCache = new TickSelectionCache();
+        }
+        return this.tickSelectionCache;
+    }
+    
+    /**
+     * Clears the tick selection cache and sends an {@link Axis3DChangeEvent} 
+     * to all registered listeners.
+     * 
+     * @param requiresWorldUpdate  a flag indicating whether this change 
+     *     requires the 3D world to be updated.
+     */
+    @Override
+    protected void fireChangeEvent(boolean requiresWorldUpdate) {
+        if (this.tickSelectionCache != null) {
+            this.tickSelectionCache.clear();
+        }
+        super.fireChangeEvent(requiresWorldUpdate);
+    }
+
     /**
      * Provides serialization support.
      *
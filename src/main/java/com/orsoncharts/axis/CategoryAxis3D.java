@@ -103,6 +103,22 @@ public interface CategoryAxis3D extends Axis3D {
      */
     double getCategoryValue(Comparable<?> category);
     
+    /**
+     * Returns the numerical value along the axis that corresponds to the
+     * category with the specified index (for an axis configured by a plot,
+     * this is the row or column index in the plot's dataset).  If the index
+     * is not valid, this method will return {@code Double.NaN}.  Renderers 
+     * call this method with the row and column indices of the items they 
+     * are drawing, which avoids a search for each category key.
+     * 
+     * @param index  the category index.
+     * 
+     * @return The axis value. 
+     * 
+     * @since 1.6
+     */
+    double getCategoryValue(int index);
+    
     /**
      * Generates the tick data for the axis (assumes the axis is being used
      * as the row axis).  The dataset is passed as an argument to provide the 
@@ -557,7 +557,9 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
     }
     
     /**
-     * Selects a standard tick unit on the logarithmic range.
+     * Selects a standard tick unit on the logarithmic range.  The selection
+     * is made for the distance between the points rounded down to a 
+     * multiple of four, and is cached until the axis is changed.
      * 
      * @param g2  the graphics target ({@code null} not permitted).
      * @param pt0  the starting point.
@@ -574,8 +576,18 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
             return this.tickSize;
         }
         g2.setFont(getTickLabelFont());
+        double length = TickSelectionCache.quantize(pt0.distance(pt1));
+        TickSelectionCache cache = getTickSelectionCache();
+        TickSelectionCache.Selection selection = cache.get(this.range, 
+                g2.getFontRenderContext(), length);
+        if (selection != null) {
+            this.tickSize = selection.tickSize;
+            if (selection.format != null) {
+                this.tickLabelFormatter = selection.format;
+            }
+            return this.tickSize;
+        }
         FontMetrics fm = g2.getFontMetrics();
-        double length = pt0.distance(pt1);
         double rangeLength = this.logRange.getLength();
         
         LabelOrientation orientation = getTickLabelOrientation();
@@ -638,6 +650,8 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
             this.tickLabelFormatter 
                     = this.tickSelector.getCurrentTickLabelFormat();
         }
+        cache.put(length, this.tickSize, Double.isNaN(this.tickSize) ? null 
+                : this.tickLabelFormatter);
         return this.tickSize;
     }
 
@@ -328,7 +328,8 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
                        t.getAnchorPt(), tickMarkLength, opposingPt);
                 g2.draw(tickLine);
             }
-            String tickLabel = this.tickLabelFormatter.format(t.getDataValue());
+            String tickLabel = getTickSelectionCache().formatLabel(
+                    this.tickLabelFormatter, t.getDataValue());
             if (getTickLabelOrientation().equals(
                     LabelOrientation.PERPENDICULAR)) {
                 maxTickLabelDim = Math.max(maxTickLabelDim, 
@@ -386,8 +387,8 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             } else if (axisTheta <= -Math.PI / 2) {
                 axisTheta = axisTheta + Math.PI;  
             }
-            String tickLabel = this.tickLabelFormatter.format(
-                    t.getDataValue());
+            String tickLabel = getTickSelectionCache().formatLabel(
+                    this.tickLabelFormatter, t.getDataValue());
             if (hinting) {
                 Map m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"valueTickLabel\", \"axis\": \"" 
@@ -444,8 +445,8 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             if (Math.abs(perpTheta) > Math.PI / 2.0) {
                 textAnchor = TextAnchor.CENTER_RIGHT;
             } 
-            String tickLabel = this.tickLabelFormatter.format(
-                    t.getDataValue());
+            String tickLabel = getTickSelectionCache().formatLabel(
+                    this.tickLabelFormatter, t.getDataValue());
             if (hinting) {
                 Map m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"valueTickLabel\", \"axis\": \"" 
@@ -488,7 +489,10 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
   
     /**
      * Selects a tick size that is appropriate for drawing the axis from
-     * {@code pt0} to {@code pt1}.
+     * {@code pt0} to {@code pt1}.  The selection is made for the distance
+     * between the points rounded down to a multiple of four, and is cached 
+     * until the axis is changed (so that rotating a chart does not repeat 
+     * the selection on every frame).
      * 
      * @param g2  the graphics target ({@code null} not permitted).
      * @param pt0  the starting point for the axis.
@@ -504,8 +508,20 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             return this.tickSize;
         }
         g2.setFont(getTickLabelFont()); 
+        // while the axis is unchanged the selection depends only on the 
+        // (quantized) length, so it is cached for the following frames
+        double length = TickSelectionCache.quantize(pt0.distance(pt1));
+        TickSelectionCache cache = getTickSelectionCache();
+        TickSelectionCache.Selection selection = cache.get(this.range, 
+                g2.getFontRenderContext(), length);
+        if (selection != null) {
+            this.tickSize = selection.tickSize;
+            if (selection.format != null) {
+                this.tickLabelFormatter = selection.format;
+            }
+            return this.tickSize;
+        }
         FontMetrics fm = g2.getFontMetrics(getTickLabelFont());        
-        double length = pt0.distance(pt1);
         LabelOrientation orientation = getTickLabelOrientation();
         if (orientation.equals(LabelOrientation.PERPENDICULAR)) {
             // based on the font height, we can determine roughly how many tick
@@ -560,6 +576,8 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             this.tickLabelFormatter 
                     = this.tickSelector.getCurrentTickLabelFormat();
         }
+        cache.put(length, this.tickSize, Double.isNaN(this.tickSize) ? null 
+                : this.tickLabelFormatter);
         return this.tickSize;
     }
 
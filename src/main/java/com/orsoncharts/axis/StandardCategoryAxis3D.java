@@ -86,6 +86,18 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
     
     /** The categories. */
     private List<Comparable<?>> categories;
+    
+    /** 
+     * The index of each category, built on demand (reset when the 
+     * categories change).
+     */
+    private transient Map<Comparable<?>, Integer> categoryIndices;
+    
+    /** 
+     * The axis value for each category, built on demand (reset when the 
+     * categories or the settings that determine their positions change).
+     */
+    private transient double[] categoryValues;
   
     /** 
      * The axis range (never {@code null}). 
@@ -258,6 +270,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
     public void setRange(Range range) {
         ArgChecks.nullNotPermitted(range, "range");
         this.range = range;
+        this.categoryValues = null;
         fireChangeEvent(true);
     }
     
@@ -280,6 +293,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
      */
     public void setLowerMargin(double margin) {
         this.lowerMargin = margin;
+        this.categoryValues = null;
         fireChangeEvent(true);
     }
     
@@ -302,6 +316,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
      */
     public void setUpperMargin(double margin) {
         this.upperMargin = margin;
+        this.categoryValues = null;
         fireChangeEvent(true);
     }
     
@@ -330,6 +345,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
      */
     public void setFirstCategoryHalfWidth(boolean half) {
         this.firstCategoryHalfWidth = half;
+        this.categoryValues = null;
         fireChangeEvent(true);
     }
     
@@ -358,6 +374,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
      */
     public void setLastCategoryHalfWidth(boolean half) {
         this.lastCategoryHalfWidth = half;
+        this.categoryValues = null;
         fireChangeEvent(true);
     }
 
@@ -627,6 +644,8 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
     public void configureAsRowAxis(CategoryPlot3D plot) {
         ArgChecks.nullNotPermitted(plot, "plot");
         this.categories = plot.getDataset().getRowKeys();
+        this.categoryIndices = null;
+        this.categoryValues = null;
         this.isColumnAxis = false;
         this.isRowAxis = true;
     }
@@ -642,6 +661,8 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
     public void configureAsColumnAxis(CategoryPlot3D plot) {
         ArgChecks.nullNotPermitted(plot, "plot");
         this.categories = plot.getDataset().getColumnKeys();
+        this.categoryIndices = null;
+        this.categoryValues = null;
         this.isColumnAxis = true;
         this.isRowAxis = false;
     }
@@ -656,17 +677,60 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
      */
     @Override
     public double getCategoryValue(Comparable<?> category) {
-        int index = this.categories.indexOf(category);
-        if (index < 0) {
+        if (this.categoryIndices == null) {
+            Map<Comparable<?>, Integer> indices 
+                    = new HashMap<Comparable<?>, Integer>();
+            for (int i = this.categories.size() - 1; i >= 0; i--) {
+                indices.put(this.categories.get(i), i);
+            }
+            this.categoryIndices = indices;
+        }
+        Integer index = this.categoryIndices.get(category);
+        if (index == null) {
             return Double.NaN;
         }
+        return getCategoryValue(index.intValue());
+    }
+    
+    /**
+     * Returns the value for the category with the specified index, or 
+     * {@code Double.NaN} if the index is not valid for the axis.  For an 
+     * axis configured by a plot, the index is the row or column index in 
+     * the plot's dataset.
+     * 
+     * @param index  the category index.
+     * 
+     * @return The value.
+     * 
+     * @since 1.6
+     */
+    @Override
+    public double getCategoryValue(int index) {
+        if (index < 0 || index >= this.categories.size()) {
+            return Double.NaN;
+        }
+        if (this.categoryValues == null) {
+            this.categoryValues = calculateCategoryValues();
+        }
+        return this.categoryValues[index];
+    }
+    
+    /**
+     * Calculates the axis values for all the categories, based on the 
+     * current range, margins and half-width settings.
+     * 
+     * @return The values (never {@code null}). 
+     */
+    private double[] calculateCategoryValues() {
+        double[] result = new double[this.categories.size()];
         double length = this.range.getLength();
         double start = this.range.getMin() + (this.lowerMargin * length);
         double end = this.range.getMax() - (this.upperMargin * length);
         double available = (end - start);
         double categoryCount = this.categories.size();
         if (categoryCount == 1) {
-            return (start + end) / 2.0;
+            result[0] = (start + end) / 2.0;
+            return result;
         }
         if (this.firstCategoryHalfWidth) {
             categoryCount -= 0.5;
@@ -679,7 +743,10 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
             categoryWidth = available / categoryCount;
         }
         double adj = this.firstCategoryHalfWidth ? 0.0 : 0.5;
-        return start + (adj + index) * categoryWidth;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = start + (adj + i) * categoryWidth;
+        }
+        return result;
     }
     
     /**
@@ -928,8 +995,9 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
     public List<TickData> generateTickDataForRows(CategoryDataset3D dataset) {
         ArgChecks.nullNotPermitted(dataset, "dataset");
         List<TickData> result = new ArrayList<TickData>(this.categories.size());
-        for (Comparable<?> key : this.categories) {
-            double pos = this.range.percent(getCategoryValue(key));
+        for (int i = 0; i < this.categories.size(); i++) {
+            Comparable<?> key = this.categories.get(i);
+            double pos = this.range.percent(getCategoryValue(i));
             String label = this.tickLabelGenerator.generateRowLabel(dataset, 
                     key);
             result.add(new TickData(pos, key, label));
@@ -955,8 +1023,9 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
             CategoryDataset3D dataset) {
         ArgChecks.nullNotPermitted(dataset, "dataset");
         List<TickData> result = new ArrayList<TickData>(this.categories.size());
-        for (Comparable<?> key : this.categories) {
-            double pos = this.range.percent(getCategoryValue(key));
+        for (int i = 0; i < this.categories.size(); i++) {
+            Comparable<?> key = this.categories.get(i);
+            double pos = this.range.percent(getCategoryValue(i));
             String label = this.tickLabelGenerator.generateColumnLabel(dataset, 
                     key);
             result.add(new TickData(pos, key, label));
@@ -0,0 +1,197 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.axis;
+
+import java.awt.font.FontRenderContext;
+import java.text.Format;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.orsoncharts.Range;
+
+/**
+ * A cache for the tick units selected by an axis, and for the formatted 
+ * tick labels.  While a chart is being rotated, the projected length of an 
+ * axis changes on every frame but the tick unit selected for it rarely 
+ * does, so the selections are cached by projected length (rounded down to a
+ * multiple of {@link #LENGTH_QUANTUM}).  The cached selections are discarded
+ * when the axis range or the font render context changes, and the axis 
+ * clears the cache whenever one of its attributes is changed.
+ * 
+ * @since 1.6
+ */
+final class TickSelectionCache {
+    
+    /** The granularity (in Java2D units) for the projected axis length. */
+    static final double LENGTH_QUANTUM = 4.0;
+    
+    /** The maximum number of tick unit selections that are cached. */
+    private static final int MAX_SELECTIONS = 64;
+    
+    /** The maximum number of formatted labels that are cached. */
+    private static final int MAX_LABELS = 512;
+    
+    /** A tick unit selection (the tick size and label format). */
+    static final class Selection {
+        
+        /** The tick size. */
+        final double tickSize;
+        
+        /** The tick label format ({@code null} if not changed). */
+        final Format format;
+        
+        Selection(double tickSize, Format format) {
+            this.tickSize = tickSize;
+            this.format = format;
+        }
+    }
+    
+    /** The axis range for the cached selections. */
+    private Range range;
+    
+    /** The font render context for the cached selections. */
+    private FontRenderContext frc;
+    
+    /** 
+     * The selections, keyed by quantized length (least recently used 
+     * first). 
+     */
+    private final Map<Integer, Selection> selections;
+    
+    /** The format for the cached labels. */
+    private Format labelFormat;
+    
+    /** The formatted labels, keyed by data value. */
+    private final Map<Double, String> labels;
+    
+    /**
+     * Creates a new empty cache.
+     */
+    TickSelectionCache() {
+        this.selections = new LinkedHashMap<Integer, Selection>(16, 0.75f, 
+                true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Integer, Selection> eldest) {
+                return size() > MAX_SELECTIONS;
+            }
+        };
+        this.labels = new HashMap<Double, String>();
+    }
+    
+    /**
+     * Returns the length rounded down to a multiple of 
+     * {@link #LENGTH_QUANTUM}.  Axes select the tick unit for the quantized 
+     * length, so that the result is the same for all lengths that share a 
+     * cache entry.
+     * 
+     * @param length  the projected length of the axis.
+     * 
+     * @return The quantized length.
+     */
+    static double quantize(double length) {
+        return Math.floor(length / LENGTH_QUANTUM) * LENGTH_QUANTUM;
+    }
+    
+    /**
+     * Returns the cached selection for the specified range, font render 
+     * context and (quantized) length, or {@code null}.
+     * 
+     * @param range  the axis range.
+     * @param frc  the font render context.
+     * @param length  the quantized length.
+     * 
+     * @return The selection (possibly {@code null}). 
+     */
+    Selection get(Range range, FontRenderContext frc, double length) {
+        if (!range.equals(this.range) || !frc.equals(this.frc)) {
+            this.selections.clear();
+            this.range = range;
+            this.frc = frc;
+            return null;
+        }
+        return this.selections.get((int) (length / LENGTH_QUANTUM));
+    }
+    
+    /**
+     * Adds a selection to the cache (for the range and font render context 
+     * from the preceding call to {@link #get(Range, FontRenderContext, 
+     * double)}).
+     * 
+     * @param length  the quantized length.
+     * @param tickSize  the selected tick size.
+     * @param format  the selected tick label format ({@code null} if the 
+     *     format was not changed).
+     */
+    void put(double length, double tickSize, Format format) {
+        this.selections.put((int) (length / LENGTH_QUANTUM), 
+                new Selection(tickSize, format));
+    }
+    
+    /**
+     * Returns the label for a data value, formatting it only if the value
+     * has not been formatted previously with the same format.
+     * 
+     * @param format  the format.
+     * @param value  the data value.
+     * 
+     * @return The formatted label. 
+     */
+    String formatLabel(Format format, double value) {
+        if (format != this.labelFormat || this.labels.size() >= MAX_LABELS) {
+            this.labels.clear();
+            this.labelFormat = format;
+        }
+        Double key = Double.valueOf(value);
+        String result = this.labels.get(key);
+        if (result == null) {
+            result = format.format(key);
+            this.labels.put(key, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Clears the cache.
+     */
+    void clear() {
+        this.selections.clear();
+        this.range = null;
+        this.frc = null;
+        this.labels.clear();
+        this.labelFormat = null;
+    }
+    
+}
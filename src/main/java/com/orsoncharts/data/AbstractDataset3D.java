@@ -51,6 +51,12 @@ public class AbstractDataset3D implements Dataset3D {
      * to disable this).
      */
     private boolean notify;
+    
+    /** 
+     * A counter that is incremented each time the dataset reports a change
+     * (whether or not listeners are notified). 
+     */
+    private transient long version;
 
     /**
      * Default constructor - allocates storage for listeners that can
@@ -58,6 +64,7 @@ public class AbstractDataset3D implements Dataset3D {
      */
     protected AbstractDataset3D() {
         this.listenerList = new EventListenerList();  
+        this.notify = true;
     }
   
     /**
@@ -88,6 +95,21 @@ public class AbstractDataset3D implements Dataset3D {
         }
     }
 
+    /**
+     * Returns a counter that is incremented each time the dataset reports a 
+     * change (via {@link #notifyListeners(Dataset3DChangeEvent)}, including 
+     * when the {@code notify} flag is {@code false}).  Renderers can use 
+     * this to check whether values they have derived from the dataset are 
+     * still current, so subclasses must report every change to the data.
+     * 
+     * @return The version.
+     * 
+     * @since 1.6
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
@@ -152,6 +174,7 @@ public class AbstractDataset3D implements Dataset3D {
      * @see #removeChangeListener(Dataset3DChangeListener)
      */
     protected void notifyListeners(Dataset3DChangeEvent event) {
+        this.version++;
         // if the 'notify' flag has been switched to false, we don't notify
         // the listeners
         if (!this.notify) {
@@ -32,9 +32,12 @@
 
 package com.orsoncharts.data;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import com.orsoncharts.Range;
 import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.data.xyz.BoundedXYZDataset;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
@@ -376,10 +379,18 @@ public class DataUtils {
         int seriesCount = data.getSeriesCount();
         for (int row = 0; row < data.getRowCount(); row++) {
             for (int col = 0; col < data.getColumnCount(); col++) {
-                double[] total = stackSubTotal(data, base, seriesCount, row, 
-                        col);
-                min = Math.min(min, total[0]);
-                max = Math.max(max, total[1]);
+                double neg = base;
+                double pos = base;
+                for (int s = 0; s < seriesCount; s++) {
+                    double v = data.getDoubleValue(s, row, col);
+                    if (v > 0.0) {
+                        pos = pos + v;
+                    } else if (v < 0.0) {
+                        neg = neg + v;
+                    }
+                }
+                min = Math.min(min, neg);
+                max = Math.max(max, pos);
             }
         }
         if (min <= max) {
@@ -491,7 +502,9 @@ public class DataUtils {
      * {@code Double.NaN} in which case it is ignored).  If the
      * {@code finite} flag is set, infinite values in the dataset will be 
      * ignored.  If there are no values eligible for inclusion in the range, 
-     * this method returns {@code null}.
+     * this method returns {@code null}.  If the dataset implements 
+     * {@link BoundedXYZDataset}, the range is found from the summary for 
+     * each series instead of iterating over all the values.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param inc  an additional x-value to include.
@@ -506,13 +519,24 @@ public class DataUtils {
         ArgChecks.nullNotPermitted(dataset, "dataset");
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
-        for (int s = 0; s < dataset.getSeriesCount(); s++) {
-            for (int i = 0; i < dataset.getItemCount(s); i++) {
-                double x = dataset.getX(s, i);
-                if (!Double.isNaN(x)) {
-                    if (!finite || !Double.isInfinite(x)) {
-                        min = Math.min(x, min);
-                        max = Math.max(x, max);
+        if (dataset instanceof BoundedXYZDataset) {
+            BoundedXYZDataset bounded = (BoundedXYZDataset) dataset;
+            for (int s = 0; s < bounded.getSeriesCount(); s++) {
+                Range r = bounded.getSeriesXRange(s, finite);
+                if (r != null) {
+                    min = Math.min(r.getMin(), min);
+                    max = Math.max(r.getMax(), max);
+                }
+            }
+        } else {
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                for (int i = 0; i < dataset.getItemCount(s); i++) {
+                    double x = dataset.getX(s, i);
+                    if (!Double.isNaN(x)) {
+                        if (!finite || !Double.isInfinite(x)) {
+                            min = Math.min(x, min);
+                            max = Math.max(x, max);
+                        }
                     }
                 }
             }
@@ -566,7 +590,9 @@ public class DataUtils {
      * {@code Double.NaN} in which case it is ignored).  If the
      * {@code finite} flag is set, infinite values in the dataset will be 
      * ignored.  If there are no values eligible for inclusion in the range, 
-     * this method returns {@code null}.
+     * this method returns {@code null}.  If the dataset implements 
+     * {@link BoundedXYZDataset}, the range is found from the summary for 
+     * each series instead of iterating over all the values.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param inc  an additional y-value to include.
@@ -581,13 +607,24 @@ public class DataUtils {
         ArgChecks.nullNotPermitted(dataset, "dataset");
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
-        for (int s = 0; s < dataset.getSeriesCount(); s++) {
-            for (int i = 0; i < dataset.getItemCount(s); i++) {
-                double y = dataset.getY(s, i);
-                if (!Double.isNaN(y)) {
-                    if (!finite || !Double.isInfinite(y)) {
-                        min = Math.min(y, min);
-                        max = Math.max(y, max);
+        if (dataset instanceof BoundedXYZDataset) {
+            BoundedXYZDataset bounded = (BoundedXYZDataset) dataset;
+            for (int s = 0; s < bounded.getSeriesCount(); s++) {
+                Range r = bounded.getSeriesYRange(s, finite);
+                if (r != null) {
+                    min = Math.min(r.getMin(), min);
+                    max = Math.max(r.getMax(), max);
+                }
+            }
+        } else {
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                for (int i = 0; i < dataset.getItemCount(s); i++) {
+                    double y = dataset.getY(s, i);
+                    if (!Double.isNaN(y)) {
+                        if (!finite || !Double.isInfinite(y)) {
+                            min = Math.min(y, min);
+                            max = Math.max(y, max);
+                        }
                     }
                 }
             }
@@ -641,7 +678,9 @@ public class DataUtils {
      * {@code Double.NaN} in which case it is ignored).  If the
      * {@code finite} flag is set, infinite values in the dataset will be 
      * ignored.  If there are no values eligible for inclusion in the range, 
-     * this method returns {@code null}.
+     * this method returns {@code null}.  If the dataset implements 
+     * {@link BoundedXYZDataset}, the range is found from the summary for 
+     * each series instead of iterating over all the values.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param inc  an additional z-value to include.
@@ -657,13 +696,24 @@ public class DataUtils {
         ArgChecks.finiteRequired(inc, "inc");
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
-        for (int s = 0; s < dataset.getSeriesCount(); s++) {
-            for (int i = 0; i < dataset.getItemCount(s); i++) {
-                double z = dataset.getZ(s, i);
-                if (!Double.isNaN(z)) {
-                    if (!finite || !Double.isInfinite(z)) {
-                        min = Math.min(z, min);
-                        max = Math.max(z, max);
+        if (dataset instanceof BoundedXYZDataset) {
+            BoundedXYZDataset bounded = (BoundedXYZDataset) dataset;
+            for (int s = 0; s < bounded.getSeriesCount(); s++) {
+                Range r = bounded.getSeriesZRange(s, finite);
+                if (r != null) {
+                    min = Math.min(r.getMin(), min);
+                    max = Math.max(r.getMax(), max);
+                }
+            }
+        } else {
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                for (int i = 0; i < dataset.getItemCount(s); i++) {
+                    double z = dataset.getZ(s, i);
+                    if (!Double.isNaN(z)) {
+                        if (!finite || !Double.isInfinite(z)) {
+                            min = Math.min(z, min);
+                            max = Math.max(z, max);
+                        }
                     }
                 }
             }
@@ -911,6 +961,24 @@ public class DataUtils {
         return dataset;
     }
 
+    /**
+     * Creates a map from each key in the list to its index in the list.  This
+     * is used by the keyed data structures to look up keys in constant time.
+     * 
+     * @param keys  the keys ({@code null} not permitted).
+     * 
+     * @return A new map. 
+     */
+    static Map<Comparable<?>, Integer> createIndexMap(
+            List<Comparable<?>> keys) {
+        Map<Comparable<?>, Integer> result 
+                = new HashMap<Comparable<?>, Integer>(keys.size() * 2);
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            result.put(keys.get(i), Integer.valueOf(i));
+        }
+        return result;
+    }
+    
     /**
      * Returns a double primitive for the specified number, with 
      * {@code null} values returning {@code Double.NaN} except in the 
@@ -48,6 +48,12 @@ import java.util.EventObject;
 public class Dataset3DChangeEvent extends EventObject {
 
     private Object dataset;
+    
+    /** 
+     * The key for the single data item that changed, or {@code null} if the
+     * change is not limited to one existing data item.
+     */
+    private ItemKey itemKey;
   
     /**
      * Creates a new dataset change event.  The source can be the same as the
@@ -57,8 +63,28 @@ public class Dataset3DChangeEvent extends EventObject {
      * @param dataset  the dataset.
      */
     public Dataset3DChangeEvent(Object source, Object dataset) {
+        this(source, dataset, null);
+    }
+    
+    /**
+     * Creates a new dataset change event for a change that affects only the
+     * value of one existing data item (the dataset structure, that is the 
+     * series, row and column keys or the item count, is unchanged).  This 
+     * allows listeners to update just the parts of a chart that depend on 
+     * the item.
+     * 
+     * @param source  the source.
+     * @param dataset  the dataset.
+     * @param itemKey  the key for the item that changed ({@code null} 
+     *     permitted, meaning the change is not limited to one item).
+     * 
+     * @since 1.6
+     */
+    public Dataset3DChangeEvent(Object source, Object dataset, 
+            ItemKey itemKey) {
         super(source);
         this.dataset = dataset;
+        this.itemKey = itemKey;
     }
   
     /**
@@ -72,4 +98,16 @@ public class Dataset3DChangeEvent extends EventObject {
     public Object getDataset() {
         return this.dataset;
     }
+    
+    /**
+     * Returns the key for the single data item that changed, or 
+     * {@code null} if the change is not limited to one existing data item.
+     * 
+     * @return The item key (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public ItemKey getItemKey() {
+        return this.itemKey;
+    }
 }
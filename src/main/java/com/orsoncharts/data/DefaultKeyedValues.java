@@ -35,6 +35,7 @@ package com.orsoncharts.data;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.orsoncharts.util.ArgChecks;
 
@@ -53,6 +54,12 @@ public final class DefaultKeyedValues<T> implements KeyedValues<T>,
 
     /** Storage for the data items. */
     private List<KeyedValue<T>> data;
+    
+    /** 
+     * A map from key to item index, created when first required and 
+     * discarded when items are removed.
+     */
+    private transient Map<Comparable<?>, Integer> indexMap;
   
     /**
      * Creates a new (empty) list of keyed values.
@@ -82,6 +89,7 @@ public final class DefaultKeyedValues<T> implements KeyedValues<T>,
      */
     public void clear() {
         this.data.clear();
+        this.indexMap = null;
     }
  
     /**
@@ -99,9 +107,35 @@ public final class DefaultKeyedValues<T> implements KeyedValues<T>,
             dkv = (DefaultKeyedValue<T>) this.data.get(index);
             dkv.setValue(value);
         } else {
-            this.data.add(new DefaultKeyedValue<T>(key, value));
+            add(key, value);
         }
     }
+    
+    /**
+     * Appends an item with a key that is known not to be present already.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * @param value  the value.
+     */
+    void add(Comparable<?> key, T value) {
+        this.data.add(new DefaultKeyedValue<T>(key, value));
+        if (this.indexMap != null) {
+            this.indexMap.put(key, Integer.valueOf(this.data.size() - 1));
+        }
+    }
+    
+    /**
+     * Updates the value for the item with the specified index.
+     * 
+     * @param index  the item index.
+     * @param value  the value ({@code null} permitted).
+     * 
+     * @since 1.6
+     */
+    public void setValue(int index, T value) {
+        DefaultKeyedValue<T> dkv = (DefaultKeyedValue<T>) this.data.get(index);
+        dkv.setValue(value);
+    }
   
     /**
      * Removes the item with the specified key, if there is one.
@@ -123,6 +157,7 @@ public final class DefaultKeyedValues<T> implements KeyedValues<T>,
      */
     public void remove(int index) {
         this.data.remove(index);
+        this.indexMap = null;
     }
   
     /**
@@ -149,13 +184,11 @@ public final class DefaultKeyedValues<T> implements KeyedValues<T>,
     @Override
     public int getIndex(Comparable<?> key) {
         ArgChecks.nullNotPermitted(key, "key");
-        for (int i = 0; i < this.data.size(); i++) {
-            KeyedValue<T> kv = this.data.get(i);
-            if (kv.getKey().equals(key)) {
-                return i;
-            }
+        if (this.indexMap == null) {
+            this.indexMap = DataUtils.createIndexMap(getKeys());
         }
-        return -1;
+        Integer index = this.indexMap.get(key);
+        return index != null ? index.intValue() : -1;
     }
 
     /**
@@ -35,6 +35,7 @@ package com.orsoncharts.data;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.orsoncharts.util.ArgChecks;
 
@@ -58,6 +59,14 @@ public final class DefaultKeyedValues2D<T> implements KeyedValues2D<T>,
     
     /** The data values. */
     List<DefaultKeyedValues<T>> data;  // one entry per row key
+    
+    /** A map from row key to row index (created when first required). */
+    private transient Map<Comparable<?>, Integer> rowIndexMap;
+    
+    /** 
+     * A map from column key to column index (created when first required). 
+     */
+    private transient Map<Comparable<?>, Integer> columnIndexMap;
   
     /**
      * Creates a new (empty) instance.
@@ -119,7 +128,11 @@ public final class DefaultKeyedValues2D<T> implements KeyedValues2D<T>,
     @Override
     public int getRowIndex(Comparable<?> rowKey) {
         ArgChecks.nullNotPermitted(rowKey, "rowKey");
-        return this.rowKeys.indexOf(rowKey);
+        if (this.rowIndexMap == null) {
+            this.rowIndexMap = DataUtils.createIndexMap(this.rowKeys);
+        }
+        Integer index = this.rowIndexMap.get(rowKey);
+        return index != null ? index.intValue() : -1;
     }
 
     /**
@@ -132,7 +145,11 @@ public final class DefaultKeyedValues2D<T> implements KeyedValues2D<T>,
     @Override
     public int getColumnIndex(Comparable<?> columnKey) {
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
-        return this.columnKeys.indexOf(columnKey);
+        if (this.columnIndexMap == null) {
+            this.columnIndexMap = DataUtils.createIndexMap(this.columnKeys);
+        }
+        Integer index = this.columnIndexMap.get(columnKey);
+        return index != null ? index.intValue() : -1;
     }
 
     /**
@@ -235,10 +252,10 @@ public final class DefaultKeyedValues2D<T> implements KeyedValues2D<T>,
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
         
         if (this.data.isEmpty()) {  // 1. no data - just add one new entry
-            this.rowKeys.add(rowKey);
-            this.columnKeys.add(columnKey);
+            addRowKey(rowKey);
+            addColumnKey(columnKey);
             DefaultKeyedValues<T> dkvs = new DefaultKeyedValues<T>();
-            dkvs.put(columnKey, n);
+            dkvs.add(columnKey, n);
             this.data.add(dkvs);
         } else {
             int rowIndex = getRowIndex(rowKey);
@@ -247,41 +264,81 @@ public final class DefaultKeyedValues2D<T> implements KeyedValues2D<T>,
                 DefaultKeyedValues<T> dkvs = this.data.get(rowIndex);
                 if (columnIndex >= 0) {
                     // 2.  Both keys exist - just update the value
-                    dkvs.put(columnKey, n);
+                    dkvs.setValue(columnIndex, n);
                 } else {
                     // 3.  rowKey exists, but columnKey does not (add the 
                     //     columnKey to each series)
-                    this.columnKeys.add(columnKey);
+                    addColumnKey(columnKey);
                     for (DefaultKeyedValues<T> kv : this.data) {
-                        kv.put(columnKey, null);
+                        kv.add(columnKey, null);
                     }
-                    dkvs.put(columnKey, n);
+                    dkvs.setValue(this.columnKeys.size() - 1, n);
                 }
             } else {
                 if (columnIndex >= 0) {
                     // 4.  rowKey does not exist, but columnKey does
-                    this.rowKeys.add(rowKey);
+                    addRowKey(rowKey);
                     DefaultKeyedValues<T> d = new DefaultKeyedValues<T>(
                             this.columnKeys);
-                    d.put(columnKey, n);
+                    d.setValue(columnIndex, n);
                     this.data.add(d);
                 } else {
                     // 5.  neither key exists, need to create the new series, 
                     //     plus the new entry in every series
-                    this.rowKeys.add(rowKey);
-                    this.columnKeys.add(columnKey);
+                    addRowKey(rowKey);
+                    addColumnKey(columnKey);
                     for (DefaultKeyedValues<T> kv : this.data) {
-                        kv.put(columnKey, null);
+                        kv.add(columnKey, null);
                     }
                     DefaultKeyedValues<T> d = new DefaultKeyedValues<T>(
                             this.columnKeys);
-                    d.put(columnKey, n);
+                    d.setValue(this.columnKeys.size() - 1, n);
                     this.data.add(d);
                 }
             }
         }
     }
     
+    /**
+     * Sets the value for one cell in the table, where the row and column
+     * indices are already known.
+     * 
+     * @param n  the value ({@code null} permitted).
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @since 1.6
+     */
+    public void setValueAt(T n, int rowIndex, int columnIndex) {
+        this.data.get(rowIndex).setValue(columnIndex, n);
+    }
+    
+    /**
+     * Appends a row key that is not already present.
+     * 
+     * @param rowKey  the row key.
+     */
+    private void addRowKey(Comparable<?> rowKey) {
+        this.rowKeys.add(rowKey);
+        if (this.rowIndexMap != null) {
+            this.rowIndexMap.put(rowKey, 
+                    Integer.valueOf(this.rowKeys.size() - 1));
+        }
+    }
+    
+    /**
+     * Appends a column key that is not already present.
+     * 
+     * @param columnKey  the column key.
+     */
+    private void addColumnKey(Comparable<?> columnKey) {
+        this.columnKeys.add(columnKey);
+        if (this.columnIndexMap != null) {
+            this.columnIndexMap.put(columnKey, 
+                    Integer.valueOf(this.columnKeys.size() - 1));
+        }
+    }
+    
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
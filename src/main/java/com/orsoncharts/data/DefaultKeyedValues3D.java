@@ -35,6 +35,7 @@ package com.orsoncharts.data;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.orsoncharts.util.ArgChecks;
 
@@ -64,6 +65,15 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
      * row and column keys.
      */
     private List<DefaultKeyedValues2D<V>> data; // one entry per series
+    
+    /** A map from series key to series index (created when required). */
+    private transient Map<Comparable<?>, Integer> seriesIndexMap;
+    
+    /** A map from row key to row index (created when required). */
+    private transient Map<Comparable<?>, Integer> rowIndexMap;
+    
+    /** A map from column key to column index (created when required). */
+    private transient Map<Comparable<?>, Integer> columnIndexMap;
   
     /**
      * Creates a new (empty) table.
@@ -74,6 +84,61 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
         this.columnKeys = new ArrayList<Comparable<?>>();
         this.data = new ArrayList<DefaultKeyedValues2D<V>>();
     }
+    
+    /**
+     * Creates a new table with the specified keys and all data values 
+     * initialized to {@code null}.  This is the most efficient way to 
+     * populate a large table: create it with all the keys and then update 
+     * the values with {@link #setValueAt(java.lang.Object, int, int, int)}.
+     * 
+     * @param seriesKeys  the series keys ({@code null} not permitted, and 
+     *     no duplicates).
+     * @param rowKeys  the row keys ({@code null} not permitted, and 
+     *     no duplicates).
+     * @param columnKeys  the column keys ({@code null} not permitted, and 
+     *     no duplicates).
+     * 
+     * @since 1.6
+     */
+    public DefaultKeyedValues3D(List<Comparable<?>> seriesKeys, 
+            List<Comparable<?>> rowKeys, List<Comparable<?>> columnKeys) {
+        ArgChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        ArgChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ArgChecks.nullNotPermitted(columnKeys, "columnKeys");
+        this.seriesKeys = new ArrayList<Comparable<?>>(seriesKeys);
+        this.rowKeys = new ArrayList<Comparable<?>>(rowKeys);
+        this.columnKeys = new ArrayList<Comparable<?>>(columnKeys);
+        this.seriesIndexMap = createIndexMap(this.seriesKeys, "seriesKeys");
+        this.rowIndexMap = createIndexMap(this.rowKeys, "rowKeys");
+        this.columnIndexMap = createIndexMap(this.columnKeys, "columnKeys");
+        this.data = new ArrayList<DefaultKeyedValues2D<V>>(seriesKeys.size());
+        for (int s = 0; s < seriesKeys.size(); s++) {
+            this.data.add(new DefaultKeyedValues2D<V>(this.rowKeys, 
+                    this.columnKeys));
+        }
+    }
+    
+    /**
+     * Creates an index map for a list of keys, checking that the keys are 
+     * not {@code null} and that there are no duplicates.
+     * 
+     * @param keys  the keys.
+     * @param name  the argument name (for error messages).
+     * 
+     * @return The index map. 
+     */
+    private static Map<Comparable<?>, Integer> createIndexMap(
+            List<Comparable<?>> keys, String name) {
+        for (Comparable<?> key : keys) {
+            ArgChecks.nullNotPermitted(key, name);
+        }
+        Map<Comparable<?>, Integer> result = DataUtils.createIndexMap(keys);
+        if (result.size() != keys.size()) {
+            throw new IllegalArgumentException("Duplicate key in '" + name 
+                    + "'.");
+        }
+        return result;
+    }
   
     /**
      * Returns the series key with the specified index.
@@ -122,7 +187,11 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
     @Override
     public int getSeriesIndex(Comparable<?> seriesKey) {
         ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
-        return this.seriesKeys.indexOf(seriesKey);
+        if (this.seriesIndexMap == null) {
+            this.seriesIndexMap = DataUtils.createIndexMap(this.seriesKeys);
+        }
+        Integer index = this.seriesIndexMap.get(seriesKey);
+        return index != null ? index.intValue() : -1;
     }
 
     /**
@@ -136,7 +205,11 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
     @Override
     public int getRowIndex(Comparable<?> rowKey) {
         ArgChecks.nullNotPermitted(rowKey, "rowKey");
-        return this.rowKeys.indexOf(rowKey);
+        if (this.rowIndexMap == null) {
+            this.rowIndexMap = DataUtils.createIndexMap(this.rowKeys);
+        }
+        Integer index = this.rowIndexMap.get(rowKey);
+        return index != null ? index.intValue() : -1;
     }
 
     /**
@@ -150,7 +223,11 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
     @Override
     public int getColumnIndex(Comparable<?> columnKey) {
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
-        return this.columnKeys.indexOf(columnKey);
+        if (this.columnIndexMap == null) {
+            this.columnIndexMap = DataUtils.createIndexMap(this.columnKeys);
+        }
+        Integer index = this.columnIndexMap.get(columnKey);
+        return index != null ? index.intValue() : -1;
     }
 
     /**
@@ -266,25 +343,27 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
         
         // cases:
-        // 1 - the dataset is empty, so we just need to add a new layer with the
-        //     given keys;
-        if (this.data.isEmpty()) {
-            this.seriesKeys.add(seriesKey);
-            this.rowKeys.add(rowKey);
-            this.columnKeys.add(columnKey);
+        // 1 - the dataset is empty (no keys at all), so we just need to add a 
+        //     new layer with the given keys;
+        if (this.seriesKeys.isEmpty() && this.rowKeys.isEmpty() 
+                && this.columnKeys.isEmpty()) {
+            addKey(this.seriesKeys, this.seriesIndexMap, seriesKey);
+            addKey(this.rowKeys, this.rowIndexMap, rowKey);
+            addKey(this.columnKeys, this.columnIndexMap, columnKey);
             DefaultKeyedValues2D<V> d = new DefaultKeyedValues2D<V>();
             d.setValue(n, rowKey, columnKey);
             this.data.add(d);
+            return;
         }
         
         int seriesIndex = getSeriesIndex(seriesKey);
         int rowIndex = getRowIndex(rowKey);
         int columnIndex = getColumnIndex(columnKey);
         if (rowIndex < 0) {
-            this.rowKeys.add(rowKey);
+            addKey(this.rowKeys, this.rowIndexMap, rowKey);
         }
         if (columnIndex < 0) {
-            this.columnKeys.add(columnKey);
+            addKey(this.columnKeys, this.columnIndexMap, columnKey);
         }
         if (rowIndex < 0 || columnIndex < 0) {
             for (DefaultKeyedValues2D<V> d : this.data) {
@@ -295,7 +374,7 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
             DefaultKeyedValues2D<V> d = this.data.get(seriesIndex);
             d.setValue(n, rowKey, columnKey);
         } else {
-            this.seriesKeys.add(seriesKey);
+            addKey(this.seriesKeys, this.seriesIndexMap, seriesKey);
             DefaultKeyedValues2D<V> d = new DefaultKeyedValues2D<V>(this.rowKeys, 
                     this.columnKeys);
             d.setValue(n, rowKey, columnKey);
@@ -303,6 +382,38 @@ public final class DefaultKeyedValues3D<V> implements KeyedValues3D<V>,
         }
     }
     
+    /**
+     * Sets the value for an item where the series, row and column indices
+     * are already known.
+     * 
+     * @param n  the value ({@code null} permitted).
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @since 1.6
+     */
+    public void setValueAt(V n, int seriesIndex, int rowIndex, 
+            int columnIndex) {
+        this.data.get(seriesIndex).setValueAt(n, rowIndex, columnIndex);
+    }
+    
+    /**
+     * Appends a key (that is not already present) to a key list, updating 
+     * the index map if it has been created.
+     * 
+     * @param keys  the key list.
+     * @param indexMap  the index map ({@code null} permitted).
+     * @param key  the key.
+     */
+    private static void addKey(List<Comparable<?>> keys, 
+            Map<Comparable<?>, Integer> indexMap, Comparable<?> key) {
+        keys.add(key);
+        if (indexMap != null) {
+            indexMap.put(key, Integer.valueOf(keys.size() - 1));
+        }
+    }
+    
     /**
      * Tests this instance for equality with an arbitrary object.
      * 
@@ -0,0 +1,323 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.data;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A buffer for the JSON output written by {@link JSONUtils}.  Characters
+ * are collected in a fixed size buffer that is passed to the underlying 
+ * writer each time it fills up, so the output for a large dataset is 
+ * written in chunks as it is generated, and key strings and numbers are 
+ * formatted directly into the buffer rather than into temporary strings.
+ * The output is the same as the output from 
+ * {@link com.orsoncharts.util.json.JSONValue#toJSONString(java.lang.Object)}
+ * for the same values.
+ * <br><br>
+ * A double value in the range that {@code Double.toString()} writes 
+ * without an exponent (from {@code 0.001} up to {@code 10,000,000}) is 
+ * written as the shortest decimal that parses back to the same value, if
+ * that decimal has no more than 15 significant digits (or 16 digits, for 
+ * most values).  Other values are written using {@code Double.toString()}.
+ */
+final class JSONOutput {
+
+    /** The size of the buffer (in characters). */
+    static final int BUFFER_SIZE = 8192;
+    
+    /** Powers of ten (all exactly representable as doubles). */
+    private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 
+            1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+    
+    /** The limit for integers that are exactly representable as doubles. */
+    private static final double MAX_EXACT = 9007199254740992.0;
+    
+    /** Hexadecimal digits for escape sequences. */
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    
+    /** The writer that the output is passed to. */
+    private final Writer writer;
+    
+    /** The buffer. */
+    private final char[] buffer;
+    
+    /** The number of characters in the buffer. */
+    private int count;
+    
+    /**
+     * Creates a new instance that writes to the specified writer.
+     * 
+     * @param writer  the writer ({@code null} not permitted).
+     */
+    JSONOutput(Writer writer) {
+        this.writer = writer;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+    
+    /**
+     * Writes a single character.
+     * 
+     * @param c  the character.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    void write(char c) throws IOException {
+        if (this.count == this.buffer.length) {
+            flush();
+        }
+        this.buffer[this.count++] = c;
+    }
+    
+    /**
+     * Writes a string (without quotes or escaping).
+     * 
+     * @param s  the string ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    void write(String s) throws IOException {
+        int length = s.length();
+        if (length > this.buffer.length - this.count) {
+            flush();
+            if (length > this.buffer.length) {
+                this.writer.write(s);
+                return;
+            }
+        }
+        s.getChars(0, length, this.buffer, this.count);
+        this.count += length;
+    }
+    
+    /**
+     * Writes a string as a JSON string value (in quotes, with escape 
+     * sequences for special characters).
+     * 
+     * @param s  the string ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    void writeString(String s) throws IOException {
+        write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '"':
+                    write('\\');
+                    write('"');
+                    break;
+                case '\\':
+                    write('\\');
+                    write('\\');
+                    break;
+                case '\b':
+                    write('\\');
+                    write('b');
+                    break;
+                case '\f':
+                    write('\\');
+                    write('f');
+                    break;
+                case '\n':
+                    write('\\');
+                    write('n');
+                    break;
+                case '\r':
+                    write('\\');
+                    write('r');
+                    break;
+                case '\t':
+                    write('\\');
+                    write('t');
+                    break;
+                case '/':
+                    write('\\');
+                    write('/');
+                    break;
+                default:
+                    if (ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F') 
+                            || (ch >= '\u2000' && ch <= '\u20FF')) {
+                        write('\\');
+                        write('u');
+                        write(HEX[(ch >> 12) & 0xF]);
+                        write(HEX[(ch >> 8) & 0xF]);
+                        write(HEX[(ch >> 4) & 0xF]);
+                        write(HEX[ch & 0xF]);
+                    } else {
+                        write(ch);
+                    }
+            }
+        }
+        write('"');
+    }
+    
+    /**
+     * Writes a number value ({@code null} is written as {@code null}).
+     * 
+     * @param n  the number ({@code null} permitted).
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    void writeNumber(Number n) throws IOException {
+        if (n instanceof Double) {
+            writeNumber(n.doubleValue());
+        } else if (n instanceof Float) {
+            float f = n.floatValue();
+            if (Float.isNaN(f) || Float.isInfinite(f)) {
+                write("null");
+            } else {
+                write(n.toString());
+            }
+        } else if (n != null) {
+            write(n.toString());
+        } else {
+            write("null");
+        }
+    }
+    
+    /**
+     * Writes a double value (infinite and {@code NaN} values are written 
+     * as {@code null}).
+     * 
+     * @param d  the value.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    void writeNumber(double d) throws IOException {
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            write("null");
+        } else if (!writeDecimal(d)) {
+            write(Double.toString(d));
+        }
+    }
+    
+    /**
+     * Writes a finite double value in plain decimal notation, if it is in 
+     * the range where {@code Double.toString()} uses that notation and the
+     * shortest decimal that parses back to the same value has an unscaled 
+     * value below 2^53.
+     * 
+     * @param d  the value (finite).
+     * 
+     * @return A boolean indicating whether or not the value was written.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private boolean writeDecimal(double d) throws IOException {
+        double a = Math.abs(d);
+        boolean negative = Double.doubleToRawLongBits(d) < 0L;
+        if (a == 0.0) {
+            write(negative ? "-0.0" : "0.0");
+            return true;
+        }
+        if (a < 1e-3 || a >= 1e7) {
+            return false;
+        }
+        // the first k for which a * 10^k rounds to an integer m such that
+        // m / 10^k (a single correctly rounded division, since m and 10^k
+        // are both exact) gives a back, is the shortest decimal for a
+        for (int k = 0; k < POW10.length; k++) {
+            double scaled = Math.rint(a * POW10[k]);
+            if (scaled >= MAX_EXACT) {
+                return false;
+            }
+            if (scaled / POW10[k] == a) {
+                writeFixed(negative, (long) scaled, k);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Writes the value {@code m * 10^-k} with {@code k} digits after the 
+     * decimal point (or one zero digit, if {@code k} is zero).
+     * 
+     * @param negative  write a minus sign?
+     * @param m  the unscaled value (non-negative).
+     * @param k  the number of digits after the decimal point.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private void writeFixed(boolean negative, long m, int k) 
+            throws IOException {
+        // at most 1 sign, 16 digits, 1 leading zero and 1 decimal point
+        if (this.buffer.length - this.count < 20) {
+            flush();
+        }
+        if (negative) {
+            this.buffer[this.count++] = '-';
+        }
+        int digits = 1;
+        for (long t = m / 10; t != 0; t /= 10) {
+            digits++;
+        }
+        // the number of characters is the number of digits (at least 
+        // k + 1, to include a zero before the point) plus the point, and 
+        // one extra zero when k is zero
+        int length = Math.max(digits, k + 1) + 1 + (k == 0 ? 1 : 0);
+        int end = this.count + length;
+        int pos = end;
+        if (k == 0) {
+            this.buffer[--pos] = '0';
+            this.buffer[--pos] = '.';
+        }
+        for (int i = 0; i < k; i++) {
+            this.buffer[--pos] = (char) ('0' + (m % 10));
+            m /= 10;
+        }
+        if (k > 0) {
+            this.buffer[--pos] = '.';
+        }
+        do {
+            this.buffer[--pos] = (char) ('0' + (m % 10));
+            m /= 10;
+        } while (m != 0);
+        this.count = end;
+    }
+    
+    /**
+     * Passes the buffered characters to the writer (this does not flush 
+     * the writer itself).
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    void flush() throws IOException {
+        if (this.count > 0) {
+            this.writer.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+    
+}
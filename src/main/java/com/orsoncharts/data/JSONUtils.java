@@ -33,6 +33,8 @@
 package com.orsoncharts.data;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.io.Reader;
@@ -42,13 +44,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
-import com.orsoncharts.util.json.JSONValue;
 import com.orsoncharts.util.json.parser.JSONParser;
 import com.orsoncharts.util.json.parser.ParseException;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.util.json.parser.ContainerFactory;
+import com.orsoncharts.data.xyz.ColumnarXYZDataset;
 import com.orsoncharts.data.xyz.XYZDataset;
-import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
 
 /**
@@ -152,21 +153,43 @@ public class JSONUtils {
             Writer writer) throws IOException {
         ArgChecks.nullNotPermitted(data, "data");
         ArgChecks.nullNotPermitted(writer, "writer");
-        writer.write("[");
+        JSONOutput out = new JSONOutput(writer);
+        out.write("[");
         boolean first = true;
         for (Comparable<?> key : data.getKeys()) {
             if (!first) {
-                writer.write(", ");
+                out.write(", ");
             } else {
                 first = false;
             }
-            writer.write("[");
-            writer.write(JSONValue.toJSONString(key.toString()));
-            writer.write(", ");
-            writer.write(JSONValue.toJSONString(data.getValue(key)));
-            writer.write("]");
-        }
-        writer.write("]");
+            out.write("[");
+            out.writeString(key.toString());
+            out.write(", ");
+            out.writeNumber(data.getValue(key));
+            out.write("]");
+        }
+        out.write("]");
+        out.flush();
+    }
+
+    /**
+     * Writes the data in JSON format to the supplied output stream, using 
+     * UTF-8 encoding.  The output is passed to the stream in chunks as it 
+     * is generated, and the stream is flushed (but not closed) at the end.
+     * 
+     * @param data  the data ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.6
+     */
+    public static void writeKeyedValues(KeyedValues<? extends Number> data, 
+            OutputStream out) throws IOException {
+        ArgChecks.nullNotPermitted(out, "out");
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        writeKeyedValues(data, writer);
+        writer.flush();
     }
     
     /**
@@ -318,50 +341,72 @@ public class JSONUtils {
             Writer writer) throws IOException {
         ArgChecks.nullNotPermitted(data, "data");
         ArgChecks.nullNotPermitted(writer, "writer");
+        JSONOutput out = new JSONOutput(writer);
         List<Comparable<?>> columnKeys = data.getColumnKeys();
         List<Comparable<?>> rowKeys = data.getRowKeys();
-        writer.write("{");
+        out.write("{");
         if (!columnKeys.isEmpty()) {
-            writer.write("\"columnKeys\": [");
+            out.write("\"columnKeys\": [");
             boolean first = true;
             for (Comparable<?> columnKey : columnKeys) {
                 if (!first) {
-                    writer.write(", ");
+                    out.write(", ");
                 } else {
                     first = false;
                 }
-                writer.write(JSONValue.toJSONString(columnKey.toString()));
+                out.writeString(columnKey.toString());
             }
-            writer.write("]");
+            out.write("]");
         }
         if (!rowKeys.isEmpty()) {
-            writer.write(", \"rows\": [");
+            out.write(", \"rows\": [");
             boolean firstRow = true;
             for (Comparable<?> rowKey : rowKeys) {   
                 if (!firstRow) {
-                    writer.write(", [");
+                    out.write(", [");
                 } else {
-                    writer.write("[");
+                    out.write("[");
                     firstRow = false;
                 }
                 // write the row data 
-                writer.write(JSONValue.toJSONString(rowKey.toString()));
-                writer.write(", [");
+                out.writeString(rowKey.toString());
+                out.write(", [");
                 boolean first = true;
                 for (Comparable<?> columnKey : columnKeys) {
                     if (!first) {
-                        writer.write(", ");
+                        out.write(", ");
                     } else {
                         first = false;
                     }
-                    writer.write(JSONValue.toJSONString(data.getValue(rowKey, 
-                            columnKey)));
+                    out.writeNumber(data.getValue(rowKey, columnKey));
                 }
-                writer.write("]]");
+                out.write("]]");
             }
-            writer.write("]");
+            out.write("]");
         }
-        writer.write("}");
+        out.write("}");
+        out.flush();
+    }
+
+    /**
+     * Writes the data table in JSON format to the supplied output stream, 
+     * using UTF-8 encoding.  The output is passed to the stream in chunks as 
+     * it is generated, and the stream is flushed (but not closed) at the end.
+     * 
+     * @param data  the data ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.6
+     */
+    public static void writeKeyedValues2D(
+            KeyedValues2D<? extends Number> data, OutputStream out) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(out, "out");
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        writeKeyedValues2D(data, writer);
+        writer.flush();
     }
 
     /**
@@ -390,6 +435,10 @@ public class JSONUtils {
      * {@link KeyedValues3D} instance.  This method will read back the data
      * written by {@link JSONUtils#writeKeyedValues3D(
      * com.orsoncharts.data.KeyedValues3D, java.io.Writer) }.
+     * <br><br>
+     * The values are added to the dataset as they are parsed, so the input 
+     * is not held in memory as a whole (this is significant for large 
+     * inputs).
      * 
      * @param reader  the reader ({@code null} not permitted).
      * 
@@ -399,120 +448,15 @@ public class JSONUtils {
      */
     public static KeyedValues3D<? extends Number> readKeyedValues3D(
             Reader reader) throws IOException {
+        ArgChecks.nullNotPermitted(reader, "reader");
+        StandardCategoryDataset3D result = new StandardCategoryDataset3D();
         JSONParser parser = new JSONParser();
         try {
-            Map map = (Map) parser.parse(reader, createContainerFactory());
-            StandardCategoryDataset3D result = new StandardCategoryDataset3D();
-            if (map.isEmpty()) {
-                return result;
-            }
-            
-            // read the row keys, we'll use these to validate the row keys
-            // supplied with the data
-            Object rowKeysObj = map.get("rowKeys");
-            List<?> rowKeys;
-            if (rowKeysObj instanceof List<?>) {
-                rowKeys = (List<?>) rowKeysObj;
-            } else {
-                if (rowKeysObj == null) {
-                    throw new RuntimeException("No 'rowKeys' defined.");    
-                } else {
-                    throw new RuntimeException("Please check the 'rowKeys', " 
-                            + "the format does not parse to a list.");
-                }
-            }
-            
-            // read the column keys, the data is provided later in rows that
-            // should have the same number of entries as the columnKeys list
-            Object columnKeysObj = map.get("columnKeys");
-            List<?> columnKeys;
-            if (columnKeysObj instanceof List<?>) {
-                columnKeys = (List<?>) columnKeysObj;
-            } else {
-                if (columnKeysObj == null) {
-                    throw new RuntimeException("No 'columnKeys' defined.");    
-                } else {
-                    throw new RuntimeException("Please check the 'columnKeys', " 
-                            + "the format does not parse to a list.");
-                }
-            }
-            
-            // the data object should be a list of data series
-            Object dataObj = map.get("data");
-            if (dataObj instanceof List) {
-                List<?> seriesList = (List<?>) dataObj;
-                // each entry in the map has the series name as the key, and
-                // the value is a map of row data (rowKey, list of values)
-                for (Object seriesObj : seriesList) {
-                    processSeries(seriesObj, rowKeys, columnKeys, result);
-                }
-            } else { // the 'data' entry is not parsing to a list
-                if (dataObj == null) {
-                    throw new RuntimeException("No 'data' section defined.");
-                } else {
-                    throw new RuntimeException("Please check the 'data' "
-                            + "entry, the format does not parse to a list of "
-                            + "series.");
-                }
-            }
-            return result;
+            parser.parse(reader, new KeyedValues3DJSONHandler(result));
         } catch (ParseException ex) {
             throw new RuntimeException(ex);
         }
-    }
-    
-    /**
-     * Processes an entry for one series.
-     * 
-     * @param seriesObj  the series object.
-     * @param rowKeys  the expected row keys.
-     * @param columnKeys  the required column keys.
-     */
-    static void processSeries(Object seriesObj, List<?> rowKeys, 
-            List<?> columnKeys, StandardCategoryDataset3D dataset) {
-        
-        if (!(seriesObj instanceof Map)) {
-            throw new RuntimeException("Check the 'data' section it contains "
-                    + "a series that does not parse to a map.");
-        }
-        
-        // we expect the series data object to be a map of
-        // rowKey ==> rowValueArray entries, where rowValueArray
-        // should have the same number of entries as the columnKeys
-        Map seriesMap = (Map) seriesObj;
-        Object seriesKey = seriesMap.get("seriesKey");
-        Object seriesRowsObj = seriesMap.get("rows");
-        if (!(seriesRowsObj instanceof Map)) {
-            throw new RuntimeException("Please check the series entry for " 
-                    + seriesKey + " because it is not parsing to a map (of " 
-                    + "rowKey -> rowDataValues items.");
-        }
-        Map<?, ?> seriesData = (Map<?, ?>) seriesRowsObj;
-        for (Object rowKey : seriesData.keySet()) {
-            if (!rowKeys.contains(rowKey)) {
-                throw new RuntimeException("The row key " + rowKey + " is not "
-                        + "listed in the rowKeys entry."); 
-            }
-            Object rowValuesObj = seriesData.get(rowKey);
-            if (!(rowValuesObj instanceof List<?>)) {
-                throw new RuntimeException("Please check the entry for series " 
-                        + seriesKey + " and row " + rowKey + " because it "
-                        + "does not parse to a list of values.");
-            }
-            List<?> rowValues = (List<?>) rowValuesObj;
-            if (rowValues.size() != columnKeys.size()) {
-                throw new RuntimeException("The values list for series "
-                        + seriesKey + " and row " + rowKey + " does not " 
-                        + "contain the correct number of entries to match "
-                        + "the columnKeys.");
-            }
-            for (int c = 0; c < rowValues.size(); c++) {
-                Object columnKey = columnKeys.get(c);
-                dataset.addValue(objToDouble(rowValues.get(c)), 
-                        seriesKey.toString(), rowKey.toString(), 
-                        columnKey.toString());
-            }
-        }
+        return result;
     }
     
     /**
@@ -547,82 +491,101 @@ public class JSONUtils {
             throws IOException {
         ArgChecks.nullNotPermitted(dataset, "dataset");
         ArgChecks.nullNotPermitted(writer, "writer");
+        JSONOutput out = new JSONOutput(writer);
 
-        writer.write("{");
+        out.write("{");
         if (!dataset.getColumnKeys().isEmpty()) {
-            writer.write("\"columnKeys\": [");
+            out.write("\"columnKeys\": [");
             boolean first = true;
             for (Comparable<?> key : dataset.getColumnKeys()) {
                 if (!first) {
-                    writer.write(", ");
+                    out.write(", ");
                 } else {
                     first = false;
                 }
-                writer.write(JSONValue.toJSONString(key.toString()));
+                out.writeString(key.toString());
             }
-            writer.write("], ");
+            out.write("], ");
         }
         
         // write the row keys
         if (!dataset.getRowKeys().isEmpty()) {
-            writer.write("\"rowKeys\": [");
+            out.write("\"rowKeys\": [");
             boolean first = true;
             for (Comparable<?> key : dataset.getRowKeys()) {
                 if (!first) {
-                    writer.write(", ");
+                    out.write(", ");
                 } else {
                     first = false;
                 }
-                writer.write(JSONValue.toJSONString(key.toString()));
+                out.writeString(key.toString());
             }
-            writer.write("], ");
+            out.write("], ");
         }
         
         // write the data which is zero, one or many data series
         // a data series has a 'key' and a 'rows' attribute
         // the 'rows' attribute is a Map from 'rowKey' -> array of data values
         if (dataset.getSeriesCount() != 0) {
-            writer.write("\"series\": [");
-            boolean first = true;
-            for (Comparable<?> seriesKey : dataset.getSeriesKeys()) {
-                if (!first) {
-                    writer.write(", ");
-                } else {
-                    first = false;
+            out.write("\"series\": [");
+            int rowCount = dataset.getRowCount();
+            int columnCount = dataset.getColumnCount();
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                if (s != 0) {
+                    out.write(", ");
                 }
-                writer.write("{\"seriesKey\": ");
-                writer.write(JSONValue.toJSONString(seriesKey.toString()));
-                writer.write(", \"rows\": [");
+                out.write("{\"seriesKey\": ");
+                out.writeString(dataset.getSeriesKey(s).toString());
+                out.write(", \"rows\": [");
             
                 boolean firstRow = true;
-                for (Comparable<?> rowKey : dataset.getRowKeys()) {
-                    if (countForRowInSeries(dataset, seriesKey, rowKey) > 0) {
+                for (int r = 0; r < rowCount; r++) {
+                    if (countForRowInSeries(dataset, s, r) > 0) {
                         if (!firstRow) {
-                            writer.write(", [");
+                            out.write(", [");
                         } else {
-                            writer.write("[");
+                            out.write("[");
                             firstRow = false;
                         }
                         // write the row values
-                        writer.write(JSONValue.toJSONString(rowKey.toString()) 
-                                + ", [");
-                        for (int c = 0; c < dataset.getColumnCount(); c++) {
-                            Comparable columnKey = dataset.getColumnKey(c);
+                        out.writeString(dataset.getRowKey(r).toString());
+                        out.write(", [");
+                        for (int c = 0; c < columnCount; c++) {
                             if (c != 0) {
-                                writer.write(", ");
+                                out.write(", ");
                             }
-                            writer.write(JSONValue.toJSONString(
-                                    dataset.getValue(seriesKey, rowKey, 
-                                    columnKey)));
+                            out.writeNumber(dataset.getValue(s, r, c));
                         }
-                        writer.write("]]");
+                        out.write("]]");
                     }
                 }            
-                writer.write("]}");
+                out.write("]}");
             }
-            writer.write("]");
+            out.write("]");
         }
-        writer.write("}");
+        out.write("}");
+        out.flush();
+    }
+
+    /**
+     * Writes the dataset in JSON format to the supplied output stream, using 
+     * UTF-8 encoding.  The output is passed to the stream in chunks as it 
+     * is generated, and the stream is flushed (but not closed) at the end.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.6
+     */
+    public static void writeKeyedValues3D(
+            KeyedValues3D<? extends Number> dataset, OutputStream out) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(out, "out");
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        writeKeyedValues3D(dataset, writer);
+        writer.flush();
     }
  
     /**
@@ -630,29 +593,16 @@ public class JSONUtils {
      * series and row.
      * 
      * @param data  the dataset ({@code null} not permitted).
-     * @param seriesKey  the series key ({@code null} not permitted).
-     * @param rowKey  the row key ({@code null} not permitted).
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
      * 
      * @return The count. 
      */
     private static int countForRowInSeries(KeyedValues3D<?> data, 
-            Comparable<?> seriesKey, Comparable<?> rowKey) {
-        ArgChecks.nullNotPermitted(data, "data");
-        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
-        ArgChecks.nullNotPermitted(rowKey, "rowKey");
-        int seriesIndex = data.getSeriesIndex(seriesKey);
-        if (seriesIndex < 0) {
-            throw new IllegalArgumentException("Series not found: " 
-                    + seriesKey);
-        }
-        int rowIndex = data.getRowIndex(rowKey);
-        if (rowIndex < 0) {
-            throw new IllegalArgumentException("Row not found: " + rowKey);
-        }
+            int seriesIndex, int rowIndex) {
         int count = 0;
         for (int c = 0; c < data.getColumnCount(); c++) {
-            Number n = (Number) data.getValue(seriesIndex, rowIndex, c);
-            if (n != null) {
+            if (data.getValue(seriesIndex, rowIndex, c) != null) {
                 count++;
             }
         }
@@ -686,37 +636,67 @@ public class JSONUtils {
     
     /**
      * Parses character data from the reader and (if possible) creates an 
-     * {XYZDataset} instance that represents the data.
+     * {XYZDataset} instance that represents the data.  The data items are 
+     * added to the dataset as they are parsed, so the input is not held in
+     * memory as a whole.
      * 
      * @param reader  a reader ({@code null} not permitted).
      * 
      * @return A dataset.
      * 
      * @throws IOException if there is an I/O problem.
+     * 
+     * @see #readColumnarXYZDataset(java.io.Reader, boolean) 
      */
     public static XYZDataset readXYZDataset(Reader reader) throws IOException {
-        JSONParser parser = new JSONParser();
+        ArgChecks.nullNotPermitted(reader, "reader");
         XYZSeriesCollection result = new XYZSeriesCollection();
+        parseXYZDataset(reader, new XYZDatasetJSONHandler(result));
+        return result;
+    }
+
+    /**
+     * Parses character data from the reader (in the format written by 
+     * {@link #writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)}) and
+     * returns a {@link ColumnarXYZDataset} containing the data.  The data 
+     * items are added to the dataset as they are parsed, and are stored in 
+     * primitive arrays, so this is the most memory efficient way to load a 
+     * large dataset.
+     * 
+     * @param reader  a reader ({@code null} not permitted).
+     * @param floatPrecision  store the values in single precision?
+     * 
+     * @return A dataset.
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.6
+     */
+    public static ColumnarXYZDataset readColumnarXYZDataset(Reader reader, 
+            boolean floatPrecision) throws IOException {
+        ArgChecks.nullNotPermitted(reader, "reader");
+        ColumnarXYZDataset result = new ColumnarXYZDataset(floatPrecision);
+        parseXYZDataset(reader, new XYZDatasetJSONHandler(result));
+        return result;
+    }
+    
+    /**
+     * Parses character data from the reader, passing the content to the 
+     * specified handler.
+     * 
+     * @param reader  the reader.
+     * @param handler  the handler.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void parseXYZDataset(Reader reader, 
+            XYZDatasetJSONHandler handler) throws IOException {
+        JSONParser parser = new JSONParser();
         try {
-            List<?> list = (List<?>) parser.parse(reader, 
-                    createContainerFactory());
-            // each entry in the array should be a series array (where the 
-            // first item is the series name and the next value is an array 
-            // (of arrays of length 3) containing the data items
-            for (Object seriesArray : list) {
-                if (seriesArray instanceof List) {
-                    List<?> seriesList = (List<?>) seriesArray;
-                    XYZSeries series = createSeries(seriesList);
-                    result.add(series);
-                } else {
-                    throw new RuntimeException(
-                            "Input for a series did not parse to a list.");
-                }
-            }
+            parser.parse(reader, handler);
         } catch (ParseException ex) {
             throw new RuntimeException(ex);
         }
-        return result;
     }
 
     /**
@@ -746,37 +726,56 @@ public class JSONUtils {
      */
     public static void writeXYZDataset(XYZDataset dataset, Writer writer) 
             throws IOException {
-        writer.write("[");
+        JSONOutput out = new JSONOutput(writer);
+        out.write("[");
         boolean first = true;
         for (Comparable<?> seriesKey : dataset.getSeriesKeys()) {
             if (!first) {
-                writer.write(", [");
+                out.write(", [");
             } else {
-                writer.write("[");
+                out.write("[");
                 first = false;
             }
-            writer.write(JSONValue.toJSONString(seriesKey.toString()));
-            writer.write(", [");
+            out.writeString(seriesKey.toString());
+            out.write(", [");
             int seriesIndex = dataset.getSeriesIndex(seriesKey);
             int itemCount = dataset.getItemCount(seriesIndex);
             for (int i = 0; i < itemCount; i++) {
                 if (i != 0) {
-                    writer.write(", ");
+                    out.write(", ");
                 }
-                writer.write("[");
-                writer.write(JSONValue.toJSONString(Double.valueOf(
-                        dataset.getX(seriesIndex, i))));
-                writer.write(", ");
-                writer.write(JSONValue.toJSONString(Double.valueOf(
-                        dataset.getY(seriesIndex, i))));
-                writer.write(", ");
-                writer.write(JSONValue.toJSONString(Double.valueOf(
-                        dataset.getZ(seriesIndex, i))));
-                writer.write("]");
+                out.write("[");
+                out.writeNumber(dataset.getX(seriesIndex, i));
+                out.write(", ");
+                out.writeNumber(dataset.getY(seriesIndex, i));
+                out.write(", ");
+                out.writeNumber(dataset.getZ(seriesIndex, i));
+                out.write("]");
             }
-            writer.write("]]");
+            out.write("]]");
         }
-        writer.write("]");        
+        out.write("]");        
+        out.flush();
+    }
+
+    /**
+     * Writes the dataset in JSON format to the supplied output stream, using 
+     * UTF-8 encoding.  The output is passed to the stream in chunks as it 
+     * is generated, and the stream is flushed (but not closed) at the end.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.6
+     */
+    public static void writeXYZDataset(XYZDataset dataset, 
+            OutputStream out) throws IOException {
+        ArgChecks.nullNotPermitted(out, "out");
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        writeXYZDataset(dataset, writer);
+        writer.flush();
     }
         
     /**
@@ -786,7 +785,7 @@ public class JSONUtils {
      * 
      * @return A double primitive (possibly Double.NaN). 
      */
-    private static double objToDouble(Object obj) {
+    static double objToDouble(Object obj) {
         if (obj == null) {
             return Double.NaN;
         }
@@ -802,42 +801,6 @@ public class JSONUtils {
         return result;
     }
     
-    /**
-     * Creates an {@link XYZSeries} from the supplied list.  The list is 
-     * coming from the JSON parser and should contain the series name as the
-     * first item, and a list of data items as the second item.  The list of
-     * data items should be a list of lists (
-     * 
-     * @param sArray  the series array.
-     * 
-     * @return A data series. 
-     */
-    private static XYZSeries createSeries(List<?> sArray) {
-        Comparable<?> key = (Comparable<?>) sArray.get(0);
-        List<?> dataItems = (List<?>) sArray.get(1);
-        XYZSeries series = new XYZSeries(key);
-        for (Object item : dataItems) {
-            if (item instanceof List<?>) {
-                List<?> xyz = (List<?>) item;
-                if (xyz.size() != 3) {
-                    throw new RuntimeException(
-                            "A data item should contain three numbers, " 
-                            + "but we have " + xyz);
-                }
-                double x = objToDouble(xyz.get(0));
-                double y = objToDouble(xyz.get(1));
-                double z = objToDouble(xyz.get(2));
-                series.add(x, y, z);
-                
-            } else {
-                throw new RuntimeException(
-                        "Expecting a data item (x, y, z) for series " + key 
-                        + " but found " + item + ".");
-            }
-        }
-        return series;
-    }
-
     /**
      * Returns a custom container factory for the JSON parser.  We create this 
      * so that the collections respect the order of elements.
@@ -0,0 +1,536 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.util.json.parser.ContentHandler;
+
+/**
+ * A {@link ContentHandler} that reads a {@link KeyedValues3D} in JSON format
+ * and adds the values directly to a {@link StandardCategoryDataset3D}, 
+ * without building an intermediate tree of maps and lists for the whole 
+ * document.  The handler reads the format described for 
+ * {@link JSONUtils#readKeyedValues3D(java.io.Reader)}, where the rows for 
+ * each series are a map (rowKey to data values), and also the format 
+ * written by {@link JSONUtils#writeKeyedValues3D(KeyedValues3D)}, where the 
+ * series are in a {@code "series"} entry and the rows for each series are a 
+ * list of (rowKey, data values) pairs.
+ * <br><br>
+ * The row and column keys are normally written ahead of the data, in which 
+ * case each row of values is added to the dataset as soon as it has been 
+ * read.  Rows that are read before the keys (or before the key for their 
+ * series) are held, as arrays of primitive values, until the keys are 
+ * known.
+ * 
+ * @since 1.6
+ */
+final class KeyedValues3DJSONHandler implements ContentHandler {
+
+    /** Value kind: a string, number, boolean or null. */
+    private static final int PRIMITIVE = 0;
+    
+    /** Value kind: an object. */
+    private static final int OBJECT = 1;
+    
+    /** Value kind: an array. */
+    private static final int ARRAY = 2;
+    
+    /** Context: a container that is ignored. */
+    private static final int SKIP = 0;
+    
+    /** Context: the root object. */
+    private static final int ROOT = 1;
+    
+    /** Context: the array of row keys. */
+    private static final int ROW_KEYS = 2;
+    
+    /** Context: the array of column keys. */
+    private static final int COLUMN_KEYS = 3;
+    
+    /** Context: the array of series. */
+    private static final int SERIES_LIST = 4;
+    
+    /** Context: a series object. */
+    private static final int SERIES = 5;
+    
+    /** Context: the rows for a series, as a map. */
+    private static final int ROWS_MAP = 6;
+    
+    /** Context: the rows for a series, as a list. */
+    private static final int ROWS_LIST = 7;
+    
+    /** Context: a row array (the row key then the data values). */
+    private static final int ROW = 8;
+    
+    /** Context: the array of data values for a row. */
+    private static final int VALUES = 9;
+    
+    /** The dataset that the values are added to. */
+    private final StandardCategoryDataset3D dataset;
+    
+    /** The stack of containers that are currently open. */
+    private int[] contexts;
+    
+    /** The number of containers that are currently open. */
+    private int depth;
+    
+    /** The key for the most recent object entry. */
+    private String entryKey;
+    
+    /** A flag that indicates whether the root object has any entries. */
+    private boolean hasEntries;
+    
+    /** A flag that indicates whether the data section has been read. */
+    private boolean hasData;
+    
+    /** The row keys ({@code null} until they are read). */
+    private List<Object> rowKeys;
+    
+    /** The row keys, for fast lookup ({@code null} until they are read). */
+    private Set<Object> rowKeySet;
+    
+    /** The column keys ({@code null} until they are read). */
+    private List<Object> columnKeys;
+    
+    /** The key for the current series. */
+    private Object seriesKey;
+    
+    /** The key for the current row. */
+    private Object rowKey;
+    
+    /** The index of the next entry in the current row array. */
+    private int rowIndex;
+    
+    /** The data values for the current row. */
+    private double[] values;
+    
+    /** The number of data values for the current row. */
+    private int valueCount;
+    
+    /** Rows that are waiting for the keys to be read. */
+    private final List<PendingRow> pending;
+    
+    /** The index of the first pending row for the current series. */
+    private int seriesPendingStart;
+    
+    /**
+     * Creates a new handler that adds values to the specified dataset.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     */
+    KeyedValues3DJSONHandler(StandardCategoryDataset3D dataset) {
+        this.dataset = dataset;
+        this.contexts = new int[8];
+        this.values = new double[16];
+        this.pending = new ArrayList<PendingRow>();
+    }
+    
+    @Override
+    public void startJSON() {
+        this.depth = 0;
+    }
+
+    @Override
+    public void endJSON() {
+        // nothing to do
+    }
+
+    @Override
+    public boolean startObject() {
+        push(open(OBJECT, null));
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        close();
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        this.entryKey = key;
+        if (this.depth == 1) {
+            this.hasEntries = true;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+        return true;
+    }
+
+    @Override
+    public boolean startArray() {
+        push(open(ARRAY, null));
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        close();
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+        open(PRIMITIVE, value);
+        return true;
+    }
+    
+    /**
+     * Handles the start of a value (a primitive, object or array) and 
+     * returns the context for the value if it is a container.
+     * 
+     * @param kind  the value kind ({@code PRIMITIVE}, {@code OBJECT} or
+     *     {@code ARRAY}).
+     * @param value  the primitive value ({@code null} for a container).
+     * 
+     * @return The context.
+     */
+    private int open(int kind, Object value) {
+        if (this.depth == 0) {
+            if (kind != OBJECT) {
+                throw new RuntimeException(
+                        "The input did not parse to a map.");
+            }
+            return ROOT;
+        }
+        switch (this.contexts[this.depth - 1]) {
+            case ROOT:
+                return openEntry(kind);
+            case ROW_KEYS:
+            case COLUMN_KEYS:
+                if (kind != PRIMITIVE) {
+                    throw new RuntimeException("Please check the keys, "
+                            + "a key does not parse to a single value.");
+                }
+                if (this.contexts[this.depth - 1] == ROW_KEYS) {
+                    this.rowKeys.add(value);
+                } else {
+                    this.columnKeys.add(value);
+                }
+                return SKIP;
+            case SERIES_LIST:
+                if (kind != OBJECT) {
+                    throw new RuntimeException("Check the 'data' section it " 
+                            + "contains a series that does not parse to a "
+                            + "map.");
+                }
+                this.seriesKey = null;
+                this.seriesPendingStart = this.pending.size();
+                return SERIES;
+            case SERIES:
+                if ("seriesKey".equals(this.entryKey)) {
+                    if (kind != PRIMITIVE) {
+                        throw new RuntimeException("Please check the " 
+                                + "'seriesKey', it does not parse to a "
+                                + "single value.");
+                    }
+                    this.seriesKey = value;
+                } else if ("rows".equals(this.entryKey)) {
+                    if (kind == OBJECT) {
+                        return ROWS_MAP;
+                    } else if (kind == ARRAY) {
+                        return ROWS_LIST;
+                    }
+                    throw new RuntimeException("Please check the series " 
+                            + "entry for " + this.seriesKey + " because it " 
+                            + "is not parsing to a map (of rowKey -> " 
+                            + "rowDataValues items.");
+                }
+                return SKIP;
+            case ROWS_MAP:
+                this.rowKey = this.entryKey;
+                return openValues(kind);
+            case ROWS_LIST:
+                if (kind != ARRAY) {
+                    throw new RuntimeException("Please check the rows for " 
+                            + "series " + this.seriesKey + ", a row does " 
+                            + "not parse to a list (of rowKey and " 
+                            + "rowDataValues items).");
+                }
+                this.rowKey = null;
+                this.rowIndex = 0;
+                return ROW;
+            case ROW:
+                int index = this.rowIndex++;
+                if (index == 0) {
+                    if (kind != PRIMITIVE || value == null) {
+                        throw new RuntimeException("Please check the rows " 
+                                + "for series " + this.seriesKey + ", a row " 
+                                + "does not start with the row key.");
+                    }
+                    this.rowKey = value;
+                } else if (index == 1) {
+                    return openValues(kind);
+                }
+                return SKIP;
+            case VALUES:
+                if (kind != PRIMITIVE) {
+                    throw new RuntimeException("Please check the entry for " 
+                            + "series " + this.seriesKey + " and row " 
+                            + this.rowKey + " because it does not parse to " 
+                            + "a list of values.");
+                }
+                if (this.valueCount == this.values.length) {
+                    this.values = Arrays.copyOf(this.values, 
+                            this.valueCount * 2);
+                }
+                this.values[this.valueCount++] = JSONUtils.objToDouble(value);
+                return SKIP;
+            default:
+                return SKIP;
+        }
+    }
+    
+    /**
+     * Handles the start of the value for an entry in the root object.
+     * 
+     * @param kind  the value kind.
+     * 
+     * @return The context.
+     */
+    private int openEntry(int kind) {
+        if ("rowKeys".equals(this.entryKey)) {
+            if (kind != ARRAY) {
+                throw new RuntimeException("Please check the 'rowKeys', " 
+                        + "the format does not parse to a list.");
+            }
+            this.rowKeys = new ArrayList<Object>();
+            return ROW_KEYS;
+        }
+        if ("columnKeys".equals(this.entryKey)) {
+            if (kind != ARRAY) {
+                throw new RuntimeException("Please check the 'columnKeys', " 
+                        + "the format does not parse to a list.");
+            }
+            this.columnKeys = new ArrayList<Object>();
+            return COLUMN_KEYS;
+        }
+        if ("data".equals(this.entryKey) || "series".equals(this.entryKey)) {
+            if (kind != ARRAY) {
+                throw new RuntimeException("Please check the '" 
+                        + this.entryKey + "' entry, the format does not " 
+                        + "parse to a list of series.");
+            }
+            this.hasData = true;
+            return SERIES_LIST;
+        }
+        return SKIP;
+    }
+    
+    /**
+     * Handles the start of the data values for a row.
+     * 
+     * @param kind  the value kind.
+     * 
+     * @return The context.
+     */
+    private int openValues(int kind) {
+        if (kind != ARRAY) {
+            throw new RuntimeException("Please check the entry for series " 
+                    + this.seriesKey + " and row " + this.rowKey 
+                    + " because it does not parse to a list of values.");
+        }
+        this.valueCount = 0;
+        return VALUES;
+    }
+    
+    /**
+     * Handles the end of a container.
+     */
+    private void close() {
+        int context = this.contexts[--this.depth];
+        switch (context) {
+            case ROW_KEYS:
+                this.rowKeySet = new HashSet<Object>(this.rowKeys);
+                break;
+            case VALUES:
+                endRow();
+                break;
+            case ROW:
+                if (this.rowIndex < 2) {
+                    throw new RuntimeException("Please check the row " 
+                            + this.rowKey + " for series " + this.seriesKey 
+                            + ", it does not contain a list of values.");
+                }
+                break;
+            case SERIES:
+                endSeries();
+                break;
+            case ROOT:
+                endRoot();
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Adds the values for the current row to the dataset, or holds them 
+     * until the keys are known.
+     */
+    private void endRow() {
+        if (this.seriesKey != null && keysKnown()) {
+            addRow(this.seriesKey, this.rowKey, this.values, this.valueCount);
+        } else {
+            this.pending.add(new PendingRow(this.seriesKey, this.rowKey, 
+                    Arrays.copyOf(this.values, this.valueCount)));
+        }
+    }
+    
+    /**
+     * Assigns the series key to the pending rows for the current series.
+     */
+    private void endSeries() {
+        if (this.seriesKey == null) {
+            throw new RuntimeException("Check the 'data' section, it " 
+                    + "contains a series with no 'seriesKey'.");
+        }
+        for (int i = this.seriesPendingStart; i < this.pending.size(); i++) {
+            this.pending.get(i).seriesKey = this.seriesKey;
+        }
+        if (keysKnown()) {
+            addPendingRows();
+        }
+    }
+    
+    /**
+     * Checks that all the required entries have been read, and adds any 
+     * pending rows to the dataset.
+     */
+    private void endRoot() {
+        if (!this.hasEntries) {
+            return;
+        }
+        if (this.rowKeys == null) {
+            throw new RuntimeException("No 'rowKeys' defined.");
+        }
+        if (this.columnKeys == null) {
+            throw new RuntimeException("No 'columnKeys' defined.");
+        }
+        if (!this.hasData) {
+            throw new RuntimeException("No 'data' section defined.");
+        }
+        addPendingRows();
+    }
+    
+    /**
+     * Returns {@code true} if the row and column keys have been read.
+     * 
+     * @return A boolean. 
+     */
+    private boolean keysKnown() {
+        return this.rowKeySet != null && this.columnKeys != null;
+    }
+    
+    /**
+     * Adds the pending rows to the dataset.
+     */
+    private void addPendingRows() {
+        for (PendingRow row : this.pending) {
+            addRow(row.seriesKey, row.rowKey, row.values, row.values.length);
+        }
+        this.pending.clear();
+    }
+    
+    /**
+     * Adds the values for one row to the dataset.
+     * 
+     * @param seriesKey  the series key.
+     * @param rowKey  the row key.
+     * @param rowValues  the values (one for each column key).
+     * @param count  the number of values.
+     */
+    private void addRow(Object seriesKey, Object rowKey, double[] rowValues, 
+            int count) {
+        if (!this.rowKeySet.contains(rowKey)) {
+            throw new RuntimeException("The row key " + rowKey + " is not "
+                    + "listed in the rowKeys entry."); 
+        }
+        if (count != this.columnKeys.size()) {
+            throw new RuntimeException("The values list for series "
+                    + seriesKey + " and row " + rowKey + " does not " 
+                    + "contain the correct number of entries to match "
+                    + "the columnKeys.");
+        }
+        String s = seriesKey.toString();
+        String r = rowKey.toString();
+        for (int c = 0; c < count; c++) {
+            this.dataset.addValue(rowValues[c], s, r, 
+                    this.columnKeys.get(c).toString());
+        }
+    }
+    
+    /**
+     * Pushes a context onto the stack of open containers.
+     * 
+     * @param context  the context.
+     */
+    private void push(int context) {
+        if (this.depth == this.contexts.length) {
+            this.contexts = Arrays.copyOf(this.contexts, this.depth * 2);
+        }
+        this.contexts[this.depth++] = context;
+    }
+    
+    /**
+     * The values for a row that was read before the keys were known.
+     */
+    private static final class PendingRow {
+        
+        /** The series key (possibly {@code null} until the series ends). */
+        Object seriesKey;
+        
+        /** The row key. */
+        final Object rowKey;
+        
+        /** The values. */
+        final double[] values;
+        
+        PendingRow(Object seriesKey, Object rowKey, double[] values) {
+            this.seriesKey = seriesKey;
+            this.rowKey = rowKey;
+            this.values = values;
+        }
+    }
+
+}
@@ -0,0 +1,354 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.data;
+
+import java.util.Arrays;
+import com.orsoncharts.data.xyz.ColumnarXYZDataset;
+import com.orsoncharts.data.xyz.XYZSeries;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.util.json.parser.ContentHandler;
+
+/**
+ * A {@link ContentHandler} that reads the JSON format written by 
+ * {@link JSONUtils#writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)} 
+ * and adds the data items directly to an {@link XYZSeriesCollection} or a
+ * {@link ColumnarXYZDataset}, without building an intermediate tree of 
+ * lists for the whole document.  The data items are passed to the 
+ * dataset in small blocks, so the memory used by the handler itself does 
+ * not depend on the size of the input.
+ * 
+ * @since 1.6
+ */
+final class XYZDatasetJSONHandler implements ContentHandler {
+
+    /** The number of data items that are buffered before adding them. */
+    private static final int BLOCK_SIZE = 1024;
+    
+    /** Value kind: a string, number, boolean or null. */
+    private static final int PRIMITIVE = 0;
+    
+    /** Value kind: an object. */
+    private static final int OBJECT = 1;
+    
+    /** Value kind: an array. */
+    private static final int ARRAY = 2;
+    
+    /** Context: a container that is ignored. */
+    private static final int SKIP = 0;
+    
+    /** Context: the root array (of series). */
+    private static final int ROOT = 1;
+    
+    /** Context: a series array (the series key then the data items). */
+    private static final int SERIES = 2;
+    
+    /** Context: the array of data items for a series. */
+    private static final int ITEMS = 3;
+    
+    /** Context: a data item array (x, y, z). */
+    private static final int ITEM = 4;
+    
+    /** The target collection (or {@code null}). */
+    private final XYZSeriesCollection collection;
+    
+    /** The target columnar dataset (or {@code null}). */
+    private final ColumnarXYZDataset columnar;
+    
+    /** The stack of containers that are currently open. */
+    private int[] contexts;
+    
+    /** The number of containers that are currently open. */
+    private int depth;
+    
+    /** The index of the next entry in the current series array. */
+    private int seriesIndex;
+    
+    /** The key for the current series. */
+    private Comparable<?> seriesKey;
+    
+    /** The current series (used only for a collection target). */
+    private XYZSeries series;
+    
+    /** The number of values read for the current data item. */
+    private int valueCount;
+    
+    /** The x-values for data items that have not yet been added. */
+    private final double[] xValues;
+    
+    /** The y-values for data items that have not yet been added. */
+    private final double[] yValues;
+    
+    /** The z-values for data items that have not yet been added. */
+    private final double[] zValues;
+    
+    /** The number of data items that have not yet been added. */
+    private int itemCount;
+
+    /**
+     * Creates a handler that adds the series it reads to the specified
+     * collection.
+     * 
+     * @param collection  the collection ({@code null} not permitted).
+     */
+    XYZDatasetJSONHandler(XYZSeriesCollection collection) {
+        this(collection, null);
+    }
+    
+    /**
+     * Creates a handler that adds the series it reads to the specified
+     * columnar dataset.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     */
+    XYZDatasetJSONHandler(ColumnarXYZDataset dataset) {
+        this(null, dataset);
+    }
+    
+    private XYZDatasetJSONHandler(XYZSeriesCollection collection, 
+            ColumnarXYZDataset columnar) {
+        this.collection = collection;
+        this.columnar = columnar;
+        this.contexts = new int[8];
+        this.xValues = new double[BLOCK_SIZE];
+        this.yValues = new double[BLOCK_SIZE];
+        this.zValues = new double[BLOCK_SIZE];
+    }
+    
+    @Override
+    public void startJSON() {
+        this.depth = 0;
+    }
+
+    @Override
+    public void endJSON() {
+        // nothing to do
+    }
+
+    @Override
+    public boolean startObject() {
+        push(open(OBJECT, null));
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        this.depth--;
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+        return true;
+    }
+
+    @Override
+    public boolean startArray() {
+        push(open(ARRAY, null));
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        int context = this.contexts[--this.depth];
+        if (context == ITEM) {
+            if (this.valueCount != 3) {
+                throw new RuntimeException(
+                        "A data item should contain three numbers, but we " 
+                        + "have " + this.valueCount + " values in series " 
+                        + this.seriesKey + ".");
+            }
+            this.itemCount++;
+            if (this.itemCount == BLOCK_SIZE) {
+                flush();
+            }
+        } else if (context == SERIES) {
+            if (this.seriesIndex < 2) {
+                throw new RuntimeException("Input for series " 
+                        + this.seriesKey + " does not contain a list of " 
+                        + "data items.");
+            }
+        } else if (context == ITEMS) {
+            flush();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+        open(PRIMITIVE, value);
+        return true;
+    }
+    
+    /**
+     * Handles the start of a value (a primitive, object or array) and 
+     * returns the context for the value if it is a container.
+     * 
+     * @param kind  the value kind ({@code PRIMITIVE}, {@code OBJECT} or
+     *     {@code ARRAY}).
+     * @param value  the primitive value ({@code null} for a container).
+     * 
+     * @return The context.
+     */
+    private int open(int kind, Object value) {
+        if (this.depth == 0) {
+            if (kind != ARRAY) {
+                throw new RuntimeException(
+                        "The input did not parse to a list of series.");
+            }
+            return ROOT;
+        }
+        switch (this.contexts[this.depth - 1]) {
+            case ROOT:
+                if (kind != ARRAY) {
+                    throw new RuntimeException(
+                            "Input for a series did not parse to a list.");
+                }
+                this.seriesIndex = 0;
+                this.seriesKey = null;
+                return SERIES;
+            case SERIES:
+                int index = this.seriesIndex++;
+                if (index == 0) {
+                    if (kind != PRIMITIVE || value == null) {
+                        throw new RuntimeException("Input for a series does " 
+                                + "not start with the series key.");
+                    }
+                    this.seriesKey = (Comparable<?>) value;
+                } else if (index == 1) {
+                    if (kind != ARRAY) {
+                        throw new RuntimeException("Expecting a list of data " 
+                                + "items for series " + this.seriesKey 
+                                + " but found " + describe(kind, value) 
+                                + ".");
+                    }
+                    startSeries();
+                    return ITEMS;
+                }
+                return SKIP;
+            case ITEMS:
+                if (kind != ARRAY) {
+                    throw new RuntimeException(
+                            "Expecting a data item (x, y, z) for series " 
+                            + this.seriesKey + " but found " 
+                            + describe(kind, value) + ".");
+                }
+                this.valueCount = 0;
+                return ITEM;
+            case ITEM:
+                if (kind != PRIMITIVE) {
+                    throw new RuntimeException("A data item should contain " 
+                            + "three numbers, but series " + this.seriesKey 
+                            + " has an item containing a list or object.");
+                }
+                double v = JSONUtils.objToDouble(value);
+                if (this.valueCount == 0) {
+                    this.xValues[this.itemCount] = v;
+                } else if (this.valueCount == 1) {
+                    this.yValues[this.itemCount] = v;
+                } else if (this.valueCount == 2) {
+                    this.zValues[this.itemCount] = v;
+                }
+                this.valueCount++;
+                return SKIP;
+            default:
+                return SKIP;
+        }
+    }
+    
+    /**
+     * Returns a description of a value for use in error messages.
+     * 
+     * @param kind  the value kind.
+     * @param value  the primitive value ({@code null} for a container).
+     * 
+     * @return A description of the value.
+     */
+    private static String describe(int kind, Object value) {
+        if (kind == OBJECT) {
+            return "an object";
+        }
+        return String.valueOf(value);
+    }
+    
+    /**
+     * Pushes a context onto the stack of open containers.
+     * 
+     * @param context  the context.
+     */
+    private void push(int context) {
+        if (this.depth == this.contexts.length) {
+            this.contexts = Arrays.copyOf(this.contexts, this.depth * 2);
+        }
+        this.contexts[this.depth++] = context;
+    }
+    
+    /**
+     * Adds a new (empty) series with the current series key to the target
+     * dataset.
+     */
+    private void startSeries() {
+        this.itemCount = 0;
+        if (this.collection != null) {
+            this.series = new XYZSeries(this.seriesKey);
+            this.collection.add(this.series);
+        } else {
+            this.columnar.addSeries(this.seriesKey);
+        }
+    }
+    
+    /**
+     * Adds the buffered data items to the current series.
+     */
+    private void flush() {
+        if (this.itemCount == 0) {
+            return;
+        }
+        if (this.collection != null) {
+            for (int i = 0; i < this.itemCount; i++) {
+                this.series.add(this.xValues[i], this.yValues[i], 
+                        this.zValues[i]);
+            }
+        } else {
+            this.columnar.addAll(this.seriesKey, this.xValues, this.yValues, 
+                    this.zValues, 0, this.itemCount);
+        }
+        this.itemCount = 0;
+    }
+
+}
@@ -0,0 +1,673 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.data.category;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.data.KeyedValues3D;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ObjectUtils;
+
+/**
+ * A read-only {@link CategoryDataset3D} that is backed by a file in a 
+ * compact binary format, which is memory-mapped rather than read into the 
+ * Java heap.  Opening a dataset reads only the header of the file (the 
+ * series, row and column keys), and the values are loaded by the operating
+ * system as they are accessed.  Files in this format are created with the 
+ * {@link #write(KeyedValues3D, File)} method.
+ * <br><br>
+ * The file starts with a header (all numbers are little-endian):
+ * <ul>
+ * <li>the four bytes {@code "OCDF"}, followed by the format version (int), 
+ * the dataset type (int, {@code 2} for a category dataset) and the length 
+ * of the header in bytes (int, a multiple of 8);</li>
+ * <li>the number of series, rows and columns (three ints), followed by the 
+ * series keys, the row keys and the column keys (for each key, the length 
+ * in bytes (int) followed by the UTF-8 encoded characters of the key 
+ * string).</li>
+ * </ul>
+ * The header is followed by the values (as doubles) for each series in 
+ * turn, with the values for each series ordered by row and then by column.
+ * A {@code null} value is stored as a {@code NaN} with a reserved bit 
+ * pattern, so that it can be distinguished from {@code Double.NaN}.
+ * <br><br>
+ * Keys are stored as strings, so the keys in a dataset that is read from a 
+ * file are the {@code toString()} values of the original keys.  The values
+ * for each series are mapped separately, which allows files that are larger
+ * than 2GB, but limits the number of values in each series to 
+ * {@code Integer.MAX_VALUE / 8}.
+ * <br><br>
+ * NOTE: This class is serializable, but only the file reference is written;
+ * the file is mapped again when the dataset is deserialized.
+ * 
+ * @since 1.6
+ */
+@SuppressWarnings("serial")
+public final class MappedCategoryDataset3D extends AbstractDataset3D 
+        implements CategoryDataset3D, Serializable {
+
+    /** The first four bytes of the file ("OCDF" read as little-endian). */
+    private static final int MAGIC = 0x4644434F;
+    
+    /** The format version. */
+    private static final int VERSION = 1;
+    
+    /** The dataset type code for a category dataset. */
+    private static final int TYPE_CATEGORY = 2;
+    
+    /** The length of the fixed part of the header. */
+    private static final int PREAMBLE_LENGTH = 16;
+    
+    /** The bits that are stored for a {@code null} value. */
+    private static final long NULL_BITS = 0x7FF80000004E554CL;
+    
+    /** The character set for the keys. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    
+    /** The file. */
+    private final File file;
+    
+    /** The series keys. */
+    private transient List<Comparable<?>> seriesKeys;
+    
+    /** The row keys. */
+    private transient List<Comparable<?>> rowKeys;
+    
+    /** The column keys. */
+    private transient List<Comparable<?>> columnKeys;
+    
+    /** A map from series key to series index. */
+    private transient Map<Comparable<?>, Integer> seriesIndexMap;
+    
+    /** A map from row key to row index. */
+    private transient Map<Comparable<?>, Integer> rowIndexMap;
+    
+    /** A map from column key to column index. */
+    private transient Map<Comparable<?>, Integer> columnIndexMap;
+    
+    /** The values (as bits) for each series. */
+    private transient LongBuffer[] values;
+    
+    /**
+     * Opens a dataset that reads the data from the specified file.
+     * 
+     * @param file  the file ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem, or the file is not in
+     *     the expected format.
+     */
+    public MappedCategoryDataset3D(File file) throws IOException {
+        ArgChecks.nullNotPermitted(file, "file");
+        this.file = file;
+        map();
+    }
+    
+    /**
+     * Returns the file that the data is read from.
+     * 
+     * @return The file (never {@code null}). 
+     */
+    public File getFile() {
+        return this.file;
+    }
+    
+    /**
+     * Reads the header from the file and maps the data for each series.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private void map() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long size = channel.size();
+            if (size < PREAMBLE_LENGTH) {
+                throw new IOException(
+                        "The file is not a category dataset file.");
+            }
+            ByteBuffer preamble = channel.map(FileChannel.MapMode.READ_ONLY, 
+                    0, PREAMBLE_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            if (preamble.getInt() != MAGIC || preamble.getInt() != VERSION
+                    || preamble.getInt() != TYPE_CATEGORY) {
+                throw new IOException(
+                        "The file is not a category dataset file.");
+            }
+            int headerLength = preamble.getInt();
+            if (headerLength < PREAMBLE_LENGTH || headerLength > size) {
+                throw new IOException("The file header is not valid.");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 
+                    0, headerLength).order(ByteOrder.LITTLE_ENDIAN);
+            header.position(PREAMBLE_LENGTH);
+            int seriesCount = header.getInt();
+            int rowCount = header.getInt();
+            int columnCount = header.getInt();
+            this.seriesKeys = readKeys(header, seriesCount);
+            this.rowKeys = readKeys(header, rowCount);
+            this.columnKeys = readKeys(header, columnCount);
+            this.seriesIndexMap = createIndexMap(this.seriesKeys);
+            this.rowIndexMap = createIndexMap(this.rowKeys);
+            this.columnIndexMap = createIndexMap(this.columnKeys);
+            
+            long length = (long) rowCount * columnCount * 8L;
+            if (length > Integer.MAX_VALUE 
+                    || headerLength + seriesCount * length > size) {
+                throw new IOException("The data in the file is not valid.");
+            }
+            this.values = new LongBuffer[seriesCount];
+            long offset = headerLength;
+            for (int s = 0; s < seriesCount; s++) {
+                this.values[s] = channel.map(FileChannel.MapMode.READ_ONLY, 
+                        offset, length).order(ByteOrder.LITTLE_ENDIAN)
+                        .asLongBuffer();
+                offset += length;
+            }
+        } finally {
+            raf.close();
+        }
+    }
+    
+    /**
+     * Reads a table of keys from the header.
+     * 
+     * @param header  the header.
+     * @param count  the number of keys.
+     * 
+     * @return The keys.
+     */
+    private static List<Comparable<?>> readKeys(ByteBuffer header, 
+            int count) {
+        List<Comparable<?>> result = new ArrayList<Comparable<?>>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[header.getInt()];
+            header.get(bytes);
+            result.add(new String(bytes, UTF8));
+        }
+        return result;
+    }
+    
+    /**
+     * Creates a map from key to index for the specified keys.
+     * 
+     * @param keys  the keys.
+     * 
+     * @return The map. 
+     */
+    private static Map<Comparable<?>, Integer> createIndexMap(
+            List<Comparable<?>> keys) {
+        Map<Comparable<?>, Integer> result 
+                = new HashMap<Comparable<?>, Integer>(keys.size() * 2);
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            result.put(keys.get(i), Integer.valueOf(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the number of data series in the dataset.
+     * 
+     * @return The number of data series.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns the number of rows in the dataset.
+     * 
+     * @return The number of rows. 
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the dataset.
+     * 
+     * @return The number of columns. 
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+    
+    /**
+     * Returns the key for the specified series.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The series key. 
+     */
+    @Override
+    public Comparable<?> getSeriesKey(int seriesIndex) {
+        return this.seriesKeys.get(seriesIndex);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     * 
+     * @param rowIndex  the row index.
+     * 
+     * @return The row key. 
+     */
+    @Override
+    public Comparable<?> getRowKey(int rowIndex) {
+        return this.rowKeys.get(rowIndex);
+    }
+
+    /**
+     * Returns the key for the specified column.
+     * 
+     * @param columnIndex  the column index.
+     * 
+     * @return The column key. 
+     */
+    @Override
+    public Comparable<?> getColumnKey(int columnIndex) {
+        return this.columnKeys.get(columnIndex);
+    }
+
+    /**
+     * Returns the index for the specified series key, or {@code -1} if the 
+     * key is not defined in the dataset.
+     * 
+     * @param serieskey  the series key ({@code null} not permitted).
+     * 
+     * @return The series index or {@code -1}. 
+     */
+    @Override
+    public int getSeriesIndex(Comparable<?> serieskey) {
+        ArgChecks.nullNotPermitted(serieskey, "serieskey");
+        Integer index = this.seriesIndexMap.get(serieskey);
+        return index != null ? index.intValue() : -1;
+    }
+
+    /**
+     * Returns the index of the specified row key, or {@code -1} if there 
+     * is no matching key.
+     * 
+     * @param rowkey  the row key ({@code null} not permitted).
+     * 
+     * @return The row index or {@code -1}. 
+     */
+    @Override
+    public int getRowIndex(Comparable<?> rowkey) {
+        ArgChecks.nullNotPermitted(rowkey, "rowkey");
+        Integer index = this.rowIndexMap.get(rowkey);
+        return index != null ? index.intValue() : -1;
+    }
+
+    /**
+     * Returns the index of the specified column key, or {@code -1} if there
+     * is no matching key.
+     * 
+     * @param columnkey  the column key ({@code null} not permitted).
+     * 
+     * @return The column index or {@code -1}. 
+     */
+    @Override
+    public int getColumnIndex(Comparable<?> columnkey) {
+        ArgChecks.nullNotPermitted(columnkey, "columnkey");
+        Integer index = this.columnIndexMap.get(columnkey);
+        return index != null ? index.intValue() : -1;
+    }
+
+    /**
+     * Returns a list of the series keys for the dataset.  Modifying this
+     * list will have no impact on the underlying dataset.
+     * 
+     * @return A list of the series keys (possibly empty, but never 
+     *     {@code null}). 
+     */
+    @Override
+    public List<Comparable<?>> getSeriesKeys() {
+        return new ArrayList<Comparable<?>>(this.seriesKeys);
+    }
+
+    /**
+     * Returns a list of the row keys for the dataset.  Modifying this list
+     * will have no impact on the underlying dataset.
+     * 
+     * @return A list of the row keys (possibly empty, but never 
+     *     {@code null}). 
+     */
+    @Override
+    public List<Comparable<?>> getRowKeys() {
+        return new ArrayList<Comparable<?>>(this.rowKeys);
+    }
+
+    /**
+     * Returns a list of the column keys for the dataset.  Modifying this
+     * list will have no impact on the underlying dataset.
+     * 
+     * @return A list of the column keys (possibly empty, but never 
+     *     {@code null}). 
+     */
+    @Override
+    public List<Comparable<?>> getColumnKeys() {
+        return new ArrayList<Comparable<?>>(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a series at the specified cell (referenced by 
+     * row key and column key).
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     * 
+     * @return The value (possibly {@code null}). 
+     */
+    @Override
+    public Number getValue(Comparable<?> seriesKey, Comparable<?> rowKey, 
+            Comparable<?> columnKey) {
+        int seriesIndex = getSeriesIndex(seriesKey);
+        if (seriesIndex < 0) {
+            throw new IllegalArgumentException("Series '" + seriesKey 
+                    + "' is not found.");
+        }
+        int rowIndex = getRowIndex(rowKey);
+        if (rowIndex < 0) {
+            throw new IllegalArgumentException("Row key '" + rowKey 
+                    + "' is not found.");
+        }
+        int columnIndex = getColumnIndex(columnKey);
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Column key '" + columnKey 
+                    + "' is not found.");
+        }
+        return getValue(seriesIndex, rowIndex, columnIndex);
+    }
+
+    /**
+     * Returns the value for a series at the specified cell (referenced by
+     * row index and column index).
+     * 
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @return The value (possibly {@code null}). 
+     */
+    @Override
+    public Number getValue(int seriesIndex, int rowIndex, int columnIndex) {
+        long bits = getBits(seriesIndex, rowIndex, columnIndex);
+        if (bits == NULL_BITS) {
+            return null;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Returns the value for a series at the specified cell (referenced by 
+     * row index and column index) as a double primitive.  If the stored data
+     * value is {@code null}, this method returns {@code Double.NaN}.
+     * 
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @return The value (possibly {@code Double.NaN}). 
+     */
+    @Override
+    public double getDoubleValue(int seriesIndex, int rowIndex, 
+            int columnIndex) {
+        long bits = getBits(seriesIndex, rowIndex, columnIndex);
+        if (bits == NULL_BITS) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+    
+    /**
+     * Returns the stored bits for a value.
+     * 
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @return The bits. 
+     */
+    private long getBits(int seriesIndex, int rowIndex, int columnIndex) {
+        ArgChecks.checkArrayBounds(rowIndex, "rowIndex", this.rowKeys.size());
+        ArgChecks.checkArrayBounds(columnIndex, "columnIndex", 
+                this.columnKeys.size());
+        return this.values[seriesIndex].get(
+                rowIndex * this.columnKeys.size() + columnIndex);
+    }
+    
+    /**
+     * Writes the data from a dataset to a file in the format that is read 
+     * by this class.
+     * 
+     * @param data  the data ({@code null} not permitted).
+     * @param file  the file ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void write(KeyedValues3D<? extends Number> data, File file) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(data, "data");
+        ArgChecks.nullNotPermitted(file, "file");
+        byte[][] seriesKeys = encodeKeys(data.getSeriesKeys());
+        byte[][] rowKeys = encodeKeys(data.getRowKeys());
+        byte[][] columnKeys = encodeKeys(data.getColumnKeys());
+        int headerLength = PREAMBLE_LENGTH + 12 + keysLength(seriesKeys) 
+                + keysLength(rowKeys) + keysLength(columnKeys);
+        headerLength = (headerLength + 7) & ~7;
+        ByteBuffer header = ByteBuffer.allocate(headerLength).order(
+                ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(TYPE_CATEGORY)
+                .putInt(headerLength);
+        header.putInt(seriesKeys.length).putInt(rowKeys.length)
+                .putInt(columnKeys.length);
+        putKeys(header, seriesKeys);
+        putKeys(header, rowKeys);
+        putKeys(header, columnKeys);
+        header.rewind();
+        
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            FileChannel channel = out.getChannel();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(8 * 8192).order(
+                    ByteOrder.LITTLE_ENDIAN);
+            for (int s = 0; s < seriesKeys.length; s++) {
+                for (int r = 0; r < rowKeys.length; r++) {
+                    for (int c = 0; c < columnKeys.length; c++) {
+                        if (!buffer.hasRemaining()) {
+                            flush(buffer, channel);
+                        }
+                        Number n = data.getValue(s, r, c);
+                        buffer.putLong(n != null ? Double.doubleToLongBits(
+                                n.doubleValue()) : NULL_BITS);
+                    }
+                }
+            }
+            flush(buffer, channel);
+        } finally {
+            out.close();
+        }
+    }
+    
+    /**
+     * Returns the UTF-8 encoded {@code toString()} values of the keys.
+     * 
+     * @param keys  the keys.
+     * 
+     * @return The encoded keys. 
+     */
+    private static byte[][] encodeKeys(List<Comparable<?>> keys) {
+        byte[][] result = new byte[keys.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = keys.get(i).toString().getBytes(UTF8);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the number of bytes required to store the encoded keys.
+     * 
+     * @param keys  the encoded keys.
+     * 
+     * @return The number of bytes. 
+     */
+    private static int keysLength(byte[][] keys) {
+        int result = 0;
+        for (byte[] key : keys) {
+            result += 4 + key.length;
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the encoded keys to the header.
+     * 
+     * @param header  the header.
+     * @param keys  the encoded keys.
+     */
+    private static void putKeys(ByteBuffer header, byte[][] keys) {
+        for (byte[] key : keys) {
+            header.putInt(key.length).put(key);
+        }
+    }
+    
+    /**
+     * Writes the contents of the buffer to the channel and clears the 
+     * buffer.
+     * 
+     * @param buffer  the buffer.
+     * @param channel  the channel.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel) 
+            throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    /**
+     * Tests this instance for equality with an arbitrary object.  Two 
+     * datasets are considered equal if they have the same keys and the 
+     * same values.
+     * 
+     * @param obj  the object to test against ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedCategoryDataset3D)) {
+            return false;
+        }
+        MappedCategoryDataset3D that = (MappedCategoryDataset3D) obj;
+        if (!this.seriesKeys.equals(that.seriesKeys)
+                || !this.rowKeys.equals(that.rowKeys)
+                || !this.columnKeys.equals(that.columnKeys)) {
+            return false;
+        }
+        for (int s = 0; s < this.values.length; s++) {
+            if (!this.values[s].equals(that.values[s])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 37 * hash + ObjectUtils.hashCode(this.seriesKeys);
+        hash = 37 * hash + ObjectUtils.hashCode(this.rowKeys);
+        hash = 37 * hash + ObjectUtils.hashCode(this.columnKeys);
+        return hash;
+    }
+    
+    /**
+     * Returns a string representation of this instance, primarily for 
+     * debugging purposes.
+     * <br><br>
+     * Implementation note: the current implementation (which is subject to 
+     * change) writes the dataset in JSON format using 
+     * {@link JSONUtils#writeKeyedValues3D(com.orsoncharts.data.KeyedValues3D)}.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        return JSONUtils.writeKeyedValues3D(this);
+    }
+    
+    /**
+     * Provides serialization support (the file is mapped again).
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        map();
+    }
+
+}
@@ -32,13 +32,16 @@
 
 package com.orsoncharts.data.category;
 
+import java.util.Arrays;
 import java.util.List;
 import java.io.Serializable;
 
 import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.Dataset3DChangeEvent;
 import com.orsoncharts.data.DefaultKeyedValues3D;
 import com.orsoncharts.data.JSONUtils;
 import com.orsoncharts.data.KeyedValues;
+import com.orsoncharts.data.KeyedValues3DItemKey;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -241,16 +244,90 @@ public final class StandardCategoryDataset3D extends AbstractDataset3D
     
     /**
      * Sets the value for a series at the specified cell (referenced by row
-     * key and column key).
+     * key and column key) and sends a change event to all registered 
+     * listeners.  If the series, row and column keys all exist already, the
+     * event identifies the item that changed (see 
+     * {@link Dataset3DChangeEvent#getItemKey()}) so that listeners can 
+     * update only the affected parts of a chart.
      * 
      * @param n  the value ({@code null} permitted).
      * @param seriesKey  the series key ({@code null} not permitted).
      * @param rowKey  the row key ({@code null} not permitted).
      * @param columnKey  the column key ({@code null} not permitted).
      */
+    @SuppressWarnings("unchecked")
     public void setValue(Number n, Comparable<?> seriesKey, 
             Comparable<?> rowKey, Comparable<?> columnKey) {
+        int seriesCount = this.data.getSeriesCount();
+        int rowCount = this.data.getRowCount();
+        int columnCount = this.data.getColumnCount();
         this.data.setValue(n, seriesKey, rowKey, columnKey);
+        if (seriesCount == this.data.getSeriesCount() 
+                && rowCount == this.data.getRowCount() 
+                && columnCount == this.data.getColumnCount()) {
+            notifyListeners(new Dataset3DChangeEvent(this, this, 
+                    new KeyedValues3DItemKey(seriesKey, rowKey, columnKey)));
+        } else {
+            fireDatasetChanged();
+        }
+    }
+    
+    /**
+     * Replaces all the data in the dataset with the supplied values and 
+     * sends a single change event to all registered listeners.  This is 
+     * much faster than populating a large dataset one value at a time.  The
+     * values array is indexed as {@code values[series][row][column]} and
+     * must have the same dimensions as the key arrays;  
+     * {@code Double.NaN} entries are stored as {@code null}.
+     * 
+     * @param seriesKeys  the series keys ({@code null} not permitted, and no
+     *     duplicates).
+     * @param rowKeys  the row keys ({@code null} not permitted, and no
+     *     duplicates).
+     * @param columnKeys  the column keys ({@code null} not permitted, and no
+     *     duplicates).
+     * @param values  the data values ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public void setValues(Comparable<?>[] seriesKeys, Comparable<?>[] rowKeys,
+            Comparable<?>[] columnKeys, double[][][] values) {
+        ArgChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        ArgChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ArgChecks.nullNotPermitted(columnKeys, "columnKeys");
+        ArgChecks.nullNotPermitted(values, "values");
+        if (values.length != seriesKeys.length) {
+            throw new IllegalArgumentException(
+                    "The values array must have one entry per series key.");
+        }
+        for (double[][] seriesValues : values) {
+            if (seriesValues.length != rowKeys.length) {
+                throw new IllegalArgumentException(
+                        "Each series must have one entry per row key.");
+            }
+            for (double[] rowValues : seriesValues) {
+                if (rowValues.length != columnKeys.length) {
+                    throw new IllegalArgumentException(
+                            "Each row must have one entry per column key.");
+                }
+            }
+        }
+        DefaultKeyedValues3D<Number> d = new DefaultKeyedValues3D<Number>(
+                Arrays.<Comparable<?>>asList(seriesKeys), 
+                Arrays.<Comparable<?>>asList(rowKeys), 
+                Arrays.<Comparable<?>>asList(columnKeys));
+        for (int s = 0; s < seriesKeys.length; s++) {
+            for (int r = 0; r < rowKeys.length; r++) {
+                double[] rowValues = values[s][r];
+                for (int c = 0; c < columnKeys.length; c++) {
+                    double v = rowValues[c];
+                    if (!Double.isNaN(v)) {
+                        d.setValueAt(Double.valueOf(v), s, r, c);
+                    }
+                }
+            }
+        }
+        this.data = d;
         fireDatasetChanged();
     }
     
@@ -0,0 +1,90 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.data.DataUtils;
+
+/**
+ * An {@link XYZDataset} that maintains a summary of the minimum and maximum
+ * x, y and z-values for each series, so that the bounds of the data can be
+ * found without iterating over every data item.  The range finding methods
+ * in {@link DataUtils} (and therefore the axis auto-range calculations) 
+ * check for this interface and use the summaries when they are available.
+ * <br><br>
+ * The ranges returned by implementations must match the results of 
+ * iterating over the items in the series:  {@code Double.NaN} values are 
+ * always ignored, and infinite values are ignored if {@code finite} is 
+ * {@code true}.
+ * 
+ * @since 1.6
+ */
+public interface BoundedXYZDataset extends XYZDataset {
+    
+    /**
+     * Returns the range of x-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    Range getSeriesXRange(int series, boolean finite);
+
+    /**
+     * Returns the range of y-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    Range getSeriesYRange(int series, boolean finite);
+
+    /**
+     * Returns the range of z-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    Range getSeriesZRange(int series, boolean finite);
+    
+}
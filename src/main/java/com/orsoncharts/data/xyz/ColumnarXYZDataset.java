@@ -0,0 +1,630 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.xyz.XYZRenderer;
+import com.orsoncharts.util.ObjectUtils;
+
+/**
+ * An {@link XYZDataset} that stores the x, y and z-values for each series
+ * in primitive arrays (one array per coordinate) rather than as one object 
+ * per data item.  This is intended for large datasets (for example 
+ * scatter plots with millions of points) that would otherwise carry 
+ * significant memory and access overhead in an {@link XYZSeriesCollection}.
+ * Values can be stored in single precision ({@code float}) to halve the 
+ * memory requirement further, for data that does not need the extra 
+ * precision.  The dataset can be used as a source of data for an 
+ * {@link XYZRenderer} on an {@link XYZPlot}.
+ * <br><br>
+ * Each method that modifies the dataset sends a change event to registered 
+ * listeners.  When adding data one item at a time, consider using the 
+ * bulk {@code addAll()} methods instead, or calling 
+ * {@code setNotify(false)} before the updates and {@code setNotify(true)}
+ * afterwards, to avoid updating the chart after every item.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class. 
+ * 
+ * @since 1.6
+ */
+@SuppressWarnings("serial")
+public class ColumnarXYZDataset extends AbstractDataset3D 
+        implements BoundedXYZDataset, Serializable {
+
+    /** The initial capacity of the arrays for a new series. */
+    private static final int INITIAL_CAPACITY = 16;
+    
+    /** A flag indicating whether values are stored as floats. */
+    private final boolean floatPrecision;
+    
+    /** The series keys. */
+    private final List<Comparable<?>> seriesKeys;
+    
+    /** The data for each series (in the same order as the keys). */
+    private final List<SeriesData> seriesData;
+    
+    /**
+     * Creates a new empty dataset that stores values in double precision.
+     */
+    public ColumnarXYZDataset() {
+        this(false);
+    }
+    
+    /**
+     * Creates a new empty dataset.
+     * 
+     * @param floatPrecision  if {@code true}, values are stored as 
+     *     {@code float} values rather than {@code double} values.
+     */
+    public ColumnarXYZDataset(boolean floatPrecision) {
+        this.floatPrecision = floatPrecision;
+        this.seriesKeys = new ArrayList<Comparable<?>>();
+        this.seriesData = new ArrayList<SeriesData>();
+    }
+    
+    /**
+     * Returns {@code true} if the values in this dataset are stored in 
+     * single precision, and {@code false} if they are stored in double 
+     * precision.
+     * 
+     * @return A boolean. 
+     */
+    public boolean isFloatPrecision() {
+        return this.floatPrecision;
+    }
+    
+    /**
+     * Returns the number of series in the dataset.
+     * 
+     * @return The number of series in the dataset. 
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns a new list containing all the series keys.  Modifying this list 
+     * will have no impact on the dataset.
+     * 
+     * @return A list containing the series keys (possibly empty, but never 
+     *     {@code null}).
+     */
+    @Override
+    public List<Comparable<?>> getSeriesKeys() {
+        return new ArrayList<Comparable<?>>(this.seriesKeys);
+    }
+
+    /**
+     * Returns the key for the specified series.
+     * 
+     * @param index  the series index.
+     * 
+     * @return The series key.
+     */
+    @Override
+    public Comparable<?> getSeriesKey(int index) {
+        ArgChecks.checkArrayBounds(index, "index", this.seriesKeys.size());
+        return this.seriesKeys.get(index);
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or 
+     * {@code -1} if there is no series with the specified key.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * 
+     * @return The series index or {@code -1}. 
+     */
+    @Override
+    public int getSeriesIndex(Comparable<?> key) {
+        ArgChecks.nullNotPermitted(key, "key");
+        return this.seriesKeys.indexOf(key);
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     * 
+     * @param series  the series index.
+     * 
+     * @return The number of items in the specified series. 
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.seriesData.get(series).count;
+    }
+
+    /**
+     * Returns the x-value for one item in a series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return The x-value. 
+     */
+    @Override
+    public double getX(int series, int item) {
+        SeriesData data = this.seriesData.get(series);
+        data.checkIndex(item);
+        return this.floatPrecision ? data.fx[item] : data.dx[item];
+    }
+
+    /**
+     * Returns the y-value for one item in a series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return The y-value. 
+     */
+    @Override
+    public double getY(int series, int item) {
+        SeriesData data = this.seriesData.get(series);
+        data.checkIndex(item);
+        return this.floatPrecision ? data.fy[item] : data.dy[item];
+    }
+
+    /**
+     * Returns the z-value for one item in a series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return The z-value. 
+     */
+    @Override
+    public double getZ(int series, int item) {
+        SeriesData data = this.seriesData.get(series);
+        data.checkIndex(item);
+        return this.floatPrecision ? data.fz[item] : data.dz[item];
+    }
+
+    /**
+     * Returns the range of x-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    @Override
+    public Range getSeriesXRange(int series, boolean finite) {
+        return this.seriesData.get(series).bounds().getRange(
+                SeriesBounds.X, finite);
+    }
+
+    /**
+     * Returns the range of y-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    @Override
+    public Range getSeriesYRange(int series, boolean finite) {
+        return this.seriesData.get(series).bounds().getRange(
+                SeriesBounds.Y, finite);
+    }
+
+    /**
+     * Returns the range of z-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    @Override
+    public Range getSeriesZRange(int series, boolean finite) {
+        return this.seriesData.get(series).bounds().getRange(
+                SeriesBounds.Z, finite);
+    }
+    
+    /**
+     * Adds an empty series to the dataset and sends a change event to 
+     * registered listeners.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted, and the
+     *     key must be unique within the dataset).
+     * 
+     * @return The index of the new series.
+     */
+    public int addSeries(Comparable<?> seriesKey) {
+        int index = createSeries(seriesKey);
+        fireDatasetChanged();
+        return index;
+    }
+    
+    /**
+     * Adds a series if there is no series with the specified key.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * 
+     * @return The series index. 
+     */
+    private int createSeries(Comparable<?> seriesKey) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        if (this.seriesKeys.contains(seriesKey)) {
+            throw new IllegalArgumentException(
+                    "Another series with the same key already exists "
+                    + "within the dataset.");
+        }
+        this.seriesKeys.add(seriesKey);
+        this.seriesData.add(new SeriesData(this.floatPrecision));
+        return this.seriesKeys.size() - 1;
+    }
+    
+    /**
+     * Returns the data for the specified series, creating a new series if 
+     * there is no series with the specified key.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * 
+     * @return The series data. 
+     */
+    private SeriesData findOrCreateSeries(Comparable<?> seriesKey) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        int index = this.seriesKeys.indexOf(seriesKey);
+        if (index < 0) {
+            index = createSeries(seriesKey);
+        }
+        return this.seriesData.get(index);
+    }
+    
+    /**
+     * Adds a data item to a series (creating the series if necessary) and
+     * sends a change event to registered listeners.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    public void add(Comparable<?> seriesKey, double x, double y, double z) {
+        SeriesData data = findOrCreateSeries(seriesKey);
+        data.ensureCapacity(data.count + 1);
+        data.set(data.count, x, y, z);
+        data.count++;
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Adds data items to a series (creating the series if necessary) and
+     * sends a single change event to registered listeners.  The items are
+     * taken from the same index in each of the three arrays.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param xValues  the x-values ({@code null} not permitted).
+     * @param yValues  the y-values ({@code null} not permitted).
+     * @param zValues  the z-values ({@code null} not permitted).
+     */
+    public void addAll(Comparable<?> seriesKey, double[] xValues, 
+            double[] yValues, double[] zValues) {
+        ArgChecks.nullNotPermitted(xValues, "xValues");
+        addAll(seriesKey, xValues, yValues, zValues, 0, xValues.length);
+    }
+    
+    /**
+     * Adds {@code length} data items to a series (creating the series if 
+     * necessary), starting at index {@code offset} in each of the three 
+     * arrays, and sends a single change event to registered listeners.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param xValues  the x-values ({@code null} not permitted).
+     * @param yValues  the y-values ({@code null} not permitted).
+     * @param zValues  the z-values ({@code null} not permitted).
+     * @param offset  the index of the first item in the arrays.
+     * @param length  the number of items to add.
+     */
+    public void addAll(Comparable<?> seriesKey, double[] xValues, 
+            double[] yValues, double[] zValues, int offset, int length) {
+        ArgChecks.nullNotPermitted(xValues, "xValues");
+        ArgChecks.nullNotPermitted(yValues, "yValues");
+        ArgChecks.nullNotPermitted(zValues, "zValues");
+        if (offset < 0 || length < 0 || offset + length > xValues.length 
+                || offset + length > yValues.length 
+                || offset + length > zValues.length) {
+            throw new IllegalArgumentException(
+                    "The arrays do not contain the requested items.");
+        }
+        SeriesData data = findOrCreateSeries(seriesKey);
+        data.ensureCapacity(data.count + length);
+        if (this.floatPrecision) {
+            for (int i = 0; i < length; i++) {
+                data.set(data.count + i, xValues[offset + i], 
+                        yValues[offset + i], zValues[offset + i]);
+            }
+        } else {
+            System.arraycopy(xValues, offset, data.dx, data.count, length);
+            System.arraycopy(yValues, offset, data.dy, data.count, length);
+            System.arraycopy(zValues, offset, data.dz, data.count, length);
+            if (data.bounds != null) {
+                for (int i = 0; i < length; i++) {
+                    data.bounds.include(xValues[offset + i], 
+                            yValues[offset + i], zValues[offset + i]);
+                }
+            }
+        }
+        data.count += length;
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Removes all the series from the dataset and sends a change event to 
+     * registered listeners.
+     */
+    public void clear() {
+        this.seriesKeys.clear();
+        this.seriesData.clear();
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two 
+     * datasets are considered equal if they have the same series keys and
+     * the same x, y and z-values (the storage precision is not considered).
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ColumnarXYZDataset)) {
+            return false;
+        }
+        ColumnarXYZDataset that = (ColumnarXYZDataset) obj;
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        for (int s = 0; s < getSeriesCount(); s++) {
+            int count = getItemCount(s);
+            if (count != that.getItemCount(s)) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (Double.doubleToLongBits(getX(s, i)) 
+                        != Double.doubleToLongBits(that.getX(s, i))
+                        || Double.doubleToLongBits(getY(s, i)) 
+                        != Double.doubleToLongBits(that.getY(s, i))
+                        || Double.doubleToLongBits(getZ(s, i)) 
+                        != Double.doubleToLongBits(that.getZ(s, i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 3;
+        hash = 59 * hash + ObjectUtils.hashCode(this.seriesKeys);
+        return hash;
+    }
+    
+    /**
+     * Returns a string representation of this instance, primarily for 
+     * debugging purposes.
+     * <br><br>
+     * Implementation note: the current implementation (which is subject to 
+     * change) writes the dataset in JSON format using 
+     * {@link JSONUtils#writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)}.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        return JSONUtils.writeXYZDataset(this);
+    }
+    
+    /**
+     * Provides serialization support (the arrays are trimmed to size first
+     * so that unused capacity is not written).
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        for (SeriesData data : this.seriesData) {
+            data.trimToSize();
+        }
+        stream.defaultWriteObject();
+    }
+    
+    /**
+     * The storage for the values in one series.  Only the arrays for the
+     * storage precision of the dataset are allocated.
+     */
+    private static final class SeriesData implements Serializable {
+        
+        /** The x, y and z-values in double precision (or {@code null}). */
+        double[] dx, dy, dz;
+        
+        /** The x, y and z-values in single precision (or {@code null}). */
+        float[] fx, fy, fz;
+        
+        /** The number of items in the series. */
+        int count;
+        
+        /** 
+         * A summary of the bounds of the data (created when first 
+         * required). 
+         */
+        transient SeriesBounds bounds;
+        
+        SeriesData(boolean floatPrecision) {
+            if (floatPrecision) {
+                this.fx = new float[INITIAL_CAPACITY];
+                this.fy = new float[INITIAL_CAPACITY];
+                this.fz = new float[INITIAL_CAPACITY];
+            } else {
+                this.dx = new double[INITIAL_CAPACITY];
+                this.dy = new double[INITIAL_CAPACITY];
+                this.dz = new double[INITIAL_CAPACITY];
+            }
+        }
+        
+        /**
+         * Throws an exception if the item index is not valid (the arrays
+         * may be larger than the item count).
+         * 
+         * @param item  the item index.
+         */
+        void checkIndex(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Item index " + item 
+                        + " out of bounds (item count " + this.count + ").");
+            }
+        }
+        
+        /**
+         * Grows the arrays (at least doubling their size) if they cannot 
+         * hold {@code capacity} items.
+         * 
+         * @param capacity  the required capacity.
+         */
+        void ensureCapacity(int capacity) {
+            int current = this.dx != null ? this.dx.length : this.fx.length;
+            if (capacity <= current) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, current * 2);
+            resize(newCapacity);
+        }
+        
+        /**
+         * Shrinks the arrays to the item count.
+         */
+        void trimToSize() {
+            resize(this.count);
+        }
+        
+        private void resize(int capacity) {
+            if (this.dx != null) {
+                this.dx = Arrays.copyOf(this.dx, capacity);
+                this.dy = Arrays.copyOf(this.dy, capacity);
+                this.dz = Arrays.copyOf(this.dz, capacity);
+            } else {
+                this.fx = Arrays.copyOf(this.fx, capacity);
+                this.fy = Arrays.copyOf(this.fy, capacity);
+                this.fz = Arrays.copyOf(this.fz, capacity);
+            }
+        }
+        
+        /**
+         * Sets the values for an item (the arrays must be large enough).
+         * 
+         * @param item  the item index.
+         * @param x  the x-value.
+         * @param y  the y-value.
+         * @param z  the z-value.
+         */
+        void set(int item, double x, double y, double z) {
+            if (this.dx != null) {
+                this.dx[item] = x;
+                this.dy[item] = y;
+                this.dz[item] = z;
+            } else {
+                this.fx[item] = (float) x;
+                this.fy[item] = (float) y;
+                this.fz[item] = (float) z;
+            }
+            if (this.bounds != null) {
+                include(this.bounds, item);
+            }
+        }
+        
+        /**
+         * Returns the summary of the bounds of the data, creating it if 
+         * necessary.
+         * 
+         * @return The bounds summary (never {@code null}). 
+         */
+        SeriesBounds bounds() {
+            if (this.bounds == null) {
+                SeriesBounds b = new SeriesBounds();
+                for (int i = 0; i < this.count; i++) {
+                    include(b, i);
+                }
+                this.bounds = b;
+            }
+            return this.bounds;
+        }
+        
+        /**
+         * Includes one (stored) item in a bounds summary.
+         * 
+         * @param b  the bounds summary.
+         * @param item  the item index.
+         */
+        private void include(SeriesBounds b, int item) {
+            if (this.dx != null) {
+                b.include(this.dx[item], this.dy[item], this.dz[item]);
+            } else {
+                b.include(this.fx[item], this.fy[item], this.fz[item]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,569 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.data.xyz;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ObjectUtils;
+
+/**
+ * A read-only {@link XYZDataset} that is backed by a file in a compact 
+ * binary format, which is memory-mapped rather than read into the Java 
+ * heap.  Opening a dataset reads only the header of the file (the series 
+ * keys, item counts and the bounds of each series), so it takes about the 
+ * same time regardless of the number of data items, and the values are 
+ * loaded by the operating system as they are accessed.  Files in this 
+ * format are created with the {@link #write(XYZDataset, File)} method.
+ * <br><br>
+ * The file starts with a header (all numbers are little-endian):
+ * <ul>
+ * <li>the four bytes {@code "OCDF"}, followed by the format version (int), 
+ * the dataset type (int, {@code 1} for an XYZ dataset) and the length of 
+ * the header in bytes (int, a multiple of 8);</li>
+ * <li>the number of series (int) and then, for each series, the series key
+ * (the length in bytes (int) followed by the UTF-8 encoded characters of the
+ * key string), the number of items (int) and twelve doubles for the 
+ * x, y and z-bounds (for each dimension, the lower and upper bounds of the 
+ * finite values then the lower and upper bounds of all values, with 
+ * {@code NaN} for bounds that are undefined).</li>
+ * </ul>
+ * The header is followed by the data, which is the x-values, the y-values 
+ * and the z-values (as doubles) for the first series, then for the second
+ * series, and so on.
+ * <br><br>
+ * Series keys are stored as strings, so the keys in a dataset that is read 
+ * from a file are the {@code toString()} values of the original keys.
+ * Each column of values is mapped separately, which allows files that are
+ * larger than 2GB, but limits the number of items in each series to 
+ * {@code Integer.MAX_VALUE / 8}.
+ * <br><br>
+ * NOTE: This class is serializable, but only the file reference is written;
+ * the file is mapped again when the dataset is deserialized.
+ * 
+ * @since 1.6
+ */
+@SuppressWarnings("serial")
+public final class MappedXYZDataset extends AbstractDataset3D 
+        implements BoundedXYZDataset, Serializable {
+
+    /** The first four bytes of the file ("OCDF" read as little-endian). */
+    private static final int MAGIC = 0x4644434F;
+    
+    /** The format version. */
+    private static final int VERSION = 1;
+    
+    /** The dataset type code for an XYZ dataset. */
+    private static final int TYPE_XYZ = 1;
+    
+    /** The length of the fixed part of the header. */
+    private static final int PREAMBLE_LENGTH = 16;
+    
+    /** The number of doubles for the bounds of each series. */
+    private static final int BOUNDS_LENGTH = 12;
+    
+    /** The character set for the series keys. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    
+    /** The file. */
+    private final File file;
+    
+    /** The series keys. */
+    private transient List<Comparable<?>> seriesKeys;
+    
+    /** The x-values for each series. */
+    private transient DoubleBuffer[] xValues;
+    
+    /** The y-values for each series. */
+    private transient DoubleBuffer[] yValues;
+    
+    /** The z-values for each series. */
+    private transient DoubleBuffer[] zValues;
+    
+    /** 
+     * The bounds for each series, indexed by series, dimension and then
+     * (finite values first) the {@code finite} flag. 
+     */
+    private transient Range[] bounds;
+    
+    /**
+     * Opens a dataset that reads the data from the specified file.
+     * 
+     * @param file  the file ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem, or the file is not in
+     *     the expected format.
+     */
+    public MappedXYZDataset(File file) throws IOException {
+        ArgChecks.nullNotPermitted(file, "file");
+        this.file = file;
+        map();
+    }
+    
+    /**
+     * Returns the file that the data is read from.
+     * 
+     * @return The file (never {@code null}). 
+     */
+    public File getFile() {
+        return this.file;
+    }
+    
+    /**
+     * Reads the header from the file and maps the data for each series.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private void map() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long size = channel.size();
+            if (size < PREAMBLE_LENGTH) {
+                throw new IOException("The file is not an XYZ dataset file.");
+            }
+            ByteBuffer preamble = channel.map(FileChannel.MapMode.READ_ONLY, 
+                    0, PREAMBLE_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            if (preamble.getInt() != MAGIC || preamble.getInt() != VERSION
+                    || preamble.getInt() != TYPE_XYZ) {
+                throw new IOException("The file is not an XYZ dataset file.");
+            }
+            int headerLength = preamble.getInt();
+            if (headerLength < PREAMBLE_LENGTH || headerLength > size) {
+                throw new IOException("The file header is not valid.");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 
+                    0, headerLength).order(ByteOrder.LITTLE_ENDIAN);
+            header.position(PREAMBLE_LENGTH);
+            int seriesCount = header.getInt();
+            List<Comparable<?>> keys = new ArrayList<Comparable<?>>(
+                    seriesCount);
+            DoubleBuffer[] x = new DoubleBuffer[seriesCount];
+            DoubleBuffer[] y = new DoubleBuffer[seriesCount];
+            DoubleBuffer[] z = new DoubleBuffer[seriesCount];
+            Range[] r = new Range[seriesCount * 6];
+            long offset = headerLength;
+            for (int s = 0; s < seriesCount; s++) {
+                byte[] keyBytes = new byte[header.getInt()];
+                header.get(keyBytes);
+                keys.add(new String(keyBytes, UTF8));
+                int count = header.getInt();
+                for (int i = 0; i < 6; i++) {
+                    r[s * 6 + i] = readRange(header);
+                }
+                long length = count * 8L;
+                if (length > Integer.MAX_VALUE 
+                        || offset + 3 * length > size) {
+                    throw new IOException("The data for series " 
+                            + keys.get(s) + " is not valid.");
+                }
+                x[s] = mapColumn(channel, offset, length);
+                y[s] = mapColumn(channel, offset + length, length);
+                z[s] = mapColumn(channel, offset + 2 * length, length);
+                offset += 3 * length;
+            }
+            this.seriesKeys = keys;
+            this.xValues = x;
+            this.yValues = y;
+            this.zValues = z;
+            this.bounds = r;
+        } finally {
+            raf.close();
+        }
+    }
+    
+    /**
+     * Maps a column of values from the file.
+     * 
+     * @param channel  the file channel.
+     * @param offset  the position of the column in the file.
+     * @param length  the length of the column in bytes.
+     * 
+     * @return The values.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private static DoubleBuffer mapColumn(FileChannel channel, long offset, 
+            long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+    
+    /**
+     * Reads a range (two doubles) from the header.
+     * 
+     * @param header  the header.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    private static Range readRange(ByteBuffer header) {
+        double lower = header.getDouble();
+        double upper = header.getDouble();
+        if (Double.isNaN(lower) || Double.isNaN(upper)) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+    
+    /**
+     * Returns the number of series in the dataset.
+     * 
+     * @return The number of series in the dataset.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns a new list containing all the series keys.  Modifying this list 
+     * will have no impact on the dataset.
+     * 
+     * @return A list containing the series keys (possibly empty, but never 
+     *     {@code null}).
+     */
+    @Override
+    public List<Comparable<?>> getSeriesKeys() {
+        return new ArrayList<Comparable<?>>(this.seriesKeys);
+    }
+
+    /**
+     * Returns the key for the specified series.
+     * 
+     * @param index  the series index.
+     * 
+     * @return The series key.
+     */
+    @Override
+    public Comparable<?> getSeriesKey(int index) {
+        ArgChecks.checkArrayBounds(index, "index", this.seriesKeys.size());
+        return this.seriesKeys.get(index);
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or 
+     * {@code -1} if there is no series with the specified key.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * 
+     * @return The series index or {@code -1}. 
+     */
+    @Override
+    public int getSeriesIndex(Comparable<?> key) {
+        ArgChecks.nullNotPermitted(key, "key");
+        return this.seriesKeys.indexOf(key);
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     * 
+     * @param series  the series index.
+     * 
+     * @return The number of items in the specified series. 
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.xValues[series].capacity();
+    }
+
+    /**
+     * Returns the x-value for an item in a series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return The x-value. 
+     */
+    @Override
+    public double getX(int series, int item) {
+        return this.xValues[series].get(item);
+    }
+
+    /**
+     * Returns the y-value for an item in a series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return The y-value. 
+     */
+    @Override
+    public double getY(int series, int item) {
+        return this.yValues[series].get(item);
+    }
+
+    /**
+     * Returns the z-value for an item in a series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * 
+     * @return The z-value. 
+     */
+    @Override
+    public double getZ(int series, int item) {
+        return this.zValues[series].get(item);
+    }
+
+    /**
+     * Returns the range of x-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.  The range is read from the file header.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    @Override
+    public Range getSeriesXRange(int series, boolean finite) {
+        return this.bounds[series * 6 + (finite ? 0 : 1)];
+    }
+
+    /**
+     * Returns the range of y-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.  The range is read from the file header.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    @Override
+    public Range getSeriesYRange(int series, boolean finite) {
+        return this.bounds[series * 6 + 2 + (finite ? 0 : 1)];
+    }
+
+    /**
+     * Returns the range of z-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.  The range is read from the file header.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    @Override
+    public Range getSeriesZRange(int series, boolean finite) {
+        return this.bounds[series * 6 + 4 + (finite ? 0 : 1)];
+    }
+    
+    /**
+     * Writes the data from a dataset to a file in the format that is read 
+     * by this class.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param file  the file ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void write(XYZDataset dataset, File file) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(dataset, "dataset");
+        ArgChecks.nullNotPermitted(file, "file");
+        int seriesCount = dataset.getSeriesCount();
+        byte[][] keys = new byte[seriesCount][];
+        int headerLength = PREAMBLE_LENGTH + 4;
+        for (int s = 0; s < seriesCount; s++) {
+            keys[s] = dataset.getSeriesKey(s).toString().getBytes(UTF8);
+            headerLength += 4 + keys[s].length + 4 + BOUNDS_LENGTH * 8;
+        }
+        headerLength = (headerLength + 7) & ~7;
+        ByteBuffer header = ByteBuffer.allocate(headerLength).order(
+                ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(TYPE_XYZ)
+                .putInt(headerLength);
+        header.putInt(seriesCount);
+        for (int s = 0; s < seriesCount; s++) {
+            header.putInt(keys[s].length).put(keys[s]);
+            int count = dataset.getItemCount(s);
+            header.putInt(count);
+            SeriesBounds sb = new SeriesBounds();
+            for (int i = 0; i < count; i++) {
+                sb.include(dataset.getX(s, i), dataset.getY(s, i), 
+                        dataset.getZ(s, i));
+            }
+            for (int d = SeriesBounds.X; d <= SeriesBounds.Z; d++) {
+                putRange(header, sb.getRange(d, true));
+                putRange(header, sb.getRange(d, false));
+            }
+        }
+        header.rewind();
+        
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            FileChannel channel = out.getChannel();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(8 * 8192).order(
+                    ByteOrder.LITTLE_ENDIAN);
+            for (int s = 0; s < seriesCount; s++) {
+                int count = dataset.getItemCount(s);
+                for (int d = SeriesBounds.X; d <= SeriesBounds.Z; d++) {
+                    for (int i = 0; i < count; i++) {
+                        if (!buffer.hasRemaining()) {
+                            flush(buffer, channel);
+                        }
+                        double v = d == SeriesBounds.X ? dataset.getX(s, i) 
+                                : d == SeriesBounds.Y ? dataset.getY(s, i) 
+                                : dataset.getZ(s, i);
+                        buffer.putDouble(v);
+                    }
+                }
+            }
+            flush(buffer, channel);
+        } finally {
+            out.close();
+        }
+    }
+    
+    /**
+     * Writes a range (two doubles, {@code NaN} for a {@code null} range) to
+     * the header.
+     * 
+     * @param header  the header.
+     * @param range  the range ({@code null} permitted).
+     */
+    private static void putRange(ByteBuffer header, Range range) {
+        if (range != null) {
+            header.putDouble(range.getMin()).putDouble(range.getMax());
+        } else {
+            header.putDouble(Double.NaN).putDouble(Double.NaN);
+        }
+    }
+    
+    /**
+     * Writes the contents of the buffer to the channel and clears the 
+     * buffer.
+     * 
+     * @param buffer  the buffer.
+     * @param channel  the channel.
+     * 
+     * @throws IOException if there is an I/O problem. 
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel) 
+            throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two 
+     * datasets are considered equal if they have the same series keys and
+     * the same x, y and z-values.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYZDataset)) {
+            return false;
+        }
+        MappedXYZDataset that = (MappedXYZDataset) obj;
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        for (int s = 0; s < getSeriesCount(); s++) {
+            if (!this.xValues[s].equals(that.xValues[s]) 
+                    || !this.yValues[s].equals(that.yValues[s])
+                    || !this.zValues[s].equals(that.zValues[s])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 59 * hash + ObjectUtils.hashCode(this.seriesKeys);
+        return hash;
+    }
+    
+    /**
+     * Returns a string representation of this instance, primarily for 
+     * debugging purposes.
+     * <br><br>
+     * Implementation note: the current implementation (which is subject to 
+     * change) writes the dataset in JSON format using 
+     * {@link JSONUtils#writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)}.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        return JSONUtils.writeXYZDataset(this);
+    }
+    
+    /**
+     * Provides serialization support (the file is mapped again).
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        map();
+    }
+
+}
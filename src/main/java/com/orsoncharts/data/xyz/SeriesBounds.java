@@ -0,0 +1,175 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import com.orsoncharts.Range;
+
+/**
+ * A summary of the minimum and maximum x, y and z-values in a data series.
+ * The summary is updated as items are added to the series, but cannot 
+ * be updated when items are removed: unless {@link #isBoundary} shows 
+ * that the removed item has no effect on the summary, series classes 
+ * discard the summary and recreate it (from all the items) when it is next 
+ * required.
+ */
+final class SeriesBounds {
+    
+    /** The dimension index for x-values. */
+    static final int X = 0;
+    
+    /** The dimension index for y-values. */
+    static final int Y = 1;
+    
+    /** The dimension index for z-values. */
+    static final int Z = 2;
+    
+    /** The minimum finite value in each dimension. */
+    private final double[] min;
+    
+    /** The maximum finite value in each dimension. */
+    private final double[] max;
+    
+    /** Flags recording negative infinite values in each dimension. */
+    private final boolean[] negativeInfinity;
+    
+    /** Flags recording positive infinite values in each dimension. */
+    private final boolean[] positiveInfinity;
+    
+    /**
+     * Creates a new summary for an empty series.
+     */
+    SeriesBounds() {
+        this.min = new double[] {Double.POSITIVE_INFINITY, 
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+        this.max = new double[] {Double.NEGATIVE_INFINITY, 
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        this.negativeInfinity = new boolean[3];
+        this.positiveInfinity = new boolean[3];
+    }
+    
+    /**
+     * Updates the summary to include a data item.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    void include(double x, double y, double z) {
+        include(X, x);
+        include(Y, y);
+        include(Z, z);
+    }
+    
+    /**
+     * Updates the summary to include one value.
+     * 
+     * @param dimension  the dimension ({@link #X}, {@link #Y} or 
+     *     {@link #Z}).
+     * @param value  the value ({@code Double.NaN} is ignored).
+     */
+    private void include(int dimension, double value) {
+        if (value == Double.NEGATIVE_INFINITY) {
+            this.negativeInfinity[dimension] = true;
+        } else if (value == Double.POSITIVE_INFINITY) {
+            this.positiveInfinity[dimension] = true;
+        } else if (!Double.isNaN(value)) {
+            if (value < this.min[dimension]) {
+                this.min[dimension] = value;
+            }
+            if (value > this.max[dimension]) {
+                this.max[dimension] = value;
+            }
+        }
+    }
+    
+    /**
+     * Returns {@code true} if removing an item with the specified values 
+     * might change the summary (because one of the values is equal to the 
+     * current minimum or maximum in its dimension, or is infinite), and 
+     * {@code false} if the summary remains correct without the item.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     * 
+     * @return A boolean.
+     */
+    boolean isBoundary(double x, double y, double z) {
+        return isBoundary(X, x) || isBoundary(Y, y) || isBoundary(Z, z);
+    }
+    
+    /**
+     * Returns {@code true} if removing the specified value might change the 
+     * summary for one dimension.
+     * 
+     * @param dimension  the dimension ({@link #X}, {@link #Y} or 
+     *     {@link #Z}).
+     * @param value  the value ({@code Double.NaN} never affects the summary).
+     * 
+     * @return A boolean.
+     */
+    private boolean isBoundary(int dimension, double value) {
+        return value == this.min[dimension] || value == this.max[dimension] 
+                || Double.isInfinite(value);
+    }
+    
+    /**
+     * Returns the range of values in one dimension, or {@code null} if there 
+     * are no values eligible for inclusion in the range.
+     * 
+     * @param dimension  the dimension ({@link #X}, {@link #Y} or 
+     *     {@link #Z}).
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    Range getRange(int dimension, boolean finite) {
+        double lower = this.min[dimension];
+        double upper = this.max[dimension];
+        if (!finite) {
+            if (this.negativeInfinity[dimension]) {
+                lower = Double.NEGATIVE_INFINITY;
+                upper = Math.max(upper, lower);
+            }
+            if (this.positiveInfinity[dimension]) {
+                upper = Double.POSITIVE_INFINITY;
+                lower = Math.min(lower, upper);
+            }
+        }
+        if (lower <= upper) {
+            return new Range(lower, upper);
+        }
+        return null;
+    }
+    
+}
@@ -0,0 +1,533 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import java.awt.EventQueue;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ObjectUtils;
+
+/**
+ * An {@link XYZDataset} for live data, where each series holds up to a 
+ * fixed number of items (the capacity) and appending an item to a full 
+ * series discards the oldest item.  The items are stored in ring buffers, 
+ * so appending does not move any data.
+ * <br><br>
+ * Items can be appended from any thread.  They are held in a queue until
+ * the {@link #flush()} method is called, which adds all the queued items 
+ * to the dataset and sends a single {@link XYZAppendEvent} to the 
+ * registered listeners.  By default, the first item appended after a flush 
+ * schedules a call to {@code flush()} on the AWT event dispatch thread, so
+ * that items arriving at a high rate are added to the dataset (and the 
+ * chart is updated) in batches, and the dataset is only modified on the 
+ * thread that draws the chart.  If you switch this off (see 
+ * {@link #setAutoFlush(boolean)}), you must call {@code flush()} yourself 
+ * on the thread that uses the dataset.  All the other methods in this class 
+ * should only be called from the thread that uses the dataset.
+ * <br><br>
+ * When the renderer composes items individually and the axis ranges are 
+ * not changed by the new data (for example, because the ranges have been 
+ * set explicitly), an {@link XYZPlot} will update the chart by adding the
+ * 3D objects for the new items and discarding the objects for the old 
+ * items, rather than composing the whole chart again.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class.  Items that have not been flushed are not 
+ * serialized.
+ * 
+ * @since 1.6
+ */
+@SuppressWarnings("serial")
+public class StreamingXYZDataset extends AbstractDataset3D 
+        implements BoundedXYZDataset, Serializable {
+    
+    /** The maximum number of items in each series. */
+    private final int capacity;
+    
+    /** The series keys. */
+    private final List<Comparable<?>> seriesKeys;
+    
+    /** The data for each series (in the same order as the keys). */
+    private final List<RingBuffer> seriesData;
+    
+    /** A flag that controls whether flushes are scheduled automatically. */
+    private volatile boolean autoFlush;
+    
+    /** 
+     * The series keys for the items that have been appended but not yet 
+     * flushed (guarded by this). 
+     */
+    private transient List<Comparable<?>> pendingKeys;
+    
+    /** 
+     * The x, y and z-values for the items that have been appended but not
+     * yet flushed (guarded by this). 
+     */
+    private transient double[] pendingValues;
+    
+    /** A flag recording whether a flush has been scheduled. */
+    private transient boolean flushScheduled;
+    
+    /**
+     * Creates a new empty dataset.
+     * 
+     * @param capacity  the maximum number of items in each series (must be
+     *     greater than zero).
+     */
+    public StreamingXYZDataset(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires capacity > 0.");
+        }
+        this.capacity = capacity;
+        this.seriesKeys = new ArrayList<Comparable<?>>();
+        this.seriesData = new ArrayList<RingBuffer>();
+        this.autoFlush = true;
+    }
+    
+    /**
+     * Returns the maximum number of items in each series.
+     * 
+     * @return The capacity. 
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+    
+    /**
+     * Returns the flag that controls whether or not appending an item 
+     * schedules a call to {@link #flush()} on the AWT event dispatch thread.
+     * The default value is {@code true}.
+     * 
+     * @return A boolean. 
+     */
+    public boolean isAutoFlush() {
+        return this.autoFlush;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not appending an item 
+     * schedules a call to {@link #flush()} on the AWT event dispatch thread.
+     * 
+     * @param autoFlush  the new flag value.
+     */
+    public void setAutoFlush(boolean autoFlush) {
+        this.autoFlush = autoFlush;
+    }
+    
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    @Override
+    public List<Comparable<?>> getSeriesKeys() {
+        return new ArrayList<Comparable<?>>(this.seriesKeys);
+    }
+
+    @Override
+    public Comparable<?> getSeriesKey(int index) {
+        ArgChecks.checkArrayBounds(index, "index", this.seriesKeys.size());
+        return this.seriesKeys.get(index);
+    }
+
+    @Override
+    public int getSeriesIndex(Comparable<?> key) {
+        ArgChecks.nullNotPermitted(key, "key");
+        return this.seriesKeys.indexOf(key);
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return this.seriesData.get(series).count;
+    }
+
+    @Override
+    public double getX(int series, int item) {
+        RingBuffer data = this.seriesData.get(series);
+        return data.x[data.index(item)];
+    }
+
+    @Override
+    public double getY(int series, int item) {
+        RingBuffer data = this.seriesData.get(series);
+        return data.y[data.index(item)];
+    }
+
+    @Override
+    public double getZ(int series, int item) {
+        RingBuffer data = this.seriesData.get(series);
+        return data.z[data.index(item)];
+    }
+
+    @Override
+    public Range getSeriesXRange(int series, boolean finite) {
+        return this.seriesData.get(series).bounds().getRange(SeriesBounds.X, 
+                finite);
+    }
+
+    @Override
+    public Range getSeriesYRange(int series, boolean finite) {
+        return this.seriesData.get(series).bounds().getRange(SeriesBounds.Y, 
+                finite);
+    }
+
+    @Override
+    public Range getSeriesZRange(int series, boolean finite) {
+        return this.seriesData.get(series).bounds().getRange(SeriesBounds.Z, 
+                finite);
+    }
+    
+    /**
+     * Adds an empty series to the dataset and sends a change event to 
+     * registered listeners.  It is not necessary to add series before 
+     * appending items, a series is created automatically for each new 
+     * series key when the items are flushed.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted, and the
+     *     key must be unique within the dataset).
+     * 
+     * @return The index of the new series.
+     */
+    public int addSeries(Comparable<?> seriesKey) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        if (this.seriesKeys.contains(seriesKey)) {
+            throw new IllegalArgumentException(
+                    "Another series with the same key already exists "
+                    + "within the dataset.");
+        }
+        this.seriesKeys.add(seriesKey);
+        this.seriesData.add(new RingBuffer(this.capacity));
+        fireDatasetChanged();
+        return this.seriesKeys.size() - 1;
+    }
+    
+    /**
+     * Queues an item to be appended to a series when the dataset is next 
+     * flushed.  This method can be called from any thread.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    public void append(Comparable<?> seriesKey, double x, double y, 
+            double z) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        boolean schedule;
+        synchronized (this) {
+            if (this.pendingKeys == null) {
+                this.pendingKeys = new ArrayList<Comparable<?>>();
+                this.pendingValues = new double[48];
+            }
+            int n = this.pendingKeys.size();
+            if (this.pendingValues.length < (n + 1) * 3) {
+                this.pendingValues = Arrays.copyOf(this.pendingValues, 
+                        this.pendingValues.length * 2);
+            }
+            this.pendingKeys.add(seriesKey);
+            this.pendingValues[n * 3] = x;
+            this.pendingValues[n * 3 + 1] = y;
+            this.pendingValues[n * 3 + 2] = z;
+            schedule = this.autoFlush && !this.flushScheduled;
+            if (schedule) {
+                this.flushScheduled = true;
+            }
+        }
+        if (schedule) {
+            EventQueue.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            });
+        }
+    }
+    
+    /**
+     * Adds all the queued items to the dataset and, if there were any, 
+     * sends a single change event to registered listeners.  The event is an
+     * {@link XYZAppendEvent} unless new series were created.
+     */
+    public void flush() {
+        List<Comparable<?>> keys;
+        double[] values;
+        synchronized (this) {
+            this.flushScheduled = false;
+            keys = this.pendingKeys;
+            values = this.pendingValues;
+            this.pendingKeys = null;
+            this.pendingValues = null;
+        }
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        boolean newSeries = false;
+        int[] appended = new int[this.seriesKeys.size()];
+        int[] evicted = new int[this.seriesKeys.size()];
+        int lastIndex = -1;
+        Comparable<?> lastKey = null;
+        for (int i = 0; i < keys.size(); i++) {
+            Comparable<?> key = keys.get(i);
+            int index = lastIndex;
+            if (!key.equals(lastKey)) {
+                index = this.seriesKeys.indexOf(key);
+                if (index < 0) {
+                    this.seriesKeys.add(key);
+                    this.seriesData.add(new RingBuffer(this.capacity));
+                    index = this.seriesKeys.size() - 1;
+                    appended = Arrays.copyOf(appended, index + 1);
+                    evicted = Arrays.copyOf(evicted, index + 1);
+                    newSeries = true;
+                }
+                lastKey = key;
+                lastIndex = index;
+            }
+            if (this.seriesData.get(index).append(values[i * 3], 
+                    values[i * 3 + 1], values[i * 3 + 2])) {
+                evicted[index]++;
+            }
+            appended[index]++;
+        }
+        if (newSeries) {
+            fireDatasetChanged();
+        } else {
+            notifyListeners(new XYZAppendEvent(this, this, this.seriesKeys, 
+                    appended, evicted));
+        }
+    }
+    
+    /**
+     * Removes all the items from the dataset (including items that have 
+     * not yet been flushed), keeping the series, and sends a change event 
+     * to registered listeners.
+     */
+    public void clear() {
+        synchronized (this) {
+            this.pendingKeys = null;
+            this.pendingValues = null;
+        }
+        for (RingBuffer data : this.seriesData) {
+            data.clear();
+        }
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two 
+     * datasets are considered equal if they have the same capacity, series 
+     * keys and (flushed) items.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingXYZDataset)) {
+            return false;
+        }
+        StreamingXYZDataset that = (StreamingXYZDataset) obj;
+        if (this.capacity != that.capacity) {
+            return false;
+        }
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        for (int s = 0; s < getSeriesCount(); s++) {
+            int count = getItemCount(s);
+            if (count != that.getItemCount(s)) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (Double.doubleToLongBits(getX(s, i)) 
+                        != Double.doubleToLongBits(that.getX(s, i))
+                        || Double.doubleToLongBits(getY(s, i)) 
+                        != Double.doubleToLongBits(that.getY(s, i))
+                        || Double.doubleToLongBits(getZ(s, i)) 
+                        != Double.doubleToLongBits(that.getZ(s, i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 67 * hash + this.capacity;
+        hash = 67 * hash + ObjectUtils.hashCode(this.seriesKeys);
+        return hash;
+    }
+    
+    /**
+     * Returns a string representation of this instance, primarily for 
+     * debugging purposes.
+     * <br><br>
+     * Implementation note: the current implementation (which is subject to 
+     * change) writes the dataset in JSON format using 
+     * {@link JSONUtils#writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)}.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        return JSONUtils.writeXYZDataset(this);
+    }
+    
+    /**
+     * A fixed capacity store for the items in one series.  The oldest item 
+     * is at index {@code start} and the items wrap around the end of the 
+     * arrays.
+     */
+    private static final class RingBuffer implements Serializable {
+        
+        /** The x-values. */
+        final double[] x;
+        
+        /** The y-values. */
+        final double[] y;
+        
+        /** The z-values. */
+        final double[] z;
+        
+        /** The array index of the oldest item. */
+        int start;
+        
+        /** The number of items. */
+        int count;
+        
+        /** 
+         * A summary of the bounds of the data (created when first required,
+         * and discarded when an evicted item lies on the bounds). 
+         */
+        transient SeriesBounds bounds;
+        
+        RingBuffer(int capacity) {
+            this.x = new double[capacity];
+            this.y = new double[capacity];
+            this.z = new double[capacity];
+        }
+        
+        /**
+         * Returns the array index for an item.
+         * 
+         * @param item  the item index.
+         * 
+         * @return The array index. 
+         */
+        int index(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Item index " + item 
+                        + " out of bounds (item count " + this.count + ").");
+            }
+            int i = this.start + item;
+            return i < this.x.length ? i : i - this.x.length;
+        }
+        
+        /**
+         * Appends an item, discarding the oldest item if the buffer is full.
+         * 
+         * @param xx  the x-value.
+         * @param yy  the y-value.
+         * @param zz  the z-value.
+         * 
+         * @return A boolean indicating whether an item was discarded. 
+         */
+        boolean append(double xx, double yy, double zz) {
+            int capacity = this.x.length;
+            int i = this.start + this.count;
+            if (i >= capacity) {
+                i -= capacity;
+            }
+            boolean evict = this.count == capacity;
+            // when the buffer is full, i is the index of the oldest item
+            if (evict && this.bounds != null && this.bounds.isBoundary(
+                    this.x[i], this.y[i], this.z[i])) {
+                this.bounds = null;
+            }
+            this.x[i] = xx;
+            this.y[i] = yy;
+            this.z[i] = zz;
+            if (evict) {
+                this.start = this.start + 1 < capacity ? this.start + 1 : 0;
+            } else {
+                this.count++;
+            }
+            if (this.bounds != null) {
+                this.bounds.include(xx, yy, zz);
+            }
+            return evict;
+        }
+        
+        /**
+         * Removes all the items.
+         */
+        void clear() {
+            this.start = 0;
+            this.count = 0;
+            this.bounds = null;
+        }
+        
+        /**
+         * Returns the summary of the bounds of the data, creating it if 
+         * necessary.
+         * 
+         * @return The bounds summary (never {@code null}). 
+         */
+        SeriesBounds bounds() {
+            if (this.bounds == null) {
+                SeriesBounds b = new SeriesBounds();
+                for (int item = 0; item < this.count; item++) {
+                    int i = index(item);
+                    b.include(this.x[i], this.y[i], this.z[i]);
+                }
+                this.bounds = b;
+            }
+            return this.bounds;
+        }
+    }
+    
+}
@@ -0,0 +1,136 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.orsoncharts.data.Dataset3DChangeEvent;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A dataset change event indicating that items have been appended to one 
+ * or more series in an {@link XYZDataset}, possibly with the oldest items
+ * in those series being discarded to make room (as in a 
+ * {@link StreamingXYZDataset}).  The series themselves are unchanged, and
+ * the items that were not discarded keep their values and order (but
+ * their item indices are reduced by the number of items discarded).  This
+ * allows listeners to update charts incrementally.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class. 
+ * 
+ * @since 1.6
+ */
+@SuppressWarnings("serial")
+public class XYZAppendEvent extends Dataset3DChangeEvent {
+    
+    /** The keys for the series that changed. */
+    private final List<Comparable<?>> seriesKeys;
+    
+    /** The number of items appended to each series. */
+    private final int[] appendedCounts;
+    
+    /** The number of items removed from the start of each series. */
+    private final int[] evictedCounts;
+    
+    /**
+     * Creates a new event.  The three lists/arrays should have the same 
+     * length.
+     * 
+     * @param source  the event source.
+     * @param dataset  the dataset.
+     * @param seriesKeys  the keys for the series that changed 
+     *     ({@code null} not permitted).
+     * @param appendedCounts  the number of items appended to each series
+     *     ({@code null} not permitted).
+     * @param evictedCounts  the number of items removed from the start of 
+     *     each series, including any appended items that were removed
+     *     ({@code null} not permitted).
+     */
+    public XYZAppendEvent(Object source, XYZDataset dataset, 
+            List<Comparable<?>> seriesKeys, int[] appendedCounts, 
+            int[] evictedCounts) {
+        super(source, dataset);
+        ArgChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        ArgChecks.nullNotPermitted(appendedCounts, "appendedCounts");
+        ArgChecks.nullNotPermitted(evictedCounts, "evictedCounts");
+        if (appendedCounts.length != seriesKeys.size() 
+                || evictedCounts.length != seriesKeys.size()) {
+            throw new IllegalArgumentException(
+                    "Require one count per series key.");
+        }
+        this.seriesKeys = new ArrayList<Comparable<?>>(seriesKeys);
+        this.appendedCounts = appendedCounts.clone();
+        this.evictedCounts = evictedCounts.clone();
+    }
+    
+    /**
+     * Returns the keys for the series that changed.
+     * 
+     * @return The series keys (never {@code null}). 
+     */
+    public List<Comparable<?>> getSeriesKeys() {
+        return new ArrayList<Comparable<?>>(this.seriesKeys);
+    }
+    
+    /**
+     * Returns the number of items appended to the specified series.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * 
+     * @return The item count (zero for series that did not change). 
+     */
+    public int getAppendedCount(Comparable<?> seriesKey) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        int index = this.seriesKeys.indexOf(seriesKey);
+        return index >= 0 ? this.appendedCounts[index] : 0;
+    }
+    
+    /**
+     * Returns the number of items removed from the start of the specified 
+     * series (this includes any appended items that were removed again 
+     * because more items were appended than the series can hold).
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * 
+     * @return The item count (zero for series that did not change). 
+     */
+    public int getEvictedCount(Comparable<?> seriesKey) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        int index = this.seriesKeys.indexOf(seriesKey);
+        return index >= 0 ? this.evictedCounts[index] : 0;
+    }
+    
+}
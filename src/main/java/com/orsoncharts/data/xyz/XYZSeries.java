@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.io.Serializable;
 
+import com.orsoncharts.Range;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.util.ObjectUtils;
 
@@ -56,6 +57,12 @@ public class XYZSeries implements Serializable {
 
     /** The data items in the series. */
     private final List<XYZDataItem> items;
+    
+    /** 
+     * A summary of the bounds of the data items (created when first 
+     * required, and discarded when items are removed). 
+     */
+    private transient SeriesBounds bounds;
 
     /**
      * Creates a new series with the specified key.
@@ -138,6 +145,86 @@ public class XYZSeries implements Serializable {
     public void add(XYZDataItem item) {
         ArgChecks.nullNotPermitted(item, "item");
         this.items.add(item);
+        if (this.bounds != null) {
+            this.bounds.include(item.getX(), item.getY(), item.getZ());
+        }
+    }
+    
+    /**
+     * Removes the data item with the specified index.
+     * 
+     * @param itemIndex  the item index.
+     * 
+     * @since 1.6
+     */
+    public void remove(int itemIndex) {
+        this.items.remove(itemIndex);
+        this.bounds = null;
+    }
+    
+    /**
+     * Returns the range of x-values in the series, or {@code null} if 
+     * there are no values eligible for inclusion in the range.  
+     * {@code Double.NaN} values are ignored, and infinite values are also
+     * ignored if {@code finite} is {@code true}.  The series maintains a
+     * summary of its bounds, so this method does not iterate over the data 
+     * items unless items have been removed since the last call.
+     * 
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public Range getXRange(boolean finite) {
+        return bounds().getRange(SeriesBounds.X, finite);
+    }
+    
+    /**
+     * Returns the range of y-values in the series, or {@code null} if 
+     * there are no values eligible for inclusion in the range (see 
+     * {@link #getXRange(boolean)} for details). 
+     * 
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public Range getYRange(boolean finite) {
+        return bounds().getRange(SeriesBounds.Y, finite);
+    }
+    
+    /**
+     * Returns the range of z-values in the series, or {@code null} if 
+     * there are no values eligible for inclusion in the range (see 
+     * {@link #getXRange(boolean)} for details). 
+     * 
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public Range getZRange(boolean finite) {
+        return bounds().getRange(SeriesBounds.Z, finite);
+    }
+    
+    /**
+     * Returns the summary of the bounds of the data items, creating it 
+     * if necessary.
+     * 
+     * @return The bounds summary (never {@code null}). 
+     */
+    private SeriesBounds bounds() {
+        if (this.bounds == null) {
+            SeriesBounds b = new SeriesBounds();
+            for (XYZDataItem item : this.items) {
+                b.include(item.getX(), item.getY(), item.getZ());
+            }
+            this.bounds = b;
+        }
+        return this.bounds;
     }
 
     /**
@@ -36,6 +36,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.orsoncharts.Range;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.data.AbstractDataset3D;
 import com.orsoncharts.data.JSONUtils;
@@ -54,7 +55,7 @@ import com.orsoncharts.util.ObjectUtils;
  */
 @SuppressWarnings("serial")
 public class XYZSeriesCollection extends AbstractDataset3D 
-        implements XYZDataset, Serializable {
+        implements BoundedXYZDataset, Serializable {
 
     /** Storage for the data series. */
     private final List<XYZSeries> series;
@@ -223,6 +224,57 @@ public class XYZSeriesCollection extends AbstractDataset3D
         return s.getZValue(itemIndex);
     }
 
+    /**
+     * Returns the range of x-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    @Override
+    public Range getSeriesXRange(int series, boolean finite) {
+        return this.series.get(series).getXRange(finite);
+    }
+
+    /**
+     * Returns the range of y-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    @Override
+    public Range getSeriesYRange(int series, boolean finite) {
+        return this.series.get(series).getYRange(finite);
+    }
+
+    /**
+     * Returns the range of z-values in the specified series, or 
+     * {@code null} if there are no values eligible for inclusion in the 
+     * range.
+     * 
+     * @param series  the series index.
+     * @param finite  a flag indicating whether to exclude infinite values.
+     * 
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    @Override
+    public Range getSeriesZRange(int series, boolean finite) {
+        return this.series.get(series).getZRange(finite);
+    }
+
     /**
      * Tests this dataset for equality with an arbitrary object.
      * 
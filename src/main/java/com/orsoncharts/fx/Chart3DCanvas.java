@@ -37,11 +37,14 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.Dimension2D;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Tooltip;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
+import javafx.util.Duration;
 import com.orsoncharts.Chart3D;
 import com.orsoncharts.Chart3DChangeEvent;
 import com.orsoncharts.Chart3DChangeListener;
@@ -122,6 +125,18 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
     /** Is rotation by mouse-dragging enabled? */
     private boolean rotateViewEnabled = true;
     
+    /** 
+     * The maximum number of times per second that the canvas is redrawn in
+     * response to chart change events (zero means no limit). 
+     */
+    private double maxFrameRate = 60.0;
+    
+    /** The time (from {@code System.nanoTime()}) of the last draw. */
+    private long lastDrawNanos;
+    
+    /** A flag that is set while a redraw is scheduled but not yet done. */
+    private volatile boolean drawScheduled;
+    
     /**
      * Creates a new canvas to display the supplied chart in JavaFX.
      * 
@@ -194,6 +209,37 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
         this.margin = margin;
     }
     
+    /**
+     * Returns the maximum number of times per second that the canvas will be
+     * redrawn in response to chart change events.  The default value is 
+     * {@code 60.0}, a value of {@code 0.0} means that there is no limit.
+     * 
+     * @return The maximum frame rate.
+     * 
+     * @since 1.6
+     */
+    public double getMaxFrameRate() {
+        return this.maxFrameRate;
+    }
+    
+    /**
+     * Sets the maximum number of times per second that the canvas will be 
+     * redrawn in response to chart change events.  All change events that
+     * are received within one frame interval result in a single redraw of 
+     * the chart.
+     * 
+     * @param rate  the maximum frame rate ({@code 0.0} for no limit, 
+     *     negative values not permitted).
+     * 
+     * @since 1.6
+     */
+    public void setMaxFrameRate(double rate) {
+        if (rate < 0.0) {
+            throw new IllegalArgumentException("Requires 'rate' >= 0.");
+        }
+        this.maxFrameRate = rate;
+    }
+    
     /**
      * Returns the rendering info from the most recent drawing of the chart.
      * 
@@ -358,6 +404,7 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
      * information.
      */
     public void draw() {
+        this.lastDrawNanos = System.nanoTime();
         GraphicsContext ctx = getGraphicsContext2D();
         ctx.save();
         double width = getWidth();
@@ -445,9 +492,42 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
         draw();
     }
 
+    /**
+     * Receives notification of a change to the chart and schedules a redraw 
+     * of the canvas.  Events that arrive before the scheduled redraw takes 
+     * place are coalesced into it, and redraws are spaced so that the 
+     * maximum frame rate is not exceeded.
+     * 
+     * @param event  the event.
+     */
     @Override
     public void chartChanged(Chart3DChangeEvent event) {
-        draw();
+        if (this.drawScheduled) {
+            return;  // the pending draw will include this change
+        }
+        this.drawScheduled = true;
+        long delayNanos = 0L;
+        if (this.maxFrameRate > 0.0) {
+            long interval = (long) (1000000000L / this.maxFrameRate);
+            delayNanos = this.lastDrawNanos + interval - System.nanoTime();
+        }
+        if (delayNanos <= 0L) {
+            Platform.runLater(() -> {
+                this.drawScheduled = false;
+                draw();
+            });
+        } else {
+            final double delayMillis = delayNanos / 1000000.0;
+            Platform.runLater(() -> {
+                PauseTransition pause = new PauseTransition(
+                        Duration.millis(delayMillis));
+                pause.setOnFinished(e -> {
+                    this.drawScheduled = false;
+                    draw();
+                });
+                pause.play();
+            });
+        }
     }
 }
 
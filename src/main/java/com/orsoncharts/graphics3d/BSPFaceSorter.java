@@ -0,0 +1,856 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A face sorter that orders the faces using a binary space partitioning 
+ * (BSP) tree.  The tree is built the first time the faces of a scene are
+ * sorted, splitting faces that cross the plane of another face, and is 
+ * then reused for every view of the same scene:  each subsequent sort is a
+ * single traversal of the tree that only needs to test which side of each 
+ * plane the viewer is on.  Unlike the average z-value used by the 
+ * {@link StandardFaceSorter} and the {@link RadixFaceSorter}, the order is
+ * correct for large faces that span a wide range of depths (for example,
+ * the faces created by the line and area renderers).
+ * <br><br>
+ * Parts of faces are returned as {@link SplitFace} fragments.  Only plain 
+ * faces ({@link Face}, {@link TaggedFace} and {@link DoubleSidedFace}) are 
+ * split; other faces (for example {@link LabelFace}) carry extra drawing
+ * state and are painted whole, before or after the faces in the tree when
+ * they lie entirely behind or in front of them, and otherwise at the 
+ * position of their centre.  Points and lines are never split.
+ * <br><br>
+ * The tree holds all the faces of the objects that own the sorted faces, 
+ * so faces that are culled for one view can be painted for another without
+ * rebuilding the tree.  The tree is rebuilt when faces belonging to other 
+ * objects are sorted.  Since an instance keeps the trees for the scenes 
+ * that it has sorted most recently, each chart should have its own 
+ * instance.  For smooth surfaces made from many small faces, the average
+ * z-value order is usually good enough and the {@link RadixFaceSorter} is 
+ * faster, since many faces need to be split.
+ * 
+ * @since 1.6
+ */
+public class BSPFaceSorter implements FaceSorter, Serializable {
+
+    /** The number of candidate faces considered for each splitting plane. */
+    private static final int SPLITTER_CANDIDATES = 5;
+    
+    /** The maximum number of faces used to score a candidate. */
+    private static final int SPLITTER_SAMPLE = 256;
+    
+    /** The tolerance (relative to the size of the scene) for planes. */
+    private static final double PLANE_TOLERANCE = 1.0E-6;
+    
+    /** The sorter for faces that do not lie in a plane. */
+    private final RadixFaceSorter zSorter;
+    
+    /** The tree for the current scene ({@code null} until the first sort). */
+    private transient Tree tree;
+    
+    /** 
+     * The tree for the previous scene, kept so that switching between two
+     * scenes (for example the draft and full worlds while a chart is being
+     * rotated with the mouse) does not rebuild the trees every time.
+     */
+    private transient Tree previousTree;
+    
+    /** The number of the current sort, used to mark the faces to paint. */
+    private transient int stamp;
+    
+    /**
+     * Creates a new instance.
+     */
+    public BSPFaceSorter() {
+        this.zSorter = new RadixFaceSorter();
+    }
+    
+    /**
+     * Returns the faces in the order that they should be painted.  Faces 
+     * that have been split are replaced by {@link SplitFace} fragments.
+     * 
+     * @param faces  the faces before sorting ({@code null} not permitted).
+     * @param eyePts  the points in 3D space relative to the viewing position.
+     * 
+     * @return A new list of faces in painting order. 
+     */
+    @Override
+    public List<Face> sort(List<Face> faces, Point3D[] eyePts) {
+        if (faces.isEmpty()) {
+            return faces;
+        }
+        this.stamp++;
+        if (this.tree == null || !markFaces(this.tree, faces)) {
+            Tree t = this.previousTree;
+            if (t == null || !markFaces(t, faces)) {
+                t = build(faces, eyePts);
+                markFaces(t, faces);
+            }
+            this.previousTree = this.tree;
+            this.tree = t;
+        }
+        List<Face> before = new ArrayList<Face>();
+        List<Face> after = new ArrayList<Face>();
+        double[] plane = new double[4];
+        for (Face f : faces) {
+            if (isPlain(f)) {
+                continue;
+            }
+            int side = computePlane(f, eyePts, plane) 
+                    ? sideOfTree(plane, eyePts) : 0;
+            if (side > 0) {
+                before.add(f);
+            } else if (side < 0) {
+                after.add(f);
+            } else {
+                addToBucket(f, eyePts);
+            }
+        }
+        List<Face> result = new ArrayList<Face>(faces.size() + 16);
+        result.addAll(this.zSorter.sort(before, eyePts));
+        traverse(eyePts, result);
+        result.addAll(this.zSorter.sort(after, eyePts));
+        return result;
+    }
+    
+    /**
+     * Returns {@code true} if the face can be split and added to the tree.
+     * 
+     * @param f  the face.
+     * 
+     * @return A boolean. 
+     */
+    private static boolean isPlain(Face f) {
+        Class<?> c = f.getClass();
+        return c == Face.class || c == TaggedFace.class 
+                || c == DoubleSidedFace.class;
+    }
+
+    /**
+     * Marks the plain faces in the list as faces to paint.  Returns 
+     * {@code false} if any of them is not in the tree.
+     * 
+     * @param t  the tree.
+     * @param faces  the faces.
+     * 
+     * @return A boolean. 
+     */
+    private boolean markFaces(Tree t, List<Face> faces) {
+        for (Face f : faces) {
+            if (isPlain(f)) {
+                Entry e = t.entries.get(f);
+                if (e == null) {
+                    return false;
+                }
+                e.stamp = this.stamp;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Returns 1 if the faces in the tree all lie on the same side of the 
+     * plane as the viewer, -1 if they all lie on the other side and 0 
+     * otherwise.
+     * 
+     * @param plane  the plane (a, b, c, d) in eye coordinates.
+     * @param eyePts  the eye coordinates.
+     * 
+     * @return The side. 
+     */
+    private int sideOfTree(double[] plane, Point3D[] eyePts) {
+        double tol = this.tree.tolerance;
+        double eyeSide = -plane[3];
+        if (Math.abs(eyeSide) <= tol) {
+            return 0;
+        }
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (Face f : this.tree.faces) {
+            for (int i = 0; i < f.getVertexCount(); i++) {
+                Point3D p = eyePts[f.getVertexIndex(i)];
+                double dist = plane[0] * p.x + plane[1] * p.y + plane[2] * p.z
+                        - plane[3];
+                min = Math.min(min, dist);
+                max = Math.max(max, dist);
+            }
+        }
+        if (eyeSide > 0) {
+            return min >= -tol ? 1 : (max <= tol ? -1 : 0);
+        } else {
+            return max <= tol ? 1 : (min >= -tol ? -1 : 0);
+        }
+    }
+    
+    /**
+     * Adds a face to the bucket in the tree that contains its centre, for 
+     * the current sort only.
+     * 
+     * @param f  the face.
+     * @param eyePts  the eye coordinates.
+     */
+    private void addToBucket(Face f, Point3D[] eyePts) {
+        double x = 0.0;
+        double y = 0.0;
+        double z = 0.0;
+        int n = f.getVertexCount();
+        for (int i = 0; i < n; i++) {
+            Point3D p = eyePts[f.getVertexIndex(i)];
+            x += p.x;
+            y += p.y;
+            z += p.z;
+        }
+        x /= n;
+        y /= n;
+        z /= n;
+        double[] plane = new double[4];
+        Node node = this.tree.root;
+        while (node.splitter != null) {
+            computePlane(node.splitter, eyePts, plane);
+            double dist = plane[0] * x + plane[1] * y + plane[2] * z 
+                    - plane[3];
+            node = dist >= 0.0 ? node.front : node.back;
+        }
+        if (node.extras == null) {
+            node.extras = new ArrayList<Face>();
+        }
+        node.extras.add(f);
+    }
+    
+    /**
+     * Traverses the tree from back to front for the current view, adding 
+     * the faces to paint to the result list.
+     * 
+     * @param eyePts  the eye coordinates.
+     * @param result  the result list.
+     */
+    private void traverse(Point3D[] eyePts, List<Face> result) {
+        double[] plane = new double[4];
+        List<Face> bucket = new ArrayList<Face>();
+        // the stack holds nodes to expand and the piece lists to paint
+        List<Object> stack = new ArrayList<Object>();
+        stack.add(this.tree.root);
+        while (!stack.isEmpty()) {
+            Object obj = stack.remove(stack.size() - 1);
+            if (obj instanceof Node) {
+                Node node = (Node) obj;
+                if (node.splitter == null) {
+                    addBucket(node, eyePts, bucket, result);
+                    continue;
+                }
+                computePlane(node.splitter, eyePts, plane);
+                // the viewer is at the origin, so only d is needed
+                boolean eyeInFront = plane[3] <= 0.0;
+                stack.add(eyeInFront ? node.front : node.back);
+                stack.add(node.pieces);
+                stack.add(eyeInFront ? node.back : node.front);
+            } else {
+                @SuppressWarnings("unchecked")
+                List<Piece> pieces = (List<Piece>) obj;
+                for (Piece piece : pieces) {
+                    if (piece.entry.stamp == this.stamp) {
+                        result.add(piece.createFace(eyePts));
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds the faces in a bucket to the result, in z-order.
+     * 
+     * @param node  the bucket node.
+     * @param eyePts  the eye coordinates.
+     * @param bucket  a working list.
+     * @param result  the result list.
+     */
+    private void addBucket(Node node, Point3D[] eyePts, List<Face> bucket, 
+            List<Face> result) {
+        bucket.clear();
+        if (node.pieces != null) {
+            for (Piece piece : node.pieces) {
+                if (piece.entry.stamp == this.stamp) {
+                    bucket.add(piece.source);
+                }
+            }
+        }
+        if (node.extras != null) {
+            bucket.addAll(node.extras);
+            node.extras = null;
+        }
+        result.addAll(this.zSorter.sort(bucket, eyePts));
+    }
+    
+    /**
+     * Builds the tree for the objects that own the plain faces in the list.
+     * 
+     * @param faces  the faces.
+     * @param eyePts  the eye coordinates.
+     * 
+     * @return The tree.
+     */
+    private static Tree build(List<Face> faces, Point3D[] eyePts) {
+        Map<Face, Face> included = new IdentityHashMap<Face, Face>();
+        Map<Object3D, Object3D> owners 
+                = new IdentityHashMap<Object3D, Object3D>();
+        List<Face> plain = new ArrayList<Face>(faces.size());
+        for (Face f : faces) {
+            if (isPlain(f) && included.put(f, f) == null) {
+                plain.add(f);
+            }
+        }
+        for (Face f : faces) {
+            if (isPlain(f) && owners.put(f.getOwner(), f.getOwner()) == null) {
+                for (Face ff : f.getOwner().getFaces()) {
+                    if (isPlain(ff) && included.put(ff, ff) == null) {
+                        plain.add(ff);
+                    }
+                }
+            }
+        }
+        double extent = 1.0;
+        for (Face f : plain) {
+            for (int i = 0; i < f.getVertexCount(); i++) {
+                Point3D p = eyePts[f.getVertexIndex(i)];
+                extent = Math.max(extent, Math.max(Math.abs(p.x), 
+                        Math.max(Math.abs(p.y), Math.abs(p.z))));
+            }
+        }
+        double tol = PLANE_TOLERANCE * extent;
+        Tree result = new Tree();
+        result.entries = new IdentityHashMap<Face, Entry>(plain.size() * 2);
+        result.faces = plain.toArray(new Face[plain.size()]);
+        result.tolerance = tol;
+        List<Piece> polygons = new ArrayList<Piece>(plain.size());
+        List<Piece> others = new ArrayList<Piece>();
+        for (Face f : plain) {
+            Entry entry = new Entry();
+            result.entries.put(f, entry);
+            Piece piece = new Piece(f, entry, eyePts);
+            double[] plane = new double[4];
+            if (computePlane(f, eyePts, plane) 
+                    && Math.sqrt(piece.area2) > tol * tol) {
+                piece.plane = plane;
+                polygons.add(piece);
+            } else {
+                others.add(piece);
+            }
+        }
+        result.root = buildTree(polygons, others, tol);
+        return result;
+    }
+    
+    /**
+     * Builds a tree for the specified pieces, using an explicit stack 
+     * rather than recursion.
+     * 
+     * @param polygons  the pieces that lie in a plane.
+     * @param others  the pieces that do not lie in a plane.
+     * @param tol  the tolerance for points that lie in a plane.
+     * 
+     * @return The root node. 
+     */
+    private static Node buildTree(List<Piece> polygons, List<Piece> others, 
+            double tol) {
+        Node root = new Node();
+        List<Node> nodes = new ArrayList<Node>();
+        List<List<Piece>> polygonLists = new ArrayList<List<Piece>>();
+        List<List<Piece>> otherLists = new ArrayList<List<Piece>>();
+        nodes.add(root);
+        polygonLists.add(polygons);
+        otherLists.add(others);
+        while (!nodes.isEmpty()) {
+            int last = nodes.size() - 1;
+            Node node = nodes.remove(last);
+            List<Piece> polys = polygonLists.remove(last);
+            List<Piece> rest = otherLists.remove(last);
+            if (polys.isEmpty()) {
+                for (Piece piece : rest) {
+                    piece.xyz = null;
+                }
+                node.pieces = rest;
+                continue;
+            }
+            Piece splitter = chooseSplitter(polys, tol);
+            double[] plane = splitter.plane;
+            node.splitter = splitter.source;
+            node.pieces = new ArrayList<Piece>();
+            List<Piece> frontPolys = new ArrayList<Piece>();
+            List<Piece> backPolys = new ArrayList<Piece>();
+            for (Piece piece : polys) {
+                piece.split(plane, tol, node.pieces, frontPolys, backPolys);
+            }
+            List<Piece> frontRest = new ArrayList<Piece>();
+            List<Piece> backRest = new ArrayList<Piece>();
+            for (Piece piece : rest) {
+                if (piece.centreDistance(plane) >= 0.0) {
+                    frontRest.add(piece);
+                } else {
+                    backRest.add(piece);
+                }
+            }
+            node.front = new Node();
+            node.back = new Node();
+            nodes.add(node.front);
+            polygonLists.add(frontPolys);
+            otherLists.add(frontRest);
+            nodes.add(node.back);
+            polygonLists.add(backPolys);
+            otherLists.add(backRest);
+        }
+        return root;
+    }
+    
+    /**
+     * Chooses the piece whose plane splits the fewest other pieces while 
+     * dividing them evenly.
+     * 
+     * @param polys  the pieces (not empty).
+     * @param tol  the tolerance for points that lie in a plane.
+     * 
+     * @return The splitting piece. 
+     */
+    private static Piece chooseSplitter(List<Piece> polys, double tol) {
+        int n = polys.size();
+        if (n <= 2) {
+            return polys.get(0);
+        }
+        int candidates = Math.min(SPLITTER_CANDIDATES, n);
+        int sampleStep = Math.max(1, n / SPLITTER_SAMPLE);
+        Piece best = null;
+        int bestScore = Integer.MAX_VALUE;
+        for (int c = 0; c < candidates; c++) {
+            Piece candidate = polys.get(c * n / candidates);
+            int front = 0;
+            int back = 0;
+            int splits = 0;
+            for (int i = 0; i < n; i += sampleStep) {
+                int side = polys.get(i).classify(candidate.plane, tol);
+                if (side == Piece.SPANNING) {
+                    splits++;
+                } else if (side > 0) {
+                    front++;
+                } else if (side < 0) {
+                    back++;
+                }
+            }
+            int score = splits * 8 + Math.abs(front - back);
+            if (score < bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Calculates the plane of a face in the form {@code ax + by + cz = d} 
+     * where {@code (a, b, c)} is the unit normal calculated using Newell's 
+     * method and the plane passes through the centre of the vertices.  The
+     * same calculation is used when building and traversing the tree, so 
+     * that faces that are not quite flat are handled consistently.
+     * 
+     * @param f  the face.
+     * @param pts  the points.
+     * @param result  an array to hold the result (a, b, c, d).
+     * 
+     * @return {@code false} if the face does not define a plane.
+     */
+    private static boolean computePlane(Face f, Point3D[] pts, 
+            double[] result) {
+        int n = f.getVertexCount();
+        if (n < 3) {
+            return false;
+        }
+        double a = 0.0;
+        double b = 0.0;
+        double c = 0.0;
+        double cx = 0.0;
+        double cy = 0.0;
+        double cz = 0.0;
+        Point3D prev = pts[f.getVertexIndex(n - 1)];
+        for (int i = 0; i < n; i++) {
+            Point3D p = pts[f.getVertexIndex(i)];
+            a += (prev.y - p.y) * (prev.z + p.z);
+            b += (prev.z - p.z) * (prev.x + p.x);
+            c += (prev.x - p.x) * (prev.y + p.y);
+            cx += p.x;
+            cy += p.y;
+            cz += p.z;
+            prev = p;
+        }
+        double len = Math.sqrt(a * a + b * b + c * c);
+        if (len == 0.0) {
+            return false;
+        }
+        a /= len;
+        b /= len;
+        c /= len;
+        result[0] = a;
+        result[1] = b;
+        result[2] = c;
+        result[3] = (a * cx + b * cy + c * cz) / n;
+        return true;
+    }
+
+    /** A node in the tree (a bucket node has no splitter). */
+    private static final class Node {
+        
+        /** The face that defines the splitting plane. */
+        Face splitter;
+        
+        /** The pieces in the splitting plane, or in the bucket. */
+        List<Piece> pieces;
+        
+        /** The subtree in front of the plane. */
+        Node front;
+        
+        /** The subtree behind the plane. */
+        Node back;
+        
+        /** Faces added to a bucket for the current sort only. */
+        List<Face> extras;
+    }
+    
+    /** A tree and the faces that it contains. */
+    private static final class Tree {
+        
+        /** The root node. */
+        Node root;
+        
+        /** The entry for each face in the tree. */
+        Map<Face, Entry> entries;
+        
+        /** The faces in the tree. */
+        Face[] faces;
+        
+        /** The tolerance for points that lie in a plane. */
+        double tolerance;
+    }
+    
+    /** The entry for a face in the tree. */
+    private static final class Entry {
+        
+        /** The number of the last sort that included the face. */
+        int stamp;
+    }
+    
+    /** A face, or a part of a face, in the tree. */
+    private static final class Piece {
+        
+        /** The classification for a piece that crosses a plane. */
+        static final int SPANNING = 2;
+        
+        /** The source face. */
+        final Face source;
+        
+        /** The entry for the source face. */
+        final Entry entry;
+        
+        /** 
+         * The weights of the source vertices for each vertex of the piece,
+         * or {@code null} if the piece is the whole source face. 
+         */
+        double[] weights;
+        
+        /** The coordinates of the vertices, used while building only. */
+        double[] xyz;
+        
+        /** The plane of the source face. */
+        double[] plane;
+        
+        /** Twice the squared area (a measure of flatness for the face). */
+        double area2;
+        
+        /**
+         * Creates a piece for a whole face.
+         * 
+         * @param source  the face.
+         * @param entry  the entry for the face.
+         * @param pts  the eye coordinates.
+         */
+        Piece(Face source, Entry entry, Point3D[] pts) {
+            this.source = source;
+            this.entry = entry;
+            int n = source.getVertexCount();
+            this.xyz = new double[n * 3];
+            for (int i = 0; i < n; i++) {
+                Point3D p = pts[source.getVertexIndex(i)];
+                this.xyz[i * 3] = p.x;
+                this.xyz[i * 3 + 1] = p.y;
+                this.xyz[i * 3 + 2] = p.z;
+            }
+            if (n >= 3) {
+                double[] u = new double[3];
+                for (int i = 1; i < n - 1; i++) {
+                    cross(this.xyz, i, u);
+                }
+                this.area2 = u[0] * u[0] + u[1] * u[1] + u[2] * u[2];
+            }
+        }
+        
+        /**
+         * Creates a fragment of a face.
+         * 
+         * @param parent  the piece that the fragment is split from.
+         * @param xyz  the vertex coordinates.
+         * @param weights  the weights.
+         */
+        Piece(Piece parent, double[] xyz, double[] weights) {
+            this.source = parent.source;
+            this.entry = parent.entry;
+            this.plane = parent.plane;
+            this.xyz = xyz;
+            this.weights = weights;
+        }
+        
+        /**
+         * Adds the cross product of the edges from vertex 0 to vertices 
+         * {@code i} and {@code i + 1} to {@code u}.
+         */
+        private static void cross(double[] xyz, int i, double[] u) {
+            double ux = xyz[i * 3] - xyz[0];
+            double uy = xyz[i * 3 + 1] - xyz[1];
+            double uz = xyz[i * 3 + 2] - xyz[2];
+            double vx = xyz[i * 3 + 3] - xyz[0];
+            double vy = xyz[i * 3 + 4] - xyz[1];
+            double vz = xyz[i * 3 + 5] - xyz[2];
+            u[0] += uy * vz - uz * vy;
+            u[1] += uz * vx - ux * vz;
+            u[2] += ux * vy - uy * vx;
+        }
+        
+        /**
+         * Returns the signed distance of vertex {@code i} from the plane.
+         */
+        private double distance(int i, double[] plane) {
+            return plane[0] * this.xyz[i * 3] + plane[1] * this.xyz[i * 3 + 1] 
+                    + plane[2] * this.xyz[i * 3 + 2] - plane[3];
+        }
+        
+        /**
+         * Returns the signed distance of the centre of the piece from the
+         * plane.
+         * 
+         * @param plane  the plane.
+         * 
+         * @return The distance. 
+         */
+        double centreDistance(double[] plane) {
+            int n = this.xyz.length / 3;
+            double total = 0.0;
+            for (int i = 0; i < n; i++) {
+                total += distance(i, plane);
+            }
+            return total / n;
+        }
+        
+        /**
+         * Returns 1 if the piece lies in front of the plane, -1 if it lies 
+         * behind, {@link #SPANNING} if it crosses the plane and 0 if it lies
+         * in the plane.
+         * 
+         * @param plane  the plane.
+         * @param tol  the tolerance.
+         * 
+         * @return The classification.
+         */
+        int classify(double[] plane, double tol) {
+            boolean front = false;
+            boolean back = false;
+            for (int i = 0; i < this.xyz.length / 3; i++) {
+                double dist = distance(i, plane);
+                if (dist > tol) {
+                    front = true;
+                } else if (dist < -tol) {
+                    back = true;
+                }
+            }
+            if (front && back) {
+                return SPANNING;
+            }
+            return front ? 1 : (back ? -1 : 0);
+        }
+        
+        /**
+         * Adds this piece (or the parts of it on each side of the plane) to
+         * the appropriate list.
+         * 
+         * @param plane  the plane.
+         * @param tol  the tolerance.
+         * @param coplanar  the list for pieces in the plane.
+         * @param frontList  the list for pieces in front of the plane.
+         * @param backList  the list for pieces behind the plane.
+         */
+        void split(double[] plane, double tol, List<Piece> coplanar, 
+                List<Piece> frontList, List<Piece> backList) {
+            int side = classify(plane, tol);
+            if (side == 0) {
+                coplanar.add(this);
+                this.xyz = null;
+                return;
+            } else if (side == 1) {
+                frontList.add(this);
+                return;
+            } else if (side == -1) {
+                backList.add(this);
+                return;
+            }
+            int n = this.xyz.length / 3;
+            int m = this.source.getVertexCount();
+            double[] w = this.weights;
+            if (w == null) {
+                w = new double[n * m];
+                for (int i = 0; i < n; i++) {
+                    w[i * m + i] = 1.0;
+                }
+            }
+            VertexList front = new VertexList(n + 2, m);
+            VertexList back = new VertexList(n + 2, m);
+            for (int i = 0; i < n; i++) {
+                int j = (i + 1) % n;
+                double di = distance(i, plane);
+                double dj = distance(j, plane);
+                if (di > tol) {
+                    front.add(this.xyz, w, i, i, 0.0);
+                } else if (di < -tol) {
+                    back.add(this.xyz, w, i, i, 0.0);
+                } else {
+                    front.add(this.xyz, w, i, i, 0.0);
+                    back.add(this.xyz, w, i, i, 0.0);
+                }
+                if ((di > tol && dj < -tol) || (di < -tol && dj > tol)) {
+                    double t = di / (di - dj);
+                    front.add(this.xyz, w, i, j, t);
+                    back.add(this.xyz, w, i, j, t);
+                }
+            }
+            frontList.add(front.createPiece(this));
+            backList.add(back.createPiece(this));
+        }
+        
+        /**
+         * Returns the face to paint for this piece.
+         * 
+         * @param eyePts  the eye coordinates.
+         * 
+         * @return The face. 
+         */
+        Face createFace(Point3D[] eyePts) {
+            if (this.weights == null) {
+                return this.source;
+            }
+            // the projection divides by z, so the weights for the projected
+            // points are proportional to the weights times the z-values
+            int m = this.source.getVertexCount();
+            int n = this.weights.length / m;
+            double[] result = new double[this.weights.length];
+            for (int i = 0; i < n; i++) {
+                double total = 0.0;
+                for (int k = 0; k < m; k++) {
+                    double w = this.weights[i * m + k];
+                    if (w != 0.0) {
+                        w = w * eyePts[this.source.getVertexIndex(k)].z;
+                        result[i * m + k] = w;
+                        total += w;
+                    }
+                }
+                if (total != 0.0) {
+                    for (int k = 0; k < m; k++) {
+                        result[i * m + k] /= total;
+                    }
+                } else {
+                    System.arraycopy(this.weights, i * m, result, i * m, m);
+                }
+            }
+            return new SplitFace(this.source, result);
+        }
+    }
+    
+    /** A growable list of vertices used when splitting a piece. */
+    private static final class VertexList {
+        
+        private final int m;
+        
+        private double[] xyz;
+        
+        private double[] weights;
+        
+        private int count;
+        
+        VertexList(int capacity, int m) {
+            this.m = m;
+            this.xyz = new double[capacity * 3];
+            this.weights = new double[capacity * m];
+        }
+        
+        /**
+         * Adds the vertex at {@code t} along the edge from vertex {@code i}
+         * to vertex {@code j} of the source arrays.
+         */
+        void add(double[] srcXYZ, double[] srcWeights, int i, int j, 
+                double t) {
+            if (this.count * 3 == this.xyz.length) {
+                this.xyz = Arrays.copyOf(this.xyz, 
+                        this.xyz.length * 2);
+                this.weights = Arrays.copyOf(this.weights, 
+                        this.weights.length * 2);
+            }
+            for (int k = 0; k < 3; k++) {
+                double a = srcXYZ[i * 3 + k];
+                this.xyz[this.count * 3 + k] = a + t * (srcXYZ[j * 3 + k] - a);
+            }
+            for (int k = 0; k < this.m; k++) {
+                double a = srcWeights[i * this.m + k];
+                this.weights[this.count * this.m + k] 
+                        = a + t * (srcWeights[j * this.m + k] - a);
+            }
+            this.count++;
+        }
+        
+        Piece createPiece(Piece parent) {
+            return new Piece(parent, 
+                    Arrays.copyOf(this.xyz, this.count * 3),
+                    Arrays.copyOf(this.weights, 
+                    this.count * this.m));
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Renders many {@link Drawable3D} instances (typically {@link Chart3D} 
+ * instances) to PNG or JPEG images concurrently, for example to generate
+ * thumbnails on a server.  Each job is rendered on a worker thread into a 
+ * {@code BufferedImage} that is reused for subsequent jobs of the same size
+ * on that thread, and the encoded image is written directly to the target
+ * file or stream.
+ * <br><br>
+ * THREAD SAFETY: a {@link Chart3D} caches its 3D model (the world) and 
+ * updates some state (such as label bounds) each time it is drawn, so a 
+ * chart must never be drawn by two threads at the same time.  The exporter 
+ * synchronizes on each drawable while rendering it, so the same chart can 
+ * safely be submitted more than once, but the chart (together with its
+ * plot, renderer, axes and dataset) must not be modified or drawn elsewhere
+ * (for example in a {@code Chart3DPanel}) until its jobs have completed.
+ * Different charts may share a dataset as long as the dataset is not 
+ * modified while jobs are pending, and may share {@link 
+ * com.orsoncharts.renderer.ColorScale} instances such as 
+ * {@link com.orsoncharts.renderer.GradientColorScale} and 
+ * {@link com.orsoncharts.renderer.RainbowScale} (these create all their 
+ * colors when constructed).  Plots, renderers, axes and legend builders 
+ * must not be shared between charts.  A chart with a transform executor 
+ * (see {@link Chart3D#setTransformExecutor(java.util.concurrent.Executor)}) 
+ * may use the exporter's own executor for its transforms without risk of 
+ * deadlock, because the drawing thread transforms any chunks that are 
+ * still queued itself, but this gains little since the exporter's threads 
+ * are normally all busy.
+ * 
+ * @since 1.6
+ */
+public class BatchExporter {
+
+    /** The executor that runs the jobs. */
+    private final ExecutorService executor;
+    
+    /** Whether the executor was created by this exporter. */
+    private final boolean ownsExecutor;
+    
+    /** The image format name ("png" or "jpeg"). */
+    private final String formatName;
+    
+    /** The image reused by each worker thread. */
+    private final ThreadLocal<BufferedImage> images;
+    
+    /**
+     * Creates a new exporter that writes PNG images using a pool with the 
+     * specified number of worker threads.
+     * 
+     * @param threadCount  the number of worker threads (must be greater 
+     *     than zero).
+     */
+    public BatchExporter(int threadCount) {
+        this(threadCount, "png");
+    }
+    
+    /**
+     * Creates a new exporter that writes images in the specified format 
+     * using a pool with the specified number of worker threads.  The worker
+     * threads are daemon threads, and are stopped by {@link #shutdown()}.
+     * 
+     * @param threadCount  the number of worker threads (must be greater 
+     *     than zero).
+     * @param formatName  the image format, either "png" or "jpeg" 
+     *     ({@code null} not permitted).
+     */
+    public BatchExporter(int threadCount, String formatName) {
+        this(createExecutor(threadCount), true, formatName);
+    }
+    
+    /**
+     * Creates a new exporter that runs its jobs on the supplied executor 
+     * (the number of charts rendered at the same time is limited by the 
+     * number of threads in the executor, and one image buffer is retained
+     * for each of those threads).  The executor is not shut down by 
+     * {@link #shutdown()}.
+     * 
+     * @param executor  the executor ({@code null} not permitted).
+     * @param formatName  the image format, either "png" or "jpeg" 
+     *     ({@code null} not permitted).
+     */
+    public BatchExporter(ExecutorService executor, String formatName) {
+        this(executor, false, formatName);
+    }
+    
+    private BatchExporter(ExecutorService executor, boolean ownsExecutor,
+            String formatName) {
+        ArgChecks.nullNotPermitted(executor, "executor");
+        ArgChecks.nullNotPermitted(formatName, "formatName");
+        if (!"png".equals(formatName) && !"jpeg".equals(formatName)) {
+            throw new IllegalArgumentException("Unsupported format: " 
+                    + formatName);
+        }
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.formatName = formatName;
+        this.images = new ThreadLocal<BufferedImage>();
+    }
+    
+    /**
+     * Creates a fixed size pool of daemon threads.
+     * 
+     * @param threadCount  the number of threads.
+     * 
+     * @return The executor. 
+     */
+    private static ExecutorService createExecutor(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'threadCount' > 0.");
+        }
+        final AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "orsoncharts-export-" 
+                        + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+    
+    /**
+     * Returns the image format name.
+     * 
+     * @return The image format name (never {@code null}). 
+     */
+    public String getFormatName() {
+        return this.formatName;
+    }
+    
+    /**
+     * Submits a job to render {@code drawable} and write the encoded image 
+     * to the specified file.  The file is opened when the job runs, and 
+     * closed when the image has been written.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the image width.
+     * @param h  the image height.
+     * @param file  the output file ({@code null} not permitted).
+     * 
+     * @return A future for the rendering info (the future throws an 
+     *     {@code ExecutionException} if the job fails). 
+     */
+    public Future<RenderingInfo> submit(final Drawable3D drawable, 
+            final int w, final int h, final File file) {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.nullNotPermitted(file, "file");
+        return this.executor.submit(new Callable<RenderingInfo>() {
+            @Override
+            public RenderingInfo call() throws IOException {
+                OutputStream out = new BufferedOutputStream(
+                        new FileOutputStream(file));
+                try {
+                    return export(drawable, w, h, out);
+                } finally {
+                    out.close();
+                }
+            }
+        });
+    }
+    
+    /**
+     * Submits a job to render {@code drawable} and write the encoded image 
+     * to the specified stream.  The stream is flushed but not closed when 
+     * the image has been written.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the image width.
+     * @param h  the image height.
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @return A future for the rendering info (the future throws an 
+     *     {@code ExecutionException} if the job fails). 
+     */
+    public Future<RenderingInfo> submit(final Drawable3D drawable, 
+            final int w, final int h, final OutputStream out) {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.nullNotPermitted(out, "out");
+        return this.executor.submit(new Callable<RenderingInfo>() {
+            @Override
+            public RenderingInfo call() throws IOException {
+                RenderingInfo info = export(drawable, w, h, out);
+                out.flush();
+                return info;
+            }
+        });
+    }
+    
+    /**
+     * Submits jobs to render each of the drawables at the same size, 
+     * writing the images to files in {@code directory} named with the 
+     * specified prefix, the index of the drawable in the list and the 
+     * extension for the image format (for example "chart-0.png").
+     * 
+     * @param drawables  the drawables ({@code null} not permitted).
+     * @param w  the image width.
+     * @param h  the image height.
+     * @param directory  the output directory ({@code null} not permitted).
+     * @param prefix  the file name prefix ({@code null} not permitted).
+     * 
+     * @return The futures for the jobs, in the same order as the drawables.
+     */
+    public List<Future<RenderingInfo>> submitAll(
+            List<? extends Drawable3D> drawables, int w, int h, 
+            File directory, String prefix) {
+        ArgChecks.nullNotPermitted(drawables, "drawables");
+        ArgChecks.nullNotPermitted(directory, "directory");
+        ArgChecks.nullNotPermitted(prefix, "prefix");
+        String ext = "png".equals(this.formatName) ? ".png" : ".jpg";
+        List<Future<RenderingInfo>> result 
+                = new ArrayList<Future<RenderingInfo>>(drawables.size());
+        for (int i = 0; i < drawables.size(); i++) {
+            result.add(submit(drawables.get(i), w, h, 
+                    new File(directory, prefix + i + ext)));
+        }
+        return result;
+    }
+    
+    /**
+     * Shuts down the exporter.  Jobs that have already been submitted are 
+     * completed, but new jobs are rejected.  If the executor was supplied 
+     * by the caller, it is not shut down.
+     */
+    public void shutdown() {
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+    }
+    
+    /**
+     * Renders the drawable into this thread's image and writes the encoded
+     * image to the stream.
+     * 
+     * @param drawable  the drawable.
+     * @param w  the image width.
+     * @param h  the image height.
+     * @param out  the output stream.
+     * 
+     * @return The rendering info.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private RenderingInfo export(Drawable3D drawable, int w, int h, 
+            OutputStream out) throws IOException {
+        BufferedImage image = acquireImage(w, h);
+        Graphics2D g2 = image.createGraphics();
+        RenderingInfo info;
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, w, h);
+            g2.setComposite(AlphaComposite.SrcOver);
+            synchronized (drawable) {
+                info = drawable.draw(g2, new Rectangle(w, h));
+            }
+        } finally {
+            g2.dispose();
+        }
+        if (!ImageIO.write(image, this.formatName, out)) {
+            throw new IOException("No writer found for " + this.formatName);
+        }
+        return info;
+    }
+    
+    /**
+     * Returns the image for the current thread, creating a new one if there
+     * is no image or the existing image is not the requested size.
+     * 
+     * @param w  the width.
+     * @param h  the height.
+     * 
+     * @return The image. 
+     */
+    private BufferedImage acquireImage(int w, int h) {
+        BufferedImage image = this.images.get();
+        if (image == null || image.getWidth() != w 
+                || image.getHeight() != h) {
+            int type = "png".equals(this.formatName) 
+                    ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+            image = new BufferedImage(w, h, type);
+            this.images.set(image);
+        }
+        return image;
+    }
+
+}
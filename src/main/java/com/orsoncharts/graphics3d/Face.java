@@ -56,27 +56,28 @@ public class Face {
 
     /** 
      * The indices of the vertices representing this face.  Normally a face
-     * should have at least three vertices (a triangle) but we allow a special
-     * case with just two vertices to represent a line.
+     * should have at least three vertices (a triangle) but we allow special
+     * cases with just two vertices to represent a line, and one vertex to
+     * represent a point.
      */
     private int[] vertices;
 
     /**
      * Creates a new face with the specified vertices that is part of the 3D
      * {@code owner} object.  Most faces will have at least three vertices,
-     * but a special case with just two vertices (representing a line) is
-     * permitted.
+     * but special cases with just two vertices (representing a line) or one
+     * vertex (representing a point, drawn as a small square) are permitted.
      *
      * @param owner  the object that owns the face ({@code null} not 
      *     permitted).
-     * @param vertices  the indices of the vertices (array length &gt;= 2).
+     * @param vertices  the indices of the vertices (array length &gt;= 1).
      * 
      * @since 1.3
      */
     public Face(Object3D owner, int[] vertices) {
-        if (vertices.length < 2) {
+        if (vertices.length < 1) {
             throw new IllegalArgumentException(
-                    "Faces must have at least two vertices.");
+                    "Faces must have at least one vertex.");
         }
         ArgChecks.nullNotPermitted(owner, "owner");
         this.owner = owner;
@@ -179,6 +180,24 @@ public class Face {
      * @return The normal vector.
      */
     public double[] calculateNormal(Point3D[] points) {
+        double[] result = new double[3];
+        calculateNormal(points, result);
+        return result;
+    }
+
+    /**
+     * Calculates the normal vector for this face and writes it to the 
+     * first three items in the {@code result} array.  This method does not
+     * allocate any objects.
+     *
+     * @param points  the vertices of the object that this face belongs to
+     *     (these can be in world or eye coordinates).
+     * @param result  an array with length at least 3 to receive the 
+     *     normal vector ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public void calculateNormal(Point3D[] points, double[] result) {
         int iA = this.vertices[0] + this.offset;
         int iB = this.vertices[1] + this.offset;
         int iC = this.vertices[2] + this.offset;
@@ -198,7 +217,9 @@ public class Face {
                c = u1 * v2 - u2 * v1,
                len = Math.sqrt(a * a + b * b + c * c);
                a /= len; b /= len; c /= len;
-        return new double[] {a, b, c};
+        result[0] = a;
+        result[1] = b;
+        result[2] = c;
     }
 
     /**
@@ -240,7 +261,23 @@ public class Face {
      * @since 1.3
      */
     public Path2D createPath(Point2D[] pts) {
-        Path2D path = new Path2D.Float();
+        return createPath(pts, new Path2D.Float());
+    }
+    
+    /**
+     * Resets the supplied path and updates it to the outline of this face,
+     * so that a single path can be reused when drawing many faces.
+     * 
+     * @param pts  the projected points for the world ({@code null} not 
+     *     permitted).
+     * @param path  the path to update ({@code null} not permitted).
+     * 
+     * @return The path. 
+     * 
+     * @since 1.6
+     */
+    public Path2D createPath(Point2D[] pts, Path2D path) {
+        path.reset();
         for (int v = 0; v < getVertexCount(); v++) {
             Point2D pt = pts[getVertexIndex(v)];
             if (v == 0) {
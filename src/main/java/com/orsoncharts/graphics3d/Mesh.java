@@ -0,0 +1,193 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * The shared, immutable geometry (vertices and faces) for a set of 
+ * {@link MeshObject3D} instances.  Charts that draw the same shape many 
+ * times (for example, the boxes in a scatter chart) can create one mesh 
+ * and position a scaled copy of it for each data item, so that the 
+ * vertex coordinates and face definitions are stored once only.
+ * 
+ * @since 1.6
+ */
+public final class Mesh {
+    
+    /** 
+     * A box with unit size in each dimension, centered on the origin (the
+     * same shape as {@link Object3D#createBox(double, double, double, 
+     * double, double, double, java.awt.Color)}). 
+     */
+    public static final Mesh BOX = new Mesh(Object3D.createBox(0.0, 1.0, 
+            0.0, 1.0, 0.0, 1.0, Color.BLACK));
+    
+    /** A single point at the origin (drawn as a small square). */
+    public static final Mesh POINT = createPoint();
+    
+    /** The vertex coordinates, packed as {@code (x, y, z)} triples. */
+    private final double[] vertices;
+    
+    /** The vertex indices for each face. */
+    private final int[][] faces;
+    
+    /** The tag for each face ({@code null} for an untagged face). */
+    private final String[] tags;
+    
+    /** A flag for each face that indicates whether it is double-sided. */
+    private final boolean[] doubleSided;
+    
+    /**
+     * Creates a mesh with the same vertices and faces as the template 
+     * object.  The template can contain plain faces, tagged faces and 
+     * double-sided faces.
+     * 
+     * @param template  the template ({@code null} not permitted).
+     */
+    public Mesh(Object3D template) {
+        ArgChecks.nullNotPermitted(template, "template");
+        int vertexCount = template.getVertexCount();
+        this.vertices = new double[vertexCount * 3];
+        for (int i = 0; i < vertexCount; i++) {
+            Point3D p = template.getVertex(i);
+            this.vertices[i * 3] = p.x;
+            this.vertices[i * 3 + 1] = p.y;
+            this.vertices[i * 3 + 2] = p.z;
+        }
+        List<Face> templateFaces = template.getFaces();
+        int faceCount = templateFaces.size();
+        this.faces = new int[faceCount][];
+        this.tags = new String[faceCount];
+        this.doubleSided = new boolean[faceCount];
+        for (int f = 0; f < faceCount; f++) {
+            Face face = templateFaces.get(f);
+            Class<?> c = face.getClass();
+            if (c != Face.class && c != TaggedFace.class 
+                    && c != DoubleSidedFace.class) {
+                throw new IllegalArgumentException(
+                        "Unsupported face type: " + c.getName());
+            }
+            int[] v = new int[face.getVertexCount()];
+            for (int i = 0; i < v.length; i++) {
+                v[i] = face.getVertexIndex(i) - face.getOffset();
+            }
+            this.faces[f] = v;
+            this.tags[f] = face.getTag();
+            this.doubleSided[f] = face instanceof DoubleSidedFace;
+        }
+    }
+    
+    /**
+     * Creates the template for the {@link #POINT} mesh.
+     * 
+     * @return The mesh. 
+     */
+    private static Mesh createPoint() {
+        Object3D point = new Object3D(Color.BLACK);
+        point.addVertex(0.0, 0.0, 0.0);
+        point.addFace(new int[] { 0 });
+        return new Mesh(point);
+    }
+    
+    /**
+     * Returns the number of vertices in the mesh.
+     * 
+     * @return The number of vertices. 
+     */
+    public int getVertexCount() {
+        return this.vertices.length / 3;
+    }
+    
+    /**
+     * Returns a new point containing the coordinates of a vertex.
+     * 
+     * @param index  the vertex index.
+     * 
+     * @return A new point (never {@code null}). 
+     */
+    public Point3D getVertex(int index) {
+        if (index < 0 || index >= getVertexCount()) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " 
+                    + index);
+        }
+        return new Point3D(this.vertices[index * 3], 
+                this.vertices[index * 3 + 1], this.vertices[index * 3 + 2]);
+    }
+    
+    /**
+     * Returns the number of faces in the mesh.
+     * 
+     * @return The number of faces. 
+     */
+    public int getFaceCount() {
+        return this.faces.length;
+    }
+    
+    /**
+     * Returns the packed vertex coordinates (a direct reference, which must
+     * not be modified).
+     * 
+     * @return The vertex coordinates. 
+     */
+    double[] getVertexArray() {
+        return this.vertices;
+    }
+    
+    /**
+     * Creates the faces of the mesh for an owner.  The faces share the 
+     * vertex index arrays of the mesh.
+     * 
+     * @param owner  the owner.
+     * 
+     * @return The faces. 
+     */
+    List<Face> createFaces(Object3D owner) {
+        List<Face> result = new ArrayList<Face>(this.faces.length);
+        for (int f = 0; f < this.faces.length; f++) {
+            if (this.tags[f] != null) {
+                result.add(new TaggedFace(owner, this.faces[f], this.tags[f]));
+            } else if (this.doubleSided[f]) {
+                result.add(new DoubleSidedFace(owner, this.faces[f]));
+            } else {
+                result.add(new Face(owner, this.faces[f]));
+            }
+        }
+        return result;
+    }
+    
+}
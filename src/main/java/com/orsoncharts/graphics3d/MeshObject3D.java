@@ -0,0 +1,314 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import java.util.List;
+
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * An {@link Object3D} that is a scaled and translated instance of a shared
+ * {@link Mesh}.  The object stores only a reference to the mesh, the 
+ * translation, the scale and the color (plus its faces once they are 
+ * requested), and the vertices are transformed directly from the mesh, so
+ * a chart with many identical shapes uses much less memory than one 
+ * built from separate objects.  Vertices and faces cannot be added to an 
+ * instance.
+ * 
+ * @since 1.6
+ */
+public class MeshObject3D extends Object3D {
+    
+    /** The shared mesh. */
+    private final Mesh mesh;
+    
+    /** The x-translation. */
+    private final double x;
+    
+    /** The y-translation. */
+    private final double y;
+    
+    /** The z-translation. */
+    private final double z;
+    
+    /** The x-scale. */
+    private final double xScale;
+    
+    /** The y-scale. */
+    private final double yScale;
+    
+    /** The z-scale. */
+    private final double zScale;
+    
+    /** The faces (created when first requested). */
+    private List<Face> faces;
+    
+    /**
+     * Creates a new instance of the mesh at the specified location, without
+     * scaling.
+     * 
+     * @param mesh  the mesh ({@code null} not permitted).
+     * @param x  the x-translation.
+     * @param y  the y-translation.
+     * @param z  the z-translation.
+     * @param color  the color ({@code null} not permitted).
+     */
+    public MeshObject3D(Mesh mesh, double x, double y, double z, 
+            Color color) {
+        this(mesh, x, y, z, 1.0, 1.0, 1.0, color);
+    }
+    
+    /**
+     * Creates a new instance of the mesh, scaled and then translated to the
+     * specified location.
+     * 
+     * @param mesh  the mesh ({@code null} not permitted).
+     * @param x  the x-translation.
+     * @param y  the y-translation.
+     * @param z  the z-translation.
+     * @param xScale  the x-scale.
+     * @param yScale  the y-scale.
+     * @param zScale  the z-scale.
+     * @param color  the color ({@code null} not permitted).
+     */
+    public MeshObject3D(Mesh mesh, double x, double y, double z, 
+            double xScale, double yScale, double zScale, Color color) {
+        super(color);
+        ArgChecks.nullNotPermitted(mesh, "mesh");
+        this.mesh = mesh;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.xScale = xScale;
+        this.yScale = yScale;
+        this.zScale = zScale;
+    }
+    
+    /**
+     * Returns the mesh.
+     * 
+     * @return The mesh (never {@code null}). 
+     */
+    public Mesh getMesh() {
+        return this.mesh;
+    }
+
+    /**
+     * Returns the number of vertices in the mesh.
+     * 
+     * @return The number of vertices. 
+     */
+    @Override
+    public int getVertexCount() {
+        return this.mesh.getVertexCount();
+    }
+
+    /**
+     * Throws an {@code UnsupportedOperationException} since the vertices are
+     * defined by the mesh.
+     * 
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param z  the z-coordinate.
+     */
+    @Override
+    public void addVertex(double x, double y, double z) {
+        throw new UnsupportedOperationException(
+                "The vertices are defined by the mesh.");
+    }
+
+    /**
+     * Returns a new point containing the world coordinates of the vertex 
+     * with the specified index.
+     * 
+     * @param index  the vertex index.
+     * 
+     * @return A new point (never {@code null}). 
+     */
+    @Override
+    public Point3D getVertex(int index) {
+        Point3D p = this.mesh.getVertex(index);
+        return new Point3D(this.x + this.xScale * p.x, 
+                this.y + this.yScale * p.y, this.z + this.zScale * p.z);
+    }
+
+    /**
+     * Returns the number of faces in the mesh.
+     * 
+     * @return The number of faces. 
+     */
+    @Override
+    public int getFaceCount() {
+        return this.mesh.getFaceCount();
+    }
+
+    /**
+     * Throws an {@code UnsupportedOperationException} since the faces are
+     * defined by the mesh.
+     * 
+     * @param face  the face.
+     */
+    @Override
+    public void addFace(Face face) {
+        throw new UnsupportedOperationException(
+                "The faces are defined by the mesh.");
+    }
+
+    /**
+     * Returns the faces for this object, creating them from the mesh the 
+     * first time this method is called.
+     * 
+     * @return The faces. 
+     */
+    @Override
+    public List<Face> getFaces() {
+        if (this.faces == null) {
+            this.faces = this.mesh.createFaces(this);
+        }
+        return this.faces;
+    }
+
+    /**
+     * Calculates the projected points for the object's vertices.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * 
+     * @return The projected points. 
+     */
+    @Override
+    public Point2D[] calculateProjectedPoints(ViewPoint3D viewPoint, 
+            double d) {
+        ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
+        int count = getVertexCount();
+        double[] xy = new double[count * 2];
+        calculateProjectedPoints(viewPoint, d, xy, 0);
+        Point2D[] result = new Point2D[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new Point2D.Double(xy[i * 2], xy[i * 2 + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the projected points for the object's vertices and writes
+     * them into the supplied array.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * @param result  the array to receive the coordinates.
+     * @param offset  the index of the first point to write.
+     */
+    @Override
+    public void calculateProjectedPoints(ViewPoint3D viewPoint, double d, 
+            double[] result, int offset) {
+        calculateProjectedPoints(viewPoint, d, 0, getVertexCount(), result, 
+                offset);
+    }
+
+    /**
+     * Returns the eye coordinates of the object's vertices.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * 
+     * @return The eye coordinates. 
+     */
+    @Override
+    public Point3D[] calculateEyeCoordinates(ViewPoint3D viewPoint) {
+        ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
+        int count = getVertexCount();
+        double[] xyz = new double[count * 3];
+        calculateEyeCoordinates(viewPoint, xyz, 0);
+        Point3D[] result = new Point3D[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new Point3D(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the eye coordinates of the object's vertices and writes 
+     * them into the supplied array.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param result  the array to receive the coordinates.
+     * @param offset  the index of the first point to write.
+     */
+    @Override
+    public void calculateEyeCoordinates(ViewPoint3D viewPoint, 
+            double[] result, int offset) {
+        calculateEyeCoordinates(viewPoint, 0, getVertexCount(), result, 
+                offset);
+    }
+
+    /**
+     * Calculates the eye coordinates for a range of the object's vertices,
+     * transforming the mesh vertices directly.
+     * 
+     * @param viewPoint  the view point.
+     * @param start  the index of the first vertex to transform.
+     * @param count  the number of vertices to transform.
+     * @param result  the array to receive the coordinates.
+     * @param offset  the index of the triple for the vertex at 
+     *     {@code start}.
+     */
+    @Override
+    void calculateEyeCoordinates(ViewPoint3D viewPoint, int start, int count, 
+            double[] result, int offset) {
+        viewPoint.worldToEye(this.mesh.getVertexArray(), start, this.x, 
+                this.y, this.z, this.xScale, this.yScale, this.zScale, 
+                result, offset, count);
+    }
+
+    /**
+     * Calculates the projected points for a range of the object's vertices,
+     * transforming the mesh vertices directly.
+     * 
+     * @param viewPoint  the view point.
+     * @param d  the projection distance.
+     * @param start  the index of the first vertex to transform.
+     * @param count  the number of vertices to transform.
+     * @param result  the array to receive the coordinates.
+     * @param offset  the index of the pair for the vertex at {@code start}.
+     */
+    @Override
+    void calculateProjectedPoints(ViewPoint3D viewPoint, double d, int start, 
+            int count, double[] result, int offset) {
+        viewPoint.worldToScreen(this.mesh.getVertexArray(), start, this.x, 
+                this.y, this.z, this.xScale, this.yScale, this.zScale, d, 
+                result, offset, count);
+    }
+
+}
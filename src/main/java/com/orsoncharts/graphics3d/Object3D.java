@@ -36,9 +36,9 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -73,8 +73,17 @@ public class Object3D {
      */
     public static final String COLOR_PREFIX = "color/";
     
-    /** World coordinates. */
-    private List<Point3D> vertices;
+    /** An empty vertex array shared by objects with no vertices. */
+    private static final double[] NO_VERTICES = new double[0];
+    
+    /** 
+     * World coordinates, packed as consecutive {@code (x, y, z)} triples 
+     * (the array may have spare capacity at the end).
+     */
+    private double[] vertices;
+    
+    /** The number of vertices stored in the {@code vertices} array. */
+    private int vertexCount;
 
     /** Faces for the object, specified by indices to the world coords. */
     private List<Face> faces;
@@ -90,11 +99,12 @@ public class Object3D {
     private boolean outline;
  
     /**
-     * A map containing properties for the object.  If there are no properties
-     * defined, then we leave this as {@code null} as an empty map would 
-     * consume memory unnecessarily.
+     * The properties for the object, stored as alternating keys and values
+     * (most objects have only one or two properties, so this uses much less
+     * memory than a map).  If there are no properties defined, then we leave
+     * this as {@code null}.
      */
-    private Map<String, Object> properties;
+    private Object[] properties;
     
     /**
      * Creates a new object, initially with no vertices or faces.
@@ -120,8 +130,10 @@ public class Object3D {
         ArgChecks.nullNotPermitted(color, "color");
         this.color = color;
         this.outline = outline;
-        this.vertices = new java.util.ArrayList<Point3D>();
-        this.faces = new java.util.ArrayList<Face>();
+        // storage is allocated when the first vertex and face are added
+        this.vertices = NO_VERTICES;
+        this.vertexCount = 0;
+        this.faces = Collections.emptyList();
     }
 
     /**
@@ -170,11 +182,14 @@ public class Object3D {
      */
     public Object getProperty(String key) {
         ArgChecks.nullNotPermitted(key, "key");
-        if (this.properties == null) {
-            return null;
-        } else {
-            return this.properties.get(key);
+        if (this.properties != null) {
+            for (int i = 0; i < this.properties.length; i += 2) {
+                if (key.equals(this.properties[i])) {
+                    return this.properties[i + 1];
+                }
+            }
         }
+        return null;
     }
 
     /**
@@ -191,9 +206,19 @@ public class Object3D {
     public void setProperty(String key, Object value) {
         ArgChecks.nullNotPermitted(key, "key");
         if (this.properties == null) {
-            this.properties = new HashMap<String, Object>();
+            this.properties = new Object[] { key, value };
+            return;
+        }
+        for (int i = 0; i < this.properties.length; i += 2) {
+            if (key.equals(this.properties[i])) {
+                this.properties[i + 1] = value;
+                return;
+            }
         }
-        this.properties.put(key, value);
+        int n = this.properties.length;
+        this.properties = Arrays.copyOf(this.properties, n + 2);
+        this.properties[n] = key;
+        this.properties[n + 1] = value;
     }
     
     /**
@@ -239,7 +264,7 @@ public class Object3D {
      * @return The number of vertices.
      */
     public int getVertexCount() {
-        return this.vertices.size();
+        return this.vertexCount;
     }
 
     /**
@@ -250,7 +275,17 @@ public class Object3D {
      * @param z  the z-coordinate.
      */
     public void addVertex(double x, double y, double z) {
-        addVertex(new Point3D(x, y, z));    
+        int i = this.vertexCount * 3;
+        if (i + 3 > this.vertices.length) {
+            double[] grown = new double[Math.max(this.vertices.length * 2, 
+                    Math.max(i + 3, 8 * 3))];
+            System.arraycopy(this.vertices, 0, grown, 0, i);
+            this.vertices = grown;
+        }
+        this.vertices[i] = x;
+        this.vertices[i + 1] = y;
+        this.vertices[i + 2] = z;
+        this.vertexCount++;
     }
     
     /**
@@ -260,7 +295,30 @@ public class Object3D {
      */
     public void addVertex(Point3D vertex) {
         ArgChecks.nullNotPermitted(vertex, "vertex");
-        this.vertices.add(vertex);
+        addVertex(vertex.x, vertex.y, vertex.z);
+    }
+
+    /**
+     * Returns a new point containing the world coordinates of the vertex 
+     * with the specified index.  The object stores its vertices in a packed
+     * array, so the point returned is a copy and updating it will not modify
+     * this object.
+     * 
+     * @param index  the vertex index (in the range {@code 0} to 
+     *     {@code getVertexCount() - 1}).
+     * 
+     * @return A new point (never {@code null}). 
+     * 
+     * @since 1.6
+     */
+    public Point3D getVertex(int index) {
+        if (index < 0 || index >= this.vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " 
+                    + index);
+        }
+        int i = index * 3;
+        return new Point3D(this.vertices[i], this.vertices[i + 1], 
+                this.vertices[i + 2]);
     }
 
     /**
@@ -315,6 +373,9 @@ public class Object3D {
      */
     public void addFace(Face face) {
         ArgChecks.nullNotPermitted(face, "face");
+        if (this.faces.isEmpty()) {
+            this.faces = new ArrayList<Face>();
+        }
         this.faces.add(face);
     }
 
@@ -341,15 +402,38 @@ public class Object3D {
      */
     public Point2D[] calculateProjectedPoints(ViewPoint3D viewPoint, double d) {
         ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
-        Point2D[] result = new Point2D[this.vertices.size()];
-        int vertexCount = this.vertices.size();
-        for (int i = 0; i < vertexCount; i++) {
-            Point3D p = this.vertices.get(i);
-            result[i] = viewPoint.worldToScreen(p, d);
+        double[] xy = new double[this.vertexCount * 2];
+        viewPoint.worldToScreen(this.vertices, 0, d, xy, 0, this.vertexCount);
+        Point2D[] result = new Point2D[this.vertexCount];
+        for (int i = 0; i < this.vertexCount; i++) {
+            result[i] = new Point2D.Double(xy[i * 2], xy[i * 2 + 1]);
         }
         return result;
     }
 
+    /**
+     * Calculates the projected points for the object's vertices, for the
+     * given viewpoint, and writes them into the supplied array as 
+     * consecutive {@code (x, y)} pairs starting at the pair with index 
+     * {@code offset}.  This method does not allocate any objects, so it is
+     * preferred over {@link #calculateProjectedPoints(ViewPoint3D, double)}
+     * when rendering large models.
+     *
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * @param result  the array to receive the coordinates ({@code null} not
+     *     permitted, must have room for {@code getVertexCount()} pairs 
+     *     starting at {@code offset}).
+     * @param offset  the index of the first point to write.
+     * 
+     * @since 1.6
+     */
+    public void calculateProjectedPoints(ViewPoint3D viewPoint, double d, 
+            double[] result, int offset) {
+        viewPoint.worldToScreen(this.vertices, 0, d, result, offset, 
+                this.vertexCount);
+    }
+
     /**
      * Returns the eye coordinates of the object's vertices.
      *
@@ -359,14 +443,69 @@ public class Object3D {
      */
     public Point3D[] calculateEyeCoordinates(ViewPoint3D viewPoint) {
         ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
-        Point3D[] result = new Point3D[this.vertices.size()];
-        int i = 0;
-        for (Point3D vertex : this.vertices) {
-            result[i] = viewPoint.worldToEye(vertex);
-            i++;
+        double[] xyz = new double[this.vertexCount * 3];
+        viewPoint.worldToEye(this.vertices, 0, xyz, 0, this.vertexCount);
+        Point3D[] result = new Point3D[this.vertexCount];
+        for (int i = 0; i < this.vertexCount; i++) {
+            result[i] = new Point3D(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]);
         }
         return result;
     }
+
+    /**
+     * Calculates the eye coordinates of the object's vertices and writes them
+     * into the supplied array as consecutive {@code (x, y, z)} triples 
+     * starting at the triple with index {@code offset}.  This method does 
+     * not allocate any objects.
+     *
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param result  the array to receive the coordinates ({@code null} not
+     *     permitted, must have room for {@code getVertexCount()} triples 
+     *     starting at {@code offset}).
+     * @param offset  the index of the first point to write.
+     * 
+     * @since 1.6
+     */
+    public void calculateEyeCoordinates(ViewPoint3D viewPoint, double[] result,
+            int offset) {
+        viewPoint.worldToEye(this.vertices, 0, result, offset, 
+                this.vertexCount);
+    }
+    
+    /**
+     * Calculates the eye coordinates for a range of the object's vertices.
+     * This is used by the {@link World} class to split the transformation 
+     * of large objects across threads.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param start  the index of the first vertex to transform.
+     * @param count  the number of vertices to transform.
+     * @param result  the array to receive the coordinates.
+     * @param offset  the index of the triple for the vertex at 
+     *     {@code start}.
+     */
+    void calculateEyeCoordinates(ViewPoint3D viewPoint, int start, int count,
+            double[] result, int offset) {
+        viewPoint.worldToEye(this.vertices, start, result, offset, count);
+    }
+    
+    /**
+     * Calculates the projected points for a range of the object's vertices.
+     * This is used by the {@link World} class to split the transformation 
+     * of large objects across threads.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * @param start  the index of the first vertex to transform.
+     * @param count  the number of vertices to transform.
+     * @param result  the array to receive the coordinates.
+     * @param offset  the index of the pair for the vertex at {@code start}.
+     */
+    void calculateProjectedPoints(ViewPoint3D viewPoint, double d, int start, 
+            int count, double[] result, int offset) {
+        viewPoint.worldToScreen(this.vertices, start, d, result, offset, 
+                count);
+    }
     
     /**
      * Creates a square flat surface in the x-z plane (constant y) with a 
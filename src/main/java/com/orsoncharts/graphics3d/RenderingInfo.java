@@ -38,6 +38,7 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * Rendering info returned from the {@link Drawable3D} {@code draw()} 
@@ -69,6 +70,37 @@ public class RenderingInfo {
 
     List<RenderedElement> otherOffsetElements;
     
+    /** The number of back faces discarded before rendering. */
+    private int culledBackFaceCount;
+    
+    /** The number of off-screen faces discarded before rendering. */
+    private int culledOffscreenFaceCount;
+    
+    /**
+     * The screen-space bounds of each face as {@code (minX, minY, maxX, 
+     * maxY)} (built on the first call to {@link #fetchObjectAt(double, 
+     * double)}, together with the grid).
+     */
+    private double[] faceBounds;
+    
+    /** 
+     * For each grid cell, the start of its entries in 
+     * {@code gridFaceIndices} (with one extra entry marking the end). 
+     */
+    private int[] gridCellStart;
+    
+    /** 
+     * The indices of the faces overlapping each grid cell, in rendering 
+     * order. 
+     */
+    private int[] gridFaceIndices;
+    
+    /** The bounds of the grid. */
+    private double gridMinX, gridMinY, gridMaxX, gridMaxY;
+    
+    /** The number of grid columns and rows. */
+    private int gridColumns, gridRows;
+    
     /**
      * Creates a new instance.
      * 
@@ -128,6 +160,55 @@ public class RenderingInfo {
         return this.dy;
     }
     
+    /**
+     * Returns the number of faces that were discarded before sorting and
+     * rendering because they face away from the viewer (faces that are 
+     * always drawn, such as {@link DoubleSidedFace} and {@link LabelFace} 
+     * instances, are never discarded).
+     * 
+     * @return The number of faces.
+     * 
+     * @since 1.6
+     */
+    public int getCulledBackFaceCount() {
+        return this.culledBackFaceCount;
+    }
+    
+    /**
+     * Sets the number of back faces that were discarded before rendering.
+     * 
+     * @param count  the number of faces.
+     * 
+     * @since 1.6
+     */
+    public void setCulledBackFaceCount(int count) {
+        this.culledBackFaceCount = count;
+    }
+    
+    /**
+     * Returns the number of faces that were discarded before sorting and 
+     * rendering because they lie completely outside the clip region.
+     * 
+     * @return The number of faces.
+     * 
+     * @since 1.6
+     */
+    public int getCulledOffscreenFaceCount() {
+        return this.culledOffscreenFaceCount;
+    }
+    
+    /**
+     * Sets the number of off-screen faces that were discarded before 
+     * rendering.
+     * 
+     * @param count  the number of faces.
+     * 
+     * @since 1.6
+     */
+    public void setCulledOffscreenFaceCount(int count) {
+        this.culledOffscreenFaceCount = count;
+    }
+    
     /**
      * Adds a rendered element to the rendering info.
      * 
@@ -137,6 +218,18 @@ public class RenderingInfo {
         this.otherElements.add(element);
     }
     
+    /**
+     * Returns the rendered elements that have been added via the 
+     * {@link #addElement(com.orsoncharts.graphics3d.RenderedElement)} method.
+     * 
+     * @return An unmodifiable list of elements (never {@code null}).
+     * 
+     * @since 1.6
+     */
+    public List<RenderedElement> getElements() {
+        return Collections.unmodifiableList(this.otherElements);
+    }
+    
     /**
      * Adds a rendered element to the list of offset elements.
      * 
@@ -147,7 +240,11 @@ public class RenderingInfo {
     }
     
     /**
-     * Fetches the object, if any, that is rendered at {@code (x, y)}.
+     * Fetches the object, if any, that is rendered at {@code (x, y)}.  The
+     * first call builds a screen-space grid over the bounds of the rendered 
+     * faces, so that subsequent calls only test the faces that overlap the
+     * grid cell containing the point.  If several faces contain the point,
+     * the owner of the face rendered last (top-most) is returned.
      * 
      * @param x  the x-coordinate.
      * @param y  the y-coordinate.
@@ -155,22 +252,178 @@ public class RenderingInfo {
      * @return The object (or {@code null}). 
      */
     public Object3D fetchObjectAt(double x, double y) {
-        for (int i = this.faces.size() - 1; i >= 0; i--) {
+        if (this.gridCellStart == null) {
+            buildGrid();
+        }
+        double xx = x - this.dx;
+        double yy = y - this.dy;
+        if (!(xx >= this.gridMinX && xx <= this.gridMaxX 
+                && yy >= this.gridMinY && yy <= this.gridMaxY)) {
+            return null;
+        }
+        int cell = cellRow(yy) * this.gridColumns + cellColumn(xx);
+        for (int j = this.gridCellStart[cell + 1] - 1; 
+                j >= this.gridCellStart[cell]; j--) {
+            int i = this.gridFaceIndices[j];
+            if (xx < this.faceBounds[i * 4] || yy < this.faceBounds[i * 4 + 1]
+                    || xx > this.faceBounds[i * 4 + 2] 
+                    || yy > this.faceBounds[i * 4 + 3]) {
+                continue;
+            }
             Face f = this.faces.get(i);
             if (f instanceof LabelFace) {
-                Rectangle2D bounds 
-                        = (Rectangle2D) f.getOwner().getProperty("labelBounds");
-                if (bounds != null && bounds.contains(x - dx, y - dy)) {
+                Rectangle2D bounds = (Rectangle2D) f.getOwner().getProperty(
+                        "labelBounds");
+                if (bounds != null && bounds.contains(xx, yy)) {
                     return f.getOwner();
                 }
+                continue;
+            }
+            Path2D p = f.createPath(this.projPts);
+            if (p.contains(xx, yy)) {
+                return f.getOwner();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Builds the grid used by {@link #fetchObjectAt(double, double)}.  The
+     * bounds of a label face are the bounds of the label text (if the label
+     * was not drawn, the face cannot be selected).  Each face is registered 
+     * in every cell that its bounds overlap, in rendering order.
+     */
+    private void buildGrid() {
+        int n = this.faces.size();
+        this.faceBounds = new double[n * 4];
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Face f = this.faces.get(i);
+            double x0 = Double.POSITIVE_INFINITY;
+            double y0 = Double.POSITIVE_INFINITY;
+            double x1 = Double.NEGATIVE_INFINITY;
+            double y1 = Double.NEGATIVE_INFINITY;
+            if (f instanceof LabelFace) {
+                Rectangle2D bounds = (Rectangle2D) f.getOwner().getProperty(
+                        "labelBounds");
+                if (bounds != null) {
+                    x0 = bounds.getMinX();
+                    y0 = bounds.getMinY();
+                    x1 = bounds.getMaxX();
+                    y1 = bounds.getMaxY();
+                }
             } else {
-                Path2D p = f.createPath(this.projPts);
-                if (p.contains(x - dx, y - dy)) {
-                    return f.getOwner();
+                for (int v = 0; v < f.getVertexCount(); v++) {
+                    Point2D pt = this.projPts[f.getVertexIndex(v)];
+                    x0 = Math.min(x0, pt.getX());
+                    y0 = Math.min(y0, pt.getY());
+                    x1 = Math.max(x1, pt.getX());
+                    y1 = Math.max(y1, pt.getY());
                 }
             }
+            this.faceBounds[i * 4] = x0;
+            this.faceBounds[i * 4 + 1] = y0;
+            this.faceBounds[i * 4 + 2] = x1;
+            this.faceBounds[i * 4 + 3] = y1;
+            if (x0 <= x1 && y0 <= y1) {
+                minX = Math.min(minX, x0);
+                minY = Math.min(minY, y0);
+                maxX = Math.max(maxX, x1);
+                maxY = Math.max(maxY, y1);
+            }
         }
-        return null;
+        if (!(minX <= maxX && minY <= maxY)) {
+            // nothing can be selected, use an empty grid that matches no
+            // points
+            this.gridMinX = Double.POSITIVE_INFINITY;
+            this.gridMaxX = Double.NEGATIVE_INFINITY;
+            this.gridColumns = 1;
+            this.gridRows = 1;
+            this.gridCellStart = new int[2];
+            this.gridFaceIndices = new int[0];
+            return;
+        }
+        this.gridMinX = minX;
+        this.gridMinY = minY;
+        this.gridMaxX = maxX;
+        this.gridMaxY = maxY;
+        // aim for roughly one face per cell
+        int size = Math.max(1, Math.min(256, (int) Math.sqrt(n)));
+        this.gridColumns = size;
+        this.gridRows = size;
+        int cellCount = size * size;
+        
+        // first pass counts the entries per cell, second pass fills them
+        int[] start = new int[cellCount + 1];
+        for (int pass = 0; pass < 2; pass++) {
+            int[] next = null;
+            if (pass == 1) {
+                for (int c = 0; c < cellCount; c++) {
+                    start[c + 1] += start[c];
+                }
+                this.gridFaceIndices = new int[start[cellCount]];
+                next = new int[cellCount];
+                System.arraycopy(start, 0, next, 0, cellCount);
+            }
+            for (int i = 0; i < n; i++) {
+                double x0 = this.faceBounds[i * 4];
+                double y0 = this.faceBounds[i * 4 + 1];
+                double x1 = this.faceBounds[i * 4 + 2];
+                double y1 = this.faceBounds[i * 4 + 3];
+                if (!(x0 <= x1 && y0 <= y1)) {
+                    continue;
+                }
+                int c0 = cellColumn(x0);
+                int c1 = cellColumn(x1);
+                int r1 = cellRow(y1);
+                for (int r = cellRow(y0); r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        int cell = r * size + c;
+                        if (pass == 0) {
+                            start[cell + 1]++;
+                        } else {
+                            this.gridFaceIndices[next[cell]++] = i;
+                        }
+                    }
+                }
+            }
+        }
+        this.gridCellStart = start;
+    }
+    
+    /**
+     * Returns the grid column for an x-coordinate within the grid bounds.
+     * 
+     * @param x  the x-coordinate.
+     * 
+     * @return The column index. 
+     */
+    private int cellColumn(double x) {
+        double w = this.gridMaxX - this.gridMinX;
+        if (w <= 0.0) {
+            return 0;
+        }
+        int c = (int) ((x - this.gridMinX) / w * this.gridColumns);
+        return Math.max(0, Math.min(this.gridColumns - 1, c));
+    }
+    
+    /**
+     * Returns the grid row for a y-coordinate within the grid bounds.
+     * 
+     * @param y  the y-coordinate.
+     * 
+     * @return The row index. 
+     */
+    private int cellRow(double y) {
+        double h = this.gridMaxY - this.gridMinY;
+        if (h <= 0.0) {
+            return 0;
+        }
+        int r = (int) ((y - this.gridMinY) / h * this.gridRows);
+        return Math.max(0, Math.min(this.gridRows - 1, r));
     }
     
     /**
@@ -0,0 +1,109 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of shaded colors, used when rendering faces so that a new 
+ * {@code Color} instance is not created for every face.  The shade factor
+ * is quantized to one of {@link #SHADE_LEVELS} levels, and for each base 
+ * color a palette of shaded colors is created the first time it is needed.
+ * <br><br>
+ * This class is not thread-safe; a separate instance should be used for 
+ * each rendering thread (for example, one instance per call to a draw 
+ * method).
+ * 
+ * @since 1.6
+ */
+public class ShadedColorCache {
+    
+    /** The number of distinct shade levels. */
+    public static final int SHADE_LEVELS = 256;
+
+    /** The palettes for each base color. */
+    private Map<Color, Color[]> palettes;
+    
+    /** The most recently used base color. */
+    private Color lastColor;
+    
+    /** The palette for the most recently used base color. */
+    private Color[] lastPalette;
+    
+    /**
+     * Creates a new empty cache.
+     */
+    public ShadedColorCache() {
+        this.palettes = new HashMap<Color, Color[]>();
+    }
+    
+    /**
+     * Returns the color obtained by multiplying the red, green and blue 
+     * components of {@code color} by the shade factor (the alpha value is 
+     * unchanged).
+     * 
+     * @param color  the base color ({@code null} not permitted).
+     * @param shade  the shade factor (in the range 0.0 to 1.0, values 
+     *     outside this range are clipped).
+     * 
+     * @return The shaded color. 
+     */
+    public Color getShadedColor(Color color, double shade) {
+        Color[] palette;
+        if (color == this.lastColor) {
+            palette = this.lastPalette;
+        } else {
+            palette = this.palettes.get(color);
+            if (palette == null) {
+                palette = new Color[SHADE_LEVELS];
+                this.palettes.put(color, palette);
+            }
+            this.lastColor = color;
+            this.lastPalette = palette;
+        }
+        int level = (int) Math.round(shade * (SHADE_LEVELS - 1));
+        level = Math.max(0, Math.min(SHADE_LEVELS - 1, level));
+        Color result = palette[level];
+        if (result == null) {
+            double f = level / (double) (SHADE_LEVELS - 1);
+            result = new Color((int) (color.getRed() * f), 
+                    (int) (color.getGreen() * f), (int) (color.getBlue() * f),
+                    color.getAlpha());
+            palette[level] = result;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,206 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A fragment of a face that has been split by a {@link BSPFaceSorter}.  The
+ * fragment lies in the plane of the source face and has the same owner, 
+ * tag, normal and orientation, so it is shaded and hit-tested in the same 
+ * way.  Methods that work with vertex indices refer to the vertices of the 
+ * source face, while the path returned by {@link #createPath(Point2D[], 
+ * Path2D)} is the outline of the fragment.
+ * 
+ * @since 1.6
+ */
+public class SplitFace extends Face {
+
+    /** The face that this fragment was split from. */
+    private Face source;
+    
+    /** 
+     * The weights for the fragment vertices (one row per fragment vertex, 
+     * one column per vertex of the source face). 
+     */
+    private double[] weights;
+
+    /**
+     * Creates a new fragment.  Each vertex of the fragment is the weighted
+     * sum of the projected vertices of the source face, with the weights 
+     * for fragment vertex {@code i} stored at positions {@code i * n} to 
+     * {@code i * n + n - 1} where {@code n} is the vertex count for the 
+     * source face.
+     * 
+     * @param source  the source face ({@code null} not permitted).
+     * @param weights  the weights for the fragment vertices in screen space
+     *     ({@code null} not permitted).
+     */
+    public SplitFace(Face source, double[] weights) {
+        super(source.getOwner(), localVertices(source));
+        ArgChecks.nullNotPermitted(weights, "weights");
+        if (weights.length % source.getVertexCount() != 0) {
+            throw new IllegalArgumentException(
+                    "The weights do not match the source face.");
+        }
+        this.source = source;
+        this.weights = weights;
+    }
+    
+    /**
+     * Returns the vertex indices for the source face, without the offset.
+     * 
+     * @param source  the source face.
+     * 
+     * @return The vertex indices. 
+     */
+    private static int[] localVertices(Face source) {
+        int[] result = new int[source.getVertexCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = source.getVertexIndex(i) - source.getOffset();
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the face that this fragment was split from.
+     * 
+     * @return The source face (never {@code null}). 
+     */
+    public Face getSource() {
+        return this.source;
+    }
+    
+    /**
+     * Returns the number of vertices in the outline of this fragment.
+     * 
+     * @return The number of vertices. 
+     */
+    public int getFragmentVertexCount() {
+        return this.weights.length / this.source.getVertexCount();
+    }
+
+    /**
+     * Returns the offset for the source face.
+     * 
+     * @return The offset. 
+     */
+    @Override
+    public int getOffset() {
+        return this.source.getOffset();
+    }
+
+    /**
+     * Returns the index of a vertex of the source face.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The vertex index. 
+     */
+    @Override
+    public int getVertexIndex(int i) {
+        return this.source.getVertexIndex(i);
+    }
+
+    /**
+     * Returns the tag for the source face.
+     * 
+     * @return The tag (possibly {@code null}). 
+     */
+    @Override
+    public String getTag() {
+        return this.source.getTag();
+    }
+
+    /**
+     * Calculates the normal for the source face.
+     * 
+     * @param points  the points ({@code null} not permitted).
+     * @param result  an array to hold the result ({@code null} not permitted).
+     */
+    @Override
+    public void calculateNormal(Point3D[] points, double[] result) {
+        this.source.calculateNormal(points, result);
+    }
+
+    /**
+     * Returns the average z-value for the source face.
+     * 
+     * @param points  the points.
+     * 
+     * @return The average z-value.
+     */
+    @Override
+    public float calculateAverageZValue(Point3D[] points) {
+        return this.source.calculateAverageZValue(points);
+    }
+
+    /**
+     * Returns the outline of this fragment.
+     * 
+     * @param pts  the projected points for the source face's vertices 
+     *     ({@code null} not permitted).
+     * @param path  the path to update ({@code null} not permitted).
+     * 
+     * @return The path (the same instance passed in via {@code path}).
+     */
+    @Override
+    public Path2D createPath(Point2D[] pts, Path2D path) {
+        path.reset();
+        int n = this.source.getVertexCount();
+        int count = this.weights.length / n;
+        for (int v = 0; v < count; v++) {
+            double x = 0.0;
+            double y = 0.0;
+            for (int k = 0; k < n; k++) {
+                double w = this.weights[v * n + k];
+                if (w != 0.0) {
+                    Point2D pt = pts[this.source.getVertexIndex(k)];
+                    x += w * pt.getX();
+                    y += w * pt.getY();
+                }
+            }
+            if (v == 0) {
+                path.moveTo(x, y);
+            } else {
+                path.lineTo(x, y);
+            }
+        }
+        path.closePath();
+        return path;
+    }
+
+}
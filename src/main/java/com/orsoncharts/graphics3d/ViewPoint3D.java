@@ -354,6 +354,188 @@ public class ViewPoint3D implements Serializable {
                 -d * rotated[1] / rotated[2]);
     }
 
+    /**
+     * Converts a block of points in world coordinates to eye coordinates.
+     * The points are packed into arrays as consecutive {@code (x, y, z)}
+     * triples, so the point with index {@code i} occupies the array elements
+     * {@code 3 * i} to {@code 3 * i + 2}.  No objects are allocated by this
+     * method and it does not modify the state of the view point, so it is
+     * safe to call it concurrently for non-overlapping blocks of points.
+     *
+     * @param src  the world coordinates ({@code null} not permitted).
+     * @param srcIndex  the index of the first point to convert.
+     * @param dest  the array to receive the eye coordinates ({@code null}
+     *     not permitted, and may be the same array as {@code src}).
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to convert.
+     *
+     * @since 1.6
+     */
+    public void worldToEye(double[] src, int srcIndex, double[] dest,
+            int destIndex, int count) {
+        Rotate3D r = this.rotation;
+        int s = srcIndex * 3;
+        int t = destIndex * 3;
+        for (int i = 0; i < count; i++) {
+            double px = src[s++];
+            double py = src[s++];
+            double pz = src[s++];
+            double x = this.v11 * px + this.v21 * py;
+            double y = this.v12 * px + this.v22 * py + this.v32 * pz;
+            double z = this.v13 * px + this.v23 * py + this.v33 * pz + this.v43;
+            dest[t++] = x * r.r11 + y * r.r21 + z * r.r31 + r.r41;
+            dest[t++] = x * r.r12 + y * r.r22 + z * r.r32 + r.r42;
+            dest[t++] = x * r.r13 + y * r.r23 + z * r.r33 + r.r43;
+        }
+    }
+
+    /**
+     * Converts a block of points in world coordinates to screen coordinates.
+     * The source points are packed as {@code (x, y, z)} triples (see
+     * {@link #worldToEye(double[], int, double[], int, int)}) and the results
+     * are written to {@code dest} as consecutive {@code (x, y)} pairs.  No
+     * objects are allocated by this method.
+     *
+     * @param src  the world coordinates ({@code null} not permitted).
+     * @param srcIndex  the index of the first point to convert.
+     * @param d  the projection distance.
+     * @param dest  the array to receive the screen coordinates
+     *     ({@code null} not permitted).
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to convert.
+     *
+     * @since 1.6
+     */
+    public void worldToScreen(double[] src, int srcIndex, double d,
+            double[] dest, int destIndex, int count) {
+        Rotate3D r = this.rotation;
+        int s = srcIndex * 3;
+        int t = destIndex * 2;
+        for (int i = 0; i < count; i++) {
+            double px = src[s++];
+            double py = src[s++];
+            double pz = src[s++];
+            double x = this.v11 * px + this.v21 * py;
+            double y = this.v12 * px + this.v22 * py + this.v32 * pz;
+            double z = this.v13 * px + this.v23 * py + this.v33 * pz + this.v43;
+            double ex = x * r.r11 + y * r.r21 + z * r.r31 + r.r41;
+            double ey = x * r.r12 + y * r.r22 + z * r.r32 + r.r42;
+            double ez = x * r.r13 + y * r.r23 + z * r.r33 + r.r43;
+            dest[t++] = -d * ex / ez;
+            dest[t++] = -d * ey / ez;
+        }
+    }
+
+    /**
+     * Converts a block of points to eye coordinates after scaling and 
+     * translating them.  This is used for the vertices of a 
+     * {@link MeshObject3D}, so that the vertices of the shared mesh do not 
+     * need to be copied for each object.
+     *
+     * @param src  the mesh coordinates.
+     * @param srcIndex  the index of the first point to convert.
+     * @param x  the x-translation.
+     * @param y  the y-translation.
+     * @param z  the z-translation.
+     * @param xScale  the x-scale.
+     * @param yScale  the y-scale.
+     * @param zScale  the z-scale.
+     * @param dest  the array to receive the eye coordinates.
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to convert.
+     */
+    void worldToEye(double[] src, int srcIndex, double x, double y, double z,
+            double xScale, double yScale, double zScale, double[] dest, 
+            int destIndex, int count) {
+        Rotate3D r = this.rotation;
+        int s = srcIndex * 3;
+        int t = destIndex * 3;
+        for (int i = 0; i < count; i++) {
+            double px = x + xScale * src[s++];
+            double py = y + yScale * src[s++];
+            double pz = z + zScale * src[s++];
+            double vx = this.v11 * px + this.v21 * py;
+            double vy = this.v12 * px + this.v22 * py + this.v32 * pz;
+            double vz = this.v13 * px + this.v23 * py + this.v33 * pz 
+                    + this.v43;
+            dest[t++] = vx * r.r11 + vy * r.r21 + vz * r.r31 + r.r41;
+            dest[t++] = vx * r.r12 + vy * r.r22 + vz * r.r32 + r.r42;
+            dest[t++] = vx * r.r13 + vy * r.r23 + vz * r.r33 + r.r43;
+        }
+    }
+
+    /**
+     * Converts a block of points to screen coordinates after scaling and
+     * translating them (see {@link #worldToEye(double[], int, double, 
+     * double, double, double, double, double, double[], int, int)}).
+     *
+     * @param src  the mesh coordinates.
+     * @param srcIndex  the index of the first point to convert.
+     * @param x  the x-translation.
+     * @param y  the y-translation.
+     * @param z  the z-translation.
+     * @param xScale  the x-scale.
+     * @param yScale  the y-scale.
+     * @param zScale  the z-scale.
+     * @param d  the projection distance.
+     * @param dest  the array to receive the screen coordinates.
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to convert.
+     */
+    void worldToScreen(double[] src, int srcIndex, double x, double y, 
+            double z, double xScale, double yScale, double zScale, double d,
+            double[] dest, int destIndex, int count) {
+        Rotate3D r = this.rotation;
+        int s = srcIndex * 3;
+        int t = destIndex * 2;
+        for (int i = 0; i < count; i++) {
+            double px = x + xScale * src[s++];
+            double py = y + yScale * src[s++];
+            double pz = z + zScale * src[s++];
+            double vx = this.v11 * px + this.v21 * py;
+            double vy = this.v12 * px + this.v22 * py + this.v32 * pz;
+            double vz = this.v13 * px + this.v23 * py + this.v33 * pz 
+                    + this.v43;
+            double ex = vx * r.r11 + vy * r.r21 + vz * r.r31 + r.r41;
+            double ey = vx * r.r12 + vy * r.r22 + vz * r.r32 + r.r42;
+            double ez = vx * r.r13 + vy * r.r23 + vz * r.r33 + r.r43;
+            dest[t++] = -d * ex / ez;
+            dest[t++] = -d * ey / ez;
+        }
+    }
+
+    /**
+     * Projects a block of points that are already in eye coordinates
+     * (packed as {@code (x, y, z)} triples) onto the screen, writing the
+     * results to {@code dest} as {@code (x, y)} pairs.  This gives the same
+     * result as {@link #worldToScreen(double[], int, double, double[], int,
+     * int)} but avoids a second pass through the view transformation when
+     * the eye coordinates have already been calculated.
+     *
+     * @param eye  the eye coordinates ({@code null} not permitted).
+     * @param srcIndex  the index of the first point to project.
+     * @param d  the projection distance.
+     * @param dest  the array to receive the screen coordinates
+     *     ({@code null} not permitted).
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to project.
+     *
+     * @since 1.6
+     */
+    public static void eyeToScreen(double[] eye, int srcIndex, double d,
+            double[] dest, int destIndex, int count) {
+        int s = srcIndex * 3;
+        int t = destIndex * 2;
+        for (int i = 0; i < count; i++) {
+            double ex = eye[s];
+            double ey = eye[s + 1];
+            double ez = eye[s + 2];
+            dest[t++] = -d * ex / ez;
+            dest[t++] = -d * ey / ez;
+            s += 3;
+        }
+    }
+
     /**
      * Calculate the distance that would render a box of the given dimensions 
      * within a screen area of the specified size.
@@ -34,10 +34,17 @@ package com.orsoncharts.graphics3d;
 
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -45,6 +52,21 @@ import com.orsoncharts.util.ArgChecks;
  * direction vector for the sunlight.  A viewing point ({@link ViewPoint3D}) is 
  * specified externally.  Objects in the world are assigned to a partition, 
  * providing the ability to group objects.
+ * <br><br>
+ * The world maintains a compiled snapshot of its content (a flattened array
+ * of faces with their vertex offsets assigned, plus the total vertex count)
+ * that is reused across calls and is only rebuilt for the partitions that
+ * have been modified via the {@code add()} or {@code clear()} methods since
+ * the last time it was used.  For this reason, an {@link Object3D} should 
+ * not have vertices or faces added after it has been added to the world, 
+ * and an object should only be added to one world at a time.
+ * <br><br>
+ * By default the vertex transformations are performed on the calling 
+ * thread.  For large worlds (for example, surface charts with a high number
+ * of samples) an {@code Executor} can be supplied via 
+ * {@link #setTransformExecutor(Executor)}, in which case worlds with at 
+ * least {@link #getParallelThreshold()} vertices are transformed in 
+ * parallel.
  */
 public class World {
 
@@ -57,6 +79,17 @@ public class World {
      */
     public static final String DEFAULT_PARTITION_KEY = "default";
     
+    /**
+     * The default vertex count at or above which the transformations are
+     * performed in parallel (when a transform pool has been set).
+     * 
+     * @since 1.6
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20000;
+    
+    /** The minimum number of vertices in a parallel transform chunk. */
+    private static final int MIN_CHUNK_SIZE = 1024;
+    
     /** The sunlight vector. */
     private double sunX;
     private double sunY;
@@ -64,17 +97,61 @@ public class World {
 
     /** 
      * Storage for the objects in the world.  A map is used to store
-     * one or more lists of objects (the partitioning is useful so
+     * one or more partitions of objects (the partitioning is useful so
      * that updates can be made to subsets of the world).
      */
-    private Map<String, List<Object3D>> objects;
+    private Map<String, Partition> objects;
+    
+    /** 
+     * The faces for all objects in the world, in partition order with the
+     * offsets assigned (this is {@code null} until the first compile).
+     */
+    private Face[] faces;
+    
+    /** 
+     * A flag indicating that the world has been modified since the 
+     * compiled snapshot was last brought up to date.
+     */
+    private boolean modified;
+    
+    /** The objects in the world, in partition order (rebuilt with faces). */
+    private Object3D[] objectArray;
+    
+    /** 
+     * The index of the first vertex of each object in {@code objectArray} 
+     * (rebuilt with faces).
+     */
+    private int[] vertexOffsets;
+    
+    /** The total vertex count (valid when {@code faces} is non-null). */
+    private int vertexCount;
+    
+    /**
+     * An index of the objects in the world by their {@link Object3D#ITEM_KEY}
+     * property.  This is created the first time items are removed from the
+     * world and then maintained as objects are added and removed.
+     */
+    private Map<Object, List<Object3D>> itemIndex;
+    
+    /** 
+     * The executor used for parallel vertex transformations ({@code null} 
+     * for sequential transformations). 
+     */
+    private Executor transformExecutor;
+    
+    /** The vertex count at or above which transforms run in parallel. */
+    private int parallelThreshold;
+    
+    /** A flag that indicates a draft (reduced detail) world. */
+    private boolean draft;
     
     /**
      * Creates a new empty world.
      */
     public World() {
-        this.objects = new java.util.TreeMap<String, List<Object3D>>();
-        this.objects.put(DEFAULT_PARTITION_KEY, new ArrayList<Object3D>());
+        this.objects = new java.util.TreeMap<String, Partition>();
+        this.objects.put(DEFAULT_PARTITION_KEY, new Partition());
+        this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
         setSunSource(new Point3D(2, -1, 10));
     }
 
@@ -155,12 +232,17 @@ public class World {
     public void add(String partition, Object3D object) {
         ArgChecks.nullNotPermitted(partition, "partition");
         ArgChecks.nullNotPermitted(object, "object");
-        List<Object3D> list = this.objects.get(partition);
-        if (list == null) {
-            list = new ArrayList<Object3D>();
-            this.objects.put(partition, list);
+        Partition p = this.objects.get(partition);
+        if (p == null) {
+            p = new Partition();
+            this.objects.put(partition, p);
+        }
+        p.objects.add(object);
+        p.invalidate();
+        this.modified = true;
+        if (this.itemIndex != null) {
+            addToItemIndex(object);
         }
-        list.add(object);
     }
     
     /**
@@ -185,7 +267,150 @@ public class World {
      */
     public void clear(String partitionKey) {
         ArgChecks.nullNotPermitted(partitionKey, "partitionKey");
-        this.objects.put(partitionKey, null);
+        Partition p = this.objects.get(partitionKey);
+        if (p != null && !p.objects.isEmpty()) {
+            if (this.itemIndex != null) {
+                for (Object3D object : p.objects) {
+                    removeFromItemIndex(object);
+                }
+            }
+            p.objects.clear();
+            p.invalidate();
+            this.modified = true;
+        }
+    }
+    
+    /**
+     * Removes all objects from the world (in any partition) that have an
+     * {@link Object3D#ITEM_KEY} property equal to one of the specified keys.
+     * This is used to update the objects representing individual data items
+     * without rebuilding the entire world.
+     * 
+     * @param itemKeys  the item keys ({@code null} not permitted).
+     * 
+     * @return The number of objects removed.
+     * 
+     * @since 1.6
+     */
+    public int removeItems(Collection<?> itemKeys) {
+        ArgChecks.nullNotPermitted(itemKeys, "itemKeys");
+        ensureItemIndex();
+        Map<Object3D, Object3D> toRemove 
+                = new IdentityHashMap<Object3D, Object3D>();
+        for (Object key : itemKeys) {
+            List<Object3D> objs = this.itemIndex.remove(key);
+            if (objs != null) {
+                for (Object3D object : objs) {
+                    toRemove.put(object, object);
+                }
+            }
+        }
+        if (toRemove.isEmpty()) {
+            return 0;
+        }
+        for (Partition p : this.objects.values()) {
+            List<Object3D> retained = new ArrayList<Object3D>(
+                    p.objects.size());
+            for (Object3D object : p.objects) {
+                if (!toRemove.containsKey(object)) {
+                    retained.add(object);
+                }
+            }
+            if (retained.size() < p.objects.size()) {
+                p.objects.clear();
+                p.objects.addAll(retained);
+                p.invalidate();
+            }
+        }
+        this.modified = true;
+        return toRemove.size();
+    }
+    
+    /**
+     * Changes the {@link Object3D#ITEM_KEY} property of the objects in the 
+     * world according to the supplied map (objects with an item key that 
+     * is not in the map are unchanged).  All keys are replaced at the same 
+     * time, so the map can rename items to keys that are currently in use by
+     * other items that are also renamed.  This is used when the items in a 
+     * dataset are renumbered (for example, when the oldest items are 
+     * removed from a series) so that the existing objects can be retained.
+     * 
+     * @param keyMap  a map from existing item keys to new item keys 
+     *     ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public void replaceItemKeys(Map<?, ?> keyMap) {
+        ArgChecks.nullNotPermitted(keyMap, "keyMap");
+        ensureItemIndex();
+        Map<Object, List<Object3D>> renamed 
+                = new HashMap<Object, List<Object3D>>();
+        for (Map.Entry<?, ?> entry : keyMap.entrySet()) {
+            List<Object3D> objs = this.itemIndex.remove(entry.getKey());
+            if (objs != null) {
+                for (Object3D object : objs) {
+                    object.setProperty(Object3D.ITEM_KEY, entry.getValue());
+                }
+                renamed.put(entry.getValue(), objs);
+            }
+        }
+        for (Map.Entry<Object, List<Object3D>> entry : renamed.entrySet()) {
+            List<Object3D> existing = this.itemIndex.put(entry.getKey(), 
+                    entry.getValue());
+            if (existing != null) {
+                entry.getValue().addAll(existing);
+            }
+        }
+    }
+    
+    /**
+     * Creates the index from item keys to objects, if it does not exist
+     * already.
+     */
+    private void ensureItemIndex() {
+        if (this.itemIndex == null) {
+            this.itemIndex = new HashMap<Object, List<Object3D>>();
+            for (Partition p : this.objects.values()) {
+                for (Object3D object : p.objects) {
+                    addToItemIndex(object);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds an object to the item index, if it has an item key.
+     * 
+     * @param object  the object ({@code null} not permitted).
+     */
+    private void addToItemIndex(Object3D object) {
+        Object key = object.getProperty(Object3D.ITEM_KEY);
+        if (key != null) {
+            List<Object3D> objs = this.itemIndex.get(key);
+            if (objs == null) {
+                objs = new ArrayList<Object3D>(2);
+                this.itemIndex.put(key, objs);
+            }
+            objs.add(object);
+        }
+    }
+    
+    /**
+     * Removes an object from the item index, if it has an item key.
+     * 
+     * @param object  the object ({@code null} not permitted).
+     */
+    private void removeFromItemIndex(Object3D object) {
+        Object key = object.getProperty(Object3D.ITEM_KEY);
+        if (key != null) {
+            List<Object3D> objs = this.itemIndex.get(key);
+            if (objs != null) {
+                objs.remove(object);
+                if (objs.isEmpty()) {
+                    this.itemIndex.remove(key);
+                }
+            }
+        }
     }
     
     /**
@@ -194,14 +419,113 @@ public class World {
      * @return The total number of vertices.
      */
     public int getVertexCount() {
-        int count = 0;
-        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
-            List<Object3D> objs = entry.getValue();    
-            for (Object3D object: objs) {
-                count += object.getVertexCount();
-            }
+        compile();
+        return this.vertexCount;
+    }
+    
+    /**
+     * Returns the total number of faces for all objects in this world.
+     * 
+     * @return The total number of faces.
+     * 
+     * @since 1.6
+     */
+    public int getFaceCount() {
+        compile();
+        return this.faces.length;
+    }
+
+    /**
+     * Returns the executor used to perform the vertex transformations in 
+     * parallel.  The default is {@code null}, meaning that transformations
+     * are performed sequentially on the calling thread.
+     * 
+     * @return The executor (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public Executor getTransformExecutor() {
+        return this.transformExecutor;
+    }
+    
+    /**
+     * Sets the executor used to perform the vertex transformations in 
+     * parallel for worlds with at least {@link #getParallelThreshold()} 
+     * vertices.  The vertex range is split into chunks (a few per available
+     * processor) that are claimed by helper tasks run on the executor and 
+     * by the calling thread, which keeps transforming chunks until none 
+     * remain and then waits only for chunks already started by a helper.  
+     * Because the calling thread never waits for a task that is still 
+     * queued, it is safe to use an executor whose own threads draw charts
+     * (for example, the executor used by a {@code BatchExporter}), although
+     * little is gained when that executor's threads are all busy.  On JDK 8
+     * or later, {@code ForkJoinPool.commonPool()} is a good choice.  Pass 
+     * {@code null} to perform all transformations sequentially.
+     * 
+     * @param executor  the executor ({@code null} permitted).
+     * 
+     * @since 1.6
+     */
+    public void setTransformExecutor(Executor executor) {
+        this.transformExecutor = executor;
+    }
+    
+    /**
+     * Returns the vertex count at or above which the vertex transformations
+     * are performed in parallel (if a transform executor has been set).  The 
+     * default is {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     * 
+     * @return The threshold.
+     * 
+     * @since 1.6
+     */
+    public int getParallelThreshold() {
+        return this.parallelThreshold;
+    }
+    
+    /**
+     * Sets the vertex count at or above which the vertex transformations
+     * are performed in parallel (if a transform executor has been set).
+     * 
+     * @param threshold  the threshold (must be greater than zero).
+     * 
+     * @since 1.6
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'threshold' > 0.");
         }
-        return count;
+        this.parallelThreshold = threshold;
+    }
+    
+    /**
+     * Returns {@code true} if this world is a draft, that is a reduced 
+     * detail model used for fast interactive display (for example while the
+     * user is rotating a chart with the mouse).  The default value is 
+     * {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.6
+     */
+    public boolean isDraft() {
+        return this.draft;
+    }
+    
+    /**
+     * Sets the flag that indicates whether or not this world is a draft.  
+     * Renderers can check this flag and compose a simplified representation
+     * of the data (for example, a single point for each item in a scatter 
+     * plot, or fewer samples for a surface).  Set this flag before adding 
+     * any objects to the world.
+     * 
+     * @param draft  the new flag value.
+     * 
+     * @since 1.6
+     */
+    public void setDraft(boolean draft) {
+        this.draft = draft;
     }
 
     /**
@@ -213,15 +537,45 @@ public class World {
      * @return The eye coordinates.
      */
     public Point3D[] calculateEyeCoordinates(ViewPoint3D vp) {
-        Point3D[] result = new Point3D[getVertexCount()];
-        int index = 0;
-        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
-            List<Object3D> objs = entry.getValue();    
-            for (Object3D object : objs) {
-                Point3D[] vertices = object.calculateEyeCoordinates(vp);
-                System.arraycopy(vertices, 0, result, index, vertices.length);
-                index = index + vertices.length;
-            }
+        double[] xyz = calculateEyeCoordinates(vp, null);
+        Point3D[] result = new Point3D[xyz.length / 3];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Point3D(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the eye coordinates for all the vertices of the objects in 
+     * the world and writes them into {@code result} as consecutive 
+     * {@code (x, y, z)} triples, in the same order as the vertices are 
+     * indexed by the faces returned from {@link #getFaces()}.  If 
+     * {@code result} is {@code null} or too small, a new array is 
+     * allocated, so callers can pass back the array returned by the previous
+     * call to avoid allocating a new buffer on every frame.
+     * 
+     * @param vp  the view point ({@code null} not permitted).
+     * @param result  an array to reuse for the result ({@code null} 
+     *     permitted).
+     * 
+     * @return The array containing the eye coordinates (this may be larger
+     *     than required, the valid length is {@code getVertexCount() * 3}).
+     * 
+     * @since 1.6
+     */
+    public double[] calculateEyeCoordinates(ViewPoint3D vp, double[] result) {
+        ArgChecks.nullNotPermitted(vp, "vp");
+        int count = getVertexCount();
+        if (result == null || result.length < count * 3) {
+            result = new double[count * 3];
+        }
+        if (isParallel(count)) {
+            transformInParallel(vp, 0.0, true, result, count);
+            return result;
+        }
+        for (int i = 0; i < this.objectArray.length; i++) {
+            this.objectArray[i].calculateEyeCoordinates(vp, result, 
+                    this.vertexOffsets[i]);
         }
         return result;
     }
@@ -236,39 +590,130 @@ public class World {
      * @return The projected points.
      */
     public Point2D[] calculateProjectedPoints(ViewPoint3D vp, double d) {
-        Point2D[] result = new Point2D[getVertexCount()];
-        int index = 0;
-        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
-            List<Object3D> objs = entry.getValue();    
-            for (Object3D object : objs) {
-                Point2D[] pts = object.calculateProjectedPoints(vp, d);
-                System.arraycopy(pts, 0, result, index, pts.length);
-                index = index + pts.length;
-            }
+        double[] xy = calculateProjectedPoints(vp, d, null);
+        Point2D[] result = new Point2D[xy.length / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Point2D.Double(xy[i * 2], xy[i * 2 + 1]);
         }
         return result;
     }
 
+    /**
+     * Calculates the projected points in 2D-space for all the vertices of the
+     * objects in the world and writes them into {@code result} as 
+     * consecutive {@code (x, y)} pairs.  If {@code result} is {@code null} 
+     * or too small, a new array is allocated.
+     * 
+     * @param vp  the view point ({@code null} not permitted).
+     * @param d  the distance.
+     * @param result  an array to reuse for the result ({@code null} 
+     *     permitted).
+     * 
+     * @return The array containing the projected points (this may be larger
+     *     than required, the valid length is {@code getVertexCount() * 2}).
+     * 
+     * @since 1.6
+     */
+    public double[] calculateProjectedPoints(ViewPoint3D vp, double d, 
+            double[] result) {
+        ArgChecks.nullNotPermitted(vp, "vp");
+        int count = getVertexCount();
+        if (result == null || result.length < count * 2) {
+            result = new double[count * 2];
+        }
+        if (isParallel(count)) {
+            transformInParallel(vp, d, false, result, count);
+            return result;
+        }
+        for (int i = 0; i < this.objectArray.length; i++) {
+            this.objectArray[i].calculateProjectedPoints(vp, d, result, 
+                    this.vertexOffsets[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns {@code true} if the transformation of the specified number
+     * of vertices should be performed in parallel.
+     * 
+     * @param count  the vertex count.
+     * 
+     * @return A boolean. 
+     */
+    private boolean isParallel(int count) {
+        return this.transformExecutor != null 
+                && count >= this.parallelThreshold
+                && Runtime.getRuntime().availableProcessors() > 1;
+    }
+    
+    /**
+     * Transforms the vertices of the world by splitting the vertex range 
+     * into chunks.  Helper tasks are passed to the transform executor, and 
+     * these and the calling thread each claim and transform chunks until 
+     * none remain.  The calling thread only waits for chunks that another 
+     * thread has already started, so if the executor's threads are all busy
+     * (or are themselves waiting in this method) the calling thread simply 
+     * transforms all the chunks itself.  This method returns when all the
+     * chunks are complete.
+     * 
+     * @param vp  the view point.
+     * @param d  the projection distance (not used for eye coordinates).
+     * @param eye  {@code true} for eye coordinates, {@code false} for 
+     *     projected points.
+     * @param result  the array to receive the results.
+     * @param count  the vertex count.
+     */
+    private void transformInParallel(ViewPoint3D vp, double d, boolean eye,
+            double[] result, int count) {
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors() * 4,
+                (count + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        int chunkSize = (count + chunks - 1) / chunks;
+        chunks = (count + chunkSize - 1) / chunkSize;
+        TransformTask task = new TransformTask(this.objectArray, 
+                this.vertexOffsets, vp, d, eye, result, count, chunkSize, 
+                chunks);
+        int helpers = Math.min(chunks, 
+                Runtime.getRuntime().availableProcessors()) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                this.transformExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                break;  // the calling thread will do the work
+            }
+        }
+        task.run();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                task.done.await();
+                break;
+            } catch (InterruptedException e) {
+                // the tasks write into the result array, so we must wait 
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable error = task.error;
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        }
+    }
+
     /**
      * Fetches the faces for all the objects in this world, updating the
-     * offset to match the current position.
+     * offset to match the current position.  The list returned is an
+     * unmodifiable view of the compiled snapshot maintained by the world,
+     * so callers that need to reorder the faces should make a copy.
      *
      * @return A list of faces.
      */
     public List<Face> getFaces() {
-        List<Face> result = new java.util.ArrayList<Face>();
-        int offset = 0;
-        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
-            List<Object3D> objs = entry.getValue();    
-            for (Object3D object : objs) {
-                for (Face f : object.getFaces()) {
-                    f.setOffset(offset);
-                }
-                offset += object.getVertexCount();
-                result.addAll(object.getFaces());
-            }
-        }
-        return result;
+        compile();
+        return Collections.unmodifiableList(Arrays.asList(this.faces));
     }
     
     /**
@@ -280,12 +725,314 @@ public class World {
      * @since 1.2
      */
     public List<Object3D> getObjects() {
-        List<Object3D> result = new ArrayList<Object3D>();
-        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
-            List<Object3D> objs = entry.getValue();    
-            result.addAll(objs);
+        compile();
+        return new ArrayList<Object3D>(Arrays.asList(this.objectArray));
+    }
+
+    /**
+     * Brings the compiled snapshot (faces, object array, vertex offsets 
+     * and vertex count) up to date.  Partitions that have not been 
+     * modified since the last compile reuse their cached face arrays, and 
+     * only have their face offsets updated if an earlier partition has 
+     * changed its vertex count.  If every partition still has the same 
+     * number of faces and objects (for example, when only the chart box 
+     * has been replaced), the snapshot arrays are patched in place for the
+     * partitions that have changed, otherwise they are rebuilt.
+     */
+    private void compile() {
+        if (this.faces != null && !this.modified) {
+            return;
+        }
+        int offset = 0;
+        int faceCount = 0;
+        int objectCount = 0;
+        boolean sameLayout = this.faces != null;
+        for (Partition p : this.objects.values()) {
+            p.compile(offset);
+            sameLayout = sameLayout && p.faceStart == faceCount 
+                    && p.objectStart == objectCount
+                    && p.snapshotFaceCount == p.faces.length
+                    && p.snapshotObjectCount == p.objects.size();
+            offset += p.vertexCount;
+            faceCount += p.faces.length;
+            objectCount += p.objects.size();
+        }
+        if (sameLayout && faceCount == this.faces.length 
+                && objectCount == this.objectArray.length) {
+            for (Partition p : this.objects.values()) {
+                if (!p.inSnapshot) {
+                    copyToSnapshot(p, this.faces, this.objectArray, 
+                            this.vertexOffsets);
+                }
+            }
+        } else {
+            Face[] allFaces = new Face[faceCount];
+            Object3D[] allObjects = new Object3D[objectCount];
+            int[] offsets = new int[objectCount];
+            int fi = 0;
+            int oi = 0;
+            for (Partition p : this.objects.values()) {
+                p.faceStart = fi;
+                p.objectStart = oi;
+                copyToSnapshot(p, allFaces, allObjects, offsets);
+                fi += p.faces.length;
+                oi += p.objects.size();
+            }
+            this.objectArray = allObjects;
+            this.vertexOffsets = offsets;
+            this.faces = allFaces;
+        }
+        this.vertexCount = offset;
+        this.modified = false;
+    }
+    
+    /**
+     * Copies the faces, objects and object vertex offsets for a partition 
+     * into the snapshot arrays, at the positions recorded for the partition.
+     * 
+     * @param p  the partition.
+     * @param allFaces  the faces for the snapshot.
+     * @param allObjects  the objects for the snapshot.
+     * @param offsets  the object vertex offsets for the snapshot.
+     */
+    private static void copyToSnapshot(Partition p, Face[] allFaces, 
+            Object3D[] allObjects, int[] offsets) {
+        System.arraycopy(p.faces, 0, allFaces, p.faceStart, p.faces.length);
+        int oi = p.objectStart;
+        int vi = p.offset;
+        for (Object3D object : p.objects) {
+            allObjects[oi] = object;
+            offsets[oi] = vi;
+            vi += object.getVertexCount();
+            oi++;
+        }
+        p.snapshotFaceCount = p.faces.length;
+        p.snapshotObjectCount = p.objects.size();
+        p.inSnapshot = true;
+    }
+    
+    /**
+     * A task that transforms the world's vertices (in the flattened vertex
+     * order of the compiled snapshot) in chunks.  The same task is run by 
+     * several threads, each claiming chunks until there are none left, so 
+     * a thread that starts late (or never) does not hold up the others.  
+     * Object boundaries are ignored when splitting the vertices into 
+     * chunks, so a single large object can also be spread across threads.
+     */
+    private static final class TransformTask implements Runnable {
+        
+        /** The objects in the world. */
+        private final Object3D[] objects;
+        
+        /** The index of the first vertex for each object. */
+        private final int[] offsets;
+        
+        /** The view point. */
+        private final ViewPoint3D vp;
+        
+        /** The projection distance (not used for eye coordinates). */
+        private final double d;
+        
+        /** 
+         * {@code true} to calculate eye coordinates, {@code false} to 
+         * calculate projected points. 
+         */
+        private final boolean eye;
+        
+        /** The array that receives the results. */
+        private final double[] result;
+        
+        /** The total vertex count. */
+        private final int count;
+        
+        /** The number of vertices in each chunk (except the last). */
+        private final int chunkSize;
+        
+        /** The number of chunks. */
+        private final int chunks;
+        
+        /** The index of the next chunk to be claimed. */
+        private final AtomicInteger nextChunk;
+        
+        /** A latch that is counted down as each chunk is completed. */
+        private final CountDownLatch done;
+        
+        /** The first error thrown while transforming a chunk. */
+        private volatile Throwable error;
+        
+        TransformTask(Object3D[] objects, int[] offsets, ViewPoint3D vp, 
+                double d, boolean eye, double[] result, int count, 
+                int chunkSize, int chunks) {
+            this.objects = objects;
+            this.offsets = offsets;
+            this.vp = vp;
+            this.d = d;
+            this.eye = eye;
+            this.result = result;
+            this.count = count;
+            this.chunkSize = chunkSize;
+            this.chunks = chunks;
+            this.nextChunk = new AtomicInteger();
+            this.done = new CountDownLatch(chunks);
+        }
+        
+        @Override
+        public void run() {
+            while (true) {
+                int chunk = this.nextChunk.getAndIncrement();
+                if (chunk >= this.chunks) {
+                    return;
+                }
+                int from = chunk * this.chunkSize;
+                int to = Math.min(this.count, from + this.chunkSize);
+                try {
+                    transformRange(from, to);
+                } catch (Throwable t) {
+                    if (this.error == null) {
+                        this.error = t;
+                    }
+                } finally {
+                    this.done.countDown();
+                }
+            }
+        }
+        
+        /**
+         * Transforms the vertices in a range directly.
+         * 
+         * @param from  the first vertex in the range.
+         * @param to  the end of the range (exclusive).
+         */
+        private void transformRange(int from, int to) {
+            for (int i = firstObject(from); i < this.objects.length 
+                    && this.offsets[i] < to; i++) {
+                int base = this.offsets[i];
+                int start = Math.max(from, base);
+                int end = Math.min(to, 
+                        base + this.objects[i].getVertexCount());
+                if (end <= start) {
+                    continue;
+                }
+                if (this.eye) {
+                    this.objects[i].calculateEyeCoordinates(this.vp, 
+                            start - base, end - start, this.result, start);
+                } else {
+                    this.objects[i].calculateProjectedPoints(this.vp, this.d,
+                            start - base, end - start, this.result, start);
+                }
+            }
+        }
+        
+        /**
+         * Returns the index of the last object whose first vertex is at or
+         * before the specified vertex.
+         * 
+         * @param vertex  the vertex index.
+         * 
+         * @return The object index. 
+         */
+        private int firstObject(int vertex) {
+            int low = 0;
+            int high = this.offsets.length - 1;
+            int found = 0;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (this.offsets[mid] <= vertex) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+    
+    /**
+     * A partition of the objects in the world, with a cache of the faces
+     * for those objects.
+     */
+    private static final class Partition {
+        
+        /** The objects in the partition. */
+        private final List<Object3D> objects;
+        
+        /** 
+         * The faces for the objects in this partition, or {@code null} if 
+         * the partition has been modified since it was last compiled.
+         */
+        private Face[] faces;
+        
+        /** The total vertex count for the objects in this partition. */
+        private int vertexCount;
+        
+        /** The vertex offset that has been applied to the cached faces. */
+        private int offset;
+        
+        /** The index of the partition's first face in the world snapshot. */
+        private int faceStart = -1;
+        
+        /** 
+         * The index of the partition's first object in the world snapshot. 
+         */
+        private int objectStart = -1;
+        
+        /** The number of faces copied to the world snapshot. */
+        private int snapshotFaceCount;
+        
+        /** The number of objects copied to the world snapshot. */
+        private int snapshotObjectCount;
+        
+        /** 
+         * A flag indicating that the world snapshot holds the current faces 
+         * and vertex offsets for this partition.
+         */
+        private boolean inSnapshot;
+        
+        /**
+         * Creates a new empty partition.
+         */
+        Partition() {
+            this.objects = new ArrayList<Object3D>();
+        }
+        
+        /**
+         * Marks the cached faces as out of date.
+         */
+        void invalidate() {
+            this.faces = null;
+        }
+        
+        /**
+         * Ensures that the cached faces are up to date, with offsets 
+         * relative to the specified start offset for the partition.
+         * 
+         * @param start  the index of the first vertex in this partition.
+         */
+        void compile(int start) {
+            if (this.faces == null) {
+                List<Face> result = new ArrayList<Face>();
+                int vi = start;
+                for (Object3D object : this.objects) {
+                    for (Face f : object.getFaces()) {
+                        f.setOffset(vi);
+                    }
+                    vi += object.getVertexCount();
+                    result.addAll(object.getFaces());
+                }
+                this.faces = result.toArray(new Face[result.size()]);
+                this.vertexCount = vi - start;
+                this.offset = start;
+                this.inSnapshot = false;
+            } else if (start != this.offset) {
+                int delta = start - this.offset;
+                for (Face f : this.faces) {
+                    f.setOffset(f.getOffset() + delta);
+                }
+                this.offset = start;
+                this.inSnapshot = false;
+            }
         }
-        return result;
     }
 
 }
@@ -40,6 +40,8 @@ import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
@@ -49,8 +51,10 @@ import java.awt.geom.Dimension2D;
 import java.io.File;
 
 import javax.swing.JPanel;
+import javax.swing.Timer;
 import javax.swing.ToolTipManager;
 
+import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.graphics3d.Drawable3D;
 import com.orsoncharts.graphics3d.Offset2D;
@@ -72,6 +76,12 @@ import com.orsoncharts.graphics3d.RenderingInfo;
 public class Panel3D extends JPanel implements MouseListener, 
         MouseMotionListener, MouseWheelListener {
   
+    /** 
+     * The time (in milliseconds) without mouse activity after which the 
+     * full quality view is restored following a drag or mouse wheel event.
+     */
+    private static final int DRAFT_IDLE_DELAY = 250;
+    
     /**
      * The object that is displayed in the panel.
      */
@@ -119,6 +129,18 @@ public class Panel3D extends JPanel implements MouseListener,
     
     private RenderingInfo renderingInfo;
     
+    /** 
+     * A flag that controls whether the content is drawn in draft mode while
+     * the user is rotating or zooming with the mouse.
+     */
+    private boolean draftRenderingEnabled;
+    
+    /** Is a mouse interaction (drag or zoom) in progress? */
+    private transient boolean interacting;
+    
+    /** A timer that ends draft rendering after a period without activity. */
+    private transient Timer idleTimer;
+    
     /**
      * Creates a new panel with the specified {@link Drawable3D} to
      * display.
@@ -137,6 +159,7 @@ public class Panel3D extends JPanel implements MouseListener,
         this.panIncrement = Math.PI / 60;
         this.rotateIncrement = Math.PI / 60;
         this.rollIncrement = Math.PI / 60;
+        this.draftRenderingEnabled = true;
         addMouseListener(this);
         addMouseMotionListener(this);
         addMouseWheelListener(this);
@@ -153,6 +176,36 @@ public class Panel3D extends JPanel implements MouseListener,
         return this.drawable;
     }
 
+    /**
+     * Returns the flag that controls whether or not the content is drawn in
+     * draft mode (see {@link Chart3DHints#KEY_DRAFT_RENDERING}) while the 
+     * user is rotating or zooming with the mouse.  The full quality view is
+     * restored when the mouse button is released, or after a short period 
+     * without mouse activity.  The default value is {@code true}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.6
+     */
+    public boolean isDraftRenderingEnabled() {
+        return this.draftRenderingEnabled;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the content is drawn in
+     * draft mode while the user is rotating or zooming with the mouse.
+     * 
+     * @param enabled  the new flag value.
+     * 
+     * @since 1.6
+     */
+    public void setDraftRenderingEnabled(boolean enabled) {
+        this.draftRenderingEnabled = enabled;
+        if (!enabled) {
+            endInteraction();
+        }
+    }
+
     /** 
      * Returns the margin, expressed as a percentage, that controls the amount
      * of space to leave around the edges of the 3D content when the 
@@ -365,9 +418,69 @@ public class Panel3D extends JPanel implements MouseListener,
         Rectangle drawArea = new Rectangle(insets.left, insets.top, 
                 size.width - insets.left - insets.right, 
                 size.height - insets.top - insets.bottom);
-        this.renderingInfo = this.drawable.draw(g2, drawArea);
+        boolean draft = this.interacting;
+        Object savedHint = null;
+        if (draft) {
+            savedHint = g2.getRenderingHint(Chart3DHints.KEY_DRAFT_RENDERING);
+            g2.setRenderingHint(Chart3DHints.KEY_DRAFT_RENDERING, Boolean.TRUE);
+        }
+        this.renderingInfo = drawContent(g2, drawArea);
+        if (draft) {
+            g2.setRenderingHint(Chart3DHints.KEY_DRAFT_RENDERING, savedHint);
+        }
         g2.setTransform(saved);
     }
+    
+    /**
+     * Draws the content of the panel within the specified area.  This method
+     * is called by {@link #paintComponent(java.awt.Graphics)}, subclasses can
+     * override it to change the way the content is drawn (for example, to
+     * cache parts of the drawing).
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param drawArea  the drawing area ({@code null} not permitted).
+     * 
+     * @return The rendering info.
+     * 
+     * @since 1.6
+     */
+    protected RenderingInfo drawContent(Graphics2D g2, Rectangle drawArea) {
+        return this.drawable.draw(g2, drawArea);
+    }
+    
+    /**
+     * Starts (or continues) a mouse interaction, during which the content is
+     * drawn in draft mode (if enabled).
+     */
+    private void beginInteraction() {
+        if (!this.draftRenderingEnabled) {
+            return;
+        }
+        this.interacting = true;
+        if (this.idleTimer == null) {
+            this.idleTimer = new Timer(DRAFT_IDLE_DELAY, new ActionListener() {
+                @Override
+                public void actionPerformed(ActionEvent e) {
+                    endInteraction();
+                }
+            });
+            this.idleTimer.setRepeats(false);
+        }
+        this.idleTimer.restart();
+    }
+    
+    /**
+     * Ends a mouse interaction and repaints the content at full quality.
+     */
+    private void endInteraction() {
+        if (this.idleTimer != null) {
+            this.idleTimer.stop();
+        }
+        if (this.interacting) {
+            this.interacting = false;
+            repaint();
+        }
+    }
   
     /**
      * Registers this component with the tool tip manager.
@@ -426,7 +539,7 @@ public class Panel3D extends JPanel implements MouseListener,
      */
     @Override
     public void mouseReleased(MouseEvent e) {
-        // nothing to do
+        endInteraction();
     }
 
     /* (non-Javadoc)
@@ -434,6 +547,7 @@ public class Panel3D extends JPanel implements MouseListener,
      */
     @Override
     public void mouseDragged(MouseEvent e) {
+        beginInteraction();
         if (e.isAltDown()) {
             Point currPt = e.getPoint();
             Offset2D offset = this.offsetAtMousePressed;
@@ -475,6 +589,7 @@ public class Panel3D extends JPanel implements MouseListener,
                 Math.min(maxViewingDistance, 
                 this.drawable.getViewPoint().getRho() + units));
         this.drawable.getViewPoint().setRho(valRho);
+        beginInteraction();
         repaint();
     }
     
@@ -246,21 +246,35 @@ public class MarkerData {
      * @param pts  the projected points for the world. 
      */
     public void updateProjection(Point2D[] pts) {
+        updateProjection(pts, 0);
+    }
+
+    /**
+     * Updates the projected points for this marker, where the vertex indices
+     * held by this marker are relative to an object whose first vertex is at
+     * {@code offset} in the projected points array.
+     * 
+     * @param pts  the projected points for the world.
+     * @param offset  the offset of the marker's object in {@code pts}.
+     * 
+     * @since 1.6
+     */
+    public void updateProjection(Point2D[] pts, int offset) {
         if (this.type.equals(MarkerDataType.VALUE)) {
             MarkerLine line = getValueLine();
-            line.setStartPoint(pts[line.getV0()]);
-            line.setEndPoint(pts[line.getV1()]);
+            line.setStartPoint(pts[offset + line.getV0()]);
+            line.setEndPoint(pts[offset + line.getV1()]);
         } else if (this.type.equals(MarkerDataType.RANGE)) {
             MarkerLine startLine = getStartLine();
-            startLine.setStartPoint(pts[startLine.getV0()]);
-            startLine.setEndPoint(pts[startLine.getV1()]);
+            startLine.setStartPoint(pts[offset + startLine.getV0()]);
+            startLine.setEndPoint(pts[offset + startLine.getV1()]);
             MarkerLine endLine = getEndLine();
-            endLine.setStartPoint(pts[endLine.getV0()]);
-            endLine.setEndPoint(pts[endLine.getV1()]);
+            endLine.setStartPoint(pts[offset + endLine.getV0()]);
+            endLine.setEndPoint(pts[offset + endLine.getV1()]);
         }
         int labelVertex = getLabelVertexIndex();
         if (labelVertex >= 0) {
-            this.data.put("labelPoint", pts[labelVertex]);
+            this.data.put("labelPoint", pts[offset + labelVertex]);
         } else {
             this.data.put("labelPoint", null);
         }
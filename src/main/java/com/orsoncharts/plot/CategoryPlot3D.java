@@ -41,10 +41,13 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.orsoncharts.Chart3D;
 import com.orsoncharts.ChartElementVisitor;
+import com.orsoncharts.Range;
 import com.orsoncharts.axis.Axis3DChangeEvent;
 import com.orsoncharts.axis.Axis3DChangeListener;
 import com.orsoncharts.axis.CategoryAxis3D;
@@ -684,6 +687,75 @@ public class CategoryPlot3D extends AbstractPlot3D
         }
     }
     
+    /**
+     * Adds the 3D objects for the specified data items to the world.  This 
+     * is used to update a world after a dataset change that affects only a
+     * few items (the objects previously composed for those items should 
+     * first be removed via {@link World#removeItems(java.util.Collection)}).
+     * Keys that are not {@link KeyedValues3DItemKey} instances, or that do 
+     * not refer to an item in the current dataset, are ignored.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * @param itemKeys  the item keys ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.6
+     */
+    public void composeItems(World world, List<ItemKey> itemKeys, 
+            double xOffset, double yOffset, double zOffset) {
+        ArgChecks.nullNotPermitted(world, "world");
+        ArgChecks.nullNotPermitted(itemKeys, "itemKeys");
+        for (ItemKey key : itemKeys) {
+            if (!(key instanceof KeyedValues3DItemKey)) {
+                continue;
+            }
+            KeyedValues3DItemKey k = (KeyedValues3DItemKey) key;
+            int series = this.dataset.getSeriesIndex(k.getSeriesKey());
+            int row = this.dataset.getRowIndex(k.getRowKey());
+            int column = this.dataset.getColumnIndex(k.getColumnKey());
+            if (series >= 0 && row >= 0 && column >= 0) {
+                this.renderer.composeItem(this.dataset, series, row, column, 
+                        world, getDimensions(), xOffset, yOffset, zOffset);
+            }
+        }
+    }
+    
+    /**
+     * Returns the keys for the items whose 3D objects may depend on the value
+     * of the specified item.  This is a conservative set that suits all the
+     * standard renderers: all series at the same row and column (for 
+     * stacking), plus the adjacent columns (for renderers that join 
+     * neighbouring values, such as the line and area renderers).
+     * 
+     * @param key  the key for the item that changed.
+     * 
+     * @return The affected item keys, or {@code null} if the key does not
+     *     refer to an item in the dataset.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ItemKey> findAffectedItems(KeyedValues3DItemKey key) {
+        int row = this.dataset.getRowIndex(key.getRowKey());
+        int column = this.dataset.getColumnIndex(key.getColumnKey());
+        if (row < 0 || column < 0 
+                || this.dataset.getSeriesIndex(key.getSeriesKey()) < 0) {
+            return null;
+        }
+        Comparable<?> rowKey = this.dataset.getRowKey(row);
+        int c0 = Math.max(column - 1, 0);
+        int c1 = Math.min(column + 1, this.dataset.getColumnCount() - 1);
+        Set<ItemKey> result = new LinkedHashSet<ItemKey>();
+        for (int s = 0; s < this.dataset.getSeriesCount(); s++) {
+            Comparable<?> seriesKey = this.dataset.getSeriesKey(s);
+            for (int c = c0; c <= c1; c++) {
+                result.add(new KeyedValues3DItemKey(seriesKey, rowKey, 
+                        this.dataset.getColumnKey(c)));
+            }
+        }
+        return new ArrayList<ItemKey>(result);
+    }
+    
     @Override
     public String generateToolTipText(ItemKey itemKey) {
         if (!(itemKey instanceof KeyedValues3DItemKey)) {
@@ -780,12 +852,20 @@ public class CategoryPlot3D extends AbstractPlot3D
      * Receives notification of a change to the dataset and handles this by
      * adjusting the plot dimensions (according to the setting of the
      * {@code autoAdjustDimensions} flag), reconfiguring the axes, and
-     * propagating a {@code Plot3DChangeEvent}. 
+     * propagating a {@code Plot3DChangeEvent}.  If the event identifies a 
+     * single changed item and neither the plot dimensions nor the axis 
+     * ranges are changed as a result, the plot change event lists the items
+     * that need recomposing so that the chart can update its world 
+     * incrementally.
      * 
      * @param event  the change event. 
      */
     @Override
     public void datasetChanged(Dataset3DChangeEvent event) {
+        Dimension3D savedDimensions = this.dimensions;
+        Range savedColumnRange = this.columnAxis.getRange();
+        Range savedRowRange = this.rowAxis.getRange();
+        Range savedValueRange = this.valueAxis.getRange();
         // update the category axis labels 
         // and the value axis range
         if (this.autoAdjustDimensions) {
@@ -794,7 +874,20 @@ public class CategoryPlot3D extends AbstractPlot3D
         this.columnAxis.configureAsColumnAxis(this);
         this.rowAxis.configureAsRowAxis(this);
         this.valueAxis.configureAsValueAxis(this);
-        super.datasetChanged(event);  // propagates a plot change event
+        List<ItemKey> itemKeys = null;
+        if (event.getItemKey() instanceof KeyedValues3DItemKey
+                && this.dimensions.equals(savedDimensions)
+                && this.columnAxis.getRange().equals(savedColumnRange)
+                && this.rowAxis.getRange().equals(savedRowRange)
+                && this.valueAxis.getRange().equals(savedValueRange)) {
+            itemKeys = findAffectedItems(
+                    (KeyedValues3DItemKey) event.getItemKey());
+        }
+        if (itemKeys != null) {
+            notifyListeners(new Plot3DChangeEvent(event, this, itemKeys));
+        } else {
+            super.datasetChanged(event);  // propagates a plot change event
+        }
     }
     
     /**
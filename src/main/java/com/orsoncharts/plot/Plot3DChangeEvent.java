@@ -33,9 +33,12 @@
 package com.orsoncharts.plot;
 
 import java.util.EventObject;
+import java.util.List;
+import java.util.Map;
 
 import com.orsoncharts.Chart3D;
 import com.orsoncharts.data.Dataset3DChangeEvent;
+import com.orsoncharts.data.ItemKey;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -57,6 +60,24 @@ public class Plot3DChangeEvent extends EventObject {
     
     /** Does the plot change require the world to be updated? */
     private boolean requiresWorldUpdate;
+    
+    /** 
+     * The keys for the data items that need to be recomposed in the world,
+     * or {@code null} if the whole world needs updating.
+     */
+    private List<ItemKey> itemKeys;
+    
+    /**
+     * The keys for data items that have been removed from the dataset (or
+     * {@code null}).
+     */
+    private List<ItemKey> removedItemKeys;
+    
+    /**
+     * A map from old item keys to new item keys for data items that have 
+     * been renumbered (or {@code null}).
+     */
+    private Map<ItemKey, ItemKey> itemKeyUpdates;
   
     /**
      * Creates a new event.  The {@code source} of the event can be
@@ -75,6 +96,55 @@ public class Plot3DChangeEvent extends EventObject {
         this.plot = plot;
         this.requiresWorldUpdate = requiresWorldUpdate;
     }
+    
+    /**
+     * Creates a new event for a change that requires only the 3D objects 
+     * for the specified data items to be recomposed (the rest of the world,
+     * including the axis ranges and plot dimensions, is unaffected).
+     * 
+     * @param source  the event source ({@code null} not permitted).
+     * @param plot  the plot ({@code null} not permitted).
+     * @param itemKeys  the keys for the items that require updating 
+     *     ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public Plot3DChangeEvent(Object source, Plot3D plot, 
+            List<ItemKey> itemKeys) {
+        this(source, plot, true);
+        ArgChecks.nullNotPermitted(itemKeys, "itemKeys");
+        this.itemKeys = itemKeys;
+    }
+    
+    /**
+     * Creates a new event for a change where some data items have been 
+     * removed and others renumbered as well as changed (this is typical 
+     * when new items are appended to a series with a fixed capacity, so that
+     * the oldest items are discarded).  Listeners should first remove the 
+     * objects for the {@code removedItemKeys}, then apply the 
+     * {@code itemKeyUpdates} and finally recompose the items for the 
+     * {@code itemKeys}.
+     * 
+     * @param source  the event source ({@code null} not permitted).
+     * @param plot  the plot ({@code null} not permitted).
+     * @param itemKeys  the keys for the items that require updating 
+     *     ({@code null} not permitted).
+     * @param removedItemKeys  the keys (before renumbering) for the items 
+     *     that were removed ({@code null} not permitted).
+     * @param itemKeyUpdates  a map from old to new keys for the items that 
+     *     were renumbered ({@code null} not permitted).
+     * 
+     * @since 1.6
+     */
+    public Plot3DChangeEvent(Object source, Plot3D plot, 
+            List<ItemKey> itemKeys, List<ItemKey> removedItemKeys, 
+            Map<ItemKey, ItemKey> itemKeyUpdates) {
+        this(source, plot, itemKeys);
+        ArgChecks.nullNotPermitted(removedItemKeys, "removedItemKeys");
+        ArgChecks.nullNotPermitted(itemKeyUpdates, "itemKeyUpdates");
+        this.removedItemKeys = removedItemKeys;
+        this.itemKeyUpdates = itemKeyUpdates;
+    }
  
     /**
      * Returns the plot from which the event came.
@@ -97,4 +167,43 @@ public class Plot3DChangeEvent extends EventObject {
         return this.requiresWorldUpdate;
     }
     
+    /**
+     * Returns the keys for the data items whose 3D objects need to be 
+     * recomposed, or {@code null} if the change (when 
+     * {@link #requiresWorldUpdate()} returns {@code true}) requires the 
+     * whole world to be updated.
+     * 
+     * @return The item keys (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public List<ItemKey> getItemKeys() {
+        return this.itemKeys;
+    }
+    
+    /**
+     * Returns the keys for data items that have been removed, or 
+     * {@code null}.  The keys refer to the item numbering before the 
+     * change.
+     * 
+     * @return The item keys (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public List<ItemKey> getRemovedItemKeys() {
+        return this.removedItemKeys;
+    }
+    
+    /**
+     * Returns a map from old item keys to new item keys for the data items
+     * that have been renumbered by the change, or {@code null}.
+     * 
+     * @return The map (possibly {@code null}).
+     * 
+     * @since 1.6
+     */
+    public Map<ItemKey, ItemKey> getItemKeyUpdates() {
+        return this.itemKeyUpdates;
+    }
+    
 }
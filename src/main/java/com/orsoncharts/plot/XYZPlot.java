@@ -41,15 +41,19 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.orsoncharts.ChartElementVisitor;
+import com.orsoncharts.Range;
 import com.orsoncharts.axis.Axis3DChangeEvent;
 import com.orsoncharts.axis.Axis3DChangeListener;
 import com.orsoncharts.axis.ValueAxis3D;
 import com.orsoncharts.data.Dataset3DChangeEvent;
 import com.orsoncharts.data.Dataset3DChangeListener;
 import com.orsoncharts.data.ItemKey;
+import com.orsoncharts.data.xyz.XYZAppendEvent;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZItemKey;
 import com.orsoncharts.renderer.xyz.XYZRenderer;
@@ -582,6 +586,125 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
         }
     }
 
+    /**
+     * Adds the 3D objects for the specified data items to the world.  This 
+     * is used to update a world after a dataset change that affects only a
+     * few items (the objects previously composed for those items should 
+     * first be removed via {@link World#removeItems(java.util.Collection)}).
+     * This only applies to renderers that compose items individually (see
+     * {@link ComposeType#PER_ITEM}).  Keys that are not {@link XYZItemKey}
+     * instances, or that do not refer to an item in the current dataset, are
+     * ignored.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * @param itemKeys  the item keys ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.6
+     */
+    public void composeItems(World world, List<ItemKey> itemKeys, 
+            double xOffset, double yOffset, double zOffset) {
+        ArgChecks.nullNotPermitted(world, "world");
+        ArgChecks.nullNotPermitted(itemKeys, "itemKeys");
+        if (this.renderer.getComposeType() != ComposeType.PER_ITEM) {
+            throw new IllegalStateException(
+                    "The renderer does not compose items individually.");
+        }
+        for (ItemKey key : itemKeys) {
+            if (!(key instanceof XYZItemKey)) {
+                continue;
+            }
+            XYZItemKey k = (XYZItemKey) key;
+            int series = this.dataset.getSeriesIndex(k.getSeriesKey());
+            int item = k.getItemIndex();
+            if (series >= 0 && item >= 0 
+                    && item < this.dataset.getItemCount(series)) {
+                this.renderer.composeItem(this.dataset, series, item, world, 
+                        this.dimensions, xOffset, yOffset, zOffset);
+            }
+        }
+    }
+    
+    /**
+     * Returns the keys for the items whose 3D objects may depend on the value
+     * of the specified item (the item itself plus its neighbours in the same
+     * series, since some renderers join adjacent items).
+     * 
+     * @param key  the key for the item that changed.
+     * 
+     * @return The affected item keys, or {@code null} if the key does not
+     *     refer to an item in the dataset.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ItemKey> findAffectedItems(XYZItemKey key) {
+        int series = this.dataset.getSeriesIndex(key.getSeriesKey());
+        if (series < 0 || key.getItemIndex() < 0 
+                || key.getItemIndex() >= this.dataset.getItemCount(series)) {
+            return null;
+        }
+        int i0 = Math.max(key.getItemIndex() - 1, 0);
+        int i1 = Math.min(key.getItemIndex() + 1, 
+                this.dataset.getItemCount(series) - 1);
+        List<ItemKey> result = new ArrayList<ItemKey>();
+        for (int i = i0; i <= i1; i++) {
+            result.add(new XYZItemKey(key.getSeriesKey(), i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a plot change event for items appended to (and discarded 
+     * from) the series in the dataset.  For each series, the objects for 
+     * discarded items are removed, the remaining items are renumbered, and
+     * the new items plus their neighbours (the first remaining item, which 
+     * may have been joined to a discarded item, and the last item before 
+     * the new items) are recomposed.
+     * 
+     * @param event  the dataset event.
+     * 
+     * @return The plot change event. 
+     */
+    @SuppressWarnings("unchecked")
+    private Plot3DChangeEvent createAppendChangeEvent(XYZAppendEvent event) {
+        List<ItemKey> itemKeys = new ArrayList<ItemKey>();
+        List<ItemKey> removedKeys = new ArrayList<ItemKey>();
+        Map<ItemKey, ItemKey> keyUpdates = new HashMap<ItemKey, ItemKey>();
+        for (Comparable<?> seriesKey : event.getSeriesKeys()) {
+            int appended = event.getAppendedCount(seriesKey);
+            int evicted = event.getEvictedCount(seriesKey);
+            if (appended == 0 && evicted == 0) {
+                continue;
+            }
+            int series = this.dataset.getSeriesIndex(seriesKey);
+            int count = this.dataset.getItemCount(series);
+            int oldCount = count - appended + evicted;
+            int oldEvicted = Math.min(evicted, oldCount);
+            for (int i = 0; i < oldEvicted; i++) {
+                removedKeys.add(new XYZItemKey(seriesKey, i));
+            }
+            if (oldEvicted > 0) {
+                for (int i = oldEvicted; i < oldCount; i++) {
+                    keyUpdates.put(new XYZItemKey(seriesKey, i), 
+                            new XYZItemKey(seriesKey, i - oldEvicted));
+                }
+            }
+            // the new items start after the retained items, and we also 
+            // recompose the last retained item and (if items were 
+            // discarded) the first one
+            int first = Math.max(oldCount - oldEvicted - 1, 0);
+            if (oldEvicted > 0 && first > 0) {
+                itemKeys.add(new XYZItemKey(seriesKey, 0));
+            }
+            for (int i = first; i < count; i++) {
+                itemKeys.add(new XYZItemKey(seriesKey, i));
+            }
+        }
+        return new Plot3DChangeEvent(event, this, itemKeys, removedKeys, 
+                keyUpdates);
+    }
+
     @Override
     public String generateToolTipText(ItemKey itemKey) {
         if (!(itemKey instanceof XYZItemKey)) {
@@ -700,16 +823,42 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
      * Receives notification that the plot's dataset has changed, and 
      * responds by passing on a {@link Plot3DChangeEvent} to the plot's 
      * registered listeners (with the default set-up, this notifies the 
-     * chart).
+     * chart).  If the event identifies a single changed item, the renderer
+     * composes items individually and the axis ranges are unchanged, the 
+     * plot change event lists the items that need recomposing so that the 
+     * chart can update its world incrementally.  The same applies to an
+     * {@link XYZAppendEvent}, where the event also lists the items that 
+     * were discarded and the items that were renumbered.
      * 
      * @param event  the event. 
      */
     @Override
     public void datasetChanged(Dataset3DChangeEvent event) {
+        Range savedXRange = this.xAxis.getRange();
+        Range savedYRange = this.yAxis.getRange();
+        Range savedZRange = this.zAxis.getRange();
         this.xAxis.configureAsXAxis(this);
         this.yAxis.configureAsYAxis(this);
         this.zAxis.configureAsZAxis(this);
-        super.datasetChanged(event);
+        boolean incremental 
+                = this.renderer.getComposeType() == ComposeType.PER_ITEM
+                && this.xAxis.getRange().equals(savedXRange)
+                && this.yAxis.getRange().equals(savedYRange)
+                && this.zAxis.getRange().equals(savedZRange);
+        if (incremental && event instanceof XYZAppendEvent 
+                && event.getDataset() == this.dataset) {
+            notifyListeners(createAppendChangeEvent((XYZAppendEvent) event));
+            return;
+        }
+        List<ItemKey> itemKeys = null;
+        if (incremental && event.getItemKey() instanceof XYZItemKey) {
+            itemKeys = findAffectedItems((XYZItemKey) event.getItemKey());
+        }
+        if (itemKeys != null) {
+            notifyListeners(new Plot3DChangeEvent(event, this, itemKeys));
+        } else {
+            super.datasetChanged(event);
+        }
     }
     
     /**
@@ -75,6 +75,17 @@ public class GradientColorScale extends AbstractColorScale
         this.lowColor = lowColor;
         this.highColor = highColor;
         this.colors = new Color[255];
+        // the colors are created up-front so that instances can safely be
+        // shared between charts that are rendered on different threads
+        float[] lrgba = this.lowColor.getRGBComponents(null);
+        float[] hrgba = this.highColor.getRGBComponents(null);
+        for (int i = 0; i < this.colors.length; i++) {
+            float p = i / (float) (this.colors.length - 1);
+            this.colors[i] = new Color(lrgba[0] * (1 - p) + hrgba[0] * p,
+                    lrgba[1] * (1 - p) + hrgba[1] * p,
+                    lrgba[2] * (1 - p) + hrgba[2] * p,
+                    lrgba[3] * (1 - p) + hrgba[3] * p);
+        }
     }
 
     /**
@@ -121,16 +132,8 @@ public class GradientColorScale extends AbstractColorScale
             return valueToColor(r.getMax());
         }
         double fraction = getRange().percent(value);
-        int i = (int) (fraction * this.colors.length);
-        if (this.colors[i] == null) {
-            float[] lrgba = this.lowColor.getRGBComponents(null);
-            float[] hrgba = this.highColor.getRGBComponents(null);
-            float p = (float) fraction;
-            this.colors[i] = new Color(lrgba[0] * (1 - p) + hrgba[0] * p,
-                    lrgba[1] * (1 - p) + hrgba[1] * p,
-                    lrgba[2] * (1 - p) + hrgba[2] * p,
-                    lrgba[3] * (1 - p) + hrgba[3] * p);
-        }
+        int i = Math.min((int) (fraction * this.colors.length), 
+                this.colors.length - 1);
         return this.colors[i];
     }
     
@@ -94,6 +94,12 @@ public class RainbowScale extends AbstractColorScale implements ColorScale {
         ArgChecks.nullNotPermitted(hueSubrange, "hueSubrange");
         this.colors = new Color[samples];
         this.hueSubrange = hueSubrange;
+        // the colors are created up-front so that instances can safely be
+        // shared between charts that are rendered on different threads
+        for (int i = 0; i < samples; i++) {
+            double fraction = samples > 1 ? i / (samples - 1.0) : 0.0;
+            this.colors[i] = createRainbowColor(fraction);
+        }
     }
 
     /**
@@ -132,9 +138,6 @@ public class RainbowScale extends AbstractColorScale implements ColorScale {
         }
         double fraction = getRange().percent(value);
         int i = (int) (fraction * (this.colors.length - 1));
-        if (this.colors[i] == null) {
-            this.colors[i] = createRainbowColor(fraction);
-        }
         return this.colors[i];
     }
     
@@ -303,8 +303,8 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
         Comparable<?> seriesKey = dataset.getSeriesKey(series);
         Comparable<?> rowKey = dataset.getRowKey(row);
         Comparable<?> columnKey = dataset.getColumnKey(column);
-        double rowValue = rowAxis.getCategoryValue(rowKey);
-        double columnValue = columnAxis.getCategoryValue(columnKey);
+        double rowValue = rowAxis.getCategoryValue(row);
+        double columnValue = columnAxis.getCategoryValue(column);
         double ww = dimensions.getWidth();
         double hh = dimensions.getHeight();
         double dd = dimensions.getDepth();
@@ -384,8 +384,7 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
                 rowKey, columnKey);
  
         if (createLeftSegment) {
-            Comparable<?> prevColumnKey = dataset.getColumnKey(column - 1);
-            double prevColumnValue = columnAxis.getCategoryValue(prevColumnKey);
+            double prevColumnValue = columnAxis.getCategoryValue(column - 1);
             double prevColumnX = columnAxis.translateToWorld(prevColumnValue, 
                     ww) + xOffset;
             double xl = (prevColumnX + xw) / 2.0;
@@ -405,8 +404,7 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
         }
 
         if (createRightSegment) {
-            Comparable<?> nextColumnKey = dataset.getColumnKey(column + 1);
-            double nextColumnValue = columnAxis.getCategoryValue(nextColumnKey);
+            double nextColumnValue = columnAxis.getCategoryValue(column + 1);
             double nextColumnX = columnAxis.translateToWorld(nextColumnValue, 
                     ww) + xOffset;
             double xr = (nextColumnX + xw) / 2.0;
@@ -327,8 +327,8 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
         double vtop = range.peggedValue(vhigh);
         boolean inverted = barBase > value;
         
-        double rowValue = rowAxis.getCategoryValue(rowKey);
-        double columnValue = columnAxis.getCategoryValue(columnKey);
+        double rowValue = rowAxis.getCategoryValue(row);
+        double columnValue = columnAxis.getCategoryValue(column);
 
         double width = dimensions.getWidth();
         double height = dimensions.getHeight();
@@ -407,7 +407,7 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
                         getItemLabelFont(), getItemLabelColor(), 
                         getItemLabelBackgroundColor(), xw + dx, yy + dy, 
                         zw - dz, true, false);
-                labelObj1.setProperty(Object3D.ITEM_KEY, itemKey);
+                labelObj2.setProperty(Object3D.ITEM_KEY, itemKey);
                 world.add(labelObj2);
             }
         }        
@@ -239,8 +239,8 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
         Comparable<?> seriesKey = dataset.getSeriesKey(series);
         Comparable<?> rowKey = dataset.getRowKey(row);
         Comparable<?> columnKey = dataset.getColumnKey(column);
-        double rowValue = rowAxis.getCategoryValue(rowKey);
-        double columnValue = columnAxis.getCategoryValue(columnKey);
+        double rowValue = rowAxis.getCategoryValue(row);
+        double columnValue = columnAxis.getCategoryValue(column);
         double ww = dimensions.getWidth();
         double hh = dimensions.getHeight();
         double dd = dimensions.getDepth();
@@ -307,8 +307,7 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
         KeyedValues3DItemKey itemKey = new KeyedValues3DItemKey(seriesKey, 
                 rowKey, columnKey);
         if (createLeftSegment) {
-            Comparable<?> prevColumnKey = dataset.getColumnKey(column - 1);
-            double prevColumnValue = columnAxis.getCategoryValue(prevColumnKey);
+            double prevColumnValue = columnAxis.getCategoryValue(column - 1);
             double prevColumnX = columnAxis.translateToWorld(prevColumnValue, 
                     ww) + xOffset;
             double xl = (prevColumnX + xw) / 2.0;
@@ -324,8 +323,7 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
             }
         }
         if (createRightSegment) {
-            Comparable<?> nextColumnKey = dataset.getColumnKey(column + 1);
-            double nextColumnValue = columnAxis.getCategoryValue(nextColumnKey);
+            double nextColumnValue = columnAxis.getCategoryValue(column + 1);
             double nextColumnX = columnAxis.translateToWorld(nextColumnValue, 
                     ww) + xOffset;
             double xr = (nextColumnX + xw) / 2.0;
@@ -33,6 +33,7 @@
 package com.orsoncharts.renderer.category;
 
 import com.orsoncharts.Range;
+import com.orsoncharts.data.AbstractDataset3D;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Values3D;
@@ -67,6 +68,22 @@ import com.orsoncharts.label.ItemLabelPositioning;
 @SuppressWarnings("serial")
 public class StackedBarRenderer3D extends BarRenderer3D {
 
+    /** The dataset for the cached stack subtotals (or {@code null}). */
+    private transient CategoryDataset3D stackData;
+    
+    /** The dataset version for the cached stack subtotals. */
+    private transient long stackVersion;
+    
+    /** The base value for the cached stack subtotals. */
+    private transient double stackBase;
+    
+    /** 
+     * The cached stack subtotals:  for each item (in series, row, column 
+     * order) the base plus the negative values of the lower series, then 
+     * the base plus the positive values of the lower series.
+     */
+    private transient double[] stackTotals;
+    
     /**
      * Creates a default constructor.
      */
@@ -115,11 +132,16 @@ public class StackedBarRenderer3D extends BarRenderer3D {
         if (Double.isNaN(value)) {
             return;
         }        
-        double[] stack = DataUtils.stackSubTotal(dataset, getBase(), series,
-                row, column);
-        double lower = stack[1];
-        if (value < 0.0) {
-            lower = stack[0];
+        double lower;
+        double[] totals = findStackTotals(dataset);
+        if (totals != null) {
+            int i = 2 * ((series * dataset.getRowCount() + row) 
+                    * dataset.getColumnCount() + column);
+            lower = value < 0.0 ? totals[i] : totals[i + 1];
+        } else {
+            double[] stack = DataUtils.stackSubTotal(dataset, getBase(), 
+                    series, row, column);
+            lower = value < 0.0 ? stack[0] : stack[1];
         }
         double upper = lower + value;
         composeItem(upper, lower, dataset, series, row, column, world, 
@@ -127,6 +149,69 @@ public class StackedBarRenderer3D extends BarRenderer3D {
         
     }
     
+    /**
+     * Returns the stack subtotals for all the items in the dataset, 
+     * calculating them in a single pass if the cached values are not 
+     * current.  The cache is used only for datasets that extend 
+     * {@link AbstractDataset3D}, because these report a version that 
+     * changes with the data.
+     * 
+     * @param dataset  the dataset.
+     * 
+     * @return The subtotals, or {@code null} if they cannot be cached for 
+     *     the dataset.
+     */
+    private double[] findStackTotals(CategoryDataset3D dataset) {
+        if (!(dataset instanceof AbstractDataset3D)) {
+            return null;
+        }
+        long version = ((AbstractDataset3D) dataset).getVersion();
+        double base = getBase();
+        int seriesCount = dataset.getSeriesCount();
+        int cellCount = dataset.getRowCount() * dataset.getColumnCount();
+        long length = 2L * seriesCount * cellCount;
+        if (this.stackTotals != null && this.stackData == dataset 
+                && this.stackVersion == version && this.stackBase == base
+                && this.stackTotals.length == length) {
+            return this.stackTotals;
+        }
+        if (length > Integer.MAX_VALUE) {
+            return null;
+        }
+        double[] totals = this.stackTotals;
+        if (totals == null || totals.length != length) {
+            totals = new double[(int) length];
+        }
+        // the subtotals for each series are the subtotals for the series 
+        // below plus the value from the series below
+        int columnCount = dataset.getColumnCount();
+        for (int i = 0; i < 2 * cellCount && seriesCount > 0; i++) {
+            totals[i] = base;
+        }
+        for (int s = 1; s < seriesCount; s++) {
+            int j = 2 * (s - 1) * cellCount;
+            for (int cell = 0; cell < cellCount; cell++) {
+                double neg = totals[j];
+                double pos = totals[j + 1];
+                double v = dataset.getDoubleValue(s - 1, cell / columnCount, 
+                        cell % columnCount);
+                if (v > 0.0) {
+                    pos = pos + v;
+                } else if (v < 0.0) {
+                    neg = neg + v;
+                }
+                totals[j + 2 * cellCount] = neg;
+                totals[j + 2 * cellCount + 1] = pos;
+                j += 2;
+            }
+        }
+        this.stackData = dataset;
+        this.stackVersion = version;
+        this.stackBase = base;
+        this.stackTotals = totals;
+        return totals;
+    }
+    
     @Override
     protected void drawItemLabels(World world, CategoryDataset3D dataset, 
             KeyedValues3DItemKey itemKey, double xw, double yw, double zw, 
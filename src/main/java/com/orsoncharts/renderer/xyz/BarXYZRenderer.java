@@ -39,6 +39,7 @@ import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.Range;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZItemKey;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Object3D;
@@ -350,6 +351,8 @@ public class BarXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
                 ((wx0 + wx1) / 2.0) + xOffset, wy1 + yOffset, 
                 ((wz0 + wz1) / 2.0) + zOffset, wy0 + yOffset, color, 
                 baseColor, topColor, inverted);
+        bar.setProperty(Object3D.ITEM_KEY, new XYZItemKey(
+                dataset.getSeriesKey(series), item));
         world.add(bar);
     }
 
@@ -37,10 +37,12 @@ import java.io.Serializable;
 
 import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZItemKey;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Line3D;
 import com.orsoncharts.graphics3d.LineObject3D;
+import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.World;
 
 /**
@@ -120,6 +122,8 @@ public class LineXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
                     (float) (line.getEnd().getX() + xOffset), 
                     (float) (line.getEnd().getY() + yOffset), 
                     (float) (line.getEnd().getZ() + zOffset), color);
+            line3D.setProperty(Object3D.ITEM_KEY, new XYZItemKey(
+                    dataset.getSeriesKey(series), item));
             world.add(line3D);
         }
     }
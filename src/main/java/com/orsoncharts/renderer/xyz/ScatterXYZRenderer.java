@@ -41,6 +41,8 @@ import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZItemKey;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Mesh;
+import com.orsoncharts.graphics3d.MeshObject3D;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Offset3D;
 import com.orsoncharts.graphics3d.World;
@@ -136,7 +138,9 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
      * Constructs and places one item from the specified dataset into the given 
      * world.  The {@link XYZPlot} class will iterate over its dataset and
      * and call this method for each item (in other words, you don't need to 
-     * call this method directly).
+     * call this method directly).  For a draft world (see 
+     * {@link World#isDraft()}) the item is represented by a single point and 
+     * no item label is added.
      * 
      * @param dataset the dataset ({@code null} not permitted).
      * @param series  the series index.
@@ -179,10 +183,18 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
         double cx = (xmax + xmin) / 2.0 + xOffset;
         double cy = (ymax + ymin) / 2.0 + yOffset;
         double cz = (zmax + zmin) / 2.0 + zOffset;
-        Object3D cube = Object3D.createBox(cx, xmax - xmin, cy, ymax - ymin, 
-                cz, zmax - zmin, color);
         Comparable<?> seriesKey = dataset.getSeriesKey(series);
         XYZItemKey itemKey = new XYZItemKey(seriesKey, item);
+        if (world.isDraft()) {
+            // a single point is enough for interactive display
+            Object3D point = new MeshObject3D(Mesh.POINT, cx, cy, cz, color);
+            point.setProperty(Object3D.ITEM_KEY, itemKey);
+            world.add(point);
+            return;
+        }
+        // every item shares the geometry of the unit box
+        Object3D cube = new MeshObject3D(Mesh.BOX, cx, cy, cz, xmax - xmin, 
+                ymax - ymin, zmax - zmin, color);
         cube.setProperty(Object3D.ITEM_KEY, itemKey);
         world.add(cube);
         
@@ -230,7 +230,9 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
     
     /**
      * Composes the entire representation of the function in the supplied
-     * {@code world}.
+     * {@code world}.  For a draft world (see {@link World#isDraft()}) the
+     * function is sampled on a coarser grid (one third of the samples in 
+     * each direction) and the face outlines are not drawn.
      * 
      * @param plot  the plot.
      * @param world  the world.
@@ -252,12 +254,20 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         double ylen = dim.getHeight();
         double zlen = dim.getDepth();
         Range yRange = new Range(yOffset, -yOffset);
-        for (int xIndex = 0; xIndex < this.xSamples; xIndex++) {
-            double xfrac0 = xIndex / (double) this.xSamples;
-            double xfrac1 = (xIndex + 1) / (double) this.xSamples;
-            for (int zIndex = 0; zIndex < this.zSamples; zIndex++) {
-                double zfrac0 = zIndex / (double) this.zSamples;
-                double zfrac1 = (zIndex + 1) / (double) this.zSamples;
+        int xCount = this.xSamples;
+        int zCount = this.zSamples;
+        boolean outlines = this.drawFaceOutlines;
+        if (world.isDraft()) {
+            xCount = Math.max(2, xCount / 3);
+            zCount = Math.max(2, zCount / 3);
+            outlines = false;
+        }
+        for (int xIndex = 0; xIndex < xCount; xIndex++) {
+            double xfrac0 = xIndex / (double) xCount;
+            double xfrac1 = (xIndex + 1) / (double) xCount;
+            for (int zIndex = 0; zIndex < zCount; zIndex++) {
+                double zfrac0 = zIndex / (double) zCount;
+                double zfrac1 = (zIndex + 1) / (double) zCount;
                 
                 double x0 = xAxis.getRange().value(xfrac0);
                 double x1 = xAxis.getRange().value(xfrac1);
@@ -281,7 +291,7 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
                 double wz1 = zAxis.translateToWorld(z1, zlen) + zOffset;
 
                 Color color = this.colorScale.valueToColor(ymm);
-                Object3D obj = new Object3D(color, this.drawFaceOutlines);
+                Object3D obj = new Object3D(color, outlines);
                 List<Point3D> pts1 = facePoints1(wx0, wx1, wz0, wz1, wy00, wy01, 
                         wy11, yRange);
                 int count1 = pts1.size();
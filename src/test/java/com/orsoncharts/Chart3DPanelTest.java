@@ -0,0 +1,153 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.graphics3d.RenderedElement;
+import com.orsoncharts.graphics3d.RenderingInfo;
+import com.orsoncharts.interaction.InteractiveElementType;
+
+/**
+ * Tests for the {@link Chart3DPanel} class.
+ */
+public class Chart3DPanelTest {
+
+    /** A panel that provides access to the rendering info. */
+    @SuppressWarnings("serial")
+    private static class TestPanel extends Chart3DPanel {
+        
+        TestPanel(Chart3D chart) {
+            super(chart);
+        }
+        
+        RenderingInfo fetchRenderingInfo() {
+            return getRenderingInfo();
+        }
+    }
+
+    private Chart3D createChart() {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S2", "R1", "C1");
+        return Chart3DFactory.createBarChart("Title", "Subtitle", dataset, 
+                null, null, null);
+    }
+    
+    private BufferedImage paint(Chart3DPanel panel) {
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        return image;
+    }
+    
+    /**
+     * Checks that two images are the same, allowing a difference of one in 
+     * each color component (for rounding when the layers are composited).
+     */
+    private void assertSimilarImage(BufferedImage expected, 
+            BufferedImage actual) {
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                int rgb1 = expected.getRGB(x, y);
+                int rgb2 = actual.getRGB(x, y);
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int c1 = (rgb1 >> shift) & 0xFF;
+                    int c2 = (rgb2 >> shift) & 0xFF;
+                    assertTrue(Math.abs(c1 - c2) <= 1);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Drawing the background, legend and title from cached images should 
+     * give the same result as drawing the chart directly, including after
+     * the view point is changed.
+     */
+    @Test
+    public void testLayerCaching() {
+        Chart3D chart = createChart();
+        TestPanel cached = new TestPanel(chart);
+        cached.setSize(400, 300);
+        Chart3DPanel direct = new Chart3DPanel(chart);
+        direct.setSize(400, 300);
+        direct.setLayerCachingEnabled(false);
+        assertSimilarImage(paint(direct), paint(cached));
+        
+        chart.getViewPoint().panLeftRight(0.3);
+        assertSimilarImage(paint(direct), paint(cached));
+        
+        // a title change must be picked up
+        chart.setTitle("New Title");
+        assertSimilarImage(paint(direct), paint(cached));
+        
+        // the legend items are still available for mouse events
+        boolean found = false;
+        for (RenderedElement e : cached.fetchRenderingInfo().getElements()) {
+            if (e.getType() == InteractiveElementType.LEGEND_ITEM) {
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+    
+    /**
+     * Some checks for the maximum frame rate setting.
+     */
+    @Test
+    public void testMaxFrameRate() {
+        Chart3DPanel panel = new Chart3DPanel(createChart());
+        assertEquals(60.0, panel.getMaxFrameRate(), 0.0);
+        panel.setMaxFrameRate(0.0);
+        assertEquals(0.0, panel.getMaxFrameRate(), 0.0);
+        try {
+            panel.setMaxFrameRate(-1.0);
+            fail("Expected an IllegalArgumentException for this case.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+}
@@ -40,16 +40,28 @@ import org.junit.Test;
 
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import com.orsoncharts.ChartBox3D.ChartBoxFace;
 import com.orsoncharts.data.StandardPieDataset3D;
 import com.orsoncharts.data.PieDataset3D;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
 import com.orsoncharts.data.DefaultKeyedValues;
+import com.orsoncharts.data.xyz.StreamingXYZDataset;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.LabelFace;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.legend.LegendAnchor;
 import com.orsoncharts.legend.StandardLegendBuilder;
+import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.style.ChartStyles;
 import com.orsoncharts.util.Orientation;
 import com.orsoncharts.table.StandardRectanglePainter;
@@ -243,6 +255,178 @@ public class Chart3DTest {
         
     }
 
+    /**
+     * Back faces should be discarded before sorting, and faces outside the
+     * clip region should be discarded too.
+     */
+    @Test
+    public void testFaceCulling() {
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle", 
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        RenderingInfo info = chart.draw(g2, new Rectangle(400, 300));
+        assertTrue(info.getCulledBackFaceCount() > 0);
+        for (Face f : info.getFaces()) {
+            if (f.getVertexCount() > 2 && !(f instanceof LabelFace)) {
+                assertTrue(f.isFrontFacing(info.getProjectedPoints()));
+            }
+        }
+        int frontCount = info.getFaces().size() 
+                + info.getCulledOffscreenFaceCount();
+        int offscreenCount = info.getCulledOffscreenFaceCount();
+        
+        // clip to the left half of the chart
+        g2.setClip(0, 0, 200, 300);
+        info = chart.draw(g2, new Rectangle(400, 300));
+        assertTrue(info.getCulledOffscreenFaceCount() > offscreenCount);
+        assertEquals(frontCount, info.getFaces().size() 
+                + info.getCulledOffscreenFaceCount());
+        g2.dispose();
+    }
+
+    /**
+     * The chart box is replaced each time the chart is drawn, and its vertex
+     * count depends on the tick selection.  Redrawing with a different view
+     * point and size must not change the offsets of the data faces.
+     */
+    @Test
+    public void testDataFaceOffsetsAcrossRedraws() {
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle", 
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        BufferedImage image = new BufferedImage(1200, 900, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        RenderingInfo info = chart.draw(g2, new Rectangle(1200, 900));
+        Map<Face, Integer> offsets = new IdentityHashMap<Face, Integer>();
+        int chartBoxVertices = -1;
+        int maxDataVertex = -1;
+        for (Face f : info.getFaces()) {
+            if (f instanceof ChartBoxFace) {
+                chartBoxVertices = f.getOwner().getVertexCount();
+            } else {
+                offsets.put(f, f.getOffset());
+                maxDataVertex = Math.max(maxDataVertex, 
+                        f.getOffset() + f.getOwner().getVertexCount());
+            }
+        }
+        assertFalse(offsets.isEmpty());
+        
+        chart.getViewPoint().moveUpDown(0.5);
+        chart.getViewPoint().setRho(chart.getViewPoint().getRho() * 1.5);
+        g2.setClip(null);
+        info = chart.draw(g2, new Rectangle(200, 150));
+        int count = 0;
+        for (Face f : info.getFaces()) {
+            if (f instanceof ChartBoxFace) {
+                assertTrue(chartBoxVertices 
+                        != f.getOwner().getVertexCount());
+                assertTrue(f.getOffset() >= maxDataVertex);
+            } else if (offsets.containsKey(f)) {
+                assertEquals(offsets.get(f).intValue(), f.getOffset());
+                count++;
+            }
+        }
+        assertTrue(count > 0);
+        g2.dispose();
+    }
+
+    /**
+     * Several incremental dataset changes between two draws should give the
+     * same result as drawing a new chart for the final data.
+     */
+    @Test
+    public void testIncrementalChangesBeforeDraw() {
+        StreamingXYZDataset dataset = new StreamingXYZDataset(10);
+        dataset.setAutoFlush(false);
+        Chart3D chart = createFixedRangeScatterChart(dataset);
+        for (int i = 0; i < 25; i++) {
+            dataset.append("S1", i % 3, i % 4, i % 5);
+            dataset.flush();
+            if (i % 7 == 0) {
+                drawChart(chart);
+            }
+        }
+        StreamingXYZDataset copy = new StreamingXYZDataset(10);
+        copy.setAutoFlush(false);
+        for (int i = 0; i < dataset.getItemCount(0); i++) {
+            copy.append("S1", dataset.getX(0, i), dataset.getY(0, i), 
+                    dataset.getZ(0, i));
+        }
+        copy.flush();
+        BufferedImage expected = drawChart(createFixedRangeScatterChart(copy));
+        BufferedImage actual = drawChart(chart);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+    
+    /**
+     * A draft rendering of a scatter chart draws a point for each item, and
+     * does not affect the next full quality rendering.
+     */
+    @Test
+    public void testDraftRendering() {
+        XYZSeriesCollection dataset = new XYZSeriesCollection();
+        XYZSeries s = new XYZSeries("S1");
+        s.add(1.0, 2.0, 3.0);
+        s.add(2.0, 3.0, 4.0);
+        dataset.add(s);
+        Chart3D chart = createFixedRangeScatterChart(dataset);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        RenderingInfo info = chart.draw(g2, new Rectangle(400, 300));
+        int fullCount = countItemFaces(info);
+        assertTrue(fullCount > 2);
+        
+        g2.setRenderingHint(Chart3DHints.KEY_DRAFT_RENDERING, Boolean.TRUE);
+        info = chart.draw(g2, new Rectangle(400, 300));
+        assertEquals(2, countItemFaces(info));
+        for (Face f : info.getFaces()) {
+            if (f.getOwner().getProperty(Object3D.ITEM_KEY) != null) {
+                assertEquals(1, f.getVertexCount());
+            }
+        }
+        
+        g2.setRenderingHint(Chart3DHints.KEY_DRAFT_RENDERING, Boolean.FALSE);
+        info = chart.draw(g2, new Rectangle(400, 300));
+        assertEquals(fullCount, countItemFaces(info));
+        g2.dispose();
+    }
+    
+    private int countItemFaces(RenderingInfo info) {
+        int count = 0;
+        for (Face f : info.getFaces()) {
+            if (f.getOwner().getProperty(Object3D.ITEM_KEY) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private Chart3D createFixedRangeScatterChart(XYZDataset dataset) {
+        Chart3D chart = Chart3DFactory.createScatterChart("title", null, 
+                dataset, "X", "Y", "Z");
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        plot.getXAxis().setRange(0.0, 5.0);
+        plot.getYAxis().setRange(0.0, 5.0);
+        plot.getZAxis().setRange(0.0, 5.0);
+        return chart;
+    }
+    
+    private BufferedImage drawChart(Chart3D chart) {
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle(400, 300));
+        g2.dispose();
+        return image;
+    }
+
     private PieDataset3D createPieDataset() {
         StandardPieDataset3D dataset = new StandardPieDataset3D();
         dataset.add("United States", new Double(30.0));
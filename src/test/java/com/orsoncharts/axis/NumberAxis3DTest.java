@@ -45,6 +45,9 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
 import com.orsoncharts.Range;
 import com.orsoncharts.TestUtils;
@@ -289,6 +292,36 @@ public class NumberAxis3DTest implements Axis3DChangeListener {
         assertTrue(axis1.equals(axis2));
     }
     
+    /**
+     * The tick selection is cached, but the cache must not be used after the
+     * range or other axis attributes change.
+     */
+    @Test
+    public void testSelectTickCaching() {
+        NumberAxis3D axis = new NumberAxis3D("X", new Range(0.0, 100.0));
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Point2D opposing = new Point2D.Double(0.0, 50.0);
+        double t1 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(400.0, 0.0), opposing);
+        double t2 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(401.0, 0.0), opposing);
+        assertEquals(t1, t2, 0.0);
+        
+        // a range update (as done for auto-ranging) sends no event
+        axis.updateRange(new Range(0.0, 1000.0));
+        double t3 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(400.0, 0.0), opposing);
+        assertTrue(t3 > t1);
+        
+        // a larger font gives fewer ticks
+        axis.setTickLabelFont(new Font("Dialog", Font.PLAIN, 40));
+        double t4 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(400.0, 0.0), opposing);
+        assertTrue(t4 > t3);
+        g2.dispose();
+    }
     
     private Axis3DChangeEvent lastEvent;
 
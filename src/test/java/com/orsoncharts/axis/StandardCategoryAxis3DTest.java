@@ -32,6 +32,7 @@
 
 package com.orsoncharts.axis;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
@@ -43,14 +44,19 @@ import java.awt.GradientPaint;
 import org.junit.Test;
 
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
 import com.orsoncharts.label.StandardCategoryLabelGenerator;
 import com.orsoncharts.marker.CategoryMarker;
+import com.orsoncharts.plot.CategoryPlot3D;
+import com.orsoncharts.renderer.category.BarRenderer3D;
 
 /**
  * Tests for the {@link StandardCategoryAxis3D} class.
  */
 public class StandardCategoryAxis3DTest {
     
+    private static final double EPSILON = 0.0000001;
+    
     @Test
     public void testEquals() {
         StandardCategoryAxis3D axis1 = new StandardCategoryAxis3D("Label");   
@@ -208,4 +214,45 @@ public class StandardCategoryAxis3DTest {
         assertTrue(axis1.equals(axis2));
     }
 
+    /**
+     * The category values are cached, so check that they follow changes to
+     * the dataset and to the axis settings.
+     */
+    @Test
+    public void testGetCategoryValue() {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R1", "C2");
+        StandardCategoryAxis3D rowAxis = new StandardCategoryAxis3D("Row");
+        StandardCategoryAxis3D columnAxis 
+                = new StandardCategoryAxis3D("Column");
+        new CategoryPlot3D(dataset, new BarRenderer3D(), rowAxis, columnAxis,
+                new NumberAxis3D("Value"));
+        columnAxis.setLowerMargin(0.0);
+        columnAxis.setUpperMargin(0.0);
+        assertEquals(0.25, columnAxis.getCategoryValue("C1"), EPSILON);
+        assertEquals(0.75, columnAxis.getCategoryValue("C2"), EPSILON);
+        assertEquals(0.25, columnAxis.getCategoryValue(0), EPSILON);
+        assertEquals(0.75, columnAxis.getCategoryValue(1), EPSILON);
+        assertTrue(Double.isNaN(columnAxis.getCategoryValue("C3")));
+        assertTrue(Double.isNaN(columnAxis.getCategoryValue(2)));
+        assertTrue(Double.isNaN(columnAxis.getCategoryValue(-1)));
+        assertEquals(0.5, rowAxis.getCategoryValue(0), EPSILON);
+        
+        // a new column is picked up when the plot reconfigures the axis
+        dataset.addValue(3.0, "S1", "R1", "C3");
+        assertEquals(0.5, columnAxis.getCategoryValue("C2"), EPSILON);
+        assertEquals(5.0 / 6.0, columnAxis.getCategoryValue(2), EPSILON);
+        
+        // changes to the axis settings move the categories
+        columnAxis.setFirstCategoryHalfWidth(true);
+        columnAxis.setLastCategoryHalfWidth(true);
+        assertEquals(0.0, columnAxis.getCategoryValue("C1"), EPSILON);
+        assertEquals(1.0, columnAxis.getCategoryValue(2), EPSILON);
+        columnAxis.setRange(0.0, 2.0);
+        assertEquals(1.0, columnAxis.getCategoryValue("C2"), EPSILON);
+        columnAxis.setLowerMargin(0.5);
+        assertEquals(1.0, columnAxis.getCategoryValue(0), EPSILON);
+    }
+
 }
@@ -36,6 +36,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -138,6 +143,62 @@ public class DefaultKeyedValues3DTest {
         assertNull(data.getValue("S1", "R5", "C5"));
     }
     
+    @Test
+    public void testKeysConstructor() {
+        List<Comparable<?>> seriesKeys = Arrays.<Comparable<?>>asList("S1", 
+                "S2");
+        List<Comparable<?>> rowKeys = Arrays.<Comparable<?>>asList("R1");
+        List<Comparable<?>> columnKeys = Arrays.<Comparable<?>>asList("C1", 
+                "C2", "C3");
+        DefaultKeyedValues3D<Number> d1 = new DefaultKeyedValues3D<Number>(
+                seriesKeys, rowKeys, columnKeys);
+        assertEquals(2, d1.getSeriesCount());
+        assertEquals(1, d1.getRowCount());
+        assertEquals(3, d1.getColumnCount());
+        assertEquals(2, d1.getColumnIndex("C3"));
+        assertNull(d1.getValue("S2", "R1", "C3"));
+        d1.setValueAt(1.0, 1, 0, 2);
+        assertEquals(1.0, d1.getValue("S2", "R1", "C3"));
+        
+        // the result should match the same data added one value at a time
+        DefaultKeyedValues3D<Number> d2 = new DefaultKeyedValues3D<Number>();
+        d2.setValue(null, "S1", "R1", "C1");
+        d2.setValue(null, "S1", "R1", "C2");
+        d2.setValue(1.0, "S2", "R1", "C3");
+        assertEquals(d1, d2);
+        
+        try {
+            new DefaultKeyedValues3D<Number>(seriesKeys, rowKeys, 
+                    Arrays.<Comparable<?>>asList("C1", "C1"));
+            fail("Expected IllegalArgumentException for duplicate keys.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        // row and column keys but no series
+        DefaultKeyedValues3D<Number> d3 = new DefaultKeyedValues3D<Number>(
+                new ArrayList<Comparable<?>>(), rowKeys, columnKeys);
+        d3.setValue(2.0, "S1", "R1", "C2");
+        assertEquals(1, d3.getSeriesCount());
+        assertEquals(1, d3.getRowCount());
+        assertEquals(3, d3.getColumnCount());
+        assertEquals(2.0, d3.getValue(0, 0, 1));
+        assertNull(d3.getValue(0, 0, 2));
+    }
+    
+    @Test
+    public void testKeyLookups() {
+        DefaultKeyedValues3D<Number> data = new DefaultKeyedValues3D<Number>();
+        for (int c = 0; c < 100; c++) {
+            data.setValue(c, "S1", "R1", "C" + c);
+            assertEquals(c, data.getColumnIndex("C" + c));
+        }
+        assertEquals(-1, data.getColumnIndex("C100"));
+        assertEquals(0, data.getSeriesIndex("S1"));
+        assertEquals(-1, data.getRowIndex("R2"));
+        assertEquals(42, data.getValue("S1", "R1", "C42"));
+    }
+    
     @Test
     public void testEquals() {
         DefaultKeyedValues3D<Number> d1 = new DefaultKeyedValues3D<Number>();
@@ -161,6 +222,11 @@ public class DefaultKeyedValues3DTest {
         DefaultKeyedValues3D<Number> d2 
                 = (DefaultKeyedValues3D<Number>) TestUtils.serialized(d1);
         assertEquals(d1, d2);
+        
+        // check that key lookups still work after deserialization
+        d2.setValue(2.0, "S1", "R2", "C1");
+        assertEquals(1, d2.getRowIndex("R2"));
+        assertEquals(2.0, d2.getValue("S1", "R2", "C1"));
     }
 
 }
@@ -0,0 +1,113 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import static org.junit.Assert.assertEquals;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+import org.junit.Test;
+import com.orsoncharts.util.json.JSONValue;
+
+/**
+ * Some tests for the {@link JSONOutput} class.
+ */
+public class JSONOutputTest {
+    
+    private static String number(double d) throws IOException {
+        StringWriter sw = new StringWriter();
+        JSONOutput out = new JSONOutput(sw);
+        out.writeNumber(d);
+        out.flush();
+        return sw.toString();
+    }
+    
+    /**
+     * Doubles are written in the same format as {@code Double.toString()}.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testWriteNumber() throws IOException {
+        assertEquals("0.0", number(0.0));
+        assertEquals("-0.0", number(-0.0));
+        assertEquals("1.0", number(1.0));
+        assertEquals("-12.5", number(-12.5));
+        assertEquals("0.001", number(0.001));
+        assertEquals("0.1", number(0.1));
+        assertEquals("0.30000000000000004", number(0.1 + 0.2));
+        assertEquals("9999999.0", number(9999999.0));
+        assertEquals("1.0E7", number(1e7));
+        assertEquals("1.0E-4", number(1e-4));
+        assertEquals("null", number(Double.NaN));
+        assertEquals("null", number(Double.NEGATIVE_INFINITY));
+        
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            double d = (random.nextInt(20000000) - 10000000) / 1000.0;
+            assertEquals(Double.toString(d), number(d));
+            d = random.nextGaussian() * Math.pow(10, random.nextInt(12) - 6);
+            assertEquals(Double.toString(d), number(d));
+        }
+    }
+    
+    /**
+     * Strings and other numbers are written in the same format as 
+     * {@code JSONValue.toJSONString()}, including when the output is larger
+     * than the buffer.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testWriteString() throws IOException {
+        StringBuilder sb = new StringBuilder("A \"quoted\"\\/ key\n\t\u0001");
+        sb.append("\u0085\u2028\u00e9");
+        for (int i = 0; i < JSONOutput.BUFFER_SIZE; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        String s = sb.toString();
+        StringWriter sw = new StringWriter();
+        JSONOutput out = new JSONOutput(sw);
+        out.writeString(s);
+        out.write(", ");
+        out.writeNumber(Integer.valueOf(3));
+        out.write(", ");
+        out.writeNumber(Float.valueOf(0.1f));
+        out.write(", ");
+        out.writeNumber((Number) null);
+        out.flush();
+        assertEquals(JSONValue.toJSONString(s) + ", 3, 0.1, null", 
+                sw.toString());
+    }
+
+}
@@ -35,8 +35,13 @@ package com.orsoncharts.data;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
 import org.junit.Test;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.data.xyz.ColumnarXYZDataset;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
@@ -250,4 +255,106 @@ public class JSONUtilsTest {
         assertEquals("[[\"S1\", [[1.0, 2.0, 3.0]]], [\"S2\", []]]", 
                 JSONUtils.writeXYZDataset(dataset));
     }
+    
+    /**
+     * The output from writeKeyedValues3D() should read back to an equal 
+     * dataset, and the keys can come after the data.
+     */
+    @Test
+    public void checkReadKeyedValues3DRoundTrip() {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S1", "R2", "C1");
+        dataset.addValue(4.0, "S1", "R2", "C2");
+        dataset.addValue(5.0, "S2", "R2", "C1");
+        dataset.addValue(6.0, "S2", "R2", "C2");
+        KeyedValues3D<? extends Number> dkv3d = JSONUtils.readKeyedValues3D(
+                JSONUtils.writeKeyedValues3D(dataset));
+        assertEquals(dataset, dkv3d);
+        
+        String json = "{\"data\": [{\"rows\": {\"R1\": [1.0, null]}, "
+                + "\"seriesKey\": \"S1\"}], \"rowKeys\": [\"R1\"], " 
+                + "\"columnKeys\": [\"C1\", \"C2\"]}";
+        dkv3d = JSONUtils.readKeyedValues3D(json);
+        assertEquals(1.0, dkv3d.getValue("S1", "R1", "C1"));
+        assertTrue(Double.isNaN(
+                dkv3d.getValue("S1", "R1", "C2").doubleValue()));
+        
+        json = "{\"columnKeys\": [\"C1\"], \"rowKeys\": [\"R1\"], "
+                + "\"data\": [{\"seriesKey\": \"S1\", \"rows\": "
+                + "{\"R2\": [1.0]}}]}";
+        try {
+            JSONUtils.readKeyedValues3D(json);
+            fail("Expected an exception for an unlisted row key.");
+        } catch (RuntimeException e) {
+            assertEquals("The row key R2 is not listed in the rowKeys entry.",
+                    e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests for reading XYZ data into a ColumnarXYZDataset.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void checkReadColumnarXYZDataset() throws IOException {
+        XYZSeriesCollection expected = new XYZSeriesCollection();
+        XYZSeries s1 = new XYZSeries("S1");
+        for (int i = 0; i < 2500; i++) {
+            s1.add(i, i * 2.0, i * 0.5);
+        }
+        expected.add(s1);
+        expected.add(new XYZSeries("S2"));
+        String json = JSONUtils.writeXYZDataset(expected);
+        
+        ColumnarXYZDataset dataset = JSONUtils.readColumnarXYZDataset(
+                new StringReader(json), false);
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals("S1", dataset.getSeriesKey(0));
+        assertEquals("S2", dataset.getSeriesKey(1));
+        assertEquals(2500, dataset.getItemCount(0));
+        assertEquals(0, dataset.getItemCount(1));
+        assertEquals(2499.0, dataset.getX(0, 2499), EPSILON);
+        assertEquals(4998.0, dataset.getY(0, 2499), EPSILON);
+        assertEquals(1249.5, dataset.getZ(0, 2499), EPSILON);
+        assertEquals(expected, JSONUtils.readXYZDataset(json));
+        
+        try {
+            JSONUtils.readXYZDataset("[[\"S1\", [[1.0, 2.0]]]]");
+            fail("Expected an exception for an item with two values.");
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+
+    
+    /**
+     * The output stream variants write the same (UTF-8 encoded) output as 
+     * the string variants.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void checkWriteToOutputStream() throws IOException {
+        XYZSeriesCollection dataset = new XYZSeriesCollection();
+        XYZSeries s1 = new XYZSeries("S\u00e9ries 1");
+        for (int i = 0; i < 5000; i++) {
+            s1.add(i / 10.0, i * 0.25, Double.NaN);
+        }
+        dataset.add(s1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JSONUtils.writeXYZDataset(dataset, baos);
+        assertEquals(JSONUtils.writeXYZDataset(dataset), 
+                baos.toString("UTF-8"));
+        
+        StandardCategoryDataset3D d3 = new StandardCategoryDataset3D();
+        d3.addValue(1.5, "S1", "R1", "C1");
+        d3.addValue(null, "S1", "R2", "C1");
+        baos = new ByteArrayOutputStream();
+        JSONUtils.writeKeyedValues3D(d3, baos);
+        assertEquals(JSONUtils.writeKeyedValues3D(d3), baos.toString("UTF-8"));
+    }
+
 }
@@ -0,0 +1,122 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.xyz.MappedXYZDataset;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+
+/**
+ * Tests for the {@link MappedCategoryDataset3D} class.
+ */
+public class MappedCategoryDataset3DTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    private StandardCategoryDataset3D createDataset() {
+        StandardCategoryDataset3D d = new StandardCategoryDataset3D();
+        d.addValue(1.0, "S1", "R1", "C1");
+        d.addValue(2.0, "S1", "R1", "C2");
+        d.addValue(Double.NaN, "S1", "R2", "C1");
+        d.addValue(4.0, "S2", "R2", "C2");
+        return d;
+    }
+    
+    @Test
+    public void testWriteAndRead() throws IOException {
+        StandardCategoryDataset3D d = createDataset();
+        File file = this.folder.newFile("cat.ocdf");
+        MappedCategoryDataset3D.write(d, file);
+        
+        MappedCategoryDataset3D m = new MappedCategoryDataset3D(file);
+        assertEquals(d.getSeriesKeys(), m.getSeriesKeys());
+        assertEquals(d.getRowKeys(), m.getRowKeys());
+        assertEquals(d.getColumnKeys(), m.getColumnKeys());
+        assertEquals(1, m.getColumnIndex("C2"));
+        assertEquals(-1, m.getRowIndex("R3"));
+        for (int s = 0; s < d.getSeriesCount(); s++) {
+            for (int r = 0; r < d.getRowCount(); r++) {
+                for (int c = 0; c < d.getColumnCount(); c++) {
+                    assertEquals(d.getValue(s, r, c), m.getValue(s, r, c));
+                }
+            }
+        }
+        
+        // null and NaN values are kept distinct
+        assertTrue(Double.isNaN(m.getValue("S1", "R2", "C1").doubleValue()));
+        assertNull(m.getValue("S2", "R1", "C1"));
+        assertTrue(Double.isNaN(m.getDoubleValue(1, 0, 0)));
+        try {
+            m.getValue("S3", "R1", "C1");
+            fail("Expected an IllegalArgumentException for an unknown key.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testWrongType() throws IOException {
+        File file = this.folder.newFile("xyz.ocdf");
+        MappedXYZDataset.write(new XYZSeriesCollection(), file);
+        try {
+            new MappedCategoryDataset3D(file);
+            fail("Expected an IOException for an XYZ dataset file.");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException {
+        File file = this.folder.newFile("s.ocdf");
+        MappedCategoryDataset3D.write(createDataset(), file);
+        MappedCategoryDataset3D m1 = new MappedCategoryDataset3D(file);
+        MappedCategoryDataset3D m2 = (MappedCategoryDataset3D) 
+                TestUtils.serialized(m1);
+        assertEquals(m1, m2);
+    }
+
+}
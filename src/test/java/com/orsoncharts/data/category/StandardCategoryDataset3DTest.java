@@ -36,6 +36,7 @@ import com.orsoncharts.TestUtils;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 
@@ -85,6 +86,22 @@ public class StandardCategoryDataset3DTest {
         assertEquals(d1, d2);
     }
     
+    /**
+     * The version must change with every modification to the data, 
+     * including when listeners are not notified.
+     */
+    @Test
+    public void checkVersion() {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        long v0 = dataset.getVersion();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        long v1 = dataset.getVersion();
+        assertTrue(v1 != v0);
+        dataset.setNotify(false);
+        dataset.addValue(2.0, "S1", "R1", "C1");
+        assertTrue(dataset.getVersion() != v1);
+    }
+    
     @Test
     public void checkToString() {
         StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
@@ -117,4 +134,47 @@ public class StandardCategoryDataset3DTest {
                 dataset.toString());
     }
   
+    @Test
+    public void checkSetValues() {
+        StandardCategoryDataset3D d1 = new StandardCategoryDataset3D();
+        d1.setValue(99.0, "S9", "R9", "C9");
+        d1.setValues(new String[] {"S1", "S2"}, new String[] {"R1"}, 
+                new String[] {"C1", "C2"}, 
+                new double[][][] {{{1.0, 2.0}}, {{Double.NaN, 4.0}}});
+        assertEquals(2, d1.getSeriesCount());
+        assertEquals(-1, d1.getSeriesIndex("S9"));
+        
+        StandardCategoryDataset3D d2 = new StandardCategoryDataset3D();
+        d2.addValue(1.0, "S1", "R1", "C1");
+        d2.addValue(2.0, "S1", "R1", "C2");
+        d2.addValue(4.0, "S2", "R1", "C2");
+        assertEquals(d2, d1);
+        
+        try {
+            d1.setValues(new String[] {"S1"}, new String[] {"R1"}, 
+                    new String[] {"C1", "C2"}, new double[][][] {{{1.0}}});
+            fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        // row and column keys without any series, then a value is added
+        // for those same keys
+        StandardCategoryDataset3D d3 = new StandardCategoryDataset3D();
+        d3.setValues(new Comparable<?>[0], new String[] {"R1"}, 
+                new String[] {"C1"}, new double[0][][]);
+        assertEquals(0, d3.getSeriesCount());
+        assertEquals(1, d3.getRowCount());
+        assertEquals(1, d3.getColumnCount());
+        d3.addValue(1.0, "S1", "R1", "C1");
+        assertEquals(1, d3.getSeriesCount());
+        assertEquals(1, d3.getRowCount());
+        assertEquals(1, d3.getColumnCount());
+        assertEquals(1.0, d3.getValue(0, 0, 0));
+        d3.addValue(2.0, "S1", "R2", "C1");
+        assertEquals(2, d3.getRowCount());
+        assertEquals(2.0, d3.getValue(0, 1, 0));
+        assertEquals(1, d3.getColumnCount());
+    }
+    
 }
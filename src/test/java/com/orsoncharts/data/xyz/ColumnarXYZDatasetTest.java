@@ -0,0 +1,168 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import com.orsoncharts.Range;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.DataUtils;
+import com.orsoncharts.data.Dataset3DChangeEvent;
+import com.orsoncharts.data.Dataset3DChangeListener;
+
+/**
+ * Tests for the {@link ColumnarXYZDataset} class.
+ */
+public class ColumnarXYZDatasetTest implements Dataset3DChangeListener {
+    
+    private int eventCount;
+    
+    @Override
+    public void datasetChanged(Dataset3DChangeEvent event) {
+        this.eventCount++;
+    }
+    
+    @Test
+    public void testGeneral() {
+        ColumnarXYZDataset d = new ColumnarXYZDataset();
+        d.addChangeListener(this);
+        for (int i = 0; i < 100; i++) {
+            d.add("S1", i, i * 2.0, i * 3.0);
+        }
+        assertEquals(100, this.eventCount);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals(100, d.getItemCount(0));
+        assertEquals(99.0, d.getX(0, 99), 0.0);
+        assertEquals(198.0, d.getY(0, 99), 0.0);
+        assertEquals(297.0, d.getZ(0, 99), 0.0);
+        
+        d.addAll("S2", new double[] {1.0, 2.0, 3.0}, 
+                new double[] {4.0, 5.0, 6.0}, new double[] {7.0, 8.0, 9.0});
+        assertEquals(101, this.eventCount);
+        assertEquals(1, d.getSeriesIndex("S2"));
+        assertEquals(3, d.getItemCount(1));
+        assertEquals(6.0, d.getY(1, 2), 0.0);
+        try {
+            d.getX(1, 3);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        d.clear();
+        assertEquals(0, d.getSeriesCount());
+    }
+    
+    @Test
+    public void testAddSeries() {
+        ColumnarXYZDataset d = new ColumnarXYZDataset();
+        assertEquals(0, d.addSeries("S1"));
+        try {
+            d.addSeries("S1");
+            fail("Expected IllegalArgumentException for duplicate key");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.addAll("S1", new double[2], new double[2], new double[1]);
+            fail("Expected IllegalArgumentException for short array");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testFloatPrecision() {
+        ColumnarXYZDataset d = new ColumnarXYZDataset(true);
+        assertTrue(d.isFloatPrecision());
+        d.add("S1", 0.1, 2.5, -3.0);
+        assertEquals((float) 0.1, d.getX(0, 0), 0.0);
+        assertEquals(2.5, d.getY(0, 0), 0.0);
+        assertEquals(-3.0, d.getZ(0, 0), 0.0);
+    }
+    
+    @Test
+    public void testRanges() {
+        ColumnarXYZDataset d = new ColumnarXYZDataset();
+        d.add("S1", 1.0, 2.0, 3.0);
+        assertEquals(new Range(1.0, 1.0), DataUtils.findXRange(d));
+        d.addAll("S1", new double[] {-5.0, 4.0}, new double[] {0.5, 7.0}, 
+                new double[] {Double.NaN, Double.NEGATIVE_INFINITY});
+        d.add("S2", 10.0, 0.0, 0.0);
+        assertEquals(new Range(-5.0, 10.0), DataUtils.findXRange(d));
+        assertEquals(new Range(0.0, 7.0), DataUtils.findYRange(d));
+        assertEquals(new Range(0.0, 3.0), DataUtils.findZRange(d));
+        assertEquals(new Range(Double.NEGATIVE_INFINITY, 3.0), 
+                d.getSeriesZRange(0, false));
+        
+        // float storage - the ranges should match the stored values
+        ColumnarXYZDataset f = new ColumnarXYZDataset(true);
+        f.add("S1", 0.1, 0.2, 0.3);
+        assertEquals(new Range((float) 0.1, (float) 0.1), 
+                f.getSeriesXRange(0, true));
+    }
+    
+    @Test
+    public void testEquals() {
+        ColumnarXYZDataset d1 = new ColumnarXYZDataset();
+        ColumnarXYZDataset d2 = new ColumnarXYZDataset(true);
+        assertTrue(d1.equals(d2));
+        assertFalse(d1.equals(null));
+        
+        d1.add("S1", 1.0, 2.0, 3.0);
+        assertFalse(d1.equals(d2));
+        d2.add("S1", 1.0, 2.0, 3.0);
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+    }
+    
+    @Test
+    public void testSerialization() {
+        ColumnarXYZDataset d1 = new ColumnarXYZDataset();
+        d1.add("S1", 1.0, 2.0, 3.0);
+        ColumnarXYZDataset d2 = (ColumnarXYZDataset) TestUtils.serialized(d1);
+        assertEquals(d1, d2);
+        d2.add("S1", 4.0, 5.0, 6.0);
+        assertEquals(2, d2.getItemCount(0));
+    }
+    
+    @Test
+    public void checkToString() {
+        ColumnarXYZDataset d = new ColumnarXYZDataset();
+        d.add("S1", 1.0, 2.0, 3.0);
+        assertEquals("[[\"S1\", [[1.0, 2.0, 3.0]]]]", d.toString());
+    }
+    
+}
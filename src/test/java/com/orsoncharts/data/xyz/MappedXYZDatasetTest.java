@@ -0,0 +1,121 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import com.orsoncharts.Range;
+import com.orsoncharts.TestUtils;
+
+/**
+ * Tests for the {@link MappedXYZDataset} class.
+ */
+public class MappedXYZDatasetTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testWriteAndRead() throws IOException {
+        ColumnarXYZDataset d = new ColumnarXYZDataset();
+        for (int i = 0; i < 10000; i++) {
+            d.add("S1", i, i * 2.0, -i);
+        }
+        d.add("S2", Double.NaN, Double.POSITIVE_INFINITY, 1.0);
+        d.addSeries("S3");
+        File file = this.folder.newFile("xyz.ocdf");
+        MappedXYZDataset.write(d, file);
+        
+        MappedXYZDataset m = new MappedXYZDataset(file);
+        assertEquals(3, m.getSeriesCount());
+        assertEquals(d.getSeriesKeys(), m.getSeriesKeys());
+        assertEquals(1, m.getSeriesIndex("S2"));
+        assertEquals(10000, m.getItemCount(0));
+        assertEquals(1, m.getItemCount(1));
+        assertEquals(0, m.getItemCount(2));
+        assertEquals(9999.0, m.getX(0, 9999), 0.0);
+        assertEquals(19998.0, m.getY(0, 9999), 0.0);
+        assertEquals(-9999.0, m.getZ(0, 9999), 0.0);
+        assertEquals(Double.NaN, m.getX(1, 0), 0.0);
+        
+        // the bounds are read from the header
+        for (int s = 0; s < 3; s++) {
+            for (boolean finite : new boolean[] {true, false}) {
+                assertEquals(d.getSeriesXRange(s, finite), 
+                        m.getSeriesXRange(s, finite));
+                assertEquals(d.getSeriesYRange(s, finite), 
+                        m.getSeriesYRange(s, finite));
+                assertEquals(d.getSeriesZRange(s, finite), 
+                        m.getSeriesZRange(s, finite));
+            }
+        }
+        assertNull(m.getSeriesXRange(1, false));
+        assertNull(m.getSeriesYRange(1, true));
+        assertEquals(new Range(Double.POSITIVE_INFINITY, 
+                Double.POSITIVE_INFINITY), m.getSeriesYRange(1, false));
+    }
+    
+    @Test
+    public void testInvalidFile() throws IOException {
+        File file = this.folder.newFile("empty.ocdf");
+        try {
+            new MappedXYZDataset(file);
+            fail("Expected an IOException for an empty file.");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException {
+        XYZSeriesCollection d = new XYZSeriesCollection();
+        XYZSeries s1 = new XYZSeries("S1");
+        s1.add(1.0, 2.0, 3.0);
+        d.add(s1);
+        File file = this.folder.newFile("s.ocdf");
+        MappedXYZDataset.write(d, file);
+        MappedXYZDataset m1 = new MappedXYZDataset(file);
+        MappedXYZDataset m2 = (MappedXYZDataset) TestUtils.serialized(m1);
+        assertEquals(m1, m2);
+    }
+
+}
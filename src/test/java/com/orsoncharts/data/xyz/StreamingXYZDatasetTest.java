@@ -0,0 +1,187 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import com.orsoncharts.Range;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.Dataset3DChangeEvent;
+import com.orsoncharts.data.Dataset3DChangeListener;
+
+/**
+ * Tests for the {@link StreamingXYZDataset} class.
+ */
+public class StreamingXYZDatasetTest implements Dataset3DChangeListener {
+    
+    private Dataset3DChangeEvent lastEvent;
+    
+    private int eventCount;
+    
+    @Override
+    public void datasetChanged(Dataset3DChangeEvent event) {
+        this.lastEvent = event;
+        this.eventCount++;
+    }
+    
+    @Test
+    public void testAppendAndFlush() {
+        StreamingXYZDataset d = new StreamingXYZDataset(3);
+        d.setAutoFlush(false);
+        d.addSeries("S1");
+        d.addChangeListener(this);
+        d.append("S1", 1.0, 2.0, 3.0);
+        d.append("S1", 4.0, 5.0, 6.0);
+        assertEquals(0, d.getItemCount(0));
+        assertEquals(0, this.eventCount);
+        d.flush();
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getItemCount(0));
+        XYZAppendEvent e = (XYZAppendEvent) this.lastEvent;
+        assertEquals(2, e.getAppendedCount("S1"));
+        assertEquals(0, e.getEvictedCount("S1"));
+        
+        // flushing with nothing queued does nothing
+        d.flush();
+        assertEquals(1, this.eventCount);
+        
+        // overflow the capacity, the oldest items are discarded
+        for (int i = 0; i < 3; i++) {
+            d.append("S1", 10.0 + i, 20.0, 30.0);
+        }
+        d.flush();
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(10.0, d.getX(0, 0), 0.0);
+        assertEquals(12.0, d.getX(0, 2), 0.0);
+        e = (XYZAppendEvent) this.lastEvent;
+        assertEquals(3, e.getAppendedCount("S1"));
+        assertEquals(2, e.getEvictedCount("S1"));
+        assertEquals(new Range(10.0, 12.0), d.getSeriesXRange(0, true));
+        
+        // a new series key means the event is a general change event
+        d.append("S2", 1.0, 1.0, 1.0);
+        d.flush();
+        assertEquals(2, d.getSeriesCount());
+        assertFalse(this.lastEvent instanceof XYZAppendEvent);
+    }
+    
+    /**
+     * The bounds summary is kept when evicted items are inside the bounds,
+     * so check that the ranges stay correct as items are evicted.
+     */
+    @Test
+    public void testRangesWithEviction() {
+        StreamingXYZDataset d = new StreamingXYZDataset(3);
+        d.setAutoFlush(false);
+        d.append("S1", 5.0, 1.0, 0.0);
+        d.append("S1", 1.0, 2.0, 0.0);
+        d.append("S1", 9.0, 3.0, 0.0);
+        d.flush();
+        assertEquals(new Range(1.0, 9.0), d.getSeriesXRange(0, true));
+        
+        // evict an item that is inside the x-bounds but on the y-bounds
+        d.append("S1", 4.0, 2.5, 0.0);
+        d.flush();
+        assertEquals(new Range(1.0, 9.0), d.getSeriesXRange(0, true));
+        assertEquals(new Range(2.0, 3.0), d.getSeriesYRange(0, true));
+        
+        // evict the minimum x-value
+        d.append("S1", 6.0, 2.5, 0.0);
+        d.flush();
+        assertEquals(new Range(4.0, 9.0), d.getSeriesXRange(0, true));
+        
+        // evict the maximum x-value
+        d.append("S1", 7.0, 2.5, 0.0);
+        d.flush();
+        assertEquals(new Range(4.0, 7.0), d.getSeriesXRange(0, true));
+        assertEquals(new Range(2.5, 2.5), d.getSeriesYRange(0, true));
+        
+        // an infinite value is included, then evicted
+        d.append("S1", Double.POSITIVE_INFINITY, 2.5, 0.0);
+        d.flush();
+        assertEquals(new Range(6.0, Double.POSITIVE_INFINITY), 
+                d.getSeriesXRange(0, false));
+        assertEquals(new Range(6.0, 7.0), d.getSeriesXRange(0, true));
+        for (int i = 0; i < 3; i++) {
+            d.append("S1", 8.0 + i, 2.5, 0.0);
+        }
+        d.flush();
+        assertEquals(new Range(8.0, 10.0), d.getSeriesXRange(0, false));
+    }
+    
+    @Test
+    public void testClear() {
+        StreamingXYZDataset d = new StreamingXYZDataset(5);
+        d.setAutoFlush(false);
+        d.append("S1", 1.0, 2.0, 3.0);
+        d.flush();
+        d.append("S1", 4.0, 5.0, 6.0);
+        d.clear();
+        d.flush();
+        assertEquals(1, d.getSeriesCount());
+        assertEquals(0, d.getItemCount(0));
+    }
+    
+    @Test
+    public void testEquals() {
+        StreamingXYZDataset d1 = new StreamingXYZDataset(2);
+        StreamingXYZDataset d2 = new StreamingXYZDataset(2);
+        d1.setAutoFlush(false);
+        d2.setAutoFlush(false);
+        assertTrue(d1.equals(d2));
+        d1.append("S1", 1.0, 2.0, 3.0);
+        d1.append("S1", 4.0, 5.0, 6.0);
+        d1.append("S1", 7.0, 8.0, 9.0);
+        d1.flush();
+        assertFalse(d1.equals(d2));
+        d2.append("S1", 4.0, 5.0, 6.0);
+        d2.append("S1", 7.0, 8.0, 9.0);
+        d2.flush();
+        assertTrue(d1.equals(d2));
+        assertFalse(d1.equals(new StreamingXYZDataset(3)));
+    }
+    
+    @Test
+    public void testSerialization() {
+        StreamingXYZDataset d1 = new StreamingXYZDataset(2);
+        d1.setAutoFlush(false);
+        d1.append("S1", 1.0, 2.0, 3.0);
+        d1.flush();
+        StreamingXYZDataset d2 = (StreamingXYZDataset) TestUtils.serialized(
+                d1);
+        assertEquals(d1, d2);
+    }
+    
+}
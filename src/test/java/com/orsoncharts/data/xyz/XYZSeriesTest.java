@@ -34,10 +34,12 @@ package com.orsoncharts.data.xyz;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import com.orsoncharts.Range;
 import com.orsoncharts.TestUtils;
 
 /**
@@ -82,4 +84,26 @@ public class XYZSeriesTest {
         assertEquals(s1, s2);
     }
 
+    @Test
+    public void testRanges() {
+        XYZSeries s = new XYZSeries("S");
+        assertNull(s.getXRange(true));
+        s.add(1.0, 2.0, 3.0);
+        assertEquals(new Range(1.0, 1.0), s.getXRange(true));
+        s.add(-1.0, Double.NaN, Double.POSITIVE_INFINITY);
+        assertEquals(new Range(-1.0, 1.0), s.getXRange(true));
+        assertEquals(new Range(2.0, 2.0), s.getYRange(false));
+        assertEquals(new Range(3.0, 3.0), s.getZRange(true));
+        assertEquals(new Range(3.0, Double.POSITIVE_INFINITY), 
+                s.getZRange(false));
+        
+        // removing an item means the bounds have to be recalculated
+        s.remove(0);
+        assertEquals(new Range(-1.0, -1.0), s.getXRange(true));
+        assertNull(s.getYRange(true));
+        assertNull(s.getZRange(true));
+        assertEquals(new Range(Double.POSITIVE_INFINITY, 
+                Double.POSITIVE_INFINITY), s.getZRange(false));
+    }
+    
 }
@@ -0,0 +1,210 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for the {@link BSPFaceSorter} class.  The vertices of the test
+ * objects are used directly as eye coordinates (the viewer is at the origin
+ * looking along the negative z-axis).
+ */
+public class BSPFaceSorterTest {
+
+    /**
+     * Adds a face with the specified vertices to the object.
+     * 
+     * @param obj  the object.
+     * @param pts  the list of eye coordinates for all the vertices.
+     * @param xyz  the vertex coordinates.
+     * 
+     * @return The new face. 
+     */
+    private static Face addFace(Object3D obj, List<Point3D> pts, 
+            double... xyz) {
+        int[] vertices = new int[xyz.length / 3];
+        for (int i = 0; i < vertices.length; i++) {
+            Point3D p = new Point3D(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]);
+            obj.addVertex(p);
+            vertices[i] = pts.size();
+            pts.add(p);
+        }
+        obj.addFace(vertices);
+        return obj.getFaces().get(obj.getFaceCount() - 1);
+    }
+    
+    private static Face sourceOf(Face f) {
+        return f instanceof SplitFace ? ((SplitFace) f).getSource() : f;
+    }
+    
+    /**
+     * A long face that is mostly behind a small face but lies between the
+     * small face and the viewer must be painted last.  The average z-value
+     * order gets this wrong.
+     */
+    @Test
+    public void testLongFaceInFront() {
+        Object3D obj = new Object3D(Color.RED);
+        List<Point3D> pts = new ArrayList<Point3D>();
+        Face longFace = addFace(obj, pts, -1, -1, -5, 1, -1, -5, 1, 1, -300, 
+                -1, 1, -300);
+        Face smallFace = addFace(obj, pts, -0.1, -1.6, -100, 0.1, -1.6, -100, 
+                0.1, -1.4, -100, -0.1, -1.4, -100);
+        Point3D[] eyePts = pts.toArray(new Point3D[pts.size()]);
+        
+        List<Face> zOrder = new RadixFaceSorter().sort(new ArrayList<Face>(
+                Arrays.asList(longFace, smallFace)), eyePts);
+        assertSame(smallFace, zOrder.get(1));
+        
+        for (List<Face> faces : Arrays.asList(
+                Arrays.asList(longFace, smallFace), 
+                Arrays.asList(smallFace, longFace))) {
+            List<Face> sorted = new BSPFaceSorter().sort(
+                    new ArrayList<Face>(faces), eyePts);
+            assertSame(longFace, sourceOf(sorted.get(sorted.size() - 1)));
+            assertTrue(sorted.indexOf(smallFace) < sorted.size() - 1);
+        }
+    }
+    
+    /**
+     * A face that crosses the plane of another face is split, and the 
+     * fragments meet at the projection of the points where the face 
+     * crosses the plane (which requires a perspective correction when the 
+     * crossed edges are not parallel to the screen).
+     */
+    @Test
+    public void testSplitFace() {
+        Object3D obj = new Object3D(Color.RED);
+        List<Point3D> pts = new ArrayList<Point3D>();
+        Face wall = addFace(obj, pts, 0, -1, -5, 0, 1, -5, 0, 1, -50, 
+                0, -1, -50);
+        Face floor = addFace(obj, pts, -1, -1, -10, 3, -1, -30, 3, -1, -40, 
+                -1, -1, -20);
+        Point3D[] eyePts = pts.toArray(new Point3D[pts.size()]);
+        Point2D[] projPts = new Point2D[eyePts.length];
+        for (int i = 0; i < eyePts.length; i++) {
+            Point3D p = eyePts[i];
+            projPts[i] = new Point2D.Double(-p.x / p.z, -p.y / p.z);
+        }
+        List<Face> sorted = new BSPFaceSorter().sort(new ArrayList<Face>(
+                Arrays.asList(wall, floor)), eyePts);
+        assertEquals(3, sorted.size());
+        assertTrue(sorted.contains(wall));
+        int left = 0;
+        int right = 0;
+        for (Face f : sorted) {
+            if (f == wall) {
+                continue;
+            }
+            SplitFace fragment = (SplitFace) f;
+            assertSame(floor, fragment.getSource());
+            assertEquals(4, fragment.getFragmentVertexCount());
+            Rectangle2D bounds = fragment.createPath(projPts).getBounds2D();
+            if (Math.abs(bounds.getMaxX()) < 1E-6) {
+                left++;
+            } else if (Math.abs(bounds.getMinX()) < 1E-6) {
+                right++;
+            }
+        }
+        assertEquals(1, left);
+        assertEquals(1, right);
+    }
+    
+    /**
+     * The tree built for one view gives the correct order for another.
+     */
+    @Test
+    public void testDifferentViews() {
+        Object3D obj = new Object3D(Color.RED);
+        List<Point3D> pts = new ArrayList<Point3D>();
+        Face near = addFace(obj, pts, -1, -1, -10, 1, -1, -10, 1, 1, -10);
+        Face far = addFace(obj, pts, -1, -1, -20, 1, -1, -20, 1, 1, -20);
+        List<Face> faces = Arrays.asList(near, far);
+        Point3D[] eyePts = pts.toArray(new Point3D[pts.size()]);
+        BSPFaceSorter sorter = new BSPFaceSorter();
+        assertEquals(Arrays.asList(far, near), 
+                sorter.sort(new ArrayList<Face>(faces), eyePts));
+        
+        // rotate by 180 degrees around the y-axis through (0, 0, -15)
+        Point3D[] rotated = new Point3D[eyePts.length];
+        for (int i = 0; i < eyePts.length; i++) {
+            Point3D p = eyePts[i];
+            rotated[i] = new Point3D(-p.x, p.y, -30 - p.z);
+        }
+        assertEquals(Arrays.asList(near, far), 
+                sorter.sort(new ArrayList<Face>(faces), rotated));
+    }
+    
+    /**
+     * Only the faces passed to the sorter are returned, even though the 
+     * tree contains all the faces of their owner.  Faces that are not plain
+     * faces are painted before or after the tree when they lie entirely 
+     * behind or in front of it.
+     */
+    @Test
+    public void testCulledAndOtherFaces() {
+        Object3D obj = new Object3D(Color.RED);
+        List<Point3D> pts = new ArrayList<Point3D>();
+        Face f1 = addFace(obj, pts, -1, -1, -10, 1, -1, -10, 1, 1, -10);
+        Face f2 = addFace(obj, pts, -1, -1, -20, 1, -1, -20, 1, 1, -20);
+        Face f3 = addFace(obj, pts, -1, -1, -30, 1, -1, -30, 1, 1, -30);
+        Object3D other = new Object3D(Color.BLUE);
+        for (int i = 0; i < 6; i++) {
+            Point3D p = new Point3D(i % 3 == 1 ? 5 : -5, i % 3 == 2 ? 5 : -5,
+                    i < 3 ? -50 : -2);
+            other.addVertex(p);
+            pts.add(p);
+        }
+        int n = pts.size();
+        Face background = new Face(other, new int[] {n - 6, n - 5, n - 4}) {};
+        Face foreground = new Face(other, new int[] {n - 3, n - 2, n - 1}) {};
+        Point3D[] eyePts = pts.toArray(new Point3D[pts.size()]);
+        BSPFaceSorter sorter = new BSPFaceSorter();
+        assertEquals(Arrays.asList(f3, f1), sorter.sort(
+                new ArrayList<Face>(Arrays.asList(f1, f3)), eyePts));
+        assertEquals(Arrays.asList(background, f3, f2, f1, foreground), 
+                sorter.sort(new ArrayList<Face>(Arrays.asList(foreground, 
+                f1, f2, background, f3)), eyePts));
+    }
+
+}
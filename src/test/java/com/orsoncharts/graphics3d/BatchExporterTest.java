@@ -0,0 +1,114 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+
+/**
+ * Tests for the {@link BatchExporter} class.
+ */
+public class BatchExporterTest {
+
+    private Chart3D createChart(int columns) {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        for (int c = 0; c < columns; c++) {
+            dataset.addValue(c + 1.0, "S1", "R1", "C" + c);
+            dataset.addValue(c * 2.0, "S2", "R1", "C" + c);
+        }
+        return Chart3DFactory.createBarChart("Title", null, dataset, null, 
+                null, "Value");
+    }
+    
+    private int[] render(Chart3D chart, int w, int h) {
+        BufferedImage image = new BufferedImage(w, h, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle(w, h));
+        g2.dispose();
+        return image.getRGB(0, 0, w, h, null, 0, w);
+    }
+    
+    /**
+     * Images rendered concurrently (including a chart that is submitted 
+     * twice, and jobs of different sizes that reuse the worker images) 
+     * should match images rendered on a single thread.
+     */
+    @Test
+    public void testSubmit() throws Exception {
+        List<Chart3D> charts = new ArrayList<Chart3D>();
+        for (int i = 1; i <= 4; i++) {
+            charts.add(createChart(i));
+        }
+        charts.add(charts.get(0));
+        BatchExporter exporter = new BatchExporter(3);
+        List<ByteArrayOutputStream> outs 
+                = new ArrayList<ByteArrayOutputStream>();
+        List<Future<RenderingInfo>> futures 
+                = new ArrayList<Future<RenderingInfo>>();
+        for (int i = 0; i < charts.size(); i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outs.add(out);
+            int w = i % 2 == 0 ? 200 : 150;
+            futures.add(exporter.submit(charts.get(i), w, 100, out));
+        }
+        for (Future<RenderingInfo> future : futures) {
+            assertNotNull(future.get());
+        }
+        exporter.shutdown();
+        for (int i = 0; i < charts.size(); i++) {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                    outs.get(i).toByteArray()));
+            int w = i % 2 == 0 ? 200 : 150;
+            assertEquals(w, image.getWidth());
+            assertArrayEquals(render(charts.get(i), w, 100), 
+                    image.getRGB(0, 0, w, 100, null, 0, w));
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Some tests for the {@link MeshObject3D} class.
+ */
+public class MeshObject3DTest {
+    
+    /**
+     * An instance of the box mesh gives exactly the same vertices, faces 
+     * and transformed points as a box created directly.
+     */
+    @Test
+    public void testSameAsBox() {
+        Object3D box = Object3D.createBox(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 
+                Color.RED);
+        MeshObject3D instance = new MeshObject3D(Mesh.BOX, 1.0, 3.0, 5.0, 
+                2.0, 4.0, 6.0, Color.RED);
+        assertEquals(box.getVertexCount(), instance.getVertexCount());
+        for (int i = 0; i < box.getVertexCount(); i++) {
+            assertEquals(box.getVertex(i), instance.getVertex(i));
+        }
+        List<Face> faces = instance.getFaces();
+        assertEquals(box.getFaceCount(), faces.size());
+        assertSame(faces, instance.getFaces());
+        for (int f = 0; f < faces.size(); f++) {
+            assertSame(instance, faces.get(f).getOwner());
+            assertEquals(box.getFaces().get(f).toString(), 
+                    faces.get(f).toString());
+        }
+        
+        World w1 = new World();
+        w1.add(Object3D.createCube(1.0, 0.0, 0.0, 0.0, Color.BLUE));
+        w1.add(box);
+        World w2 = new World();
+        w2.add(new MeshObject3D(Mesh.BOX, 0.0, 0.0, 0.0, Color.BLUE));
+        w2.add(instance);
+        ViewPoint3D vp = new ViewPoint3D(1.0, 2.0, 30.0, 0.5);
+        assertArrayEquals(w1.calculateEyeCoordinates(vp, null), 
+                w2.calculateEyeCoordinates(vp, null), 0.0);
+        assertArrayEquals(w1.calculateProjectedPoints(vp, 1000.0, null), 
+                w2.calculateProjectedPoints(vp, 1000.0, null), 0.0);
+        assertArrayEquals(w1.calculateEyeCoordinates(vp), 
+                w2.calculateEyeCoordinates(vp));
+    }
+    
+    /**
+     * The geometry of an instance is defined by the mesh.
+     */
+    @Test
+    public void testAddVertex() {
+        MeshObject3D instance = new MeshObject3D(Mesh.POINT, 1.0, 2.0, 3.0, 
+                Color.RED);
+        assertEquals(new Point3D(1.0, 2.0, 3.0), instance.getVertex(0));
+        try {
+            instance.addVertex(0.0, 0.0, 0.0);
+            fail("Expected an UnsupportedOperationException.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            instance.addFace(new int[] { 0 });
+            fail("Expected an UnsupportedOperationException.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * Check the storage of properties.
+     */
+    @Test
+    public void testProperties() {
+        MeshObject3D instance = new MeshObject3D(Mesh.BOX, 0.0, 0.0, 0.0, 
+                Color.RED);
+        assertNull(instance.getProperty(Object3D.ITEM_KEY));
+        instance.setProperty(Object3D.ITEM_KEY, "A");
+        instance.setProperty(Object3D.CLASS_KEY, "B");
+        instance.setProperty(Object3D.ITEM_KEY, "C");
+        assertEquals("C", instance.getProperty(Object3D.ITEM_KEY));
+        assertEquals("B", instance.getProperty(Object3D.CLASS_KEY));
+        assertNull(instance.getProperty("other"));
+    }
+
+}
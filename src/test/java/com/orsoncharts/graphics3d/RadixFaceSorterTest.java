@@ -0,0 +1,72 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link RadixFaceSorter} class.
+ */
+public class RadixFaceSorterTest {
+
+    /**
+     * The sorter should produce the same order as the 
+     * {@link StandardFaceSorter}, including for negative z-values and ties.
+     */
+    @Test
+    public void testSameOrderAsStandardFaceSorter() {
+        double[] z = { -3.0, 2.0, -0.0, 0.0, 7.5, -3.0, -100.0, 2.0, 1E-9, 
+                -1E-9 };
+        Object3D obj = new Object3D(Color.RED);
+        Point3D[] eyePts = new Point3D[z.length * 2];
+        List<Face> faces = new ArrayList<Face>();
+        for (int i = 0; i < z.length; i++) {
+            obj.addVertex(0.0, 0.0, 0.0);
+            obj.addVertex(1.0, 0.0, 0.0);
+            eyePts[2 * i] = new Point3D(0.0, 0.0, z[i]);
+            eyePts[2 * i + 1] = new Point3D(1.0, 0.0, z[i]);
+            faces.add(new Face(obj, new int[] { 2 * i, 2 * i + 1 }));
+        }
+        List<Face> expected = new StandardFaceSorter().sort(
+                new ArrayList<Face>(faces), eyePts);
+        List<Face> actual = new RadixFaceSorter().sort(
+                new ArrayList<Face>(faces), eyePts);
+        assertEquals(expected, actual);
+    }
+
+}
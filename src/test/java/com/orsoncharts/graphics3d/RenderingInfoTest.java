@@ -0,0 +1,83 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link RenderingInfo} class.
+ */
+public class RenderingInfoTest {
+
+    /**
+     * Where faces overlap, the object for the face rendered last should be
+     * returned.
+     */
+    @Test
+    public void testFetchObjectAt() {
+        Object3D back = new Object3D(Color.RED);
+        Object3D front = new Object3D(Color.BLUE);
+        List<Face> faces = new ArrayList<Face>();
+        faces.add(new Face(back, new int[] {0, 1, 2, 3}));
+        faces.add(new Face(front, new int[] {4, 5, 6, 7}));
+        Point2D[] pts = new Point2D[] { 
+            new Point2D.Double(0, 0), new Point2D.Double(10, 0), 
+            new Point2D.Double(10, 10), new Point2D.Double(0, 10),
+            new Point2D.Double(5, 5), new Point2D.Double(20, 5), 
+            new Point2D.Double(20, 20), new Point2D.Double(5, 20) };
+        RenderingInfo info = new RenderingInfo(faces, pts, 100.0, 50.0);
+        assertTrue(info.fetchObjectAt(102.0, 52.0) == back);
+        assertTrue(info.fetchObjectAt(107.0, 57.0) == front);
+        assertTrue(info.fetchObjectAt(118.0, 68.0) == front);
+        assertNull(info.fetchObjectAt(118.0, 52.0));
+        assertNull(info.fetchObjectAt(2.0, 2.0));
+    }
+    
+    /**
+     * An empty rendering should not find any objects.
+     */
+    @Test
+    public void testFetchObjectAtEmpty() {
+        RenderingInfo info = new RenderingInfo(new ArrayList<Face>(), 
+                new Point2D[0], 0.0, 0.0);
+        assertNull(info.fetchObjectAt(0.0, 0.0));
+    }
+
+}
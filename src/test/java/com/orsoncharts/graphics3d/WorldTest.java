@@ -0,0 +1,293 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * Some tests for the {@link World} class.
+ */
+public class WorldTest {
+    
+    private static final double EPSILON = 0.000001;
+    
+    private World createWorld() {
+        World world = new World();
+        world.add(Object3D.createBox(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, Color.RED));
+        world.add("other", Object3D.createTetrahedron(2.0, -1.0, 0.5, 2.0, 
+                Color.BLUE));
+        return world;
+    }
+    
+    /**
+     * The packed eye coordinates should match the point-based results.
+     */
+    @Test
+    public void testCalculateEyeCoordinates() {
+        World world = createWorld();
+        ViewPoint3D vp = new ViewPoint3D(1.0, 2.0, 30.0, 0.5);
+        Point3D[] pts = world.calculateEyeCoordinates(vp);
+        double[] xyz = world.calculateEyeCoordinates(vp, null);
+        assertEquals(12, pts.length);
+        assertEquals(36, xyz.length);
+        for (int i = 0; i < pts.length; i++) {
+            assertEquals(pts[i].x, xyz[i * 3], EPSILON);
+            assertEquals(pts[i].y, xyz[i * 3 + 1], EPSILON);
+            assertEquals(pts[i].z, xyz[i * 3 + 2], EPSILON);
+        }
+        
+        // a buffer that is large enough is reused
+        double[] buffer = new double[40];
+        assertTrue(buffer == world.calculateEyeCoordinates(vp, buffer));
+    }
+    
+    /**
+     * The packed projected points should match the point-based results.
+     */
+    @Test
+    public void testCalculateProjectedPoints() {
+        World world = createWorld();
+        ViewPoint3D vp = new ViewPoint3D(1.0, 2.0, 30.0, 0.5);
+        Point2D[] pts = world.calculateProjectedPoints(vp, 1500.0);
+        double[] xy = world.calculateProjectedPoints(vp, 1500.0, null);
+        assertEquals(12, pts.length);
+        for (int i = 0; i < pts.length; i++) {
+            assertEquals(pts[i].getX(), xy[i * 2], EPSILON);
+            assertEquals(pts[i].getY(), xy[i * 2 + 1], EPSILON);
+        }
+        Object3D box = world.getObjects().get(0);
+        Point2D expected = vp.worldToScreen(box.getVertex(3), 1500.0);
+        assertEquals(expected.getX(), xy[6], EPSILON);
+        assertEquals(expected.getY(), xy[7], EPSILON);
+        
+        // projecting the eye coordinates gives the same result
+        double[] eye = world.calculateEyeCoordinates(vp, null);
+        double[] xy2 = new double[xy.length];
+        ViewPoint3D.eyeToScreen(eye, 0, 1500.0, xy2, 0, 12);
+        for (int i = 0; i < xy.length; i++) {
+            assertEquals(xy[i], xy2[i], EPSILON);
+        }
+    }
+
+    /**
+     * Modifying an earlier partition must update the offsets of the faces in 
+     * later partitions, since the compiled faces are cached.
+     */
+    @Test
+    public void testPartitionOffsets() {
+        World world = new World();
+        Object3D box = Object3D.createBox(0, 1, 0, 1, 0, 1, Color.RED);
+        Object3D tetra = Object3D.createTetrahedron(1, 0, 0, 0, Color.BLUE);
+        world.add("a", box);
+        world.add("b", tetra);
+        assertEquals(12, world.getVertexCount());
+        assertEquals(10, world.getFaceCount());
+        assertEquals(8, world.getFaces().get(6).getOffset());
+        assertTrue(world.getFaces().get(6).getOwner() == tetra);
+        
+        world.clear("a");
+        assertEquals(4, world.getVertexCount());
+        assertEquals(0, tetra.getFaces().get(0).getOffset());
+        
+        world.add("a", Object3D.createTetrahedron(1, 0, 0, 0, Color.GREEN));
+        assertEquals(8, world.getVertexCount());
+        assertEquals(8, world.getFaceCount());
+        assertEquals(4, world.getFaces().get(4).getOffset());
+        assertEquals(2, world.getObjects().size());
+    }
+
+    /**
+     * Parallel transformations should give the same results as sequential
+     * ones, including when ranges are split inside an object.
+     */
+    @Test
+    public void testParallelTransforms() {
+        World world = createWorld();
+        Object3D big = new Object3D(Color.GREEN);
+        for (int i = 0; i < 5000; i++) {
+            big.addVertex(i * 0.01, Math.sin(i), Math.cos(i));
+        }
+        world.add("big", big);
+        world.add("empty", new Object3D(Color.GRAY));
+        for (int i = 0; i < 500; i++) {
+            world.add("more", Object3D.createTetrahedron(1, i, i, i, 
+                    Color.RED));
+        }
+        ViewPoint3D vp = new ViewPoint3D(-Math.PI / 3, Math.PI / 4, 25.0, 
+                0.0);
+        double[] eye = world.calculateEyeCoordinates(vp, null);
+        double[] pts = world.calculateProjectedPoints(vp, 1000.0, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            world.setTransformExecutor(executor);
+            world.setParallelThreshold(100);
+            assertArrayEquals(eye, world.calculateEyeCoordinates(vp, null), 
+                    0.0);
+            assertArrayEquals(pts, world.calculateProjectedPoints(vp, 1000.0,
+                    null), 0.0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A thread belonging to the transform executor can transform a world 
+     * even when no other thread is available to run the queued chunks 
+     * (this used to deadlock).
+     */
+    @Test
+    public void testParallelTransformsOnExecutorThread() throws Exception {
+        final World world = new World();
+        for (int i = 0; i < 5000; i++) {
+            world.add(Object3D.createTetrahedron(1, i, i, i, Color.RED));
+        }
+        final ViewPoint3D vp = new ViewPoint3D(-Math.PI / 3, Math.PI / 4, 
+                25.0, 0.0);
+        double[] eye = world.calculateEyeCoordinates(vp, null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            world.setTransformExecutor(executor);
+            world.setParallelThreshold(100);
+            Future<double[]> future = executor.submit(
+                    new Callable<double[]>() {
+                @Override
+                public double[] call() {
+                    return world.calculateEyeCoordinates(vp, null);
+                }
+            });
+            assertArrayEquals(eye, future.get(30, TimeUnit.SECONDS), 0.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Replacing the content of a partition that sorts after the default 
+     * partition (as the chart box does) with a different vertex count but 
+     * the same face count must not move or re-walk the faces in the default
+     * partition.
+     */
+    @Test
+    public void testReplaceTailPartition() {
+        final int[] walks = new int[1];
+        World world = new World();
+        for (int i = 0; i < 10; i++) {
+            Object3D obj = new Object3D(Color.RED) {
+                @Override
+                public List<Face> getFaces() {
+                    walks[0]++;
+                    return super.getFaces();
+                }
+            };
+            obj.addVertex(i, 0, 0);
+            obj.addVertex(i + 1, 0, 0);
+            obj.addVertex(i, 1, 0);
+            obj.addFace(new int[] {0, 1, 2});
+            world.add(obj);
+        }
+        world.add("~tail", Object3D.createBox(0, 1, 0, 1, 0, 1, Color.BLUE));
+        List<Face> faces = world.getFaces();
+        List<Face> dataFaces = new ArrayList<Face>(faces.subList(0, 10));
+        int[] offsets = new int[10];
+        for (int i = 0; i < 10; i++) {
+            offsets[i] = dataFaces.get(i).getOffset();
+        }
+        
+        walks[0] = 0;
+        Object3D box = Object3D.createBox(5, 2, 5, 2, 5, 2, Color.GREEN);
+        box.addVertex(9, 9, 9);
+        world.clear("~tail");
+        world.add("~tail", box);
+        ViewPoint3D vp = new ViewPoint3D(-Math.PI / 3, Math.PI / 4, 25.0, 
+                0.0);
+        double[] eye = world.calculateEyeCoordinates(vp, null);
+        faces = world.getFaces();
+        assertEquals(0, walks[0]);
+        assertEquals(16, faces.size());
+        assertEquals(39, world.getVertexCount());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(faces.get(i) == dataFaces.get(i));
+            assertEquals(offsets[i], faces.get(i).getOffset());
+        }
+        assertEquals(30, faces.get(10).getOffset());
+        assertTrue(faces.get(10).getOwner() == box);
+        
+        // the result should match a world built from scratch
+        World expected = new World();
+        for (Face f : dataFaces) {
+            expected.add(f.getOwner());
+        }
+        expected.add("~tail", box);
+        assertArrayEquals(expected.calculateEyeCoordinates(vp, null), eye, 
+                0.0);
+    }
+
+    @Test
+    public void testReplaceItemKeys() {
+        World world = new World();
+        Object3D a = Object3D.createBox(0, 1, 0, 1, 0, 1, Color.RED);
+        a.setProperty(Object3D.ITEM_KEY, "A");
+        Object3D b = Object3D.createBox(2, 1, 0, 1, 0, 1, Color.RED);
+        b.setProperty(Object3D.ITEM_KEY, "B");
+        world.add(a);
+        world.add(b);
+        
+        // swap the keys, then check that removal uses the new keys
+        Map<String, String> keyMap = new HashMap<String, String>();
+        keyMap.put("A", "B");
+        keyMap.put("B", "A");
+        world.replaceItemKeys(keyMap);
+        assertEquals("B", a.getProperty(Object3D.ITEM_KEY));
+        assertEquals("A", b.getProperty(Object3D.ITEM_KEY));
+        assertEquals(1, world.removeItems(Arrays.asList("A")));
+        assertEquals(1, world.getObjects().size());
+        assertTrue(world.getObjects().get(0) == a);
+    }
+    
+}
@@ -32,16 +32,21 @@
 
 package com.orsoncharts.plot;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.util.List;
 
 import com.orsoncharts.axis.StandardCategoryAxis3D;
 import com.orsoncharts.axis.NumberAxis3D;
+import com.orsoncharts.data.ItemKey;
+import com.orsoncharts.data.KeyedValues3DItemKey;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
 import com.orsoncharts.renderer.category.BarRenderer3D;
@@ -136,6 +141,51 @@ public class CategoryPlot3DTest {
         assertTrue(p1.equals(p2));
     }
 
+    /**
+     * A change to a single value that does not alter the axis ranges should
+     * produce a plot change event listing the items to recompose.
+     */
+    @Test
+    public void testDatasetChangedForItem() {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S1", "R1", "C3");
+        dataset.addValue(4.0, "S2", "R1", "C1");
+        dataset.addValue(5.0, "S2", "R1", "C2");
+        dataset.addValue(10.0, "S2", "R1", "C3");
+        CategoryPlot3D plot = new CategoryPlot3D(dataset, new BarRenderer3D(), 
+                new StandardCategoryAxis3D("R"), 
+                new StandardCategoryAxis3D("C"), new NumberAxis3D("N"));
+        final Plot3DChangeEvent[] last = new Plot3DChangeEvent[1];
+        plot.addChangeListener(new Plot3DChangeListener() {
+            @Override
+            public void plotChanged(Plot3DChangeEvent event) {
+                last[0] = event;
+            }
+        });
+        
+        dataset.setValue(6.0, "S2", "R1", "C2");
+        assertTrue(last[0].requiresWorldUpdate());
+        List<ItemKey> keys = last[0].getItemKeys();
+        assertEquals(6, keys.size());
+        assertTrue(keys.contains(new KeyedValues3DItemKey("S1", "R1", "C1")));
+        assertTrue(keys.contains(new KeyedValues3DItemKey("S1", "R1", "C3")));
+        
+        // a change at the end of the row doesn't affect the first column
+        dataset.setValue(2.5, "S1", "R1", "C3");
+        assertEquals(4, last[0].getItemKeys().size());
+        
+        // a change that extends the value axis range requires a full update
+        dataset.setValue(20.0, "S1", "R1", "C1");
+        assertTrue(last[0].requiresWorldUpdate());
+        assertNull(last[0].getItemKeys());
+        
+        // so does a change to the structure of the dataset
+        dataset.setValue(1.0, "S1", "R2", "C1");
+        assertNull(last[0].getItemKeys());
+    }
+
     private CategoryPlot3D createCategory3DPlot() {
         CategoryDataset3D dataset = new StandardCategoryDataset3D();
         BarRenderer3D renderer = new BarRenderer3D();
@@ -32,6 +32,7 @@
 
 package com.orsoncharts.renderer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
@@ -71,4 +72,13 @@ public class GradientColorScaleTest {
         assertTrue(gcs1.equals(gcs2));
     }
 
+    @Test
+    public void testValueToColor() {
+        GradientColorScale gcs = new GradientColorScale(new Range(0.0, 1.0), 
+                Color.BLACK, Color.WHITE);
+        assertEquals(Color.BLACK, gcs.valueToColor(0.0));
+        assertEquals(Color.WHITE, gcs.valueToColor(1.0));
+        assertEquals(Color.WHITE, gcs.valueToColor(2.0));
+    }
+
 }
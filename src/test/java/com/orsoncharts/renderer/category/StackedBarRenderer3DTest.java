@@ -32,16 +32,30 @@
 
 package com.orsoncharts.renderer.category;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+
 import org.junit.Test;
+
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.axis.ValueAxis3D;
+import com.orsoncharts.data.KeyedValues3DItemKey;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.CategoryPlot3D;
 
 /**
  * Tests for the {@link StackedBarRenderer3D} class.
  */
 public class StackedBarRenderer3DTest {
 
+    private static final double EPSILON = 0.0000001;
+
     /**
      * Some checks for the equals() method.
      */
@@ -73,4 +87,77 @@ public class StackedBarRenderer3DTest {
         assertTrue(r1.equals(r2));
     }
 
+    /**
+     * The renderer caches the stack subtotals, so check the bars composed 
+     * after a change to the dataset against the known stacked values.
+     */
+    @Test
+    public void testComposeAfterDatasetChange() {
+        StandardCategoryDataset3D dataset = new StandardCategoryDataset3D();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(-2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S2", "R1", "C1");
+        dataset.addValue(4.0, "S2", "R1", "C2");
+        dataset.addValue(5.0, "S3", "R1", "C1");
+        dataset.addValue(-6.0, "S3", "R1", "C2");
+        Chart3D chart = Chart3DFactory.createStackedBarChart("Title", null, 
+                dataset, "Row", "Column", "Value");
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        World world = new World();
+        plot.compose(world, 0.0, 0.0, 0.0);
+        
+        // the lower and upper value for each bar, indexed by series and 
+        // column
+        double[][][] expected = new double[][][] {
+            {{0.0, 1.0}, {-2.0, 0.0}},
+            {{1.0, 4.0}, {0.0, 4.0}},
+            {{4.0, 9.0}, {-8.0, -2.0}}};
+        checkBars(plot, world, expected);
+
+        dataset.addValue(7.0, "S1", "R1", "C1");
+        dataset.addValue(-8.0, "S2", "R1", "C2");
+        world = new World();
+        plot.compose(world, 0.0, 0.0, 0.0);
+        expected = new double[][][] {
+            {{0.0, 7.0}, {-2.0, 0.0}},
+            {{7.0, 10.0}, {-10.0, -2.0}},
+            {{10.0, 15.0}, {-16.0, -10.0}}};
+        checkBars(plot, world, expected);
+    }
+    
+    /**
+     * Checks the vertical extent of each bar in the world against the 
+     * expected lower and upper values (for a dataset with one row).
+     * 
+     * @param plot  the plot.
+     * @param world  the world containing the composed bars.
+     * @param expected  the lower and upper values by series and column.
+     */
+    private void checkBars(CategoryPlot3D plot, World world, 
+            double[][][] expected) {
+        CategoryDataset3D dataset = plot.getDataset();
+        ValueAxis3D valueAxis = plot.getValueAxis();
+        double height = plot.getDimensions().getHeight();
+        int barCount = 0;
+        for (Object3D obj : world.getObjects()) {
+            KeyedValues3DItemKey key = (KeyedValues3DItemKey) obj.getProperty(
+                    Object3D.ITEM_KEY);
+            int series = dataset.getSeriesIndex(key.getSeriesKey());
+            int column = dataset.getColumnIndex(key.getColumnKey());
+            double ymin = Double.POSITIVE_INFINITY;
+            double ymax = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < obj.getVertexCount(); v++) {
+                double y = obj.getVertex(v).getY();
+                ymin = Math.min(ymin, y);
+                ymax = Math.max(ymax, y);
+            }
+            assertEquals(valueAxis.translateToWorld(
+                    expected[series][column][0], height), ymin, EPSILON);
+            assertEquals(valueAxis.translateToWorld(
+                    expected[series][column][1], height), ymax, EPSILON);
+            barCount++;
+        }
+        assertEquals(6, barCount);
+    }
+
 }